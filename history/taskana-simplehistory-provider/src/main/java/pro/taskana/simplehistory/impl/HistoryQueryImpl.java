@@ -19,6 +19,8 @@ public class HistoryQueryImpl implements HistoryQuery {
 
   private TaskanaHistoryEngineImpl taskanaHistoryEngine;
   private HistoryQueryMapper historyQueryMapper;
+  private HistoryQueryMapper readOnlyHistoryQueryMapper;
+  private boolean usePrimaryDataSource;
 
   private HistoryQueryColumnName columnName;
   private List<String> orderBy;
@@ -74,8 +76,16 @@ public class HistoryQueryImpl implements HistoryQuery {
 
   public HistoryQueryImpl(
       TaskanaHistoryEngineImpl taskanaHistoryEngineImpl, HistoryQueryMapper historyQueryMapper) {
+    this(taskanaHistoryEngineImpl, historyQueryMapper, null);
+  }
+
+  public HistoryQueryImpl(
+      TaskanaHistoryEngineImpl taskanaHistoryEngineImpl,
+      HistoryQueryMapper historyQueryMapper,
+      HistoryQueryMapper readOnlyHistoryQueryMapper) {
     this.taskanaHistoryEngine = taskanaHistoryEngineImpl;
     this.historyQueryMapper = historyQueryMapper;
+    this.readOnlyHistoryQueryMapper = readOnlyHistoryQueryMapper;
     this.orderBy = new ArrayList<>();
     this.orderColumns = new ArrayList<>();
     this.maxRows = -1;
@@ -454,13 +464,19 @@ public class HistoryQueryImpl implements HistoryQuery {
     }
   }
 
+  @Override
+  public HistoryQuery usePrimaryDataSource() {
+    this.usePrimaryDataSource = true;
+    return this;
+  }
+
   @Override
   public List<HistoryEventImpl> list() {
     LOGGER.debug("entry to list(), this = {}", this);
     List<HistoryEventImpl> result = new ArrayList<>();
     try {
-      taskanaHistoryEngine.openConnection();
-      result = historyQueryMapper.queryHistoryEvent(this);
+      openQueryConnection();
+      result = getQueryMapper().queryHistoryEvent(this);
       LOGGER.debug("transaction was successful. Result: {}", result.toString());
       return result;
     } catch (SQLException e) {
@@ -471,7 +487,7 @@ public class HistoryQueryImpl implements HistoryQuery {
       LOGGER.error("No History Event found.");
       return result;
     } finally {
-      taskanaHistoryEngine.returnConnection();
+      returnQueryConnection();
     }
   }
 
@@ -480,9 +496,9 @@ public class HistoryQueryImpl implements HistoryQuery {
     LOGGER.debug("entry to list({},{}), this = {}", offset, limit, this);
     List<HistoryEventImpl> result = new ArrayList<>();
     try {
-      taskanaHistoryEngine.openConnection();
+      openQueryConnection();
       this.maxRows = offset + limit;
-      result = historyQueryMapper.queryHistoryEvent(this);
+      result = getQueryMapper().queryHistoryEvent(this);
       LOGGER.debug("transaction was successful. Result: {}", result.toString());
       limit = Math.min(result.size() - offset, limit);
       if (result.size() > offset) {
@@ -498,7 +514,7 @@ public class HistoryQueryImpl implements HistoryQuery {
       LOGGER.error("No History Event found.");
       return result;
     } finally {
-      taskanaHistoryEngine.returnConnection();
+      returnQueryConnection();
       this.maxRows = -1;
     }
   }
@@ -517,8 +533,8 @@ public class HistoryQueryImpl implements HistoryQuery {
     this.addOrderCriteria(columnName.toString(), sortDirection);
 
     try {
-      taskanaHistoryEngine.openConnection();
-      result = historyQueryMapper.queryHistoryColumnValues(this);
+      openQueryConnection();
+      result = getQueryMapper().queryHistoryColumnValues(this);
       LOGGER.debug("transaction was successful. Result: {}", result.toString());
       return result;
     } catch (SQLException e) {
@@ -532,7 +548,7 @@ public class HistoryQueryImpl implements HistoryQuery {
       this.orderBy = cacheOrderBy;
       this.columnName = null;
       this.orderColumns.remove(orderColumns.size() - 1);
-      taskanaHistoryEngine.returnConnection();
+      returnQueryConnection();
     }
   }
 
@@ -541,9 +557,9 @@ public class HistoryQueryImpl implements HistoryQuery {
     LOGGER.debug("entry to list(), this = {}", this);
     HistoryEventImpl result = null;
     try {
-      taskanaHistoryEngine.openConnection();
+      openQueryConnection();
       this.maxRows = 1;
-      result = historyQueryMapper.queryHistoryEvent(this).get(0);
+      result = getQueryMapper().queryHistoryEvent(this).get(0);
       LOGGER.debug("transaction was successful. Result: {}", result.toString());
       return result;
     } catch (SQLException e) {
@@ -554,7 +570,7 @@ public class HistoryQueryImpl implements HistoryQuery {
       LOGGER.error("No History Event found.");
       return result;
     } finally {
-      taskanaHistoryEngine.returnConnection();
+      returnQueryConnection();
       this.maxRows = -1;
     }
   }
@@ -563,8 +579,8 @@ public class HistoryQueryImpl implements HistoryQuery {
   public long count() {
     LOGGER.debug("entry to count(), this = {}", this);
     try {
-      taskanaHistoryEngine.openConnection();
-      long result = historyQueryMapper.countHistoryEvent(this);
+      openQueryConnection();
+      long result = getQueryMapper().countHistoryEvent(this);
       LOGGER.debug("transaction was successful. Result: {}", result);
       return result;
     } catch (SQLException e) {
@@ -575,6 +591,30 @@ public class HistoryQueryImpl implements HistoryQuery {
       LOGGER.error("No History Event found.");
       return -1;
     } finally {
+      returnQueryConnection();
+    }
+  }
+
+  private boolean isReadOnly() {
+    return readOnlyHistoryQueryMapper != null && !usePrimaryDataSource;
+  }
+
+  private HistoryQueryMapper getQueryMapper() {
+    return isReadOnly() ? readOnlyHistoryQueryMapper : historyQueryMapper;
+  }
+
+  private void openQueryConnection() throws SQLException {
+    if (isReadOnly()) {
+      taskanaHistoryEngine.openReadOnlyConnection();
+    } else {
+      taskanaHistoryEngine.openConnection();
+    }
+  }
+
+  private void returnQueryConnection() {
+    if (isReadOnly()) {
+      taskanaHistoryEngine.returnReadOnlyConnection();
+    } else {
       taskanaHistoryEngine.returnConnection();
     }
   }
@@ -0,0 +1,92 @@
+package pro.taskana.simplehistory.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+
+/**
+ * One page of the history events of a task or a business process, ordered by their creation. The
+ * continuation token points behind the last event of the page, so the next page is read from the
+ * index without counting or skipping the previous events.
+ */
+public class HistoryTimeline {
+
+  private static final char SEPARATOR = '_';
+
+  private final List<HistoryEventImpl> events;
+  private final String continuationToken;
+
+  HistoryTimeline(List<HistoryEventImpl> events, String continuationToken) {
+    this.events = events;
+    this.continuationToken = continuationToken;
+  }
+
+  public List<HistoryEventImpl> getEvents() {
+    return events;
+  }
+
+  /**
+   * Returns the token to read the next page of the timeline.
+   *
+   * @return the token or null if this is the last page
+   */
+  public String getContinuationToken() {
+    return continuationToken;
+  }
+
+  static String createContinuationToken(HistoryEventImpl lastEvent) {
+    String position = lastEvent.getCreated().toString() + SEPARATOR + lastEvent.getId();
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(position.getBytes(StandardCharsets.UTF_8));
+  }
+
+  static Instant getCreated(String continuationToken) throws InvalidArgumentException {
+    try {
+      return Instant.parse(decode(continuationToken)[0]);
+    } catch (DateTimeParseException e) {
+      throw invalidToken(continuationToken);
+    }
+  }
+
+  static long getId(String continuationToken) throws InvalidArgumentException {
+    try {
+      return Long.parseLong(decode(continuationToken)[1]);
+    } catch (NumberFormatException e) {
+      throw invalidToken(continuationToken);
+    }
+  }
+
+  private static String[] decode(String continuationToken) throws InvalidArgumentException {
+    String position;
+    try {
+      position =
+          new String(Base64.getUrlDecoder().decode(continuationToken), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw invalidToken(continuationToken);
+    }
+    int separator = position.lastIndexOf(SEPARATOR);
+    if (separator < 0) {
+      throw invalidToken(continuationToken);
+    }
+    return new String[] {position.substring(0, separator), position.substring(separator + 1)};
+  }
+
+  private static InvalidArgumentException invalidToken(String continuationToken) {
+    return new InvalidArgumentException(
+        String.format("The continuation token %s is invalid", continuationToken));
+  }
+
+  @Override
+  public String toString() {
+    return "HistoryTimeline [events="
+        + events
+        + ", continuationToken="
+        + continuationToken
+        + "]";
+  }
+}
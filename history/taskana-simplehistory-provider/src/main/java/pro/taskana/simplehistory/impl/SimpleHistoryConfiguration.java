@@ -0,0 +1,128 @@
+package pro.taskana.simplehistory.impl;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Properties;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.exceptions.SystemException;
+
+/**
+ * Configuration of the simple history provider. The properties are read from the properties file
+ * of the {@link TaskanaEngineConfiguration}:
+ *
+ * <ul>
+ *   <li>taskana.jobs.history.cleanup.firstRunAt - the first run of the HistoryCleanupJob
+ *   <li>taskana.jobs.history.cleanup.runEvery - the interval between two runs of the job
+ *   <li>taskana.jobs.history.cleanup.minimumAge - the minimum age of the deleted history events
+ * </ul>
+ */
+public class SimpleHistoryConfiguration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SimpleHistoryConfiguration.class);
+  private static final String TASKANA_JOB_HISTORY_CLEANUP_FIRST_RUN =
+      "taskana.jobs.history.cleanup.firstRunAt";
+  private static final String TASKANA_JOB_HISTORY_CLEANUP_RUN_EVERY =
+      "taskana.jobs.history.cleanup.runEvery";
+  private static final String TASKANA_JOB_HISTORY_CLEANUP_MINIMUM_AGE =
+      "taskana.jobs.history.cleanup.minimumAge";
+
+  private Instant cleanupJobFirstRun = Instant.parse("2018-01-01T00:00:00Z");
+  private Duration cleanupJobRunEvery = Duration.parse("P1D");
+  private Duration cleanupJobMinimumAge = Duration.parse("P365D");
+
+  public SimpleHistoryConfiguration(TaskanaEngineConfiguration taskanaEngineConfiguration) {
+    Properties props = readPropertiesFromFile(taskanaEngineConfiguration.getPropertiesFileName());
+    initProperty(
+        props, TASKANA_JOB_HISTORY_CLEANUP_FIRST_RUN, Instant::parse, this::setCleanupJobFirstRun);
+    initProperty(
+        props, TASKANA_JOB_HISTORY_CLEANUP_RUN_EVERY, Duration::parse, this::setCleanupJobRunEvery);
+    initProperty(
+        props,
+        TASKANA_JOB_HISTORY_CLEANUP_MINIMUM_AGE,
+        Duration::parse,
+        this::setCleanupJobMinimumAge);
+    LOGGER.debug("HistoryCleanupJob configuration: first run at {}", cleanupJobFirstRun);
+    LOGGER.debug("HistoryCleanupJob configuration: runs every {}", cleanupJobRunEvery);
+    LOGGER.debug(
+        "HistoryCleanupJob configuration: minimum age of history events to be cleaned up is {}",
+        cleanupJobMinimumAge);
+  }
+
+  public Instant getCleanupJobFirstRun() {
+    return cleanupJobFirstRun;
+  }
+
+  public void setCleanupJobFirstRun(Instant cleanupJobFirstRun) {
+    this.cleanupJobFirstRun = cleanupJobFirstRun;
+  }
+
+  public Duration getCleanupJobRunEvery() {
+    return cleanupJobRunEvery;
+  }
+
+  public void setCleanupJobRunEvery(Duration cleanupJobRunEvery) {
+    this.cleanupJobRunEvery = cleanupJobRunEvery;
+  }
+
+  public Duration getCleanupJobMinimumAge() {
+    return cleanupJobMinimumAge;
+  }
+
+  public void setCleanupJobMinimumAge(Duration cleanupJobMinimumAge) {
+    this.cleanupJobMinimumAge = cleanupJobMinimumAge;
+  }
+
+  private static <T> void initProperty(
+      Properties props, String key, Function<String, T> parser, Consumer<T> setter) {
+    String property = props.getProperty(key);
+    if (property != null && !property.isEmpty()) {
+      try {
+        setter.accept(parser.apply(property.trim()));
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse {} ({}). Using default. Exception: {} ",
+            key,
+            property,
+            e.getMessage());
+      }
+    }
+  }
+
+  private static Properties readPropertiesFromFile(String propertiesFile) {
+    Properties props = new Properties();
+    File file = new File(propertiesFile);
+    try {
+      if (file.exists() && !file.isDirectory()) {
+        try (InputStream inputStream = new FileInputStream(file)) {
+          props.load(inputStream);
+        }
+      } else {
+        InputStream inputStream =
+            SimpleHistoryConfiguration.class.getResourceAsStream(propertiesFile);
+        if (inputStream == null) {
+          LOGGER.debug("taskana properties file {} was not found on classpath.", propertiesFile);
+        } else {
+          try (InputStreamReader reader =
+              new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            props.load(reader);
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new SystemException(
+          "internal System error when processing properties file " + propertiesFile, e);
+    }
+    return props;
+  }
+}
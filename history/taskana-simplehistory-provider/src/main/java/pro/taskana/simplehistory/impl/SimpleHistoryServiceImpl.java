@@ -2,10 +2,24 @@ package pro.taskana.simplehistory.impl;
 
 import java.sql.SQLException;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.ibatis.exceptions.PersistenceException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.configuration.DB;
+import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.simplehistory.impl.mappings.HistoryEventMapper;
 import pro.taskana.simplehistory.impl.mappings.HistoryQueryMapper;
 import pro.taskana.simplehistory.query.HistoryQuery;
@@ -19,9 +33,16 @@ import pro.taskana.spi.history.api.exceptions.TaskanaHistoryEventNotFoundExcepti
 public class SimpleHistoryServiceImpl implements TaskanaHistory {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SimpleHistoryServiceImpl.class);
+  // monthly partitions are named HISTORY_EVENTS_yyyyMM (PostgreSQL) or P_yyyyMM (DB2)
+  private static final Pattern MONTHLY_PARTITION_NAME = Pattern.compile("^[A-Z_]+_(\\d{6})$");
+  private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+  private static final DateTimeFormatter PARTITION_BOUND =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+  private static final String DEFAULT_PARTITION = "HISTORY_EVENTS_DEFAULT";
   private TaskanaHistoryEngineImpl taskanaHistoryEngine;
   private HistoryEventMapper historyEventMapper;
   private HistoryQueryMapper historyQueryMapper;
+  private HistoryQueryMapper readOnlyHistoryQueryMapper;
 
   @Override
   public void initialize(TaskanaEngineConfiguration taskanaEngineConfiguration) {
@@ -37,6 +58,10 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
         this.taskanaHistoryEngine.getSqlSession().getMapper(HistoryEventMapper.class);
     this.historyQueryMapper =
         this.taskanaHistoryEngine.getSqlSession().getMapper(HistoryQueryMapper.class);
+    if (this.taskanaHistoryEngine.getReadOnlySqlSession() != null) {
+      this.readOnlyHistoryQueryMapper =
+          this.taskanaHistoryEngine.getReadOnlySqlSession().getMapper(HistoryQueryMapper.class);
+    }
   }
 
   @Override
@@ -56,6 +81,25 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
     }
   }
 
+  @Override
+  public void create(List<TaskanaHistoryEvent> events) {
+    try {
+      taskanaHistoryEngine.openConnection();
+      Instant now = Instant.now();
+      for (TaskanaHistoryEvent event : events) {
+        if (event.getCreated() == null) {
+          event.setCreated(now);
+        }
+      }
+      CollectionUtil.forEachChunk(events, historyEventMapper::insertAll);
+    } catch (SQLException e) {
+      LOGGER.error("Error while inserting history events into historyEventMapper", e);
+    } finally {
+      taskanaHistoryEngine.returnConnection();
+      LOGGER.debug("Exit from create(List<TaskanaHistoryEvent> events), {} events.", events.size());
+    }
+  }
+
   public TaskanaHistoryEvent getHistoryEvent(String historyEventId)
       throws TaskanaHistoryEventNotFoundException {
     LOGGER.debug("entry to getHistoryEvent (id = {})", historyEventId);
@@ -81,8 +125,291 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
     }
   }
 
+  /**
+   * Deletes all history events which were created before the given instant. If HISTORY_EVENTS is
+   * range partitioned by the month of CREATED, all monthly partitions which only contain older
+   * events are dropped first. All remaining events are deleted in chunks of at most batchSize
+   * rows, each chunk in its own database session, so that the transaction log and the locks held
+   * stay bounded regardless of the size of the table.
+   *
+   * @param createdBefore all events created before this instant are deleted
+   * @param batchSize the maximum number of events deleted by one statement
+   * @return the number of events deleted row by row. Events of dropped partitions are not counted.
+   * @throws InvalidArgumentException if createdBefore is null or batchSize is not positive
+   */
+  public int deleteHistoryEventsCreatedBefore(Instant createdBefore, int batchSize)
+      throws InvalidArgumentException {
+    LOGGER.debug(
+        "entry to deleteHistoryEventsCreatedBefore(createdBefore = {}, batchSize = {})",
+        createdBefore,
+        batchSize);
+    if (createdBefore == null) {
+      throw new InvalidArgumentException("createdBefore must not be null");
+    }
+    if (batchSize < 1) {
+      throw new InvalidArgumentException("batchSize must be greater than 0");
+    }
+    int deletedEvents = 0;
+    try {
+      if (isHistoryEventsPartitioned()) {
+        dropPartitionsCreatedBefore(createdBefore);
+      }
+      int deletedInChunk;
+      do {
+        taskanaHistoryEngine.openConnection();
+        try {
+          deletedInChunk =
+              historyEventMapper.deleteHistoryEventsCreatedBefore(createdBefore, batchSize);
+        } finally {
+          taskanaHistoryEngine.returnConnection();
+        }
+        deletedEvents += deletedInChunk;
+      } while (deletedInChunk == batchSize);
+      return deletedEvents;
+    } catch (SQLException e) {
+      throw new SystemException("Caught exception while deleting history events", e);
+    } finally {
+      LOGGER.debug("exit from deleteHistoryEventsCreatedBefore(). Returning {}", deletedEvents);
+    }
+  }
+
+  /**
+   * Creates the monthly partitions of HISTORY_EVENTS from the current month up to the given month,
+   * if HISTORY_EVENTS is range partitioned by the month of CREATED. On DB2 a partitioned table
+   * has no default partition, so the partitions have to exist before events of that month are
+   * written. On PostgreSQL events of a month without partition are stored in the default
+   * partition. They are moved into the new partition, because PostgreSQL refuses to create a
+   * partition for rows of the default partition. Does nothing if the table is not partitioned.
+   *
+   * @param until the last month for which a partition is created
+   * @throws SystemException if a partition could not be created
+   */
+  public void createHistoryEventsPartitions(YearMonth until) {
+    LOGGER.debug("entry to createHistoryEventsPartitions(until = {})", until);
+    try {
+      if (!isHistoryEventsPartitioned()) {
+        return;
+      }
+      List<String> partitionNames = findPartitionNames();
+      Map<YearMonth, String> existingPartitions = findMonthlyPartitions(partitionNames);
+      boolean hasDefaultPartition = partitionNames.contains(DEFAULT_PARTITION);
+      for (YearMonth month = YearMonth.now(); !month.isAfter(until); month = month.plusMonths(1)) {
+        if (!existingPartitions.containsKey(month)) {
+          createHistoryEventsPartition(month, hasDefaultPartition);
+        }
+      }
+    } catch (SQLException e) {
+      throw new SystemException("Caught exception while creating history events partitions", e);
+    } finally {
+      LOGGER.debug("exit from createHistoryEventsPartitions()");
+    }
+  }
+
+  /**
+   * Returns the history events of a task ordered by their creation. The pages are read by the
+   * position of the previous page, so every page costs the same regardless of its position.
+   *
+   * @param taskId the id of the task
+   * @param continuationToken the token of the previous page or null for the first page
+   * @param pageSize the maximum number of events of the page
+   * @return the page of the timeline
+   * @throws InvalidArgumentException if taskId is empty, the pageSize is not positive or the
+   *     continuationToken is invalid
+   */
+  public HistoryTimeline getTaskTimeline(String taskId, String continuationToken, int pageSize)
+      throws InvalidArgumentException {
+    LOGGER.debug(
+        "entry to getTaskTimeline(taskId = {}, continuationToken = {}, pageSize = {})",
+        taskId,
+        continuationToken,
+        pageSize);
+    if (taskId == null || taskId.isEmpty()) {
+      throw new InvalidArgumentException("taskId must not be empty");
+    }
+    return getTimeline(taskId, null, continuationToken, pageSize);
+  }
+
+  /**
+   * Returns the history events of a business process ordered by their creation. The pages are read
+   * by the position of the previous page, so every page costs the same regardless of its position.
+   *
+   * @param businessProcessId the id of the business process
+   * @param continuationToken the token of the previous page or null for the first page
+   * @param pageSize the maximum number of events of the page
+   * @return the page of the timeline
+   * @throws InvalidArgumentException if businessProcessId is empty, the pageSize is not positive
+   *     or the continuationToken is invalid
+   */
+  public HistoryTimeline getBusinessProcessTimeline(
+      String businessProcessId, String continuationToken, int pageSize)
+      throws InvalidArgumentException {
+    LOGGER.debug(
+        "entry to getBusinessProcessTimeline(businessProcessId = {}, continuationToken = {}, "
+            + "pageSize = {})",
+        businessProcessId,
+        continuationToken,
+        pageSize);
+    if (businessProcessId == null || businessProcessId.isEmpty()) {
+      throw new InvalidArgumentException("businessProcessId must not be empty");
+    }
+    return getTimeline(null, businessProcessId, continuationToken, pageSize);
+  }
+
   public HistoryQuery createHistoryQuery() {
-    return new HistoryQueryImpl(taskanaHistoryEngine, historyQueryMapper);
+    return new HistoryQueryImpl(
+        taskanaHistoryEngine, historyQueryMapper, readOnlyHistoryQueryMapper);
+  }
+
+  private HistoryTimeline getTimeline(
+      String taskId, String businessProcessId, String continuationToken, int pageSize)
+      throws InvalidArgumentException {
+    if (pageSize < 1) {
+      throw new InvalidArgumentException("pageSize must be greater than 0");
+    }
+    Instant createdAfter = null;
+    long idAfter = 0;
+    if (continuationToken != null) {
+      createdAfter = HistoryTimeline.getCreated(continuationToken);
+      idAfter = HistoryTimeline.getId(continuationToken);
+    }
+    boolean readOnly = readOnlyHistoryQueryMapper != null;
+    HistoryTimeline timeline = null;
+    try {
+      if (readOnly) {
+        taskanaHistoryEngine.openReadOnlyConnection();
+      } else {
+        taskanaHistoryEngine.openConnection();
+      }
+      // one more event tells whether there is a next page
+      List<HistoryEventImpl> events =
+          (readOnly ? readOnlyHistoryQueryMapper : historyQueryMapper)
+              .findTimeline(taskId, businessProcessId, createdAfter, idAfter, pageSize + 1);
+      String nextToken = null;
+      if (events.size() > pageSize) {
+        events = events.subList(0, pageSize);
+        nextToken = HistoryTimeline.createContinuationToken(events.get(pageSize - 1));
+      }
+      timeline = new HistoryTimeline(events, nextToken);
+      return timeline;
+    } catch (SQLException e) {
+      throw new SystemException("Caught exception while reading the history timeline", e);
+    } finally {
+      if (readOnly) {
+        taskanaHistoryEngine.returnReadOnlyConnection();
+      } else {
+        taskanaHistoryEngine.returnConnection();
+      }
+      LOGGER.debug("exit from getTimeline(). Returning {}", timeline);
+    }
+  }
+
+  private boolean isHistoryEventsPartitioned() throws SQLException {
+    String databaseId = taskanaHistoryEngine.getSqlSession().getConfiguration().getDatabaseId();
+    if (!DB.DB2.dbProductId.equals(databaseId) && !DB.POSTGRESS.dbProductId.equals(databaseId)) {
+      return false;
+    }
+    taskanaHistoryEngine.openConnection();
+    try {
+      Integer partitionKeys = historyEventMapper.countPartitionKeysOfHistoryEvents();
+      return partitionKeys != null && partitionKeys > 0;
+    } finally {
+      taskanaHistoryEngine.returnConnection();
+    }
+  }
+
+  private void createHistoryEventsPartition(YearMonth month, boolean hasDefaultPartition)
+      throws SQLException {
+    String name = getPartitionNamePrefix() + month.format(PARTITION_MONTH);
+    String from = month.atDay(1).atStartOfDay().format(PARTITION_BOUND);
+    String to = month.plusMonths(1).atDay(1).atStartOfDay().format(PARTITION_BOUND);
+    // all statements run in one transaction, PostgreSQL rolls back the DDL as well
+    taskanaHistoryEngine.openConnection();
+    try {
+      if (hasDefaultPartition && historyEventMapper.countEventsOfDefaultPartition(from, to) > 0) {
+        historyEventMapper.detachDefaultPartition();
+        historyEventMapper.createHistoryEventsPartition(name, from, to);
+        int movedEvents = historyEventMapper.copyEventsOfDefaultPartition(from, to);
+        historyEventMapper.deleteEventsOfDefaultPartition(from, to);
+        historyEventMapper.attachDefaultPartition();
+        LOGGER.info(
+            "Created history events partition {} and moved {} events from the default partition",
+            name,
+            movedEvents);
+      } else {
+        historyEventMapper.createHistoryEventsPartition(name, from, to);
+        LOGGER.info("Created history events partition {}", name);
+      }
+    } catch (PersistenceException e) {
+      throw new SystemException("Could not create history events partition " + name, e);
+    } finally {
+      taskanaHistoryEngine.returnConnection();
+    }
+  }
+
+  private List<String> findPartitionNames() throws SQLException {
+    taskanaHistoryEngine.openConnection();
+    try {
+      return historyEventMapper.findPartitionNamesOfHistoryEvents();
+    } finally {
+      taskanaHistoryEngine.returnConnection();
+    }
+  }
+
+  private Map<YearMonth, String> findMonthlyPartitions(List<String> partitionNames) {
+    Map<YearMonth, String> monthlyPartitions = new HashMap<>();
+    for (String partitionName : partitionNames) {
+      Matcher matcher = MONTHLY_PARTITION_NAME.matcher(partitionName.trim());
+      if (matcher.matches()) {
+        monthlyPartitions.put(YearMonth.parse(matcher.group(1), PARTITION_MONTH), matcher.group());
+      }
+    }
+    return monthlyPartitions;
+  }
+
+  private void dropPartitionsCreatedBefore(Instant createdBefore) throws SQLException {
+    // CREATED is stored as a timestamp in the default time zone of the JVM
+    LocalDateTime createdBeforeLocal =
+        LocalDateTime.ofInstant(createdBefore, ZoneId.systemDefault());
+    boolean isDb2 =
+        DB.DB2.dbProductId.equals(
+            taskanaHistoryEngine.getSqlSession().getConfiguration().getDatabaseId());
+    for (Map.Entry<YearMonth, String> partition :
+        findMonthlyPartitions(findPartitionNames()).entrySet()) {
+      LocalDateTime partitionEnd = partition.getKey().plusMonths(1).atDay(1).atStartOfDay();
+      if (partitionEnd.isAfter(createdBeforeLocal)) {
+        continue;
+      }
+      String name = partition.getValue();
+      taskanaHistoryEngine.openConnection();
+      try {
+        historyEventMapper.dropHistoryEventsPartition(name);
+        LOGGER.info("Dropped history events partition {}", name);
+      } finally {
+        taskanaHistoryEngine.returnConnection();
+      }
+      if (isDb2) {
+        // DB2 detaches the partition into a table of its own, which can be dropped afterwards
+        taskanaHistoryEngine.openConnection();
+        try {
+          historyEventMapper.dropDetachedHistoryEventsPartition(name);
+        } catch (PersistenceException e) {
+          LOGGER.warn(
+              "Could not drop detached history events partition HISTORY_EVENTS_{}. "
+                  + "The table has to be dropped manually.",
+              name,
+              e);
+        } finally {
+          taskanaHistoryEngine.returnConnection();
+        }
+      }
+    }
+  }
+
+  private String getPartitionNamePrefix() {
+    return DB.DB2.dbProductId.equals(
+            taskanaHistoryEngine.getSqlSession().getConfiguration().getDatabaseId())
+        ? "P_"
+        : "HISTORY_EVENTS_";
   }
 
   /*
@@ -1,8 +1,10 @@
 package pro.taskana.simplehistory.impl;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import javax.sql.DataSource;
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSession;
@@ -14,6 +16,8 @@ import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
 import org.apache.ibatis.transaction.managed.ManagedTransactionFactory;
 
 import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.configuration.DB;
 import pro.taskana.simplehistory.TaskanaHistoryEngine;
 import pro.taskana.simplehistory.impl.mappings.HistoryEventMapper;
 import pro.taskana.simplehistory.impl.mappings.HistoryQueryMapper;
@@ -25,7 +29,9 @@ public class TaskanaHistoryEngineImpl implements TaskanaHistoryEngine {
   protected static final ThreadLocal<Deque<SqlSessionManager>> SESSION_STACK = new ThreadLocal<>();
 
   private static final String DEFAULT = "default";
+  private static final String READ_ONLY = "readOnly";
   protected SqlSessionManager sessionManager;
+  protected SqlSessionManager readOnlySessionManager;
   protected TransactionFactory transactionFactory;
   protected TaskanaHistory taskanaHistoryService;
   TaskanaEngineConfiguration taskanaEngineConfiguration;
@@ -35,6 +41,10 @@ public class TaskanaHistoryEngineImpl implements TaskanaHistoryEngine {
 
     createTransactionFactory(this.taskanaEngineConfiguration.getUseManagedTransactions());
     this.sessionManager = createSqlSessionManager();
+    if (taskanaEngineConfiguration.getReadOnlyDatasource() != null) {
+      this.readOnlySessionManager =
+          createSqlSessionManager(READ_ONLY, taskanaEngineConfiguration.getReadOnlyDatasource());
+    }
   }
 
   public static TaskanaHistoryEngineImpl createTaskanaEngine(
@@ -53,11 +63,24 @@ public class TaskanaHistoryEngineImpl implements TaskanaHistoryEngine {
   }
 
   protected SqlSessionManager createSqlSessionManager() {
-    Environment environment =
-        new Environment(
-            DEFAULT, this.transactionFactory, taskanaEngineConfiguration.getDatasource());
+    return createSqlSessionManager(DEFAULT, taskanaEngineConfiguration.getDatasource());
+  }
+
+  protected SqlSessionManager createSqlSessionManager(String environmentId, DataSource dataSource) {
+    Environment environment = new Environment(environmentId, this.transactionFactory, dataSource);
     Configuration configuration = new Configuration(environment);
 
+    // set databaseId
+    try (Connection con = dataSource.getConnection()) {
+      String databaseProductName = con.getMetaData().getDatabaseProductName();
+      configuration.setDatabaseId(DB.getDatabaseProductId(databaseProductName));
+    } catch (SQLException e) {
+      throw new SystemException(
+          "Method createSqlSessionManager() could not open a connection "
+              + "to the database. No databaseId has been set.",
+          e.getCause());
+    }
+
     // add mappers
     configuration.addMapper(HistoryEventMapper.class);
     configuration.addMapper(HistoryQueryMapper.class);
@@ -138,6 +161,32 @@ public class TaskanaHistoryEngineImpl implements TaskanaHistoryEngine {
     }
   }
 
+  /**
+   * Opens the connection to the read-only database for a query. Falls back to {@link
+   * #openConnection()} if no read-only DataSource is configured.
+   *
+   * @throws SQLException thrown if the connection could not be opened.
+   */
+  void openReadOnlyConnection() throws SQLException {
+    if (readOnlySessionManager == null) {
+      openConnection();
+      return;
+    }
+    if (!readOnlySessionManager.isManagedSessionStarted()) {
+      readOnlySessionManager.startManagedSession();
+    }
+    readOnlySessionManager.getConnection().setSchema(taskanaEngineConfiguration.getSchemaName());
+  }
+
+  /** Returns the connection which was opened by {@link #openReadOnlyConnection()}. */
+  void returnReadOnlyConnection() {
+    if (readOnlySessionManager == null) {
+      returnConnection();
+    } else if (readOnlySessionManager.isManagedSessionStarted()) {
+      readOnlySessionManager.close();
+    }
+  }
+
   /** Initializes the SqlSessionManager. */
   void initSqlSession() {
     this.sessionManager.startManagedSession();
@@ -152,6 +201,15 @@ public class TaskanaHistoryEngineImpl implements TaskanaHistoryEngine {
     return this.sessionManager;
   }
 
+  /**
+   * retrieve the SqlSession of the read-only database.
+   *
+   * @return the myBatis SqlSession object or null if no read-only DataSource is configured
+   */
+  SqlSession getReadOnlySqlSession() {
+    return this.readOnlySessionManager;
+  }
+
   /**
    * creates the MyBatis transaction factory.
    *
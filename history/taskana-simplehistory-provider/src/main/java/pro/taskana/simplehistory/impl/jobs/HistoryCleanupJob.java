@@ -0,0 +1,102 @@
+package pro.taskana.simplehistory.impl.jobs;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
+import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.simplehistory.impl.SimpleHistoryConfiguration;
+import pro.taskana.simplehistory.impl.SimpleHistoryServiceImpl;
+
+/**
+ * Job to delete history events after a period of time. The job is configured by the {@link
+ * SimpleHistoryConfiguration}. If HISTORY_EVENTS is range partitioned by month, the job also
+ * creates the partitions of the current and the next month.
+ */
+public class HistoryCleanupJob extends AbstractTaskanaJob {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(HistoryCleanupJob.class);
+
+  private final SimpleHistoryServiceImpl historyService;
+
+  // Parameter
+  private final Instant firstRun;
+  private final Duration runEvery;
+  private final Duration minimumAge;
+  private final int batchSize;
+
+  public HistoryCleanupJob(
+      TaskanaEngine taskanaEngine,
+      TaskanaTransactionProvider<Object> txProvider,
+      ScheduledJob scheduledJob) {
+    this(
+        taskanaEngine,
+        txProvider,
+        scheduledJob,
+        new SimpleHistoryConfiguration(taskanaEngine.getConfiguration()));
+  }
+
+  public HistoryCleanupJob(
+      TaskanaEngine taskanaEngine,
+      TaskanaTransactionProvider<Object> txProvider,
+      ScheduledJob scheduledJob,
+      SimpleHistoryConfiguration historyConfiguration) {
+    super(taskanaEngine, txProvider, scheduledJob);
+    historyService = new SimpleHistoryServiceImpl();
+    historyService.initialize(taskanaEngine.getConfiguration());
+    firstRun = historyConfiguration.getCleanupJobFirstRun();
+    runEvery = historyConfiguration.getCleanupJobRunEvery();
+    minimumAge = historyConfiguration.getCleanupJobMinimumAge();
+    batchSize = taskanaEngine.getConfiguration().getMaxNumberOfUpdatesPerTransaction();
+  }
+
+  @Override
+  public void run() throws TaskanaException {
+    Instant createdBefore = Instant.now().minus(minimumAge);
+    LOGGER.info("Running job to delete all history events created before ({})", createdBefore);
+    try {
+      historyService.createHistoryEventsPartitions(YearMonth.now().plusMonths(1));
+      int deletedEvents = historyService.deleteHistoryEventsCreatedBefore(createdBefore, batchSize);
+      LOGGER.info("Job ended successfully. {} history events deleted.", deletedEvents);
+    } catch (Exception e) {
+      throw new TaskanaException("Error while processing HistoryCleanupJob.", e);
+    } finally {
+      scheduleNextCleanupJob();
+    }
+  }
+
+  /**
+   * Initializes the HistoryCleanupJob schedule. <br>
+   * A new job is scheduled for the next run.
+   *
+   * @param taskanaEngine the TASKANA engine.
+   */
+  public static void initializeSchedule(TaskanaEngine taskanaEngine) {
+    HistoryCleanupJob job = new HistoryCleanupJob(taskanaEngine, null, null);
+    job.scheduleNextCleanupJob();
+  }
+
+  private void scheduleNextCleanupJob() {
+    LOGGER.debug("Entry to scheduleNextCleanupJob.");
+    ScheduledJob job = new ScheduledJob();
+    job.setType(ScheduledJob.Type.HISTORYCLEANUPJOB);
+    job.setDue(getNextDueForHistoryCleanupJob());
+    taskanaEngineImpl.getJobService().createJob(job);
+    LOGGER.debug("Exit from scheduleNextCleanupJob.");
+  }
+
+  private Instant getNextDueForHistoryCleanupJob() {
+    Instant nextRunAt = firstRun;
+    while (nextRunAt.isBefore(Instant.now())) {
+      nextRunAt = nextRunAt.plus(runEvery);
+    }
+    LOGGER.info("Scheduling next run of the HistoryCleanupJob for {}", nextRunAt);
+    return nextRunAt;
+  }
+}
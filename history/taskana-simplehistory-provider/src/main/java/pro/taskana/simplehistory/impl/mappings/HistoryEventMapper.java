@@ -1,10 +1,14 @@
 package pro.taskana.simplehistory.impl.mappings;
 
+import java.time.Instant;
+import java.util.List;
+import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Result;
 import org.apache.ibatis.annotations.Results;
 import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
 
 import pro.taskana.spi.history.api.events.TaskanaHistoryEvent;
 
@@ -27,6 +31,23 @@ public interface HistoryEventMapper {
           + "</script>")
   void insert(@Param("historyEvent") TaskanaHistoryEvent historyEvent);
 
+  @Insert(
+      "<script>INSERT INTO HISTORY_EVENTS (BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, TASK_ID,"
+          + " EVENT_TYPE, CREATED, USER_ID, DOMAIN, WORKBASKET_KEY, POR_COMPANY, POR_SYSTEM, POR_INSTANCE,"
+          + " POR_TYPE, POR_VALUE, TASK_CLASSIFICATION_KEY, TASK_CLASSIFICATION_CATEGORY, ATTACHMENT_CLASSIFICATION_KEY, "
+          + " OLD_VALUE, NEW_VALUE, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, DETAILS)"
+          + " VALUES <foreach item='historyEvent' collection='historyEvents' separator=',' >"
+          + " ( #{historyEvent.businessProcessId}, #{historyEvent.parentBusinessProcessId}, #{historyEvent.taskId},"
+          + " #{historyEvent.eventType}, #{historyEvent.created}, #{historyEvent.userId}, #{historyEvent.domain}, #{historyEvent.workbasketKey},"
+          + " #{historyEvent.porCompany}, #{historyEvent.porSystem}, #{historyEvent.porInstance}, #{historyEvent.porType},"
+          + " #{historyEvent.porValue}, #{historyEvent.taskClassificationKey}, #{historyEvent.taskClassificationCategory},"
+          + " #{historyEvent.attachmentClassificationKey}, #{historyEvent.oldValue}, #{historyEvent.newValue},"
+          + " #{historyEvent.custom1}, #{historyEvent.custom2}, #{historyEvent.custom3}, #{historyEvent.custom4},"
+          + " #{historyEvent.details}) "
+          + "</foreach>"
+          + "</script>")
+  void insertAll(@Param("historyEvents") List<TaskanaHistoryEvent> historyEvents);
+
   @Select(
       "<script>"
           + "SELECT ID, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, TASK_ID, EVENT_TYPE, CREATED, USER_ID, DOMAIN, WORKBASKET_KEY, "
@@ -63,4 +84,87 @@ public interface HistoryEventMapper {
         @Result(property = "details", column = "DETAILS")
       })
   TaskanaHistoryEvent findById(@Param("id") String id);
+
+  @Delete(
+      "<script>DELETE FROM HISTORY_EVENTS WHERE ID IN ("
+          + "SELECT ID FROM HISTORY_EVENTS WHERE CREATED &lt; #{createdBefore} "
+          + "ORDER BY CREATED FETCH FIRST ${batchSize} ROWS ONLY)"
+          + "</script>")
+  int deleteHistoryEventsCreatedBefore(
+      @Param("createdBefore") Instant createdBefore, @Param("batchSize") int batchSize);
+
+  @Select(
+      "<script><choose>"
+          + "<when test=\"_databaseId == 'postgres'\">"
+          + "SELECT COUNT(*) FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid "
+          + "JOIN pg_namespace n ON n.oid = c.relnamespace "
+          + "WHERE c.relname = 'history_events' AND n.nspname = current_schema() "
+          + "</when>"
+          + "<when test=\"_databaseId == 'db2'\">"
+          + "SELECT COUNT(*) FROM SYSCAT.DATAPARTITIONEXPRESSION "
+          + "WHERE TABSCHEMA = CURRENT SCHEMA AND TABNAME = 'HISTORY_EVENTS' with UR "
+          + "</when>"
+          + "</choose></script>")
+  Integer countPartitionKeysOfHistoryEvents();
+
+  @Select(
+      "<script><choose>"
+          + "<when test=\"_databaseId == 'postgres'\">"
+          + "SELECT UPPER(c.relname) FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+          + "JOIN pg_class p ON p.oid = i.inhparent JOIN pg_namespace n ON n.oid = p.relnamespace "
+          + "WHERE p.relname = 'history_events' AND n.nspname = current_schema() "
+          + "</when>"
+          + "<otherwise>"
+          + "SELECT DATAPARTITIONNAME FROM SYSCAT.DATAPARTITIONS "
+          + "WHERE TABSCHEMA = CURRENT SCHEMA AND TABNAME = 'HISTORY_EVENTS' with UR "
+          + "</otherwise>"
+          + "</choose></script>")
+  List<String> findPartitionNamesOfHistoryEvents();
+
+  @Update(
+      "<script><choose>"
+          + "<when test=\"_databaseId == 'db2'\">"
+          + "ALTER TABLE HISTORY_EVENTS ADD PARTITION ${name} "
+          + "STARTING FROM ('${from}') ENDING AT ('${to}') EXCLUSIVE"
+          + "</when>"
+          + "<otherwise>"
+          + "CREATE TABLE ${name} PARTITION OF HISTORY_EVENTS FOR VALUES FROM ('${from}') TO ('${to}')"
+          + "</otherwise>"
+          + "</choose></script>")
+  void createHistoryEventsPartition(
+      @Param("name") String name, @Param("from") String from, @Param("to") String to);
+
+  @Select(
+      "<script>SELECT COUNT(*) FROM HISTORY_EVENTS_DEFAULT "
+          + "WHERE CREATED &gt;= '${from}' AND CREATED &lt; '${to}'</script>")
+  long countEventsOfDefaultPartition(@Param("from") String from, @Param("to") String to);
+
+  @Update("<script>ALTER TABLE HISTORY_EVENTS DETACH PARTITION HISTORY_EVENTS_DEFAULT</script>")
+  void detachDefaultPartition();
+
+  @Insert(
+      "<script>INSERT INTO HISTORY_EVENTS SELECT * FROM HISTORY_EVENTS_DEFAULT "
+          + "WHERE CREATED &gt;= '${from}' AND CREATED &lt; '${to}'</script>")
+  int copyEventsOfDefaultPartition(@Param("from") String from, @Param("to") String to);
+
+  @Delete(
+      "<script>DELETE FROM HISTORY_EVENTS_DEFAULT "
+          + "WHERE CREATED &gt;= '${from}' AND CREATED &lt; '${to}'</script>")
+  int deleteEventsOfDefaultPartition(@Param("from") String from, @Param("to") String to);
+
+  @Update(
+      "<script>ALTER TABLE HISTORY_EVENTS ATTACH PARTITION HISTORY_EVENTS_DEFAULT DEFAULT</script>")
+  void attachDefaultPartition();
+
+  @Update(
+      "<script><choose>"
+          + "<when test=\"_databaseId == 'db2'\">"
+          + "ALTER TABLE HISTORY_EVENTS DETACH PARTITION ${name} INTO HISTORY_EVENTS_${name}"
+          + "</when>"
+          + "<otherwise>DROP TABLE ${name}</otherwise>"
+          + "</choose></script>")
+  void dropHistoryEventsPartition(@Param("name") String name);
+
+  @Update("<script>DROP TABLE HISTORY_EVENTS_${name}</script>")
+  void dropDetachedHistoryEventsPartition(@Param("name") String name);
 }
@@ -49,7 +49,8 @@ public interface HistoryQuery extends BaseQuery<HistoryEventImpl, HistoryQueryCo
   HistoryQuery eventTypeIn(String... eventType);
 
   /**
-   * Add your created TimeInterval to your query.
+   * Add your created TimeInterval to your query. If HISTORY_EVENTS is range partitioned by
+   * CREATED, the database only scans the partitions which overlap the given intervals.
    *
    * @param createdWithin the {@link TimeInterval} within which the searched-for classifications
    *     were created.
@@ -555,4 +556,7 @@ public interface HistoryQuery extends BaseQuery<HistoryEventImpl, HistoryQueryCo
    */
   HistoryQuery orderByCustomAttribute(int num, SortDirection sortDirection)
       throws InvalidArgumentException;
+
+  @Override
+  HistoryQuery usePrimaryDataSource();
 }
@@ -0,0 +1,96 @@
+package acceptance.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.time.Duration;
+import java.time.Instant;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.api.TimeInterval;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
+import pro.taskana.common.internal.jobs.TaskanaJob;
+import pro.taskana.simplehistory.impl.SimpleHistoryConfiguration;
+import pro.taskana.simplehistory.impl.SimpleHistoryServiceImpl;
+import pro.taskana.simplehistory.impl.jobs.HistoryCleanupJob;
+
+/** Acceptance test for the retention of history events. */
+class HistoryCleanupJobAccTest extends AbstractAccTest {
+
+  @BeforeEach
+  void resetDatabase() throws Exception {
+    resetDb(null);
+  }
+
+  @Test
+  void should_DeleteOnlyOlderEvents_When_DeletingInChunks() throws Exception {
+    SimpleHistoryServiceImpl historyService = getHistoryService();
+    Instant oneDayAgo = Instant.now().minus(Duration.ofDays(1));
+    long olderEvents =
+        historyService
+            .createHistoryQuery()
+            .createdWithin(new TimeInterval(null, oneDayAgo))
+            .count();
+    long allEvents = historyService.createHistoryQuery().count();
+    assertThat(olderEvents).isPositive();
+
+    int deletedEvents = historyService.deleteHistoryEventsCreatedBefore(oneDayAgo, 1);
+
+    assertThat(deletedEvents).isEqualTo(olderEvents);
+    assertThat(historyService.createHistoryQuery().count()).isEqualTo(allEvents - olderEvents);
+    assertThat(
+            historyService
+                .createHistoryQuery()
+                .createdWithin(new TimeInterval(null, oneDayAgo))
+                .count())
+        .isZero();
+  }
+
+  @Test
+  void should_DeleteEventsOlderThanMinimumAge_When_RunningHistoryCleanupJob() throws Exception {
+    SimpleHistoryServiceImpl historyService = getHistoryService();
+    TaskanaEngineConfiguration configuration =
+        new TaskanaEngineConfiguration(getDataSource(), false, getSchemaName());
+    TaskanaEngine taskanaEngine = configuration.buildTaskanaEngine();
+    taskanaEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+    SimpleHistoryConfiguration historyConfiguration = new SimpleHistoryConfiguration(configuration);
+    historyConfiguration.setCleanupJobMinimumAge(Duration.ofDays(1));
+    long youngerEvents =
+        historyService
+            .createHistoryQuery()
+            .createdWithin(new TimeInterval(Instant.now().minus(Duration.ofDays(1)), null))
+            .count();
+
+    new HistoryCleanupJob(taskanaEngine, null, null, historyConfiguration).run();
+
+    assertThat(historyService.createHistoryQuery().count()).isEqualTo(youngerEvents);
+  }
+
+  @Test
+  void should_CreateHistoryCleanupJob_When_ScheduledJobHasItsType() throws Exception {
+    TaskanaEngine taskanaEngine =
+        new TaskanaEngineConfiguration(getDataSource(), false, getSchemaName())
+            .buildTaskanaEngine();
+    ScheduledJob scheduledJob = new ScheduledJob();
+    scheduledJob.setType(ScheduledJob.Type.HISTORYCLEANUPJOB);
+
+    TaskanaJob job = AbstractTaskanaJob.createFromScheduledJob(taskanaEngine, null, scheduledJob);
+
+    assertThat(job).isInstanceOf(HistoryCleanupJob.class);
+  }
+
+  @Test
+  void should_ThrowException_When_BatchSizeIsNotPositive() {
+    ThrowingCallable call =
+        () -> getHistoryService().deleteHistoryEventsCreatedBefore(Instant.now(), 0);
+    assertThatThrownBy(call).isInstanceOf(InvalidArgumentException.class);
+  }
+}
@@ -0,0 +1,74 @@
+package acceptance.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.simplehistory.impl.HistoryEventImpl;
+import pro.taskana.simplehistory.impl.HistoryTimeline;
+import pro.taskana.spi.history.api.events.TaskanaHistoryEvent;
+
+/** Test for the timelines of the history events of a task or a business process. */
+class HistoryTimelineAccTest extends AbstractAccTest {
+
+  @Test
+  void should_ReturnEventsOfTaskOrderedByCreation_When_TimelineIsRequested() throws Exception {
+    HistoryTimeline firstPage =
+        getHistoryService().getTaskTimeline("TKI:000000000000000000000000000000000000", null, 1);
+
+    assertThat(firstPage.getEvents())
+        .extracting(TaskanaHistoryEvent::getEventType)
+        .containsExactly("TASK_CREATED");
+    assertThat(firstPage.getContinuationToken()).isNotNull();
+
+    HistoryTimeline secondPage =
+        getHistoryService()
+            .getTaskTimeline(
+                "TKI:000000000000000000000000000000000000", firstPage.getContinuationToken(), 1);
+
+    assertThat(secondPage.getEvents())
+        .extracting(TaskanaHistoryEvent::getEventType)
+        .containsExactly("TASK_UPDATED");
+    assertThat(secondPage.getContinuationToken()).isNull();
+  }
+
+  @Test
+  void should_ReturnEveryEventOnce_When_EventsHaveTheSameCreationTime() throws Exception {
+    Instant created = Instant.now();
+    List<TaskanaHistoryEvent> events = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      HistoryEventImpl event =
+          createHistoryEvent("WBI:1", "TKI:TIMELINE", "TASK_UPDATED", null, "admin", "" + i);
+      event.setBusinessProcessId("BPI:TIMELINE");
+      event.setCreated(created);
+      events.add(event);
+    }
+    getHistoryService().create(events);
+
+    List<Long> ids = new ArrayList<>();
+    String continuationToken = null;
+    do {
+      HistoryTimeline page =
+          getHistoryService().getBusinessProcessTimeline("BPI:TIMELINE", continuationToken, 3);
+      page.getEvents().forEach(event -> ids.add(event.getId()));
+      continuationToken = page.getContinuationToken();
+    } while (continuationToken != null);
+
+    assertThat(ids).hasSize(7).doesNotHaveDuplicates().isSorted();
+  }
+
+  @Test
+  void should_ThrowException_When_ContinuationTokenIsInvalid() {
+    assertThatThrownBy(
+            () -> getHistoryService().getTaskTimeline("TKI:TIMELINE", "no valid token", 10))
+        .isInstanceOf(InvalidArgumentException.class);
+    assertThatThrownBy(() -> getHistoryService().getTaskTimeline("TKI:TIMELINE", null, 0))
+        .isInstanceOf(InvalidArgumentException.class);
+  }
+}
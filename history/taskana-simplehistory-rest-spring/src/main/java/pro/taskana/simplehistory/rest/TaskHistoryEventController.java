@@ -24,6 +24,7 @@ import pro.taskana.common.api.TimeInterval;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.rest.AbstractPagingController;
 import pro.taskana.simplehistory.impl.HistoryEventImpl;
+import pro.taskana.simplehistory.impl.HistoryTimeline;
 import pro.taskana.simplehistory.impl.SimpleHistoryServiceImpl;
 import pro.taskana.simplehistory.query.HistoryQuery;
 import pro.taskana.simplehistory.rest.resource.TaskHistoryEventListResource;
@@ -129,6 +130,8 @@ public class TaskHistoryEventController extends AbstractPagingController {
 
   private static final String PAGING_PAGE_SIZE = "page-size";
 
+  private static final String CONTINUATION_TOKEN = "continuation-token";
+
   private final SimpleHistoryServiceImpl simpleHistoryService;
 
   private final TaskHistoryEventResourceAssembler taskHistoryEventResourceAssembler;
@@ -185,6 +188,61 @@ public class TaskHistoryEventController extends AbstractPagingController {
     return new ResponseEntity<>(pagedResources, HttpStatus.OK);
   }
 
+  /**
+   * Returns the history events of a task or a business process ordered by their creation. The
+   * next page is linked with a continuation token instead of a page number, so the events are not
+   * counted and every page is read from the index at the same cost.
+   *
+   * @param taskId the id of the task
+   * @param businessProcessId the id of the business process
+   * @param continuationToken the token of the previous page, if any
+   * @param pageSize the maximum number of events of the page
+   * @return the page of the timeline
+   * @throws InvalidArgumentException if not exactly one of taskId and businessProcessId is given
+   *     or the continuation token is invalid
+   */
+  @GetMapping(path = "/timeline")
+  @Transactional(readOnly = true, rollbackFor = Exception.class)
+  public ResponseEntity<TaskHistoryEventListResource> getTaskHistoryTimeline(
+      @RequestParam(value = TASK_ID, required = false) String taskId,
+      @RequestParam(value = BUSINESS_PROCESS_ID, required = false) String businessProcessId,
+      @RequestParam(value = CONTINUATION_TOKEN, required = false) String continuationToken,
+      @RequestParam(value = PAGING_PAGE_SIZE, defaultValue = "50") int pageSize)
+      throws InvalidArgumentException {
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "Entry to getTaskHistoryTimeline(taskId= {}, businessProcessId= {}, "
+              + "continuationToken= {}, pageSize= {})",
+          taskId,
+          businessProcessId,
+          continuationToken,
+          pageSize);
+    }
+
+    HistoryTimeline timeline;
+    if (taskId != null && businessProcessId == null) {
+      timeline = simpleHistoryService.getTaskTimeline(taskId, continuationToken, pageSize);
+    } else if (businessProcessId != null && taskId == null) {
+      timeline =
+          simpleHistoryService.getBusinessProcessTimeline(
+              businessProcessId, continuationToken, pageSize);
+    } else {
+      throw new InvalidArgumentException(
+          "Either task-id or business-process-id has to be given for a timeline.");
+    }
+
+    TaskHistoryEventListResource timelineResource =
+        new TaskHistoryEventListResourceAssembler().toTimelineResources(timeline);
+
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "Exit from getTaskHistoryTimeline(), returning {}",
+          new ResponseEntity<>(timelineResource, HttpStatus.OK));
+    }
+
+    return new ResponseEntity<>(timelineResource, HttpStatus.OK);
+  }
+
   @GetMapping(path = "/{historyEventId}", produces = "application/hal+json")
   @Transactional(readOnly = true, rollbackFor = Exception.class)
   public ResponseEntity<TaskHistoryEventResource> getTaskHistoryEvent(
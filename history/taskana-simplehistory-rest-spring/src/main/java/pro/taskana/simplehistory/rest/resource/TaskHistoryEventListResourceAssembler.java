@@ -10,6 +10,7 @@ import org.springframework.hateoas.PagedModel.PageMetadata;
 
 import pro.taskana.resource.rest.AbstractRessourcesAssembler;
 import pro.taskana.simplehistory.impl.HistoryEventImpl;
+import pro.taskana.simplehistory.impl.HistoryTimeline;
 import pro.taskana.simplehistory.rest.TaskHistoryEventController;
 
 /** Mapper to convert from a list of HistoryEventImpl to a TaskHistoryEventResource. */
@@ -56,4 +57,26 @@ public class TaskHistoryEventListResourceAssembler extends AbstractRessourcesAss
 
     return pagedResources;
   }
+
+  public TaskHistoryEventListResource toTimelineResources(HistoryTimeline timeline) {
+    TaskHistoryEventResourceAssembler assembler = new TaskHistoryEventResourceAssembler();
+    List<TaskHistoryEventResource> resources =
+        new ArrayList<>(assembler.toCollectionModel(timeline.getEvents()).getContent());
+    TaskHistoryEventListResource timelineResources =
+        new TaskHistoryEventListResource(resources, null);
+
+    timelineResources.add(Link.of(this.getOriginal().toUriString()).withSelfRel());
+    timelineResources.add(
+        Link.of(this.getOriginal().replaceQueryParam("continuation-token").toUriString())
+            .withRel(IanaLinkRelations.FIRST));
+    if (timeline.getContinuationToken() != null) {
+      timelineResources.add(
+          Link.of(
+                  this.getOriginal()
+                      .replaceQueryParam("continuation-token", timeline.getContinuationToken())
+                      .toUriString())
+              .withRel(IanaLinkRelations.NEXT));
+    }
+    return timelineResources;
+  }
 }
@@ -81,6 +81,30 @@ public class TaskHistoryEventControllerIntTest {
         .isTrue();
   }
 
+  @Test
+  void should_LinkNextPage_When_TimelineOfBusinessProcessIsQueried() {
+    ResponseEntity<TaskHistoryEventListResource> response =
+        template.exchange(
+            server
+                + port
+                + "/api/v1/task-history-event/timeline?business-process-id=BPI:04"
+                + "&page-size=4",
+            HttpMethod.GET,
+            request,
+            ParameterizedTypeReference.forType(TaskHistoryEventListResource.class));
+    assertThat(response.getBody().getContent()).hasSize(4);
+    assertThat(response.getBody().getLink(IanaLinkRelations.NEXT)).isPresent();
+
+    response =
+        template.exchange(
+            response.getBody().getRequiredLink(IanaLinkRelations.NEXT).getHref(),
+            HttpMethod.GET,
+            request,
+            ParameterizedTypeReference.forType(TaskHistoryEventListResource.class));
+    assertThat(response.getBody().getContent()).hasSize(2);
+    assertThat(response.getBody().getLink(IanaLinkRelations.NEXT)).isNotPresent();
+  }
+
   @Test
   public void should_ReturnSpecificTaskHistoryEventWithoutDetails_When_ListIsQueried() {
     ResponseEntity<TaskHistoryEventListResource> response =
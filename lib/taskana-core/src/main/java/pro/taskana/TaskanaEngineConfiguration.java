@@ -37,6 +37,8 @@ import pro.taskana.common.internal.TaskanaEngineImpl;
 import pro.taskana.common.internal.configuration.DB;
 import pro.taskana.common.internal.configuration.DbSchemaCreator;
 import pro.taskana.common.internal.configuration.SecurityVerifier;
+import pro.taskana.common.internal.persistence.JsonMapCodec;
+import pro.taskana.common.internal.persistence.MapCodec;
 
 /**
  * This central class creates the TaskanaEngine and holds all the information about DB and Security.
@@ -46,7 +48,7 @@ import pro.taskana.common.internal.configuration.SecurityVerifier;
 public class TaskanaEngineConfiguration {
 
   protected static final String TASKANA_SCHEMA_VERSION =
-      "3.0.0"; // must match the VERSION value in table
+      "3.0.1"; // must match the VERSION value in table
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskanaEngineConfiguration.class);
   private static final String USER_NAME = "sa";
   private static final String USER_PASSWORD = "sa";
@@ -64,6 +66,9 @@ public class TaskanaEngineConfiguration {
   private static final String TASKANA_JOB_CLEANUP_MINIMUM_AGE = "taskana.jobs.cleanup.minimumAge";
   private static final String TASKANA_JOB_TASK_CLEANUP_ALL_COMPLETED_SAME_PARENTE_BUSINESS =
       "taskana.jobs.cleanup.allCompletedSameParentBusiness";
+  private static final String TASKANA_JOB_ARCHIVE_ENABLED = "taskana.jobs.archive.enable";
+  private static final String TASKANA_JOB_ARCHIVE_RUN_EVERY = "taskana.jobs.archive.runEvery";
+  private static final String TASKANA_JOB_ARCHIVE_MINIMUM_AGE = "taskana.jobs.archive.minimumAge";
   private static final String TASKANA_DOMAINS_PROPERTY = "taskana.domains";
   private static final String TASKANA_CLASSIFICATION_TYPES_PROPERTY =
       "taskana.classification.types";
@@ -72,6 +77,14 @@ public class TaskanaEngineConfiguration {
   private static final String TASKANA_GERMAN_HOLIDAYS_ENABLED = "taskana.german.holidays.enabled";
   private static final String TASKANA_GERMAN_HOLIDAYS_CORPUS_CHRISTI_ENABLED =
       "taskana.german.holidays.corpus-christi.enabled";
+  private static final String TASKANA_WORKBASKET_PERMISSION_CACHE_TIME_TO_LIVE =
+      "taskana.workbasket.permissionCache.timeToLive";
+  private static final String TASKANA_WORKBASKET_DISTRIBUTION_TARGET_CACHE_TIME_TO_LIVE =
+      "taskana.workbasket.distributionTargetCache.timeToLive";
+  private static final String TASKANA_IDS_TIME_ORDERED = "taskana.ids.timeOrdered";
+  private static final String TASKANA_JOB_POLLING_INTERVAL = "taskana.jobs.pollingInterval";
+  private static final String TASKANA_LAZY_INITIALIZATION = "taskana.startup.lazyInitialization";
+  private static final String TASKANA_WORKLOAD_RECORDING = "taskana.workload.recording.enable";
   // TASKANA_SCHEMA_VERSION
   private static final String DEFAULT_SCHEMA_NAME = "TASKANA";
 
@@ -82,6 +95,8 @@ public class TaskanaEngineConfiguration {
   protected String propertiesFileName = TASKANA_PROPERTIES;
   // Taskana datasource configuration
   protected DataSource dataSource;
+  // optional replica which serves the queries and reports outside of write transactions
+  protected DataSource readOnlyDataSource;
   protected DbSchemaCreator dbSchemaCreator;
   protected String schemaName;
   // Taskana role configuration
@@ -108,6 +123,24 @@ public class TaskanaEngineConfiguration {
   private Duration cleanupJobRunEvery = Duration.parse("P1D");
   private Duration cleanupJobMinimumAge = Duration.parse("P14D");
   private boolean taskCleanupJobAllCompletedSameParentBusiness = true;
+  // Properties for the archiving of tasks in an end state
+  private boolean taskArchivingEnabled;
+  private Duration archiveJobRunEvery = Duration.parse("PT1H");
+  private Duration archiveJobMinimumAge = Duration.parse("P1D");
+  // Properties for the workbasket permission cache
+  private Duration workbasketPermissionCacheTimeToLive = Duration.parse("PT30S");
+  private Duration distributionTargetCacheTimeToLive = Duration.parse("PT30S");
+  private Duration jobPollingInterval = Duration.parse("PT5M");
+  // Property for the generation of ids
+  private boolean timeOrderedIdsEnabled;
+  // Properties for the startup of the engine
+  private boolean lazyInitializationEnabled;
+  // null until the schema is validated
+  private Duration schemaValidationTime;
+  // Property for the recording of the query workload
+  private boolean workloadRecordingEnabled;
+  // Storage format of the custom attributes, callback infos and job arguments
+  private MapCodec mapCodec = new JsonMapCodec();
 
   public TaskanaEngineConfiguration(
       DataSource dataSource, boolean useManagedTransactions, String schemaName)
@@ -153,17 +186,27 @@ public class TaskanaEngineConfiguration {
     initSchemaName(schemaName);
     initTaskanaProperties(this.propertiesFileName, this.propertiesSeparator);
 
-    dbSchemaCreator = new DbSchemaCreator(this.dataSource, this.getSchemaName());
-    dbSchemaCreator.run();
-
-    if (!dbSchemaCreator.isValidSchemaVersion(TASKANA_SCHEMA_VERSION)) {
-      throw new SystemException(
-          "The Database Schema Version doesn't match the expected version "
-              + TASKANA_SCHEMA_VERSION);
+    if (!lazyInitializationEnabled) {
+      validateSchema();
     }
+  }
 
-    securityVerifier = new SecurityVerifier(this.dataSource, this.getSchemaName());
-    securityVerifier.checkSecureAccess(securityEnabled);
+  /**
+   * Validates the database schema unless it has already been validated. Without lazy
+   * initialization the constructor validates the schema. Otherwise the engine calls this method
+   * while it is built, with lazy initialization in the background.
+   *
+   * @throws SystemException if the schema is invalid
+   */
+  public synchronized void validateSchemaIfNecessary() {
+    if (schemaValidationTime != null) {
+      return;
+    }
+    try {
+      validateSchema();
+    } catch (SQLException e) {
+      throw new SystemException("Could not validate the database schema.", e);
+    }
   }
 
   public void initTaskanaProperties(String propertiesFile, String rolesSeparator) {
@@ -180,6 +223,13 @@ public class TaskanaEngineConfiguration {
     initGermanHolidaysEnabled(props);
     initCorpusChristiEnabled(props);
     initCustomHolidays(props);
+    initWorkbasketPermissionCacheTimeToLive(props);
+    initDistributionTargetCacheTimeToLive(props);
+    initTimeOrderedIdsEnabled(props);
+    initJobPollingInterval(props);
+    initTaskArchiving(props);
+    initLazyInitializationEnabled(props);
+    initWorkloadRecordingEnabled(props);
   }
 
   public static DataSource createDefaultDataSource() {
@@ -222,6 +272,22 @@ public class TaskanaEngineConfiguration {
     return this.dataSource;
   }
 
+  public DataSource getReadOnlyDatasource() {
+    return this.readOnlyDataSource;
+  }
+
+  /**
+   * Sets a read-only replica of the database. If it is set before the engine is built, queries and
+   * reports use it unless they run within a write transaction or the query demands the primary
+   * database.
+   *
+   * @param readOnlyDataSource the DataSource of the replica or null to use only the primary
+   *     database
+   */
+  public void setReadOnlyDatasource(DataSource readOnlyDataSource) {
+    this.readOnlyDataSource = readOnlyDataSource;
+  }
+
   public boolean getUseManagedTransactions() {
     return this.useManagedTransactions;
   }
@@ -332,6 +398,106 @@ public class TaskanaEngineConfiguration {
     return cleanupJobMinimumAge;
   }
 
+  public Duration getWorkbasketPermissionCacheTimeToLive() {
+    return workbasketPermissionCacheTimeToLive;
+  }
+
+  public void setWorkbasketPermissionCacheTimeToLive(
+      Duration workbasketPermissionCacheTimeToLive) {
+    this.workbasketPermissionCacheTimeToLive = workbasketPermissionCacheTimeToLive;
+  }
+
+  public Duration getDistributionTargetCacheTimeToLive() {
+    return distributionTargetCacheTimeToLive;
+  }
+
+  public void setDistributionTargetCacheTimeToLive(Duration distributionTargetCacheTimeToLive) {
+    this.distributionTargetCacheTimeToLive = distributionTargetCacheTimeToLive;
+  }
+
+  public Duration getJobPollingInterval() {
+    return jobPollingInterval;
+  }
+
+  public void setJobPollingInterval(Duration jobPollingInterval) {
+    this.jobPollingInterval = jobPollingInterval;
+  }
+
+  public boolean isTimeOrderedIdsEnabled() {
+    return timeOrderedIdsEnabled;
+  }
+
+  public void setTimeOrderedIdsEnabled(boolean timeOrderedIdsEnabled) {
+    this.timeOrderedIdsEnabled = timeOrderedIdsEnabled;
+  }
+
+  public boolean isLazyInitializationEnabled() {
+    return lazyInitializationEnabled;
+  }
+
+  /**
+   * Enables or disables the lazy initialization of the engines which are built afterwards. With
+   * lazy initialization the MyBatis mappers are parsed on their first use and the history providers
+   * are discovered in the background. The database schema is validated in the background only if
+   * the constructor has not validated it yet, i.e. if the property
+   * taskana.startup.lazyInitialization is set.
+   *
+   * @param lazyInitializationEnabled true if the engine shall be initialized lazily
+   */
+  public void setLazyInitializationEnabled(boolean lazyInitializationEnabled) {
+    this.lazyInitializationEnabled = lazyInitializationEnabled;
+  }
+
+  public boolean isWorkloadRecordingEnabled() {
+    return workloadRecordingEnabled;
+  }
+
+  public void setWorkloadRecordingEnabled(boolean workloadRecordingEnabled) {
+    this.workloadRecordingEnabled = workloadRecordingEnabled;
+  }
+
+  public MapCodec getMapCodec() {
+    return mapCodec;
+  }
+
+  /**
+   * Sets the storage format of the custom attributes, callback infos and job arguments. It must be
+   * set before the TaskanaEngine is built.
+   *
+   * @param mapCodec the format to use
+   */
+  public void setMapCodec(MapCodec mapCodec) {
+    this.mapCodec = mapCodec;
+  }
+
+  public Duration getSchemaValidationTime() {
+    return schemaValidationTime == null ? Duration.ZERO : schemaValidationTime;
+  }
+
+  public boolean isTaskArchivingEnabled() {
+    return taskArchivingEnabled;
+  }
+
+  public void setTaskArchivingEnabled(boolean taskArchivingEnabled) {
+    this.taskArchivingEnabled = taskArchivingEnabled;
+  }
+
+  public Duration getArchiveJobRunEvery() {
+    return archiveJobRunEvery;
+  }
+
+  public void setArchiveJobRunEvery(Duration archiveJobRunEvery) {
+    this.archiveJobRunEvery = archiveJobRunEvery;
+  }
+
+  public Duration getArchiveJobMinimumAge() {
+    return archiveJobMinimumAge;
+  }
+
+  public void setArchiveJobMinimumAge(Duration archiveJobMinimumAge) {
+    this.archiveJobMinimumAge = archiveJobMinimumAge;
+  }
+
   public boolean isTaskCleanupJobAllCompletedSameParentBusiness() {
     return taskCleanupJobAllCompletedSameParentBusiness;
   }
@@ -370,6 +536,16 @@ public class TaskanaEngineConfiguration {
     LOGGER.debug("GermanPublicHolidaysEnabled = {}", germanPublicHolidaysEnabled);
   }
 
+  private void initTimeOrderedIdsEnabled(Properties props) {
+    String enabled = props.getProperty(TASKANA_IDS_TIME_ORDERED);
+    if (enabled != null && !enabled.isEmpty()) {
+      timeOrderedIdsEnabled = Boolean.parseBoolean(enabled);
+    } else {
+      timeOrderedIdsEnabled = false;
+    }
+    LOGGER.debug("TimeOrderedIdsEnabled = {}", timeOrderedIdsEnabled);
+  }
+
   private void initCorpusChristiEnabled(Properties props) {
     String enabled = props.getProperty(TASKANA_GERMAN_HOLIDAYS_CORPUS_CHRISTI_ENABLED);
     if (enabled != null && !enabled.isEmpty()) {
@@ -380,6 +556,120 @@ public class TaskanaEngineConfiguration {
     LOGGER.debug("CorpusChristiEnabled = {}", corpusChristiEnabled);
   }
 
+  private void initWorkbasketPermissionCacheTimeToLive(Properties props) {
+    String timeToLive = props.getProperty(TASKANA_WORKBASKET_PERMISSION_CACHE_TIME_TO_LIVE);
+    if (timeToLive != null && !timeToLive.isEmpty()) {
+      try {
+        workbasketPermissionCacheTimeToLive = Duration.parse(timeToLive);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse workbasketPermissionCacheTimeToLive ({}). Using default. "
+                + "Exception: {} ",
+            timeToLive,
+            e.getMessage());
+      }
+    }
+    LOGGER.debug("WorkbasketPermissionCacheTimeToLive = {}", workbasketPermissionCacheTimeToLive);
+  }
+
+  private void initJobPollingInterval(Properties props) {
+    String pollingInterval = props.getProperty(TASKANA_JOB_POLLING_INTERVAL);
+    if (pollingInterval != null && !pollingInterval.isEmpty()) {
+      try {
+        jobPollingInterval = Duration.parse(pollingInterval);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse jobPollingInterval ({}). Using default. Exception: {} ",
+            pollingInterval,
+            e.getMessage());
+      }
+    }
+    LOGGER.debug("JobPollingInterval = {}", jobPollingInterval);
+  }
+
+  private void validateSchema() throws SQLException {
+    long start = System.nanoTime();
+    dbSchemaCreator = new DbSchemaCreator(this.dataSource, this.getSchemaName());
+    dbSchemaCreator.run();
+
+    if (!dbSchemaCreator.isValidSchemaVersion(TASKANA_SCHEMA_VERSION)) {
+      throw new SystemException(
+          "The Database Schema Version doesn't match the expected version "
+              + TASKANA_SCHEMA_VERSION);
+    }
+
+    securityVerifier = new SecurityVerifier(this.dataSource, this.getSchemaName());
+    securityVerifier.checkSecureAccess(securityEnabled);
+    schemaValidationTime = Duration.ofNanos(System.nanoTime() - start);
+  }
+
+  private void initLazyInitializationEnabled(Properties props) {
+    String lazyInitialization = props.getProperty(TASKANA_LAZY_INITIALIZATION);
+    if (lazyInitialization != null && !lazyInitialization.isEmpty()) {
+      lazyInitializationEnabled = Boolean.parseBoolean(lazyInitialization);
+    }
+    LOGGER.debug("LazyInitializationEnabled = {}", lazyInitializationEnabled);
+  }
+
+  private void initWorkloadRecordingEnabled(Properties props) {
+    String workloadRecording = props.getProperty(TASKANA_WORKLOAD_RECORDING);
+    if (workloadRecording != null && !workloadRecording.isEmpty()) {
+      workloadRecordingEnabled = Boolean.parseBoolean(workloadRecording);
+    }
+    LOGGER.debug("WorkloadRecordingEnabled = {}", workloadRecordingEnabled);
+  }
+
+  private void initTaskArchiving(Properties props) {
+    String enabled = props.getProperty(TASKANA_JOB_ARCHIVE_ENABLED);
+    if (enabled != null && !enabled.isEmpty()) {
+      taskArchivingEnabled = Boolean.parseBoolean(enabled);
+    }
+    String runEvery = props.getProperty(TASKANA_JOB_ARCHIVE_RUN_EVERY);
+    if (runEvery != null && !runEvery.isEmpty()) {
+      try {
+        archiveJobRunEvery = Duration.parse(runEvery);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse archiveJobRunEvery ({}). Using default. Exception: {} ",
+            runEvery,
+            e.getMessage());
+      }
+    }
+    String minimumAge = props.getProperty(TASKANA_JOB_ARCHIVE_MINIMUM_AGE);
+    if (minimumAge != null && !minimumAge.isEmpty()) {
+      try {
+        archiveJobMinimumAge = Duration.parse(minimumAge);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse archiveJobMinimumAge ({}). Using default. Exception: {} ",
+            minimumAge,
+            e.getMessage());
+      }
+    }
+    LOGGER.debug(
+        "TaskArchiving = {}, runs every {}, minimum age of tasks to be archived is {}",
+        taskArchivingEnabled,
+        archiveJobRunEvery,
+        archiveJobMinimumAge);
+  }
+
+  private void initDistributionTargetCacheTimeToLive(Properties props) {
+    String timeToLive =
+        props.getProperty(TASKANA_WORKBASKET_DISTRIBUTION_TARGET_CACHE_TIME_TO_LIVE);
+    if (timeToLive != null && !timeToLive.isEmpty()) {
+      try {
+        distributionTargetCacheTimeToLive = Duration.parse(timeToLive);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse distributionTargetCacheTimeToLive ({}). Using default. "
+                + "Exception: {} ",
+            timeToLive,
+            e.getMessage());
+      }
+    }
+    LOGGER.debug("DistributionTargetCacheTimeToLive = {}", distributionTargetCacheTimeToLive);
+  }
+
   private void initJobParameters(Properties props) {
     String jobBatchSizeProperty = props.getProperty(TASKANA_JOB_BATCHSIZE);
     if (jobBatchSizeProperty != null && !jobBatchSizeProperty.isEmpty()) {
@@ -270,4 +270,7 @@ public interface ClassificationQuery
    */
   ClassificationQuery orderByCustomAttribute(String num, SortDirection sortDirection)
       throws InvalidArgumentException;
+
+  @Override
+  ClassificationQuery usePrimaryDataSource();
 }
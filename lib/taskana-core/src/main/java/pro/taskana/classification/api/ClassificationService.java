@@ -1,5 +1,8 @@
 package pro.taskana.classification.api;
 
+import java.util.List;
+import java.util.Map;
+
 import pro.taskana.classification.api.exceptions.ClassificationAlreadyExistException;
 import pro.taskana.classification.api.exceptions.ClassificationInUseException;
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
@@ -116,4 +119,33 @@ public interface ClassificationService {
    * @return classification to specify
    */
   Classification newClassification(String key, String domain, String type);
+
+  /**
+   * Imports a list of classifications in one set-based operation. A classification whose key and
+   * domain already exist is updated, all others are created. New classifications are added to the
+   * master domain, too - if not already existing.
+   *
+   * <p>The parent of a classification is given either by its parent key or by a parent id which
+   * refers to the id of another classification in {@code classifications}. Parents are resolved in
+   * memory against the imported and the existing classifications of the same domain. A parent which
+   * can't be resolved is dropped. New classifications are written with multi-row statements, and
+   * for each existing classification whose priority or service level changed at most one job is
+   * scheduled to update the affected tasks.
+   *
+   * @param classifications the classifications to import. The ids are the ids of the exporting
+   *     system and are replaced.
+   * @return a map from the id given in each classification to the id of the classification in this
+   *     system
+   * @throws NotAuthorizedException if the current user is not member of role BUSINESS_ADMIN or
+   *     ADMIN
+   * @throws InvalidArgumentException if {@code classifications} is null, a classification is
+   *     invalid, refers to itself as parent or changes the type of an existing classification
+   * @throws DomainNotFoundException if the domain of a classification does not exist in the
+   *     configuration
+   * @throws ClassificationAlreadyExistException if {@code classifications} contains the same key
+   *     and domain more than once
+   */
+  Map<String, String> importClassifications(List<Classification> classifications)
+      throws NotAuthorizedException, InvalidArgumentException, DomainNotFoundException,
+          ClassificationAlreadyExistException;
 }
@@ -32,6 +32,7 @@ public class ClassificationQueryImpl implements ClassificationQuery {
           + "queryClassificationColumnValues";
   private static final Logger LOGGER = LoggerFactory.getLogger(ClassificationQueryImpl.class);
   private InternalTaskanaEngine taskanaEngine;
+  private boolean usePrimaryDataSource;
   private ClassificationQueryColumnName columnName;
   private String[] key;
   private String[] idIn;
@@ -384,12 +385,18 @@ public class ClassificationQueryImpl implements ClassificationQuery {
     }
   }
 
+  @Override
+  public ClassificationQuery usePrimaryDataSource() {
+    this.usePrimaryDataSource = true;
+    return this;
+  }
+
   @Override
   public List<ClassificationSummary> list() {
     LOGGER.debug("entry to list(), this = {}", this);
     List<ClassificationSummary> result = new ArrayList<>();
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       result = taskanaEngine.getSqlSession().selectList(LINK_TO_SUMMARYMAPPER, this);
       return result;
     } finally {
@@ -408,7 +415,7 @@ public class ClassificationQueryImpl implements ClassificationQuery {
     LOGGER.debug("entry to list(offset = {}, limit = {}), this = {}", offset, limit, this);
     List<ClassificationSummary> result = new ArrayList<>();
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       RowBounds rowBounds = new RowBounds(offset, limit);
       result = taskanaEngine.getSqlSession().selectList(LINK_TO_SUMMARYMAPPER, this, rowBounds);
       return result;
@@ -440,7 +447,7 @@ public class ClassificationQueryImpl implements ClassificationQuery {
     LOGGER.debug("Entry to listValues(dbColumnName={}) this = {}", columnName, this);
     List<String> result = new ArrayList<>();
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       this.columnName = columnName;
       this.orderBy.clear();
       this.addOrderCriteria(columnName.toString(), sortDirection);
@@ -462,7 +469,7 @@ public class ClassificationQueryImpl implements ClassificationQuery {
     LOGGER.debug("entry to single(), this = {}", this);
     ClassificationSummary result = null;
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       result = taskanaEngine.getSqlSession().selectOne(LINK_TO_SUMMARYMAPPER, this);
       return result;
     } finally {
@@ -476,7 +483,7 @@ public class ClassificationQueryImpl implements ClassificationQuery {
     LOGGER.debug("entry to count(), this = {}", this);
     Long rowCount = null;
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       rowCount = taskanaEngine.getSqlSession().selectOne(LINK_TO_COUNTER, this);
       return (rowCount == null) ? 0L : rowCount;
     } finally {
@@ -641,6 +648,14 @@ public class ClassificationQueryImpl implements ClassificationQuery {
     return this;
   }
 
+  private void openQueryConnection() {
+    if (usePrimaryDataSource) {
+      taskanaEngine.openConnection();
+    } else {
+      taskanaEngine.openReadOnlyConnection();
+    }
+  }
+
   @Override
   public String toString() {
     return "ClassificationQueryImpl ["
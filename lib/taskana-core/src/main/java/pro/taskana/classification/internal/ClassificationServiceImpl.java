@@ -6,9 +6,11 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,6 +24,7 @@ import pro.taskana.classification.api.models.Classification;
 import pro.taskana.classification.api.models.ClassificationSummary;
 import pro.taskana.classification.internal.jobs.ClassificationChangedJob;
 import pro.taskana.classification.internal.models.ClassificationImpl;
+import pro.taskana.common.api.KeyDomain;
 import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
@@ -29,9 +32,10 @@ import pro.taskana.common.api.exceptions.DomainNotFoundException;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
-import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.common.internal.util.LogSanitizer;
 import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.TaskArchiveMapper;
 import pro.taskana.task.internal.TaskMapper;
 
 /** This is the implementation of ClassificationService. */
@@ -41,15 +45,25 @@ public class ClassificationServiceImpl implements ClassificationService {
   private static final Logger LOGGER = LoggerFactory.getLogger(ClassificationServiceImpl.class);
   private ClassificationMapper classificationMapper;
   private TaskMapper taskMapper;
+  private TaskArchiveMapper taskArchiveMapper;
   private InternalTaskanaEngine taskanaEngine;
 
   public ClassificationServiceImpl(
       InternalTaskanaEngine taskanaEngine,
       ClassificationMapper classificationMapper,
       TaskMapper taskMapper) {
+    this(taskanaEngine, classificationMapper, taskMapper, null);
+  }
+
+  public ClassificationServiceImpl(
+      InternalTaskanaEngine taskanaEngine,
+      ClassificationMapper classificationMapper,
+      TaskMapper taskMapper,
+      TaskArchiveMapper taskArchiveMapper) {
     this.taskanaEngine = taskanaEngine;
     this.classificationMapper = classificationMapper;
     this.taskMapper = taskMapper;
+    this.taskArchiveMapper = taskArchiveMapper;
   }
 
   @Override
@@ -253,6 +267,110 @@ public class ClassificationServiceImpl implements ClassificationService {
     }
   }
 
+  @Override
+  public Map<String, String> importClassifications(List<Classification> classifications)
+      throws NotAuthorizedException, InvalidArgumentException, DomainNotFoundException,
+          ClassificationAlreadyExistException {
+    LOGGER.debug(
+        "entry to importClassifications(classifications with {} entries)",
+        classifications == null ? 0 : classifications.size());
+    taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
+    if (classifications == null) {
+      throw new InvalidArgumentException("The list of classifications must not be NULL.");
+    }
+
+    // key: id of the classification in the import
+    // value: system id
+    Map<String, String> idConversion = new HashMap<>();
+    try {
+      taskanaEngine.openConnection();
+      List<ClassificationImpl> importedClassifications =
+          resolveParentKeysForImport(classifications);
+      Map<KeyDomain, ClassificationImpl> existingClassifications =
+          findExistingClassifications(importedClassifications);
+      // key: key and domain of the classification
+      // value: the classification as it will be stored after the import
+      Map<KeyDomain, ClassificationImpl> resultingClassifications =
+          new HashMap<>(existingClassifications);
+      List<ClassificationImpl> classificationsToInsert = new ArrayList<>();
+      Instant now = Instant.now();
+
+      // STEP 1: resolve ids and validate all classifications in memory
+      for (ClassificationImpl classification : importedClassifications) {
+        String importId = classification.getId();
+        KeyDomain keyDomain = new KeyDomain(classification.getKey(), classification.getDomain());
+        ClassificationImpl existingClassification = existingClassifications.get(keyDomain);
+        if (existingClassification == null) {
+          classification.setId(taskanaEngine.getIdGenerator().generateId(ID_PREFIX_CLASSIFICATION));
+          classification.setCreated(now);
+          classification.setModified(now);
+          classificationsToInsert.add(classification);
+        } else {
+          if (classification.getType() != null
+              && !classification.getType().equals(existingClassification.getType())) {
+            throw new InvalidArgumentException("Can not change the type of a classification.");
+          }
+          classification.setId(existingClassification.getId());
+          classification.setType(existingClassification.getType());
+          classification.setCreated(existingClassification.getCreated());
+          classification.setModified(existingClassification.getModified());
+        }
+        initDefaultClassificationValues(classification);
+        resultingClassifications.put(keyDomain, classification);
+        if (importId != null) {
+          idConversion.put(importId, classification.getId());
+        }
+      }
+      List<ClassificationImpl> masterClassifications =
+          createMissingMasterClassifications(classificationsToInsert, resultingClassifications);
+      classificationsToInsert.addAll(masterClassifications);
+
+      // STEP 2: resolve the parent ids against the imported and existing classifications
+      List<ClassificationImpl> classificationsWithParent =
+          new ArrayList<>(importedClassifications);
+      classificationsWithParent.addAll(masterClassifications);
+      for (ClassificationImpl classification : classificationsWithParent) {
+        ClassificationImpl parent =
+            resultingClassifications.get(
+                new KeyDomain(classification.getParentKey(), classification.getDomain()));
+        if (parent == null) {
+          classification.setParentKey("");
+          classification.setParentId("");
+        } else {
+          classification.setParentId(parent.getId());
+        }
+      }
+
+      // STEP 3: write new classifications in batches and update only changed ones
+      CollectionUtil.forEachChunk(classificationsToInsert, classificationMapper::insertAll);
+      int updated = 0;
+      for (ClassificationImpl classification : importedClassifications) {
+        ClassificationImpl existingClassification =
+            existingClassifications.get(
+                new KeyDomain(classification.getKey(), classification.getDomain()));
+        if (existingClassification != null && !existingClassification.equals(classification)) {
+          classification.setModified(now);
+          if (!Objects.equals(
+              existingClassification.getCategory(), classification.getCategory())) {
+            updateCategoryOnAssociatedTasks(classification, existingClassification);
+          }
+          classificationMapper.update(classification);
+          createJobIfPriorityOrServiceLevelHasChanged(existingClassification, classification);
+          updated++;
+        }
+      }
+      LOGGER.debug(
+          "Method importClassifications() created {} and updated {} classifications",
+          classificationsToInsert.size(),
+          updated);
+      return idConversion;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug(
+          "exit from importClassifications(). Returning {} converted ids", idConversion.size());
+    }
+  }
+
   @Override
   public ClassificationQuery createClassificationQuery() {
     return new ClassificationQueryImpl(taskanaEngine);
@@ -325,6 +443,106 @@ public class ClassificationServiceImpl implements ClassificationService {
     }
   }
 
+  /**
+   * Validates the domains of the imported classifications and replaces the parent ids, which refer
+   * to ids of the import, with parent keys.
+   *
+   * @param classifications the imported classifications
+   * @return the imported classifications with resolved parent keys
+   * @throws DomainNotFoundException if the domain of a classification does not exist
+   * @throws ClassificationAlreadyExistException if a key and domain is imported more than once
+   * @throws InvalidArgumentException if a classification has no key or refers to itself as parent
+   */
+  private List<ClassificationImpl> resolveParentKeysForImport(
+      List<Classification> classifications)
+      throws DomainNotFoundException, ClassificationAlreadyExistException,
+          InvalidArgumentException {
+    Map<String, String> keysByImportId = new HashMap<>();
+    Set<KeyDomain> importedKeyDomains = new HashSet<>();
+    for (Classification classification : classifications) {
+      if (classification.getKey() == null) {
+        throw new InvalidArgumentException("Classification must contain a key");
+      }
+      if (!taskanaEngine.domainExists(classification.getDomain())
+          && !"".equals(classification.getDomain())) {
+        throw new DomainNotFoundException(
+            classification.getDomain(),
+            "Domain " + classification.getDomain() + " does not exist in the configuration.");
+      }
+      if (!importedKeyDomains.add(
+          new KeyDomain(classification.getKey(), classification.getDomain()))) {
+        throw new ClassificationAlreadyExistException(classification);
+      }
+      if (classification.getId() != null) {
+        keysByImportId.put(classification.getId(), classification.getKey());
+      }
+    }
+
+    List<ClassificationImpl> result = new ArrayList<>();
+    for (Classification classification : classifications) {
+      ClassificationImpl classificationImpl = (ClassificationImpl) classification;
+      String parentKey = classificationImpl.getParentKey();
+      if ((parentKey == null || parentKey.isEmpty()) && classificationImpl.getParentId() != null) {
+        parentKey = keysByImportId.get(classificationImpl.getParentId());
+      }
+      parentKey = parentKey == null ? "" : parentKey;
+      if (parentKey.equals(classificationImpl.getKey())) {
+        throw new InvalidArgumentException(
+            "The classification "
+                + classificationImpl.getName()
+                + " has the same key and parentKey");
+      }
+      classificationImpl.setParentKey(parentKey);
+      classificationImpl.setParentId("");
+      result.add(classificationImpl);
+    }
+    return result;
+  }
+
+  private Map<KeyDomain, ClassificationImpl> findExistingClassifications(
+      List<ClassificationImpl> classifications) {
+    Set<String> keys = new HashSet<>();
+    for (ClassificationImpl classification : classifications) {
+      keys.add(classification.getKey());
+      if (!classification.getParentKey().isEmpty()) {
+        keys.add(classification.getParentKey());
+      }
+    }
+    Map<KeyDomain, ClassificationImpl> existingClassifications = new HashMap<>();
+    CollectionUtil.forEachChunk(
+        new ArrayList<>(keys),
+        chunk ->
+            classificationMapper
+                .findByKeys(chunk)
+                .forEach(
+                    classification ->
+                        existingClassifications.put(
+                            new KeyDomain(classification.getKey(), classification.getDomain()),
+                            classification)));
+    return existingClassifications;
+  }
+
+  private List<ClassificationImpl> createMissingMasterClassifications(
+      List<ClassificationImpl> newClassifications,
+      Map<KeyDomain, ClassificationImpl> resultingClassifications) {
+    List<ClassificationImpl> masterClassifications = new ArrayList<>();
+    for (ClassificationImpl classification : newClassifications) {
+      KeyDomain masterKeyDomain = new KeyDomain(classification.getKey(), "");
+      if (!classification.getDomain().isEmpty()
+          && !resultingClassifications.containsKey(masterKeyDomain)) {
+        ClassificationImpl masterClassification = classification.copy(classification.getKey());
+        masterClassification.setId(
+            taskanaEngine.getIdGenerator().generateId(ID_PREFIX_CLASSIFICATION));
+        masterClassification.setParentKey(classification.getParentKey());
+        masterClassification.setDomain("");
+        masterClassification.setIsValidInDomain(false);
+        resultingClassifications.put(masterKeyDomain, masterClassification);
+        masterClassifications.add(masterClassification);
+      }
+    }
+    return masterClassifications;
+  }
+
   private void checkClassificationId(ClassificationImpl classificationImpl)
       throws InvalidArgumentException {
     if (classificationImpl.getId() != null && !"".equals(classificationImpl.getId())) {
@@ -336,7 +554,8 @@ public class ClassificationServiceImpl implements ClassificationService {
     if (!Objects.equals(classification.getDomain(), "")) {
       boolean doesExist = true;
       ClassificationImpl masterClassification = classification.copy(classification.getKey());
-      masterClassification.setId(IdGenerator.generateWithPrefix(ID_PREFIX_CLASSIFICATION));
+      masterClassification.setId(
+          taskanaEngine.getIdGenerator().generateId(ID_PREFIX_CLASSIFICATION));
       masterClassification.setParentKey(classification.getParentKey());
       masterClassification.setDomain("");
       masterClassification.setIsValidInDomain(false);
@@ -380,7 +599,7 @@ public class ClassificationServiceImpl implements ClassificationService {
       throws InvalidArgumentException {
     Instant now = Instant.now();
     if (classification.getId() == null || "".equals(classification.getId())) {
-      classification.setId(IdGenerator.generateWithPrefix(ID_PREFIX_CLASSIFICATION));
+      classification.setId(taskanaEngine.getIdGenerator().generateId(ID_PREFIX_CLASSIFICATION));
     }
 
     if (classification.getCreated() == null) {
@@ -495,7 +714,8 @@ public class ClassificationServiceImpl implements ClassificationService {
   }
 
   /**
-   * Update classification fields used by tasks.
+   * Update classification fields used by tasks. The archived tasks are updated as well, so that
+   * they keep matching the queries by category.
    *
    * @param classificationImpl the new classification
    * @param oldClassification the old classification
@@ -515,6 +735,10 @@ public class ClassificationServiceImpl implements ClassificationService {
       taskSummaries.forEach(ts -> taskIds.add(ts.getId()));
       taskMapper.updateClassificationCategoryOnChange(taskIds, classificationImpl.getCategory());
     }
+    if (taskArchiveMapper != null) {
+      taskArchiveMapper.updateClassificationCategoryOnChange(
+          oldClassification.getId(), classificationImpl.getCategory());
+    }
   }
 
   /**
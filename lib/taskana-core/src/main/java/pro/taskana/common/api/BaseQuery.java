@@ -75,6 +75,35 @@ public interface BaseQuery<T, U extends Enum<U> & QueryColumnName> {
    */
   long count();
 
+  /**
+   * Counting the amount of rows/results for the current query, but stops counting as soon as the
+   * given limit is reached. The TaskQuery stops counting in the database, which is cheaper than
+   * {@link #count()} for large result sets when only a bounded number is displayed (e.g. "1000+").
+   * The default implementation is only a fallback for the other queries: it counts all rows with
+   * {@link #count()} and caps the result, so it costs as much as the exact count. In case of a
+   * TaskQuery, this method can throw a NotAuthorizedToQueryWorkbasketException.
+   *
+   * @param limit the maximum number of rows which are counted. Negative values are treated as 0.
+   * @return resultRowCount, but at most limit
+   */
+  default long countUpTo(long limit) {
+    if (limit <= 0) {
+      return 0L;
+    }
+    return Math.min(count(), limit);
+  }
+
+  /**
+   * Executes this query on the primary database even if a read-only replica is configured. This
+   * is needed to read the own writes directly after a change, because the replica may lag behind.
+   * Queries within a transaction which already changed data always use the primary database.
+   *
+   * @return the query itself
+   */
+  default BaseQuery<T, U> usePrimaryDataSource() {
+    return this;
+  }
+
   default String[] toUpperCopy(String... source) {
     if (source == null || source.length == 0) {
       return null;
@@ -0,0 +1,55 @@
+package pro.taskana.common.api;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/** This class holds the metrics of the jobs which are due and wait for the JobRunner. */
+public class JobQueueStatistics {
+
+  private long depth;
+  private Instant oldestDue;
+
+  /**
+   * Returns the number of jobs which are due and not locked.
+   *
+   * @return the number of waiting jobs
+   */
+  public long getDepth() {
+    return depth;
+  }
+
+  public void setDepth(long depth) {
+    this.depth = depth;
+  }
+
+  /**
+   * Returns the due timestamp of the job which waits longest.
+   *
+   * @return the oldest due timestamp or null if no job is waiting
+   */
+  public Instant getOldestDue() {
+    return oldestDue;
+  }
+
+  public void setOldestDue(Instant oldestDue) {
+    this.oldestDue = oldestDue;
+  }
+
+  /**
+   * Returns how long the job which waits longest is overdue.
+   *
+   * @return the lag or {@link Duration#ZERO} if no job is waiting
+   */
+  public Duration getLag() {
+    if (oldestDue == null) {
+      return Duration.ZERO;
+    }
+    Duration lag = Duration.between(oldestDue, Instant.now());
+    return lag.isNegative() ? Duration.ZERO : lag;
+  }
+
+  @Override
+  public String toString() {
+    return "JobQueueStatistics [depth=" + depth + ", oldestDue=" + oldestDue + "]";
+  }
+}
@@ -10,4 +10,11 @@ public interface JobService {
    * @return {@link ScheduledJob} The created job.
    */
   ScheduledJob createJob(ScheduledJob job);
+
+  /**
+   * Returns the number of jobs which are due and how long the oldest of them is overdue.
+   *
+   * @return the {@link JobQueueStatistics}
+   */
+  JobQueueStatistics getJobQueueStatistics();
 }
@@ -175,6 +175,8 @@ public class ScheduledJob {
     CLASSIFICATIONCHANGEDJOB,
     UPDATETASKSJOB,
     TASKCLEANUPJOB,
-    WORKBASKETCLEANUPJOB;
+    WORKBASKETCLEANUPJOB,
+    TASKARCHIVINGJOB,
+    HISTORYCLEANUPJOB;
   }
 }
@@ -4,8 +4,13 @@ import java.util.function.Supplier;
 import org.apache.ibatis.session.SqlSession;
 
 import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.jobs.JobSignal;
+import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.common.internal.workload.WorkloadRecorder;
 import pro.taskana.spi.history.internal.HistoryEventProducer;
 import pro.taskana.task.internal.TaskRoutingManager;
+import pro.taskana.workbasket.internal.DistributionTargetGraph;
+import pro.taskana.workbasket.internal.WorkbasketPermissionCache;
 
 /**
  * FOR INTERNAL USE ONLY.
@@ -28,6 +33,14 @@ public interface InternalTaskanaEngine {
    */
   void returnConnection();
 
+  /**
+   * Opens the connection for a query or a report. The read-only DataSource is used if one is
+   * configured and the current thread is not within an operation on the primary DataSource.
+   * Otherwise it behaves like {@link #openConnection()}. Must be closed with {@link
+   * #returnConnection()} as well.
+   */
+  void openReadOnlyConnection();
+
   /**
    * Executes the supplier after openConnection is called and then returns the connection.
    *
@@ -40,6 +53,26 @@ public interface InternalTaskanaEngine {
   /** Initializes the SqlSessionManager. */
   void initSqlSession();
 
+  /**
+   * Runs the given action after the current transaction has been committed and drops it if the
+   * transaction is rolled back. Caches use it to drop entries only when the changes are visible to
+   * other transactions. If the end of the transaction can't be observed, the action runs
+   * immediately. For a connection set by {@link TaskanaEngine#setConnection} it runs again when the
+   * connection is closed or replaced.
+   *
+   * @param action the action to run
+   */
+  void runAfterCommit(Runnable action);
+
+  /**
+   * Checks whether the current transaction registered actions with {@link #runAfterCommit} which
+   * are still waiting for its end. Caches must neither be read nor filled within such a
+   * transaction, because it sees its own uncommitted changes.
+   *
+   * @return true if the current transaction contains uncommitted changes of cached data
+   */
+  boolean hasUncommittedChanges();
+
   /**
    * Returns true if the given domain does exist in the configuration.
    *
@@ -76,6 +109,41 @@ public interface InternalTaskanaEngine {
    */
   TaskRoutingManager getTaskRoutingManager();
 
+  /**
+   * Retrieve the cache of the workbasket permissions of the current users.
+   *
+   * @return the WorkbasketPermissionCache instance.
+   */
+  WorkbasketPermissionCache getWorkbasketPermissionCache();
+
+  /**
+   * Retrieve the in-memory graph of the distribution targets.
+   *
+   * @return the DistributionTargetGraph instance.
+   */
+  DistributionTargetGraph getDistributionTargetGraph();
+
+  /**
+   * Retrieve the generator for the ids of new entities.
+   *
+   * @return the IdGenerator instance.
+   */
+  IdGenerator getIdGenerator();
+
+  /**
+   * Retrieve the signal which notifies about created jobs.
+   *
+   * @return the JobSignal instance.
+   */
+  JobSignal getJobSignal();
+
+  /**
+   * Retrieve the recorder of the executed statements.
+   *
+   * @return the WorkloadRecorder instance or null if the recording of the workload is disabled.
+   */
+  WorkloadRecorder getWorkloadRecorder();
+
   /**
    * This method is supposed to skip further permission checks if we are already in a secured
    * environment. With great power comes great responsibility.
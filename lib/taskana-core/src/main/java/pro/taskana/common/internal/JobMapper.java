@@ -1,5 +1,6 @@
 package pro.taskana.common.internal;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import org.apache.ibatis.annotations.Delete;
@@ -10,7 +11,9 @@ import org.apache.ibatis.annotations.Results;
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 
+import pro.taskana.common.api.JobQueueStatistics;
 import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.internal.jobs.JobDispatcher;
 import pro.taskana.common.internal.persistence.MapTypeHandler;
 
 /** This class is the mybatis mapping of the JOB table. */
@@ -60,6 +63,30 @@ public interface JobMapper {
       })
   List<ScheduledJob> findJobsToRun();
 
+  @Select(
+      "<script> SELECT MIN(DUE) "
+          + "FROM SCHEDULED_JOB "
+          + "WHERE STATE IN ( 'READY') AND (LOCK_EXPIRES is null OR LOCK_EXPIRES &lt; CURRENT_TIMESTAMP) AND RETRY_COUNT > 0 "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  Instant findNextDue();
+
+  @Select(
+      "<script> SELECT COUNT(*) AS DEPTH, MIN(DUE) AS OLDEST_DUE "
+          + "FROM SCHEDULED_JOB "
+          + "WHERE STATE IN ( 'READY') AND (DUE is null OR DUE &lt; CURRENT_TIMESTAMP) AND (LOCK_EXPIRES is null OR LOCK_EXPIRES &lt; CURRENT_TIMESTAMP) AND RETRY_COUNT > 0 "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @Results(
+      value = {
+        @Result(property = "depth", column = "DEPTH"),
+        @Result(property = "oldestDue", column = "OLDEST_DUE")
+      })
+  JobQueueStatistics getJobQueueStatistics();
+
+  @Update("NOTIFY " + JobDispatcher.NOTIFICATION_CHANNEL)
+  void notifyJobCreated();
+
   @Update(
       value =
           "UPDATE SCHEDULED_JOB SET CREATED = #{created}, PRIORITY = #{priority}, DUE = #{due}, STATE = #{state}, "
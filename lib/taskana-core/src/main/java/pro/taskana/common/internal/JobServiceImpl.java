@@ -5,8 +5,11 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import pro.taskana.common.api.JobQueueStatistics;
 import pro.taskana.common.api.JobService;
 import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.internal.configuration.DB;
+import pro.taskana.common.internal.jobs.JobSignal;
 
 /** Controls all job activities. */
 public class JobServiceImpl implements JobService {
@@ -31,6 +34,15 @@ public class JobServiceImpl implements JobService {
       job = initializeJobDefault(job);
       Integer jobId = jobMapper.insertJob(job);
       job.setJobId(jobId);
+      String databaseId = taskanaEngineImpl.getSqlSession().getConfiguration().getDatabaseId();
+      if (DB.POSTGRESS.dbProductId.equals(databaseId)) {
+        // delivered to the listening JobDispatchers when the transaction commits
+        jobMapper.notifyJobCreated();
+      }
+      // the dispatcher of this engine must not look for the job before it is committed
+      ScheduledJob createdJob = job;
+      taskanaEngineImpl.runAfterCommit(
+          () -> taskanaEngineImpl.getJobSignal().jobCreated(createdJob));
       LOGGER.debug("Created job {}", job);
     } finally {
       taskanaEngineImpl.returnConnection();
@@ -39,6 +51,37 @@ public class JobServiceImpl implements JobService {
     return job;
   }
 
+  @Override
+  public JobQueueStatistics getJobQueueStatistics() {
+    LOGGER.debug("entry to getJobQueueStatistics()");
+    JobQueueStatistics statistics = null;
+    try {
+      taskanaEngineImpl.openConnection();
+      statistics = jobMapper.getJobQueueStatistics();
+      return statistics;
+    } finally {
+      taskanaEngineImpl.returnConnection();
+      LOGGER.debug("exit from getJobQueueStatistics(), returning {}", statistics);
+    }
+  }
+
+  public JobSignal getJobSignal() {
+    return taskanaEngineImpl.getJobSignal();
+  }
+
+  public Instant findNextDue() {
+    LOGGER.debug("entry to findNextDue()");
+    Instant nextDue = null;
+    try {
+      taskanaEngineImpl.openConnection();
+      nextDue = jobMapper.findNextDue();
+      return nextDue;
+    } finally {
+      taskanaEngineImpl.returnConnection();
+      LOGGER.debug("exit from findNextDue(), returning {}", nextDue);
+    }
+  }
+
   public ScheduledJob lockJob(ScheduledJob job, String owner) {
     LOGGER.debug("entry to lockJob(jobId = {}, owner = {})", job.getJobId(), owner);
     try {
@@ -0,0 +1,129 @@
+package pro.taskana.common.internal;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Consumer;
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.exceptions.SystemException;
+
+/**
+ * Gives access to the TransactionSynchronizationRegistry of a Java EE container. JTA is no
+ * dependency of TASKANA, therefore the registry is used by reflection.
+ */
+final class JtaTransactionRegistry {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(JtaTransactionRegistry.class);
+  private static final String JNDI_NAME = "java:comp/TransactionSynchronizationRegistry";
+  private static final String REGISTRY_TYPE =
+      "javax.transaction.TransactionSynchronizationRegistry";
+  private static final String SYNCHRONIZATION_TYPE = "javax.transaction.Synchronization";
+  // constants of javax.transaction.Status
+  private static final int STATUS_ACTIVE = 0;
+  private static final int STATUS_COMMITTED = 3;
+  private static final int STATUS_NO_TRANSACTION = 6;
+
+  private final Object registry;
+  private final Class<?> synchronizationType;
+  private final Method getTransactionStatus;
+  private final Method registerInterposedSynchronization;
+
+  private JtaTransactionRegistry(Object registry, Class<?> registryType)
+      throws ReflectiveOperationException {
+    this.registry = registry;
+    this.synchronizationType = registryType.getClassLoader().loadClass(SYNCHRONIZATION_TYPE);
+    this.getTransactionStatus = registryType.getMethod("getTransactionStatus");
+    this.registerInterposedSynchronization =
+        registryType.getMethod("registerInterposedSynchronization", synchronizationType);
+  }
+
+  /**
+   * Looks up the registry of the container.
+   *
+   * @return the registry or null if TASKANA does not run within a Java EE container
+   */
+  static JtaTransactionRegistry lookup() {
+    try {
+      Object registry = new InitialContext().lookup(JNDI_NAME);
+      Class<?> registryType = findRegistryType(registry.getClass());
+      if (registryType != null) {
+        return new JtaTransactionRegistry(registry, registryType);
+      }
+    } catch (NamingException | ReflectiveOperationException | RuntimeException e) {
+      LOGGER.debug("No JTA TransactionSynchronizationRegistry is available.", e);
+    }
+    return null;
+  }
+
+  /**
+   * Checks whether the current thread is associated with a JTA transaction.
+   *
+   * @return true if a transaction exists, regardless of its status
+   */
+  boolean isTransactionActive() {
+    return getTransactionStatus() != STATUS_NO_TRANSACTION;
+  }
+
+  /**
+   * Registers a callback for the end of the active JTA transaction.
+   *
+   * @param afterCompletion called with true if the transaction was committed and with false if it
+   *     was rolled back
+   * @return false if no JTA transaction is active
+   */
+  boolean registerAfterCompletion(Consumer<Boolean> afterCompletion) {
+    if (getTransactionStatus() != STATUS_ACTIVE) {
+      return false;
+    }
+    Object synchronization =
+        Proxy.newProxyInstance(
+            synchronizationType.getClassLoader(),
+            new Class<?>[] {synchronizationType},
+            (proxy, method, args) -> {
+              switch (method.getName()) {
+                case "afterCompletion":
+                  afterCompletion.accept((Integer) args[0] == STATUS_COMMITTED);
+                  return null;
+                case "equals":
+                  return proxy == args[0];
+                case "hashCode":
+                  return System.identityHashCode(proxy);
+                case "toString":
+                  return "TASKANA after commit actions";
+                default:
+                  return null;
+              }
+            });
+    invoke(registerInterposedSynchronization, synchronization);
+    return true;
+  }
+
+  private int getTransactionStatus() {
+    return (Integer) invoke(getTransactionStatus);
+  }
+
+  private Object invoke(Method method, Object... args) {
+    try {
+      return method.invoke(registry, args);
+    } catch (IllegalAccessException e) {
+      throw new SystemException("Could not access the JTA transaction.", e);
+    } catch (InvocationTargetException e) {
+      throw new SystemException("Could not access the JTA transaction.", e.getCause());
+    }
+  }
+
+  private static Class<?> findRegistryType(Class<?> type) {
+    for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+      for (Class<?> implemented : current.getInterfaces()) {
+        if (REGISTRY_TYPE.equals(implemented.getName())) {
+          return implemented;
+        }
+      }
+    }
+    return null;
+  }
+}
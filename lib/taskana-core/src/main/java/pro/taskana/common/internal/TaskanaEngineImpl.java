@@ -1,5 +1,7 @@
 package pro.taskana.common.internal;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.security.AccessController;
 import java.security.Principal;
 import java.security.PrivilegedAction;
@@ -7,13 +9,23 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import javax.security.auth.Subject;
+import javax.sql.DataSource;
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSession;
@@ -41,10 +53,15 @@ import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.api.exceptions.TaskanaRuntimeException;
 import pro.taskana.common.internal.configuration.DB;
+import pro.taskana.common.internal.jobs.JobSignal;
 import pro.taskana.common.internal.persistence.InstantTypeHandler;
+import pro.taskana.common.internal.persistence.LazyMapperConfiguration;
 import pro.taskana.common.internal.persistence.MapTypeHandler;
 import pro.taskana.common.internal.security.CurrentUserContext;
 import pro.taskana.common.internal.security.GroupPrincipal;
+import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.common.internal.util.WorkingDaysToDaysConverter;
+import pro.taskana.common.internal.workload.WorkloadRecorder;
 import pro.taskana.monitor.api.MonitorService;
 import pro.taskana.monitor.internal.MonitorMapper;
 import pro.taskana.monitor.internal.MonitorServiceImpl;
@@ -52,15 +69,18 @@ import pro.taskana.spi.history.internal.HistoryEventProducer;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.task.internal.AttachmentMapper;
 import pro.taskana.task.internal.ObjectReferenceMapper;
+import pro.taskana.task.internal.TaskArchiveMapper;
 import pro.taskana.task.internal.TaskCommentMapper;
 import pro.taskana.task.internal.TaskMapper;
 import pro.taskana.task.internal.TaskQueryMapper;
 import pro.taskana.task.internal.TaskRoutingManager;
 import pro.taskana.task.internal.TaskServiceImpl;
 import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.internal.DistributionTargetGraph;
 import pro.taskana.workbasket.internal.DistributionTargetMapper;
 import pro.taskana.workbasket.internal.WorkbasketAccessMapper;
 import pro.taskana.workbasket.internal.WorkbasketMapper;
+import pro.taskana.workbasket.internal.WorkbasketPermissionCache;
 import pro.taskana.workbasket.internal.WorkbasketQueryMapper;
 import pro.taskana.workbasket.internal.WorkbasketServiceImpl;
 
@@ -68,24 +88,94 @@ import pro.taskana.workbasket.internal.WorkbasketServiceImpl;
 public class TaskanaEngineImpl implements TaskanaEngine {
 
   private static final String DEFAULT = "default";
+  private static final String READ_ONLY = "readOnly";
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskanaEngineImpl.class);
   private static SessionStack sessionStack = new SessionStack();
   protected TaskanaEngineConfiguration taskanaEngineConfiguration;
   protected TransactionFactory transactionFactory;
   protected SqlSessionManager sessionManager;
+  // null if no read-only DataSource is configured
+  protected SqlSessionManager readOnlySessionManager;
   protected ConnectionManagementMode mode = ConnectionManagementMode.PARTICIPATE;
   protected java.sql.Connection connection = null;
   private HistoryEventProducer historyEventProducer;
   private TaskRoutingManager taskRoutingManager;
+  private WorkbasketPermissionCache workbasketPermissionCache;
+  private DistributionTargetGraph distributionTargetGraph;
+  private IdGenerator idGenerator;
+  private JobSignal jobSignal = new JobSignal();
+  // the actions which wait for the commit of the transaction of the current thread
+  private final ThreadLocal<AfterCommitActions> afterCommitActions = new ThreadLocal<>();
+  // the actions registered on the connection set by setConnection, they run again when it is closed
+  private final List<Runnable> explicitConnectionActions = new ArrayList<>();
+  private volatile JtaTransactionRegistry jtaTransactionRegistry;
+  private volatile boolean jtaTransactionRegistryLookedUp;
+  // null if the recording of the workload is disabled
+  private final WorkloadRecorder workloadRecorder;
   private InternalTaskanaEngineImpl internalTaskanaEngineImpl;
+  private volatile Services services;
 
   protected TaskanaEngineImpl(TaskanaEngineConfiguration taskanaEngineConfiguration) {
+    long start = System.nanoTime();
     this.taskanaEngineConfiguration = taskanaEngineConfiguration;
+    boolean lazy = taskanaEngineConfiguration.isLazyInitializationEnabled();
     createTransactionFactory(taskanaEngineConfiguration.getUseManagedTransactions());
-    this.sessionManager = createSqlSessionManager();
-    historyEventProducer = HistoryEventProducer.getInstance(taskanaEngineConfiguration);
+    workloadRecorder =
+        taskanaEngineConfiguration.isWorkloadRecordingEnabled() ? new WorkloadRecorder() : null;
+    long historyMillis;
+    long sessionManagersMillis;
+    // with lazy initialization the schema is validated and the history providers are discovered
+    // on a dedicated executor while the mappers are set up
+    ExecutorService startupExecutor = lazy ? createStartupExecutor() : null;
+    try {
+      CompletableFuture<Void> schemaValidation;
+      CompletableFuture<Long> historyDiscovery;
+      if (lazy) {
+        schemaValidation =
+            CompletableFuture.runAsync(
+                taskanaEngineConfiguration::validateSchemaIfNecessary, startupExecutor);
+        historyDiscovery =
+            CompletableFuture.supplyAsync(this::initHistoryEventProducer, startupExecutor);
+      } else {
+        taskanaEngineConfiguration.validateSchemaIfNecessary();
+        schemaValidation = CompletableFuture.completedFuture(null);
+        historyDiscovery = CompletableFuture.completedFuture(initHistoryEventProducer());
+      }
+      long sessionManagersStart = System.nanoTime();
+      this.sessionManager = createSqlSessionManager();
+      this.readOnlySessionManager = createReadOnlySqlSessionManager();
+      sessionManagersMillis = millisSince(sessionManagersStart);
+      join(schemaValidation);
+      historyMillis = join(historyDiscovery);
+    } finally {
+      if (startupExecutor != null) {
+        startupExecutor.shutdown();
+      }
+    }
+    long routingStart = System.nanoTime();
     taskRoutingManager = TaskRoutingManager.getInstance(this);
+    long routingMillis = millisSince(routingStart);
+    workbasketPermissionCache =
+        new WorkbasketPermissionCache(
+            taskanaEngineConfiguration.getWorkbasketPermissionCacheTimeToLive());
+    distributionTargetGraph =
+        new DistributionTargetGraph(
+            taskanaEngineConfiguration.getDistributionTargetCacheTimeToLive());
+    idGenerator = new IdGenerator(taskanaEngineConfiguration.isTimeOrderedIdsEnabled());
+    WorkingDaysToDaysConverter.setGermanPublicHolidaysEnabled(
+        taskanaEngineConfiguration.isGermanPublicHolidaysEnabled());
+    WorkingDaysToDaysConverter.setCorpusChristiEnabled(
+        taskanaEngineConfiguration.isCorpusChristiEnabled());
     this.internalTaskanaEngineImpl = new InternalTaskanaEngineImpl();
+    LOGGER.info(
+        "TASKANA engine initialized in {} ms (lazy initialization = {}): schema validation {} ms, "
+            + "session managers {} ms, history providers {} ms, task routing providers {} ms",
+        millisSince(start),
+        lazy,
+        taskanaEngineConfiguration.getSchemaValidationTime().toMillis(),
+        sessionManagersMillis,
+        historyMillis,
+        routingMillis);
   }
 
   public static TaskanaEngine createTaskanaEngine(
@@ -95,44 +185,27 @@ public class TaskanaEngineImpl implements TaskanaEngine {
 
   @Override
   public TaskService getTaskService() {
-    SqlSession session = this.sessionManager;
-    return new TaskServiceImpl(
-        internalTaskanaEngineImpl,
-        session.getMapper(TaskMapper.class),
-        session.getMapper(TaskCommentMapper.class),
-        session.getMapper(AttachmentMapper.class));
+    return getServices().taskService;
   }
 
   @Override
   public MonitorService getMonitorService() {
-    SqlSession session = this.sessionManager;
-    return new MonitorServiceImpl(
-        internalTaskanaEngineImpl, session.getMapper(MonitorMapper.class));
+    return getServices().monitorService;
   }
 
   @Override
   public WorkbasketService getWorkbasketService() {
-    SqlSession session = this.sessionManager;
-    return new WorkbasketServiceImpl(
-        internalTaskanaEngineImpl,
-        session.getMapper(WorkbasketMapper.class),
-        session.getMapper(DistributionTargetMapper.class),
-        session.getMapper(WorkbasketAccessMapper.class));
+    return getServices().workbasketService;
   }
 
   @Override
   public ClassificationService getClassificationService() {
-    SqlSession session = this.sessionManager;
-    return new ClassificationServiceImpl(
-        internalTaskanaEngineImpl,
-        session.getMapper(ClassificationMapper.class),
-        session.getMapper(TaskMapper.class));
+    return getServices().classificationService;
   }
 
   @Override
   public JobService getJobService() {
-    SqlSession session = this.sessionManager;
-    return new JobServiceImpl(internalTaskanaEngineImpl, session.getMapper(JobMapper.class));
+    return getServices().jobService;
   }
 
   @Override
@@ -154,6 +227,7 @@ public class TaskanaEngineImpl implements TaskanaEngine {
         sessionManager.close();
       }
       connection = null;
+      runExplicitConnectionActions();
     }
     this.mode = mode;
   }
@@ -161,6 +235,7 @@ public class TaskanaEngineImpl implements TaskanaEngine {
   @Override
   public void setConnection(java.sql.Connection connection) throws SQLException {
     if (connection != null) {
+      runExplicitConnectionActions();
       this.connection = connection;
       // disabling auto commit for passed connection in order to gain full control over the
       // connection management
@@ -180,6 +255,7 @@ public class TaskanaEngineImpl implements TaskanaEngine {
       if (sessionManager.isManagedSessionStarted()) {
         sessionManager.close();
       }
+      runExplicitConnectionActions();
       mode = ConnectionManagementMode.PARTICIPATE;
     }
   }
@@ -220,6 +296,74 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     }
   }
 
+  /**
+   * Decides whether a query may use the read-only DataSource. This is the case if one is configured
+   * and the current thread is neither within an operation on the primary DataSource nor within a
+   * transaction which may contain changes.
+   *
+   * @return true if the query may use the read-only DataSource
+   */
+  protected boolean isReadOnlyRoutingAllowed() {
+    if (readOnlySessionManager == null || mode == ConnectionManagementMode.EXPLICIT) {
+      return false;
+    }
+    Deque<SqlSessionManager> stack = sessionStack.getSessionStack();
+    if (!stack.isEmpty()) {
+      return stack.peek() == readOnlySessionManager;
+    }
+    return !sessionManager.isManagedSessionStarted() && !isWritableTransactionActive();
+  }
+
+  /**
+   * Checks whether the current thread is within a managed transaction which may contain changes.
+   * Queries within such a transaction must see its changes and therefore run on the primary
+   * DataSource. With managed transactions but without a JTA registry the transaction can't be
+   * determined, then one is assumed.
+   *
+   * @return true if a transaction which may contain changes is active
+   */
+  protected boolean isWritableTransactionActive() {
+    if (!taskanaEngineConfiguration.getUseManagedTransactions()) {
+      return false;
+    }
+    JtaTransactionRegistry registry = getJtaTransactionRegistry();
+    return registry == null || registry.isTransactionActive();
+  }
+
+  /**
+   * Registers a callback for the end of the transaction in which TASKANA participates. Without a
+   * container managed transaction the end of the transaction can't be observed.
+   *
+   * @param afterCompletion called with true if the transaction was committed and with false if it
+   *     was rolled back
+   * @return false if no transaction is active whose end can be observed
+   */
+  protected boolean registerTransactionSynchronization(Consumer<Boolean> afterCompletion) {
+    JtaTransactionRegistry registry = getJtaTransactionRegistry();
+    return registry != null && registry.registerAfterCompletion(afterCompletion);
+  }
+
+  /**
+   * Returns the JTA registry of the container if the engine uses managed transactions. It is looked
+   * up once on the first use.
+   *
+   * @return the registry or null if none is available
+   */
+  private JtaTransactionRegistry getJtaTransactionRegistry() {
+    if (!taskanaEngineConfiguration.getUseManagedTransactions()) {
+      return null;
+    }
+    if (!jtaTransactionRegistryLookedUp) {
+      synchronized (this) {
+        if (!jtaTransactionRegistryLookedUp) {
+          jtaTransactionRegistry = JtaTransactionRegistry.lookup();
+          jtaTransactionRegistryLookedUp = true;
+        }
+      }
+    }
+    return jtaTransactionRegistry;
+  }
+
   /**
    * This method creates the sqlSessionManager of myBatis. It integrates all the SQL mappers and
    * sets the databaseId attribute.
@@ -227,29 +371,41 @@ public class TaskanaEngineImpl implements TaskanaEngine {
    * @return a {@link SqlSessionFactory}
    */
   protected SqlSessionManager createSqlSessionManager() {
-    Environment environment =
-        new Environment(
-            DEFAULT, this.transactionFactory, taskanaEngineConfiguration.getDatasource());
-    Configuration configuration = new Configuration(environment);
-
-    // set databaseId
-    String databaseProductName;
-    try (Connection con = taskanaEngineConfiguration.getDatasource().getConnection()) {
-      databaseProductName = con.getMetaData().getDatabaseProductName();
-      String databaseProductId = DB.getDatabaseProductId(databaseProductName);
-      configuration.setDatabaseId(databaseProductId);
+    return createSqlSessionManager(DEFAULT, taskanaEngineConfiguration.getDatasource());
+  }
 
-    } catch (SQLException e) {
-      throw new SystemException(
-          "Method createSqlSessionManager() could not open a connection "
-              + "to the database. No databaseId has been set.",
-          e.getCause());
+  /**
+   * This method creates the sqlSessionManager of myBatis for the read-only DataSource.
+   *
+   * @return a {@link SqlSessionManager} or null if no read-only DataSource is configured
+   */
+  protected SqlSessionManager createReadOnlySqlSessionManager() {
+    DataSource readOnlyDataSource = taskanaEngineConfiguration.getReadOnlyDatasource();
+    return readOnlyDataSource == null
+        ? null
+        : createSqlSessionManager(READ_ONLY, readOnlyDataSource);
+  }
+
+  private SqlSessionManager createSqlSessionManager(String environmentId, DataSource dataSource) {
+    Environment environment = new Environment(environmentId, this.transactionFactory, dataSource);
+    Configuration configuration;
+    if (taskanaEngineConfiguration.isLazyInitializationEnabled()) {
+      // the mappers are parsed and the database is detected on their first use
+      configuration = new LazyMapperConfiguration(environment, () -> detectDatabaseId(dataSource));
+    } else {
+      configuration = new Configuration(environment);
+      configuration.setDatabaseId(detectDatabaseId(dataSource));
     }
 
     // register type handlers
-    configuration.getTypeHandlerRegistry().register(new MapTypeHandler());
+    configuration
+        .getTypeHandlerRegistry()
+        .register(new MapTypeHandler(taskanaEngineConfiguration.getMapCodec()));
     configuration.getTypeHandlerRegistry().register(Instant.class, new InstantTypeHandler());
     configuration.getTypeHandlerRegistry().register(JdbcType.TIMESTAMP, new InstantTypeHandler());
+    if (workloadRecorder != null) {
+      configuration.addInterceptor(workloadRecorder);
+    }
     // add mappers
     configuration.addMapper(TaskMapper.class);
     configuration.addMapper(MonitorMapper.class);
@@ -264,10 +420,123 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     configuration.addMapper(ClassificationQueryMapper.class);
     configuration.addMapper(AttachmentMapper.class);
     configuration.addMapper(JobMapper.class);
+    configuration.addMapper(TaskArchiveMapper.class);
     SqlSessionFactory localSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
     return SqlSessionManager.newInstance(localSessionFactory);
   }
 
+  private static String detectDatabaseId(DataSource dataSource) {
+    try (Connection con = dataSource.getConnection()) {
+      String databaseProductName = con.getMetaData().getDatabaseProductName();
+      return DB.getDatabaseProductId(databaseProductName);
+    } catch (SQLException e) {
+      throw new SystemException(
+          "Method createSqlSessionManager() could not open a connection "
+              + "to the database. No databaseId has been set.",
+          e.getCause());
+    }
+  }
+
+  private void runExplicitConnectionActions() {
+    List<Runnable> actions = new ArrayList<>(explicitConnectionActions);
+    explicitConnectionActions.clear();
+    runActions(actions);
+  }
+
+  private static void runActions(List<Runnable> actions) {
+    for (Runnable action : actions) {
+      try {
+        action.run();
+      } catch (RuntimeException e) {
+        LOGGER.warn("An action after the commit of a transaction failed.", e);
+      }
+    }
+  }
+
+  private static ExecutorService createStartupExecutor() {
+    return Executors.newFixedThreadPool(
+        2,
+        runnable -> {
+          Thread thread = new Thread(runnable, "taskana-engine-startup");
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  private static long millisSince(long startNanos) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+  }
+
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new SystemException("Could not initialize the TASKANA engine.", e.getCause());
+    }
+  }
+
+  private long initHistoryEventProducer() {
+    long start = System.nanoTime();
+    historyEventProducer = HistoryEventProducer.getInstance(taskanaEngineConfiguration);
+    return millisSince(start);
+  }
+
+  /**
+   * Returns the services of this engine. They are created together on the first call and then
+   * shared, because they only hold the engine and the mappers and keep no state between calls. The
+   * services are bound to the current session managers.
+   *
+   * @return the services of this engine
+   */
+  private Services getServices() {
+    Services result = services;
+    if (!isBoundToCurrentSessionManagers(result)) {
+      synchronized (this) {
+        result = services;
+        if (!isBoundToCurrentSessionManagers(result)) {
+          result = new Services(sessionManager, readOnlySessionManager);
+          services = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  private boolean isBoundToCurrentSessionManagers(Services services) {
+    return services != null
+        && services.sessionManager == sessionManager
+        && services.readOnlySessionManager == readOnlySessionManager;
+  }
+
+  /**
+   * Creates a SqlSession which delegates each statement to the session of the current connection.
+   * The mappers of the services are created from it if a read-only DataSource is configured. Their
+   * statements run on the read-only DataSource within {@link
+   * InternalTaskanaEngine#openReadOnlyConnection()} and on the primary DataSource otherwise.
+   *
+   * @return the routing SqlSession
+   */
+  private SqlSession createRoutingSqlSession() {
+    return (SqlSession)
+        Proxy.newProxyInstance(
+            SqlSession.class.getClassLoader(),
+            new Class<?>[] {SqlSession.class},
+            (proxy, method, args) -> {
+              if ("getMapper".equals(method.getName())) {
+                Class<?> type = (Class<?>) args[0];
+                return sessionManager.getConfiguration().getMapper(type, (SqlSession) proxy);
+              }
+              try {
+                return method.invoke(internalTaskanaEngineImpl.getSqlSession(), args);
+              } catch (InvocationTargetException e) {
+                throw e.getCause();
+              }
+            });
+  }
+
   /**
    * creates the MyBatis transaction factory.
    *
@@ -315,11 +584,81 @@ public class TaskanaEngineImpl implements TaskanaEngine {
       getSessionStack().push(session);
     }
 
-    private void popSessionFromStack() {
+    private SqlSessionManager popSessionFromStack() {
       Deque<SqlSessionManager> stack = getSessionStack();
-      if (!stack.isEmpty()) {
-        stack.pop();
-      }
+      return stack.isEmpty() ? null : stack.pop();
+    }
+  }
+
+  /** The services of an engine, the TaskService uses the WorkbasketService and the other ones. */
+  private final class Services {
+
+    private final SqlSessionManager sessionManager;
+    private final SqlSessionManager readOnlySessionManager;
+    private final WorkbasketService workbasketService;
+    private final ClassificationService classificationService;
+    private final MonitorService monitorService;
+    private final JobService jobService;
+    private final TaskService taskService;
+
+    private Services(SqlSessionManager sessionManager, SqlSessionManager readOnlySessionManager) {
+      this.sessionManager = sessionManager;
+      this.readOnlySessionManager = readOnlySessionManager;
+      SqlSession mapperSession =
+          readOnlySessionManager == null ? sessionManager : createRoutingSqlSession();
+      this.workbasketService =
+          new WorkbasketServiceImpl(
+              internalTaskanaEngineImpl,
+              mapperSession.getMapper(WorkbasketMapper.class),
+              mapperSession.getMapper(DistributionTargetMapper.class),
+              mapperSession.getMapper(WorkbasketAccessMapper.class));
+      this.classificationService =
+          new ClassificationServiceImpl(
+              internalTaskanaEngineImpl,
+              mapperSession.getMapper(ClassificationMapper.class),
+              mapperSession.getMapper(TaskMapper.class),
+              mapperSession.getMapper(TaskArchiveMapper.class));
+      this.monitorService =
+          new MonitorServiceImpl(
+              internalTaskanaEngineImpl, mapperSession.getMapper(MonitorMapper.class));
+      this.jobService =
+          new JobServiceImpl(internalTaskanaEngineImpl, mapperSession.getMapper(JobMapper.class));
+      this.taskService =
+          new TaskServiceImpl(
+              internalTaskanaEngineImpl,
+              workbasketService,
+              classificationService,
+              mapperSession.getMapper(TaskMapper.class),
+              mapperSession.getMapper(TaskCommentMapper.class),
+              mapperSession.getMapper(AttachmentMapper.class),
+              mapperSession.getMapper(TaskArchiveMapper.class));
+    }
+  }
+
+  private void completeTransaction(AfterCommitActions actions, boolean committed) {
+    if (actions == null || actions.completed) {
+      return;
+    }
+    actions.completed = true;
+    if (afterCommitActions.get() == actions) {
+      afterCommitActions.remove();
+    }
+    if (committed) {
+      runActions(actions.actions);
+    }
+  }
+
+  /**
+   * The actions which wait for the commit of a transaction. A JTA transaction may end on another
+   * thread, hence the actions are marked as completed instead of relying on the thread local.
+   */
+  private static final class AfterCommitActions {
+
+    private final List<Runnable> actions = new CopyOnWriteArrayList<>();
+    private volatile boolean completed;
+
+    private AfterCommitActions(Runnable action) {
+      actions.add(action);
     }
   }
 
@@ -328,6 +667,11 @@ public class TaskanaEngineImpl implements TaskanaEngine {
 
     @Override
     public void openConnection() {
+      if (isWithinReadOnlyConnection()) {
+        // nested calls of a query stay on the read-only DataSource
+        sessionStack.pushSessionToStack(readOnlySessionManager);
+        return;
+      }
       initSqlSession();
       try {
         sessionManager.getConnection().setSchema(taskanaEngineConfiguration.getSchemaName());
@@ -342,19 +686,55 @@ public class TaskanaEngineImpl implements TaskanaEngine {
       }
     }
 
+    @Override
+    public void openReadOnlyConnection() {
+      if (!isReadOnlyRoutingAllowed()) {
+        openConnection();
+        return;
+      }
+      if (!readOnlySessionManager.isManagedSessionStarted()) {
+        readOnlySessionManager.startManagedSession();
+      }
+      try {
+        readOnlySessionManager
+            .getConnection()
+            .setSchema(taskanaEngineConfiguration.getSchemaName());
+      } catch (SQLException e) {
+        throw new SystemException(
+            "Method openReadOnlyConnection() could not open a connection "
+                + "to the read-only database.",
+            e.getCause());
+      }
+      sessionStack.pushSessionToStack(readOnlySessionManager);
+    }
+
     @Override
     public void returnConnection() {
       if (mode != ConnectionManagementMode.EXPLICIT) {
-        sessionStack.popSessionFromStack();
+        SqlSessionManager returnedSessionManager = sessionStack.popSessionFromStack();
+        if (returnedSessionManager != null && returnedSessionManager == readOnlySessionManager) {
+          if (sessionStack.getSessionStack().isEmpty()
+              && readOnlySessionManager.isManagedSessionStarted()) {
+            readOnlySessionManager.close();
+          }
+          return;
+        }
         if (sessionStack.getSessionStack().isEmpty()
             && sessionManager != null
             && sessionManager.isManagedSessionStarted()) {
           if (mode == ConnectionManagementMode.AUTOCOMMIT) {
+            AfterCommitActions actions = afterCommitActions.get();
             try {
-              sessionManager.commit();
+              // forced, so that row locks of a transaction without updates are released as well
+              sessionManager.commit(true);
             } catch (Exception e) {
+              completeTransaction(actions, false);
               throw new AutocommitFailedException(e.getCause());
+            } finally {
+              sessionManager.close();
             }
+            completeTransaction(actions, true);
+            return;
           }
           sessionManager.close();
         }
@@ -382,6 +762,41 @@ public class TaskanaEngineImpl implements TaskanaEngine {
       }
     }
 
+    @Override
+    public void runAfterCommit(Runnable action) {
+      if (mode == ConnectionManagementMode.EXPLICIT) {
+        explicitConnectionActions.add(action);
+        runActions(Collections.singletonList(action));
+        return;
+      }
+      AfterCommitActions actions = afterCommitActions.get();
+      if (actions != null && !actions.completed) {
+        actions.actions.add(action);
+        return;
+      }
+      AfterCommitActions newActions = new AfterCommitActions(action);
+      // in mode AUTOCOMMIT the actions run after the commit in returnConnection
+      boolean deferred =
+          mode == ConnectionManagementMode.AUTOCOMMIT
+              ? sessionManager.isManagedSessionStarted()
+              : registerTransactionSynchronization(
+                  committed -> completeTransaction(newActions, committed));
+      if (deferred) {
+        afterCommitActions.set(newActions);
+      } else {
+        runActions(newActions.actions);
+      }
+    }
+
+    @Override
+    public boolean hasUncommittedChanges() {
+      if (mode == ConnectionManagementMode.EXPLICIT) {
+        return !explicitConnectionActions.isEmpty();
+      }
+      AfterCommitActions actions = afterCommitActions.get();
+      return actions != null && !actions.completed;
+    }
+
     @Override
     public boolean domainExists(String domain) {
       return getConfiguration().getDomains().contains(domain);
@@ -389,7 +804,13 @@ public class TaskanaEngineImpl implements TaskanaEngine {
 
     @Override
     public SqlSession getSqlSession() {
-      return sessionManager;
+      return isWithinReadOnlyConnection() ? readOnlySessionManager : sessionManager;
+    }
+
+    private boolean isWithinReadOnlyConnection() {
+      return readOnlySessionManager != null
+          && mode != ConnectionManagementMode.EXPLICIT
+          && sessionStack.getSessionStack().peek() == readOnlySessionManager;
     }
 
     @Override
@@ -407,6 +828,31 @@ public class TaskanaEngineImpl implements TaskanaEngine {
       return taskRoutingManager;
     }
 
+    @Override
+    public WorkbasketPermissionCache getWorkbasketPermissionCache() {
+      return workbasketPermissionCache;
+    }
+
+    @Override
+    public DistributionTargetGraph getDistributionTargetGraph() {
+      return distributionTargetGraph;
+    }
+
+    @Override
+    public IdGenerator getIdGenerator() {
+      return idGenerator;
+    }
+
+    @Override
+    public JobSignal getJobSignal() {
+      return jobSignal;
+    }
+
+    @Override
+    public WorkloadRecorder getWorkloadRecorder() {
+      return workloadRecorder;
+    }
+
     @Override
     public <T> T runAsAdmin(Supplier<T> supplier) {
 
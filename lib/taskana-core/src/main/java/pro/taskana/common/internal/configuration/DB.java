@@ -40,4 +40,14 @@ public enum DB {
       throw new UnsupportedDatabaseException(dbProductName);
     }
   }
+
+  public static DB getDatabase(String dbProductName) {
+    String dbProductId = getDatabaseProductId(dbProductName);
+    for (DB db : values()) {
+      if (db.dbProductId.equals(dbProductId)) {
+        return db;
+      }
+    }
+    throw new UnsupportedDatabaseException(dbProductName);
+  }
 }
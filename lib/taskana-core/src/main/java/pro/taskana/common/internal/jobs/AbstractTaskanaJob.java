@@ -10,6 +10,7 @@ import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.TaskanaEngineImpl;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.task.internal.jobs.TaskArchivingJob;
 import pro.taskana.task.internal.jobs.TaskCleanupJob;
 import pro.taskana.task.internal.jobs.TaskRefreshJob;
 import pro.taskana.workbasket.internal.jobs.WorkbasketCleanupJob;
@@ -17,6 +18,9 @@ import pro.taskana.workbasket.internal.jobs.WorkbasketCleanupJob;
 /** Abstract base for all background jobs of TASKANA. */
 public abstract class AbstractTaskanaJob implements TaskanaJob {
 
+  private static final String HISTORY_CLEANUP_JOB =
+      "pro.taskana.simplehistory.impl.jobs.HistoryCleanupJob";
+
   protected TaskanaEngineImpl taskanaEngineImpl;
   protected TaskanaTransactionProvider<Object> txProvider;
   protected ScheduledJob scheduledJob;
@@ -42,6 +46,10 @@ public abstract class AbstractTaskanaJob implements TaskanaJob {
         return new TaskCleanupJob(engine, txProvider, job);
       case WORKBASKETCLEANUPJOB:
         return new WorkbasketCleanupJob(engine, txProvider, job);
+      case TASKARCHIVINGJOB:
+        return new TaskArchivingJob(engine, txProvider, job);
+      case HISTORYCLEANUPJOB:
+        return createHistoryCleanupJob(engine, txProvider, job);
       default:
         throw new TaskanaException(
             "No matching job found for "
@@ -52,6 +60,29 @@ public abstract class AbstractTaskanaJob implements TaskanaJob {
     }
   }
 
+  /*
+   * The HistoryCleanupJob belongs to the simple history provider, which is no dependency of the
+   * core. Therefore it is instantiated by reflection.
+   */
+  private static TaskanaJob createHistoryCleanupJob(
+      TaskanaEngine engine, TaskanaTransactionProvider<Object> txProvider, ScheduledJob job)
+      throws TaskanaException {
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    if (classLoader == null) {
+      classLoader = AbstractTaskanaJob.class.getClassLoader();
+    }
+    try {
+      return (TaskanaJob)
+          Class.forName(HISTORY_CLEANUP_JOB, true, classLoader)
+              .getConstructor(
+                  TaskanaEngine.class, TaskanaTransactionProvider.class, ScheduledJob.class)
+              .newInstance(engine, txProvider, job);
+    } catch (ReflectiveOperationException | LinkageError e) {
+      throw new TaskanaException(
+          "Could not create the HistoryCleanupJob of ScheduledJob " + job.getJobId() + ".", e);
+    }
+  }
+
   protected <T> List<List<T>> partition(Collection<T> members, int maxSize) {
     List<List<T>> result = new ArrayList<>();
     List<T> internal = new ArrayList<>();
@@ -0,0 +1,196 @@
+package pro.taskana.common.internal.jobs;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.JobServiceImpl;
+import pro.taskana.common.internal.configuration.DB;
+import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+
+/**
+ * Runs the jobs of an engine when they are due instead of polling for them. After each run the
+ * dispatcher waits for the next due job, but at most for the configured polling interval. It is
+ * woken up earlier when a job is created: in the same process by the {@link JobSignal} of the
+ * engine after the transaction of the new job has been committed and, on PostgreSQL, by a
+ * notification which the database delivers to all nodes when the transaction of the new job
+ * commits. The polling interval remains as a fallback for jobs of other nodes on the other
+ * databases and for lost notifications.
+ */
+public class JobDispatcher {
+
+  public static final String NOTIFICATION_CHANNEL = "taskana_scheduled_job";
+  private static final Logger LOGGER = LoggerFactory.getLogger(JobDispatcher.class);
+  private static final int LISTEN_TIMEOUT_MILLIS = 10000;
+
+  private final TaskanaEngine taskanaEngine;
+  private final JobServiceImpl jobService;
+  private final TaskanaTransactionProvider<Object> txProvider;
+  private final Duration pollingInterval;
+  private final Consumer<ScheduledJob> jobCreatedListener = job -> wakeUp(job.getDue());
+  private final Object runLock = new Object();
+  private ScheduledExecutorService executor;
+  // null if the database does not deliver notifications
+  private ExecutorService notificationListener;
+  private ScheduledFuture<?> nextRun;
+  private Instant nextRunAt;
+  private volatile boolean running;
+
+  public JobDispatcher(TaskanaEngine taskanaEngine, TaskanaTransactionProvider<Object> txProvider) {
+    this.taskanaEngine = taskanaEngine;
+    this.jobService = (JobServiceImpl) taskanaEngine.getJobService();
+    this.txProvider = txProvider;
+    this.pollingInterval = taskanaEngine.getConfiguration().getJobPollingInterval();
+  }
+
+  /** Starts the dispatcher and runs the jobs which are already due. */
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+    LOGGER.info("Starting the JobDispatcher with a polling interval of {}.", pollingInterval);
+    running = true;
+    executor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "taskana-job-dispatcher");
+              thread.setDaemon(true);
+              return thread;
+            });
+    jobService.getJobSignal().addListener(jobCreatedListener);
+    if (isPostgreSql()) {
+      notificationListener =
+          Executors.newSingleThreadExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "taskana-job-notification-listener");
+                thread.setDaemon(true);
+                return thread;
+              });
+      notificationListener.execute(this::listenForNotifications);
+    }
+    scheduleRun(Instant.now());
+  }
+
+  /** Stops the dispatcher. A running job is interrupted. */
+  public synchronized void stop() {
+    if (!running) {
+      return;
+    }
+    LOGGER.info("Stopping the JobDispatcher.");
+    running = false;
+    jobService.getJobSignal().removeListener(jobCreatedListener);
+    executor.shutdownNow();
+    if (notificationListener != null) {
+      notificationListener.shutdownNow();
+      notificationListener = null;
+    }
+    nextRun = null;
+    nextRunAt = null;
+  }
+
+  /**
+   * Runs the jobs at the given time unless a run is already scheduled before.
+   *
+   * @param due the time when a job is due or null if a job is due now
+   */
+  public void wakeUp(Instant due) {
+    Instant now = Instant.now();
+    scheduleRun(due == null || due.isBefore(now) ? now : due);
+  }
+
+  private synchronized void scheduleRun(Instant runAt) {
+    if (!running || nextRun != null && !nextRunAt.isAfter(runAt)) {
+      return;
+    }
+    if (nextRun != null) {
+      nextRun.cancel(false);
+    }
+    long delay = Math.max(0, Duration.between(Instant.now(), runAt).toMillis());
+    nextRunAt = runAt;
+    nextRun = executor.schedule(this::runJobs, delay, TimeUnit.MILLISECONDS);
+    LOGGER.debug("Scheduled the next run of the jobs at {}.", runAt);
+  }
+
+  private void runJobs() {
+    synchronized (this) {
+      // a wake up during this run schedules the next one
+      nextRun = null;
+      nextRunAt = null;
+    }
+    synchronized (runLock) {
+      try {
+        JobRunner runner = new JobRunner(taskanaEngine);
+        runner.registerTransactionProvider(txProvider);
+        runner.runJobs();
+      } catch (Exception e) {
+        LOGGER.error("Error occurred while dispatching jobs: ", e);
+      }
+    }
+    Instant fallback = Instant.now().plus(pollingInterval);
+    Instant nextDue;
+    try {
+      nextDue = jobService.findNextDue();
+    } catch (Exception e) {
+      LOGGER.warn("Could not determine the next due job.", e);
+      nextDue = null;
+    }
+    scheduleRun(nextDue != null && nextDue.isBefore(fallback) ? nextDue : fallback);
+  }
+
+  private boolean isPostgreSql() {
+    try (Connection connection = taskanaEngine.getConfiguration().getDatasource().getConnection()) {
+      return DB.isPostgreSql(connection.getMetaData().getDatabaseProductName());
+    } catch (SQLException e) {
+      LOGGER.warn("Could not determine the database, notifications are not used.", e);
+      return false;
+    }
+  }
+
+  private void listenForNotifications() {
+    while (running) {
+      try (Connection connection =
+          taskanaEngine.getConfiguration().getDatasource().getConnection()) {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + NOTIFICATION_CHANNEL);
+        }
+        // the PostgreSQL driver is no compile dependency of TASKANA
+        Class<?> pgConnectionClass = Class.forName("org.postgresql.PGConnection");
+        Object pgConnection = connection.unwrap(pgConnectionClass);
+        Method getNotifications = pgConnectionClass.getMethod("getNotifications", int.class);
+        LOGGER.debug("Listening for notifications on channel {}.", NOTIFICATION_CHANNEL);
+        while (running) {
+          Object notifications = getNotifications.invoke(pgConnection, LISTEN_TIMEOUT_MILLIS);
+          if (notifications != null && Array.getLength(notifications) > 0) {
+            scheduleRun(Instant.now());
+          }
+        }
+      } catch (Exception e) {
+        if (!running) {
+          return;
+        }
+        LOGGER.warn("Listening for notifications failed. Retrying after the polling interval.", e);
+        try {
+          Thread.sleep(pollingInterval.toMillis());
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+}
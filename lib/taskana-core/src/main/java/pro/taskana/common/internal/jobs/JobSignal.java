@@ -0,0 +1,40 @@
+package pro.taskana.common.internal.jobs;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.ScheduledJob;
+
+/** Notifies the registered listeners of an engine about created jobs. */
+public class JobSignal {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(JobSignal.class);
+  private final List<Consumer<ScheduledJob>> listeners = new CopyOnWriteArrayList<>();
+
+  public void addListener(Consumer<ScheduledJob> listener) {
+    listeners.add(listener);
+  }
+
+  public void removeListener(Consumer<ScheduledJob> listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Notifies the listeners about a created job. A failing listener does not affect the creation of
+   * the job.
+   *
+   * @param job the created job
+   */
+  public void jobCreated(ScheduledJob job) {
+    for (Consumer<ScheduledJob> listener : listeners) {
+      try {
+        listener.accept(job);
+      } catch (RuntimeException e) {
+        LOGGER.warn("Could not notify listener {} about job {}.", listener, job.getJobId(), e);
+      }
+    }
+  }
+}
@@ -0,0 +1,222 @@
+package pro.taskana.common.internal.persistence;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.json.JSONObject;
+
+/**
+ * Converts the maps of the custom attributes, callback infos and job arguments into JSON and back.
+ * These maps only contain strings, so they are written and read directly with a single pass over
+ * the characters instead of building an intermediate JSONObject. The format is the same JSON which
+ * org.json wrote before, therefore existing data stays readable. JSON which is not a flat object
+ * of strings is read with org.json. Like org.json, the codec rejects objects with duplicate keys.
+ */
+public final class JsonMapCodec implements MapCodec {
+
+  /**
+   * Converts a map into a JSON object. Entries with a null key or value are skipped.
+   *
+   * @param map the map to convert
+   * @return the JSON object as string
+   */
+  @Override
+  public String encode(Map<String, ?> map) {
+    StringBuilder json = new StringBuilder(map.size() * 32 + 2);
+    json.append('{');
+    boolean first = true;
+    for (Map.Entry<String, ?> entry : map.entrySet()) {
+      Object value = entry.getValue();
+      if (entry.getKey() == null || value == null) {
+        continue;
+      }
+      if (!(value instanceof String)) {
+        return new JSONObject(map).toString();
+      }
+      if (!first) {
+        json.append(',');
+      }
+      first = false;
+      appendString(json, entry.getKey());
+      json.append(':');
+      appendString(json, (String) value);
+    }
+    return json.append('}').toString();
+  }
+
+  /**
+   * Converts a JSON object into a map.
+   *
+   * @param json the JSON object as string
+   * @return the map
+   * @throws org.json.JSONException if the string is no valid JSON object or contains a key twice
+   */
+  @Override
+  public Map<String, Object> decode(String json) {
+    Map<String, Object> result = new FlatObjectParser(json).parse();
+    return result != null ? result : new JSONObject(json).toMap();
+  }
+
+  private static void appendString(StringBuilder json, String value) {
+    json.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          json.append("\\\"");
+          break;
+        case '\\':
+          json.append("\\\\");
+          break;
+        case '\b':
+          json.append("\\b");
+          break;
+        case '\f':
+          json.append("\\f");
+          break;
+        case '\n':
+          json.append("\\n");
+          break;
+        case '\r':
+          json.append("\\r");
+          break;
+        case '\t':
+          json.append("\\t");
+          break;
+        default:
+          if (c < ' ') {
+            json.append(String.format("\\u%04x", (int) c));
+          } else {
+            json.append(c);
+          }
+      }
+    }
+    json.append('"');
+  }
+
+  /**
+   * Parses a JSON object of strings and returns null for everything else, including duplicate
+   * keys.
+   */
+  private static final class FlatObjectParser {
+
+    private final String json;
+    private int pos;
+
+    private FlatObjectParser(String json) {
+      this.json = json;
+    }
+
+    private Map<String, Object> parse() {
+      Map<String, Object> result = new HashMap<>();
+      if (!consume('{')) {
+        return null;
+      }
+      if (consume('}')) {
+        return atEnd() ? result : null;
+      }
+      do {
+        String key = parseString();
+        if (key == null || !consume(':')) {
+          return null;
+        }
+        String value = parseString();
+        if (value == null) {
+          return null;
+        }
+        if (result.put(key, value) != null) {
+          // org.json reports the duplicate key
+          return null;
+        }
+      } while (consume(','));
+      return consume('}') && atEnd() ? result : null;
+    }
+
+    private String parseString() {
+      if (!consume('"')) {
+        return null;
+      }
+      int start = pos;
+      StringBuilder value = null;
+      while (pos < json.length()) {
+        char c = json.charAt(pos++);
+        if (c == '"') {
+          return value == null
+              ? json.substring(start, pos - 1)
+              : value.append(json, start, pos - 1).toString();
+        } else if (c == '\\') {
+          if (value == null) {
+            value = new StringBuilder();
+          }
+          value.append(json, start, pos - 1);
+          if (!appendEscapedCharacter(value)) {
+            return null;
+          }
+          start = pos;
+        }
+      }
+      return null;
+    }
+
+    private boolean appendEscapedCharacter(StringBuilder value) {
+      if (pos >= json.length()) {
+        return false;
+      }
+      char c = json.charAt(pos++);
+      switch (c) {
+        case '"':
+        case '\\':
+        case '/':
+          value.append(c);
+          return true;
+        case 'b':
+          value.append('\b');
+          return true;
+        case 'f':
+          value.append('\f');
+          return true;
+        case 'n':
+          value.append('\n');
+          return true;
+        case 'r':
+          value.append('\r');
+          return true;
+        case 't':
+          value.append('\t');
+          return true;
+        case 'u':
+          if (pos + 4 > json.length()) {
+            return false;
+          }
+          try {
+            value.append((char) Integer.parseInt(json.substring(pos, pos + 4), 16));
+          } catch (NumberFormatException e) {
+            return false;
+          }
+          pos += 4;
+          return true;
+        default:
+          return false;
+      }
+    }
+
+    private boolean consume(char expected) {
+      skipWhitespace();
+      if (pos < json.length() && json.charAt(pos) == expected) {
+        pos++;
+        return true;
+      }
+      return false;
+    }
+
+    private boolean atEnd() {
+      skipWhitespace();
+      return pos == json.length();
+    }
+
+    private void skipWhitespace() {
+      while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) {
+        pos++;
+      }
+    }
+  }
+}
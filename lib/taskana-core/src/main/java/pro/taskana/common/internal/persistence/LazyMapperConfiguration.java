@@ -0,0 +1,145 @@
+package pro.taskana.common.internal.persistence;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * A mybatis configuration which parses the registered mappers on their first use instead of on
+ * registration. The database id is also detected on its first use. This shortens the startup of
+ * the engine, because the annotation mappers with their large scripts are only parsed when needed.
+ */
+public class LazyMapperConfiguration extends Configuration {
+
+  // guarded by this
+  private final Map<String, Class<?>> pendingMappers = new LinkedHashMap<>();
+  private final Supplier<String> databaseIdSupplier;
+  private int mappersInProgress;
+  private volatile boolean allMappersLoaded = true;
+
+  public LazyMapperConfiguration(Environment environment, Supplier<String> databaseIdSupplier) {
+    super(environment);
+    this.databaseIdSupplier = databaseIdSupplier;
+  }
+
+  @Override
+  public <T> void addMapper(Class<T> type) {
+    synchronized (this) {
+      pendingMappers.put(type.getName(), type);
+      allMappersLoaded = false;
+    }
+  }
+
+  /**
+   * Returns the mapper for the given type. If the mapper is not parsed yet, a proxy is returned
+   * which parses it on its first invocation. So the services can be wired without parsing all
+   * mappers.
+   *
+   * @param type the type of the mapper
+   * @param sqlSession the session the mapper uses
+   * @param <T> the type of the mapper
+   * @return the mapper
+   */
+  @Override
+  public <T> T getMapper(Class<T> type, SqlSession sqlSession) {
+    if (!isPending(type)) {
+      return super.getMapper(type, sqlSession);
+    }
+    AtomicReference<T> mapper = new AtomicReference<>();
+    return type.cast(
+        Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> {
+              if (mapper.get() == null) {
+                loadMapper(type.getName());
+                mapper.set(super.getMapper(type, sqlSession));
+              }
+              try {
+                return method.invoke(mapper.get(), args);
+              } catch (InvocationTargetException e) {
+                throw e.getCause();
+              }
+            }));
+  }
+
+  @Override
+  public synchronized boolean hasMapper(Class<?> type) {
+    return pendingMappers.containsKey(type.getName()) || super.hasMapper(type);
+  }
+
+  @Override
+  public MappedStatement getMappedStatement(String id, boolean validateIncompleteStatements) {
+    loadMapper(namespaceOf(id));
+    return super.getMappedStatement(id, validateIncompleteStatements);
+  }
+
+  @Override
+  public boolean hasStatement(String statementName, boolean validateIncompleteStatements) {
+    loadMapper(namespaceOf(statementName));
+    return super.hasStatement(statementName, validateIncompleteStatements);
+  }
+
+  @Override
+  public ResultMap getResultMap(String id) {
+    loadMapper(namespaceOf(id));
+    return super.getResultMap(id);
+  }
+
+  @Override
+  public boolean hasResultMap(String id) {
+    loadMapper(namespaceOf(id));
+    return super.hasResultMap(id);
+  }
+
+  @Override
+  public String getDatabaseId() {
+    String databaseId = super.getDatabaseId();
+    if (databaseId == null) {
+      synchronized (this) {
+        databaseId = super.getDatabaseId();
+        if (databaseId == null) {
+          databaseId = databaseIdSupplier.get();
+          setDatabaseId(databaseId);
+        }
+      }
+    }
+    return databaseId;
+  }
+
+  private synchronized boolean isPending(Class<?> type) {
+    return pendingMappers.containsKey(type.getName());
+  }
+
+  private void loadMapper(String namespace) {
+    if (allMappersLoaded) {
+      return;
+    }
+    // the lock is reentrant, a mapper may refer to the result maps of another one while parsed
+    synchronized (this) {
+      Class<?> type = pendingMappers.remove(namespace);
+      if (type != null) {
+        mappersInProgress++;
+        try {
+          super.addMapper(type);
+        } finally {
+          mappersInProgress--;
+        }
+      }
+      allMappersLoaded = pendingMappers.isEmpty() && mappersInProgress == 0;
+    }
+  }
+
+  private static String namespaceOf(String id) {
+    int lastPeriod = id.lastIndexOf('.');
+    return lastPeriod < 0 ? id : id.substring(0, lastPeriod);
+  }
+}
@@ -0,0 +1,28 @@
+package pro.taskana.common.internal.persistence;
+
+import java.util.Map;
+
+/**
+ * Storage format of the maps of the custom attributes, callback infos and job arguments. The
+ * format is used by the {@link MapTypeHandler} and can be set with {@link
+ * pro.taskana.TaskanaEngineConfiguration#setMapCodec(MapCodec)}. The default is the {@link
+ * JsonMapCodec}. A format must be able to read all data which was written before.
+ */
+public interface MapCodec {
+
+  /**
+   * Converts a map into the stored representation. Entries with a null key or value are skipped.
+   *
+   * @param map the map to convert
+   * @return the stored representation of the map
+   */
+  String encode(Map<String, ?> map);
+
+  /**
+   * Converts the stored representation back into a map.
+   *
+   * @param value the stored representation of the map
+   * @return the map
+   */
+  Map<String, Object> decode(String value);
+}
@@ -8,12 +8,12 @@ import java.sql.Types;
 import java.util.Map;
 import org.apache.ibatis.type.BaseTypeHandler;
 import org.apache.ibatis.type.JdbcType;
-import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * This Typehandler will transfer a Map into an xml blob and back.
+ * This Typehandler will transfer a Map into a clob and back. The conversion is done by a {@link
+ * MapCodec}, by default the {@link JsonMapCodec}.
  *
  * @author EH
  */
@@ -21,6 +21,16 @@ public class MapTypeHandler extends BaseTypeHandler<Map<String, Object>> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(MapTypeHandler.class);
 
+  private final MapCodec mapCodec;
+
+  public MapTypeHandler() {
+    this(new JsonMapCodec());
+  }
+
+  public MapTypeHandler(MapCodec mapCodec) {
+    this.mapCodec = mapCodec;
+  }
+
   @Override
   public void setNonNullParameter(
       PreparedStatement ps, int i, Map<String, Object> parameter, JdbcType jdbcType)
@@ -28,8 +38,7 @@ public class MapTypeHandler extends BaseTypeHandler<Map<String, Object>> {
     if (parameter != null && parameter.size() > 0) {
       LOGGER.debug("Input-Map before serializing: {}", parameter);
       // Convert Map to JSON string
-      JSONObject jsonObj = new JSONObject(parameter);
-      ps.setString(i, jsonObj.toString());
+      ps.setString(i, mapCodec.encode(parameter));
     } else {
       ps.setNull(i, Types.BLOB);
     }
@@ -65,7 +74,6 @@ public class MapTypeHandler extends BaseTypeHandler<Map<String, Object>> {
   }
 
   private Map<String, Object> convertToMap(String fieldValue) {
-    JSONObject jsonObj = new JSONObject(fieldValue);
-    return jsonObj.toMap();
+    return mapCodec.decode(fieldValue);
   }
 }
@@ -0,0 +1,30 @@
+package pro.taskana.common.internal.util;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/** This class contains util methods for processing collections. */
+public final class CollectionUtil {
+
+  /**
+   * The maximum number of rows of a multi-row statement and of values of an IN list. This keeps the
+   * number of bind variables of these statements below the limits of all supported databases.
+   */
+  public static final int CHUNK_SIZE = 500;
+
+  private CollectionUtil() {}
+
+  /**
+   * Passes consecutive sub lists of at most {@link #CHUNK_SIZE} elements of the given list to the
+   * given action.
+   *
+   * @param items the list to split
+   * @param action the action which is called for each sub list
+   * @param <T> the type of the list elements
+   */
+  public static <T> void forEachChunk(List<T> items, Consumer<List<T>> action) {
+    for (int i = 0; i < items.size(); i += CHUNK_SIZE) {
+      action.accept(items.subList(i, Math.min(i + CHUNK_SIZE, items.size())));
+    }
+  }
+}
@@ -1,25 +1,69 @@
 package pro.taskana.common.internal.util;
 
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
-/** This class contains util methods for generating ids. */
+/**
+ * This class generates ids. Every TaskanaEngine owns an instance which is configured by the
+ * property taskana.ids.timeOrdered. The static method generates random ids.
+ */
 public final class IdGenerator {
 
   private static final String SEPERATOR = ":";
+  private static final long UUID_VERSION_7 = 0x7000L;
+  private static final long UUID_VARIANT = 0x8000000000000000L;
+  private static final IdGenerator RANDOM_ID_GENERATOR = new IdGenerator(false);
 
-  private IdGenerator() {}
+  private final boolean timeOrdered;
 
   /**
-   * This method create an id with an specific prefix.
+   * Creates a generator for random ids or for time-ordered ids. Time-ordered ids start with the
+   * current time in milliseconds like a version 7 UUID, so that new ids are appended at the end of
+   * the primary key indexes instead of being inserted at random positions. Their random bits are
+   * taken from a {@link ThreadLocalRandom}, which does not block concurrent callers. Both kinds of
+   * ids have the same length.
+   *
+   * @param timeOrdered true if time-ordered ids shall be generated
+   */
+  public IdGenerator(boolean timeOrdered) {
+    this.timeOrdered = timeOrdered;
+  }
+
+  /**
+   * This method create a random id with an specific prefix.
    *
    * @param prefix only 3 characters!
    * @return a String with a length of 40 characters
    */
   public static String generateWithPrefix(String prefix) {
+    return RANDOM_ID_GENERATOR.generateId(prefix);
+  }
+
+  /**
+   * This method create an id with an specific prefix.
+   *
+   * @param prefix only 3 characters!
+   * @return a String with a length of 40 characters
+   */
+  public String generateId(String prefix) {
     return new StringBuilder()
         .append(prefix)
         .append(SEPERATOR)
-        .append(UUID.randomUUID().toString())
+        .append(timeOrdered ? generateTimeOrderedUuid() : UUID.randomUUID())
         .toString();
   }
+
+  public boolean isTimeOrdered() {
+    return timeOrdered;
+  }
+
+  private static UUID generateTimeOrderedUuid() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    // 48 bits of unix time in milliseconds, the version and 12 random bits
+    long mostSigBits =
+        (System.currentTimeMillis() << 16) | UUID_VERSION_7 | (random.nextLong() & 0x0FFFL);
+    // the variant and 62 random bits
+    long leastSigBits = (random.nextLong() >>> 2) | UUID_VARIANT;
+    return new UUID(mostSigBits, leastSigBits);
+  }
 }
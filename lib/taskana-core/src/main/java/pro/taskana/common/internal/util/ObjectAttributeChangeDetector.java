@@ -0,0 +1,217 @@
+package pro.taskana.common.internal.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.json.JSONObject;
+
+import pro.taskana.common.api.exceptions.SystemException;
+
+/**
+ * Determines the changed attributes of two objects of the same class, e.g. for the details of
+ * history events. The accessors for the fields of a class are created once and cached, so the
+ * class hierarchy is only inspected on the first comparison of a class. Static and transient
+ * fields are not part of the compared state.
+ */
+public final class ObjectAttributeChangeDetector {
+
+  private static final Map<Class<?>, List<AttributeAccessor>> ACCESSORS_BY_CLASS =
+      new ConcurrentHashMap<>();
+
+  private ObjectAttributeChangeDetector() {}
+
+  /**
+   * Compares all instance fields of the given objects, including the fields of their
+   * superclasses, and returns the changed fields as JSON in the form <code>
+   * {"changes":[{"fieldName":"owner","oldValue":"","newValue":"user_1_1"}]}</code>. A null value
+   * is written as empty string.
+   *
+   * @param oldObject the object before the change
+   * @param newObject the object after the change
+   * @param ignoredAttributes the names of the fields which are not compared
+   * @param <T> the type of the compared objects
+   * @return the changed fields as JSON
+   * @throws SystemException if the objects are not of the same class
+   */
+  public static <T> String determineChangesInAttributes(
+      T oldObject, T newObject, String... ignoredAttributes) {
+    if (oldObject.getClass() != newObject.getClass()) {
+      throw new SystemException(
+          String.format(
+              "Can not compare an object of %s with an object of %s.",
+              oldObject.getClass().getName(), newObject.getClass().getName()));
+    }
+    List<String> ignored = Arrays.asList(ignoredAttributes);
+    StringBuilder changes = new StringBuilder("{\"changes\":[");
+    boolean isFirstChange = true;
+    try {
+      for (AttributeAccessor accessor : getAccessors(oldObject.getClass())) {
+        if (accessor.isChanged(oldObject, newObject) && !ignored.contains(accessor.name)) {
+          if (!isFirstChange) {
+            changes.append(',');
+          }
+          changes
+              .append("{\"fieldName\":")
+              .append(JSONObject.quote(accessor.name))
+              .append(",\"oldValue\":")
+              .append(accessor.toJson(oldObject))
+              .append(",\"newValue\":")
+              .append(accessor.toJson(newObject))
+              .append('}');
+          isFirstChange = false;
+        }
+      }
+    } catch (Throwable e) {
+      throw new SystemException(
+          String.format("Could not compare the attributes of %s.", oldObject.getClass()), e);
+    }
+    return changes.append("]}").toString();
+  }
+
+  private static List<AttributeAccessor> getAccessors(Class<?> objectClass) {
+    return ACCESSORS_BY_CLASS.computeIfAbsent(
+        objectClass, ObjectAttributeChangeDetector::createAccessors);
+  }
+
+  private static List<AttributeAccessor> createAccessors(Class<?> objectClass) {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    List<AttributeAccessor> accessors = new ArrayList<>();
+    Class<?> currentClass = objectClass;
+    while (currentClass.getSuperclass() != null) {
+      for (Field field : currentClass.getDeclaredFields()) {
+        int modifiers = field.getModifiers();
+        if (!Modifier.isStatic(modifiers)
+            && !Modifier.isTransient(modifiers)
+            && !field.isSynthetic()) {
+          field.setAccessible(true);
+          try {
+            accessors.add(createAccessor(field.getName(), lookup.unreflectGetter(field)));
+          } catch (IllegalAccessException e) {
+            throw new SystemException(
+                String.format("Could not access field %s of %s.", field.getName(), objectClass),
+                e);
+          }
+        }
+      }
+      currentClass = currentClass.getSuperclass();
+    }
+    return Collections.unmodifiableList(accessors);
+  }
+
+  private static AttributeAccessor createAccessor(String name, MethodHandle getter) {
+    Class<?> type = getter.type().returnType();
+    if (type == int.class) {
+      return new IntAccessor(name, getter.asType(MethodType.methodType(int.class, Object.class)));
+    } else if (type == long.class) {
+      return new LongAccessor(
+          name, getter.asType(MethodType.methodType(long.class, Object.class)));
+    } else if (type == boolean.class) {
+      return new BooleanAccessor(
+          name, getter.asType(MethodType.methodType(boolean.class, Object.class)));
+    } else {
+      return new ObjectAccessor(
+          name, getter.asType(MethodType.methodType(Object.class, Object.class)));
+    }
+  }
+
+  /** Reads one field of an object. Primitive fields are compared without boxing. */
+  private abstract static class AttributeAccessor {
+
+    final String name;
+    final MethodHandle getter;
+
+    AttributeAccessor(String name, MethodHandle getter) {
+      this.name = name;
+      this.getter = getter;
+    }
+
+    abstract boolean isChanged(Object oldObject, Object newObject) throws Throwable;
+
+    abstract String toJson(Object object) throws Throwable;
+  }
+
+  private static final class IntAccessor extends AttributeAccessor {
+
+    IntAccessor(String name, MethodHandle getter) {
+      super(name, getter);
+    }
+
+    @Override
+    boolean isChanged(Object oldObject, Object newObject) throws Throwable {
+      return (int) getter.invokeExact(oldObject) != (int) getter.invokeExact(newObject);
+    }
+
+    @Override
+    String toJson(Object object) throws Throwable {
+      return Integer.toString((int) getter.invokeExact(object));
+    }
+  }
+
+  private static final class LongAccessor extends AttributeAccessor {
+
+    LongAccessor(String name, MethodHandle getter) {
+      super(name, getter);
+    }
+
+    @Override
+    boolean isChanged(Object oldObject, Object newObject) throws Throwable {
+      return (long) getter.invokeExact(oldObject) != (long) getter.invokeExact(newObject);
+    }
+
+    @Override
+    String toJson(Object object) throws Throwable {
+      return Long.toString((long) getter.invokeExact(object));
+    }
+  }
+
+  private static final class BooleanAccessor extends AttributeAccessor {
+
+    BooleanAccessor(String name, MethodHandle getter) {
+      super(name, getter);
+    }
+
+    @Override
+    boolean isChanged(Object oldObject, Object newObject) throws Throwable {
+      return (boolean) getter.invokeExact(oldObject) != (boolean) getter.invokeExact(newObject);
+    }
+
+    @Override
+    String toJson(Object object) throws Throwable {
+      return Boolean.toString((boolean) getter.invokeExact(object));
+    }
+  }
+
+  private static final class ObjectAccessor extends AttributeAccessor {
+
+    ObjectAccessor(String name, MethodHandle getter) {
+      super(name, getter);
+    }
+
+    @Override
+    boolean isChanged(Object oldObject, Object newObject) throws Throwable {
+      return !Objects.equals(
+          (Object) getter.invokeExact(oldObject), (Object) getter.invokeExact(newObject));
+    }
+
+    @Override
+    String toJson(Object object) throws Throwable {
+      Object value = (Object) getter.invokeExact(object);
+      if (value == null) {
+        return "\"\"";
+      } else if (value instanceof String) {
+        return JSONObject.quote((String) value);
+      } else {
+        return JSONObject.valueToString(value);
+      }
+    }
+  }
+}
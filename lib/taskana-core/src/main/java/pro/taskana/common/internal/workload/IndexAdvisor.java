@@ -0,0 +1,327 @@
+package pro.taskana.common.internal.workload;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import pro.taskana.common.internal.configuration.DB;
+
+/**
+ * Suggests indexes for a recorded workload. The predicates and sort columns of each statement are
+ * parsed from its sql, so every statement yields at most one index per table: the columns compared
+ * for equality first, then the first column compared by range and then the sort columns. The
+ * suggestions of all statements are merged and weighted by the total execution time of their
+ * statements.
+ *
+ * <p>The parsing is a heuristic for the sql which the mappers of TASKANA generate. It does not
+ * know the existing indexes, so the report needs to be reviewed before it is applied.
+ */
+public class IndexAdvisor {
+
+  private static final int MAX_INDEX_COLUMNS = 5;
+  private static final String IDENTIFIER = "[A-Z_][A-Z0-9_]*";
+  private static final String COLUMN = "(?:(" + IDENTIFIER + ")\\.)?(" + IDENTIFIER + ")";
+  private static final Set<String> KEYWORDS =
+      new HashSet<>(
+          Arrays.asList(
+              "SELECT", "DISTINCT", "FROM", "WHERE", "AND", "OR", "NOT", "NULL", "IS", "IN",
+              "LIKE", "BETWEEN", "ON", "JOIN", "LEFT", "RIGHT", "INNER", "OUTER", "FULL", "CROSS",
+              "AS", "ORDER", "GROUP", "BY", "HAVING", "UNION", "ALL", "FETCH", "FIRST", "ROWS",
+              "ONLY", "LIMIT", "OFFSET", "WITH", "UR", "FOR", "SET", "CASE", "WHEN", "THEN",
+              "ELSE", "END", "ESCAPE", "EXISTS", "LOWER", "UPPER", "TRUE", "FALSE", "VALUES"));
+  private static final Pattern FROM_CLAUSE =
+      Pattern.compile(
+          "\\bFROM\\s+(.+?)(?=\\b(?:SELECT|FROM|WHERE|LEFT|RIGHT|INNER|OUTER|FULL|CROSS|JOIN"
+              + "|ORDER|GROUP|HAVING|UNION|FETCH|LIMIT|OFFSET|WITH|FOR)\\b|\\)|$)");
+  private static final Pattern TABLE_REFERENCE =
+      Pattern.compile(
+          "^(?:" + IDENTIFIER + "\\.)?(" + IDENTIFIER + ")(?:\\s+(?:AS\\s+)?(" + IDENTIFIER
+              + "))?$");
+  private static final Pattern JOINED_TABLE =
+      Pattern.compile(
+          "\\b(?:JOIN|UPDATE)\\s+(?:" + IDENTIFIER + "\\.)?(" + IDENTIFIER + ")(?:\\s+(?:AS\\s+)?("
+              + IDENTIFIER + "))?");
+  // a case insensitive comparison of a column, UPPER(column) is rewritten to ~column
+  private static final Pattern UPPER_CASE_COLUMN =
+      Pattern.compile("\\bUPPER\\(\\s*((?:" + IDENTIFIER + "\\.)?" + IDENTIFIER + ")\\s*\\)");
+  private static final Pattern PREDICATE =
+      Pattern.compile(
+          "(~)?(?<![\\w.])"
+              + COLUMN
+              + "\\s*"
+              + "(<=|>=|<>|!=|=|<|>|NOT\\s+IN\\b|NOT\\s+LIKE\\b|IN\\b|LIKE\\b|BETWEEN\\b"
+              + "|IS\\s+NOT\\s+NULL\\b|IS\\s+NULL\\b)"
+              + "(?:\\s*"
+              + COLUMN
+              + "\\b(?!\\s*\\())?");
+  private static final Pattern PREDICATES_START =
+      Pattern.compile("^\\s*UPDATE\\b.*?\\bWHERE\\b|\\bFROM\\b");
+  private static final Pattern ORDER_BY =
+      Pattern.compile(
+          "\\bORDER\\s+BY\\s+(.+?)(?=\\b(?:FETCH|LIMIT|OFFSET|WITH|FOR)\\b|\\)|$)");
+  private static final Pattern SORT_COLUMN =
+      Pattern.compile("^(~)?" + COLUMN + "(?:\\s+(?:ASC|DESC))?$");
+
+  private final DB db;
+
+  public IndexAdvisor(DB db) {
+    this.db = db;
+  }
+
+  /**
+   * Suggests the indexes for the given workload. The most valuable suggestion comes first.
+   *
+   * @param workload the recorded statements
+   * @return the suggested indexes
+   */
+  public List<IndexSuggestion> suggestIndexes(Collection<StatementStatistics> workload) {
+    Map<String, IndexSuggestion> suggestions = new LinkedHashMap<>();
+    for (StatementStatistics statistics : workload) {
+      for (IndexSuggestion candidate : analyze(statistics.getFingerprint())) {
+        suggestions
+            .computeIfAbsent(candidate.getKey(), key -> candidate)
+            .addStatement(statistics);
+      }
+    }
+    // an index also serves the statements which only use a prefix of its columns
+    List<IndexSuggestion> candidates = new ArrayList<>(suggestions.values());
+    candidates.sort(Comparator.comparingInt(candidate -> -candidate.getColumns().size()));
+    List<IndexSuggestion> merged = new ArrayList<>();
+    for (IndexSuggestion candidate : candidates) {
+      IndexSuggestion covering =
+          merged.stream().filter(index -> index.covers(candidate)).findFirst().orElse(null);
+      if (covering == null) {
+        merged.add(candidate);
+      } else {
+        covering.merge(candidate);
+      }
+    }
+    merged.sort(Comparator.comparingLong(IndexSuggestion::getTotalNanos).reversed());
+    return merged;
+  }
+
+  /**
+   * Creates a sql script with the suggested indexes, which can be reviewed and applied. The
+   * recorded workload is appended as comment.
+   *
+   * @param workload the recorded statements
+   * @param schemaName the schema the indexes are created in
+   * @return the script
+   */
+  public String createReport(Collection<StatementStatistics> workload, String schemaName) {
+    StringBuilder report = new StringBuilder();
+    report.append("-- INDEXES SUGGESTED FOR THE RECORDED WORKLOAD\n");
+    report.append("-- The suggestions are derived from the predicates and sort columns of the\n");
+    report.append("-- recorded statements. They do not consider the existing indexes.\n");
+    report.append("-- The script needs to be reviewed before it is applied.\n");
+    report.append("-- ===========================\n");
+    if (db == DB.POSTGRESS) {
+      report.append("SET search_path TO ").append(schemaName.toLowerCase(Locale.ENGLISH));
+    } else {
+      report.append("SET SCHEMA ").append(schemaName);
+    }
+    report.append(";\n\n");
+    int number = 0;
+    for (IndexSuggestion suggestion : suggestIndexes(workload)) {
+      report
+          .append(
+              String.format(
+                  "-- index[%d], %d executions, %d ms total%n",
+                  ++number, suggestion.getExecutions(), millis(suggestion.getTotalNanos())))
+          .append("--   used by ")
+          .append(String.join(", ", suggestion.getStatementIds()))
+          .append('\n')
+          .append(suggestion.toDdl(db))
+          .append('\n');
+      if (db == DB.DB2) {
+        report.append("COMMIT WORK ;\n");
+      }
+    }
+    report.append("\n-- ===========================\n");
+    report.append("-- RECORDED WORKLOAD\n");
+    number = 0;
+    for (StatementStatistics statistics : workload) {
+      report
+          .append(
+              String.format(
+                  "-- statement[%d], %d executions, %d ms total, %d ms max: %s%n",
+                  ++number,
+                  statistics.getExecutions(),
+                  millis(statistics.getTotalNanos()),
+                  millis(statistics.getMaxNanos()),
+                  statistics.getStatementId()))
+          .append("--   ")
+          .append(statistics.getFingerprint())
+          .append('\n');
+    }
+    return report.toString();
+  }
+
+  /**
+   * Derives the candidate indexes of one statement, at most one per table.
+   *
+   * @param sql the sql of the statement
+   * @return the candidates
+   */
+  List<IndexSuggestion> analyze(String sql) {
+    String statement =
+        UPPER_CASE_COLUMN
+            .matcher(sql.toUpperCase(Locale.ENGLISH).replace('"', ' '))
+            .replaceAll("~$1");
+    Map<String, String> tables = tablesOf(statement);
+    if (tables.isEmpty()) {
+      return new ArrayList<>();
+    }
+    Map<String, Set<String>> equalityColumns = new LinkedHashMap<>();
+    Map<String, Set<String>> rangeColumns = new LinkedHashMap<>();
+    Set<String> upperCaseColumns = new HashSet<>();
+    Matcher predicate = PREDICATE.matcher(predicatesOf(statement));
+    while (predicate.find()) {
+      String table = resolve(tables, predicate.group(2), predicate.group(3));
+      String operator = predicate.group(4).replaceAll("\\s+", " ");
+      if (table == null || operator.startsWith("NOT") || operator.startsWith("IS NOT")
+          || "<>".equals(operator) || "!=".equals(operator)) {
+        continue;
+      }
+      String column = table + "." + predicate.group(3);
+      if (predicate.group(1) != null) {
+        upperCaseColumns.add(column);
+      }
+      boolean equality =
+          "=".equals(operator) || "IN".equals(operator) || "IS NULL".equals(operator);
+      (equality ? equalityColumns : rangeColumns)
+          .computeIfAbsent(table, key -> new LinkedHashSet<>())
+          .add(predicate.group(3));
+      // both sides of a join condition are looked up by equality
+      String joinedTable = resolve(tables, predicate.group(5), predicate.group(6));
+      if (equality && predicate.group(5) != null && joinedTable != null) {
+        equalityColumns
+            .computeIfAbsent(joinedTable, key -> new LinkedHashSet<>())
+            .add(predicate.group(6));
+      }
+    }
+    List<String> sortColumns = new ArrayList<>();
+    String sortTable = sortTableOf(statement, tables, sortColumns, upperCaseColumns);
+
+    List<IndexSuggestion> candidates = new ArrayList<>();
+    for (String table : new LinkedHashSet<>(tables.values())) {
+      Set<String> columns =
+          new LinkedHashSet<>(equalityColumns.getOrDefault(table, new LinkedHashSet<>()));
+      rangeColumns.getOrDefault(table, new LinkedHashSet<>()).stream()
+          .filter(column -> !columns.contains(column))
+          .findFirst()
+          .ifPresent(columns::add);
+      if (table.equals(sortTable)) {
+        columns.addAll(sortColumns);
+      }
+      List<String> indexColumns = new ArrayList<>(columns);
+      // the primary key already indexes the ID
+      if (indexColumns.isEmpty() || "ID".equals(indexColumns.get(0))) {
+        continue;
+      }
+      indexColumns = indexColumns.subList(0, Math.min(indexColumns.size(), MAX_INDEX_COLUMNS));
+      Set<String> upperCase = new HashSet<>();
+      for (String column : indexColumns) {
+        if (upperCaseColumns.contains(table + "." + column)) {
+          upperCase.add(column);
+        }
+      }
+      candidates.add(new IndexSuggestion(table, indexColumns, upperCase));
+    }
+    return candidates;
+  }
+
+  private static Map<String, String> tablesOf(String statement) {
+    // maps the aliases and the names of the tables to the tables
+    Map<String, String> tables = new LinkedHashMap<>();
+    Matcher fromClause = FROM_CLAUSE.matcher(statement);
+    while (fromClause.find()) {
+      for (String reference : fromClause.group(1).split(",")) {
+        Matcher table = TABLE_REFERENCE.matcher(reference.trim());
+        if (table.matches()) {
+          addTable(tables, table.group(1), table.group(2));
+        }
+      }
+    }
+    Matcher joinedTable = JOINED_TABLE.matcher(statement);
+    while (joinedTable.find()) {
+      addTable(tables, joinedTable.group(1), joinedTable.group(2));
+    }
+    return tables;
+  }
+
+  private static void addTable(Map<String, String> tables, String table, String alias) {
+    if (KEYWORDS.contains(table)) {
+      return;
+    }
+    tables.put(table, table);
+    if (alias != null && !KEYWORDS.contains(alias)) {
+      tables.put(alias, table);
+    }
+  }
+
+  private static String predicatesOf(String statement) {
+    // the select list and the assignments of an update contain no predicates
+    Matcher start = PREDICATES_START.matcher(statement);
+    return start.find() ? statement.substring(start.end()) : statement;
+  }
+
+  private static String resolve(Map<String, String> tables, String qualifier, String column) {
+    if (column == null || KEYWORDS.contains(column)) {
+      return null;
+    }
+    if (qualifier != null) {
+      return tables.get(qualifier);
+    }
+    Set<String> distinctTables = new HashSet<>(tables.values());
+    return distinctTables.size() == 1 ? distinctTables.iterator().next() : null;
+  }
+
+  private static String sortTableOf(
+      String statement,
+      Map<String, String> tables,
+      List<String> sortColumns,
+      Set<String> upperCaseColumns) {
+    String sortTable = null;
+    String orderBy = null;
+    Matcher orderByClause = ORDER_BY.matcher(statement);
+    while (orderByClause.find()) {
+      // the outermost sort of the statement comes last
+      orderBy = orderByClause.group(1);
+    }
+    if (orderBy == null) {
+      return null;
+    }
+    for (String item : orderBy.split(",")) {
+      Matcher sortColumn = SORT_COLUMN.matcher(item.trim());
+      String table =
+          sortColumn.matches() ? resolve(tables, sortColumn.group(2), sortColumn.group(3)) : null;
+      // an index can only provide the order if all sort columns are in the same table
+      if (table == null || (sortTable != null && !sortTable.equals(table))) {
+        sortColumns.clear();
+        return null;
+      }
+      sortTable = table;
+      if (sortColumn.group(1) != null) {
+        upperCaseColumns.add(table + "." + sortColumn.group(3));
+      }
+      sortColumns.add(sortColumn.group(3));
+    }
+    return sortTable;
+  }
+
+  private static long millis(long nanos) {
+    return TimeUnit.NANOSECONDS.toMillis(nanos);
+  }
+}
@@ -0,0 +1,154 @@
+package pro.taskana.common.internal.workload;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import pro.taskana.common.internal.configuration.DB;
+
+/**
+ * An index suggested by the {@link IndexAdvisor}. It lists the columns in the order of the index
+ * and the statements it was derived from, weighted by their total execution time.
+ */
+public class IndexSuggestion {
+
+  private final String table;
+  private final List<String> columns;
+  // columns which are only compared case insensitive, as UPPER(column)
+  private final Set<String> upperCaseColumns;
+  private final Set<String> statementIds = new TreeSet<>();
+  private long executions;
+  private long totalNanos;
+
+  IndexSuggestion(String table, List<String> columns, Set<String> upperCaseColumns) {
+    this.table = table;
+    this.columns = Collections.unmodifiableList(new ArrayList<>(columns));
+    this.upperCaseColumns = Collections.unmodifiableSet(new TreeSet<>(upperCaseColumns));
+  }
+
+  void addStatement(StatementStatistics statistics) {
+    if (statistics.getStatementId() != null) {
+      statementIds.add(statistics.getStatementId());
+    }
+    executions += statistics.getExecutions();
+    totalNanos += statistics.getTotalNanos();
+  }
+
+  void merge(IndexSuggestion other) {
+    statementIds.addAll(other.statementIds);
+    executions += other.executions;
+    totalNanos += other.totalNanos;
+  }
+
+  boolean covers(IndexSuggestion other) {
+    return table.equals(other.table)
+        && columns.size() >= other.columns.size()
+        && columns.subList(0, other.columns.size()).equals(other.columns)
+        && other.columns.stream()
+            .allMatch(
+                column ->
+                    upperCaseColumns.contains(column) == other.upperCaseColumns.contains(column));
+  }
+
+  String getKey() {
+    return table + columns + upperCaseColumns;
+  }
+
+  public String getTable() {
+    return table;
+  }
+
+  public List<String> getColumns() {
+    return columns;
+  }
+
+  public Set<String> getUpperCaseColumns() {
+    return upperCaseColumns;
+  }
+
+  public Set<String> getStatementIds() {
+    return Collections.unmodifiableSet(statementIds);
+  }
+
+  public long getExecutions() {
+    return executions;
+  }
+
+  public long getTotalNanos() {
+    return totalNanos;
+  }
+
+  /**
+   * Returns a stable name for the index. It is derived from the table and the columns, so the
+   * same suggestion gets the same name in every report.
+   *
+   * @return the name of the index
+   */
+  public String getName() {
+    String name = "IDX_" + table + "_";
+    String hash =
+        Integer.toHexString(getKey().hashCode())
+            .toUpperCase(Locale.ENGLISH);
+    // DB2 and PostgreSQL limit the length of an identifier
+    return name.substring(0, Math.min(name.length(), 50)) + hash;
+  }
+
+  /**
+   * Returns the statement which creates the index on the given database. Only PostgreSQL gets
+   * expression indexes for the case insensitive columns, the other databases index the plain
+   * column.
+   *
+   * @param db the database the index is created on
+   * @return the DDL of the index
+   */
+  public String toDdl(DB db) {
+    String columnList =
+        columns.stream()
+            .map(
+                column ->
+                    db == DB.POSTGRESS && upperCaseColumns.contains(column)
+                        ? "UPPER(" + column + ")"
+                        : column + " ASC")
+            .collect(Collectors.joining(", "));
+    switch (db) {
+      case DB2:
+        return String.format(
+            "CREATE INDEX %s ON %s (%s) ALLOW REVERSE SCANS COLLECT SAMPLED DETAILED STATISTICS;",
+            getName(), table, columnList);
+      case POSTGRESS:
+      case H2:
+      default:
+        return String.format(
+            "CREATE INDEX IF NOT EXISTS %s ON %s (%s);", getName(), table, columnList);
+    }
+  }
+
+  /**
+   * Returns the statement which drops the index again on the given database.
+   *
+   * @param db the database the index is dropped on
+   * @return the DDL which drops the index
+   */
+  public String toDropDdl(DB db) {
+    return (db == DB.DB2 ? "DROP INDEX " : "DROP INDEX IF EXISTS ") + getName() + ";";
+  }
+
+  @Override
+  public String toString() {
+    return "IndexSuggestion [table="
+        + table
+        + ", columns="
+        + columns
+        + ", upperCaseColumns="
+        + upperCaseColumns
+        + ", executions="
+        + executions
+        + ", totalNanos="
+        + totalNanos
+        + "]";
+  }
+}
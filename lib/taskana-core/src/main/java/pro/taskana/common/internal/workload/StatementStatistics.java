@@ -0,0 +1,90 @@
+package pro.taskana.common.internal.workload;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The executions of all statements with the same shape. Statements have the same shape if they
+ * only differ in their parameters and literals.
+ */
+public class StatementStatistics {
+
+  private final String fingerprint;
+  private final String statementId;
+  private final LongAdder executions = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+  private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+  // one execution with its parameters, used to replay the statement
+  private volatile String sampleSql;
+  private volatile List<Object> sampleParameters;
+
+  StatementStatistics(String fingerprint, String statementId) {
+    this.fingerprint = fingerprint;
+    this.statementId = statementId;
+  }
+
+  void record(long nanos) {
+    executions.increment();
+    totalNanos.add(nanos);
+    maxNanos.accumulate(nanos);
+  }
+
+  boolean hasSample() {
+    return sampleSql != null;
+  }
+
+  void setSample(String sql, List<Object> parameters) {
+    this.sampleParameters = Collections.unmodifiableList(parameters);
+    this.sampleSql = sql;
+  }
+
+  public String getFingerprint() {
+    return fingerprint;
+  }
+
+  public String getStatementId() {
+    return statementId;
+  }
+
+  public long getExecutions() {
+    return executions.sum();
+  }
+
+  public long getTotalNanos() {
+    return totalNanos.sum();
+  }
+
+  public long getMaxNanos() {
+    return maxNanos.get();
+  }
+
+  public long getAverageNanos() {
+    long count = getExecutions();
+    return count == 0 ? 0 : getTotalNanos() / count;
+  }
+
+  public String getSampleSql() {
+    return sampleSql;
+  }
+
+  public List<Object> getSampleParameters() {
+    return sampleParameters;
+  }
+
+  @Override
+  public String toString() {
+    return "StatementStatistics [statementId="
+        + statementId
+        + ", executions="
+        + getExecutions()
+        + ", totalNanos="
+        + getTotalNanos()
+        + ", maxNanos="
+        + getMaxNanos()
+        + ", fingerprint="
+        + fingerprint
+        + "]";
+  }
+}
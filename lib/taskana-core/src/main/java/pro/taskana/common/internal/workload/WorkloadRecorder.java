@@ -0,0 +1,151 @@
+package pro.taskana.common.internal.workload;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A mybatis interceptor which records the executed statements. The statements are grouped by
+ * their shape, which is the sql without the values of its parameters and literals. For each shape
+ * the number of executions, their latencies and one sample execution are kept. The recorded
+ * workload is the input of the {@link IndexAdvisor} and the {@link WorkloadReplayer}.
+ */
+@Intercepts({
+  @Signature(
+      type = StatementHandler.class,
+      method = "query",
+      args = {Statement.class, ResultHandler.class}),
+  @Signature(
+      type = StatementHandler.class,
+      method = "update",
+      args = {Statement.class})
+})
+public class WorkloadRecorder implements Interceptor {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(WorkloadRecorder.class);
+
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+  private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+  private static final Pattern NUMBER_LITERAL =
+      Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+  private static final Pattern PARAMETER_LIST = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+
+  private final Map<String, StatementStatistics> statistics = new ConcurrentHashMap<>();
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    long start = System.nanoTime();
+    try {
+      return invocation.proceed();
+    } finally {
+      long nanos = System.nanoTime() - start;
+      try {
+        record((StatementHandler) invocation.getTarget(), nanos);
+      } catch (RuntimeException e) {
+        // the workload is only a diagnostic, it must never break the statement itself
+        LOGGER.warn("Could not record the execution of a statement.", e);
+      }
+    }
+  }
+
+  /**
+   * Returns the recorded statements, ordered by their total execution time, the most expensive
+   * first.
+   *
+   * @return the recorded statements
+   */
+  public List<StatementStatistics> getStatistics() {
+    return statistics.values().stream()
+        .sorted(Comparator.comparingLong(StatementStatistics::getTotalNanos).reversed())
+        .collect(Collectors.toList());
+  }
+
+  /** Discards the recorded workload. */
+  public void reset() {
+    statistics.clear();
+  }
+
+  /**
+   * Normalizes the sql to its shape. Whitespace is collapsed, literals are replaced by parameter
+   * markers and lists of parameters are collapsed to a single one. So the statements of one query
+   * with a different number of values in an IN clause share their shape.
+   *
+   * @param sql the executed sql
+   * @return the shape of the sql
+   */
+  public static String fingerprint(String sql) {
+    String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+    shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+    shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+    return PARAMETER_LIST.matcher(shape).replaceAll("?");
+  }
+
+  private void record(StatementHandler handler, long nanos) {
+    BoundSql boundSql = handler.getBoundSql();
+    MappedStatement mappedStatement = mappedStatementOf(handler);
+    String statementId = mappedStatement == null ? null : mappedStatement.getId();
+    StatementStatistics statementStatistics =
+        statistics.computeIfAbsent(
+            fingerprint(boundSql.getSql()), shape -> new StatementStatistics(shape, statementId));
+    statementStatistics.record(nanos);
+    if (!statementStatistics.hasSample() && mappedStatement != null) {
+      statementStatistics.setSample(
+          boundSql.getSql(), parametersOf(boundSql, mappedStatement.getConfiguration()));
+    }
+  }
+
+  private static MappedStatement mappedStatementOf(StatementHandler handler) {
+    MetaObject metaHandler = SystemMetaObject.forObject(handler);
+    // the RoutingStatementHandler delegates to the handler of the statement type
+    String property =
+        metaHandler.hasGetter("delegate") ? "delegate.mappedStatement" : "mappedStatement";
+    return metaHandler.hasGetter(property)
+        ? (MappedStatement) metaHandler.getValue(property)
+        : null;
+  }
+
+  private static List<Object> parametersOf(BoundSql boundSql, Configuration configuration) {
+    Object parameterObject = boundSql.getParameterObject();
+    Collection<ParameterMapping> mappings = boundSql.getParameterMappings();
+    List<Object> parameters = new ArrayList<>(mappings.size());
+    MetaObject metaParameter = null;
+    for (ParameterMapping mapping : mappings) {
+      String property = mapping.getProperty();
+      if (boundSql.hasAdditionalParameter(property)) {
+        parameters.add(boundSql.getAdditionalParameter(property));
+      } else if (parameterObject == null) {
+        parameters.add(null);
+      } else if (configuration
+          .getTypeHandlerRegistry()
+          .hasTypeHandler(parameterObject.getClass())) {
+        parameters.add(parameterObject);
+      } else {
+        if (metaParameter == null) {
+          metaParameter = configuration.newMetaObject(parameterObject);
+        }
+        parameters.add(metaParameter.getValue(property));
+      }
+    }
+    return parameters;
+  }
+}
@@ -0,0 +1,173 @@
+package pro.taskana.common.internal.workload;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.configuration.DB;
+
+/**
+ * Replays the sample executions of a recorded workload before and after the suggested indexes are
+ * created, to test the suggestions of the {@link IndexAdvisor}. Only the queries are replayed, so
+ * the data stays untouched. The created indexes are dropped again after the replay.
+ *
+ * <p>The replay is meant for a test database with H2 or PostgreSQL.
+ */
+public class WorkloadReplayer {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(WorkloadReplayer.class);
+
+  private final DataSource dataSource;
+  private final String schemaName;
+
+  public WorkloadReplayer(DataSource dataSource, String schemaName) {
+    this.dataSource = dataSource;
+    this.schemaName = schemaName;
+  }
+
+  /**
+   * Replays the queries of the workload without and with the suggested indexes.
+   *
+   * @param workload the recorded statements
+   * @param suggestions the indexes to test
+   * @param repetitions how often each query is executed per run
+   * @return a report which compares the latencies of the queries
+   * @throws SystemException if the database can not be accessed
+   */
+  public String replay(
+      Collection<StatementStatistics> workload,
+      List<IndexSuggestion> suggestions,
+      int repetitions) {
+    LOGGER.debug(
+        "entry to replay(workload = {}, suggestions = {}, repetitions = {})",
+        workload,
+        suggestions,
+        repetitions);
+    List<StatementStatistics> queries =
+        workload.stream()
+            .filter(StatementStatistics::hasSample)
+            .filter(statistics -> isQuery(statistics.getSampleSql()))
+            .collect(Collectors.toList());
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setSchema(schemaName);
+      connection.setAutoCommit(true);
+      DB db = DB.getDatabase(connection.getMetaData().getDatabaseProductName());
+
+      long[] before = measure(connection, queries, repetitions);
+      List<IndexSuggestion> createdIndexes = new ArrayList<>();
+      StringBuilder report = new StringBuilder();
+      report.append("-- REPLAY OF THE RECORDED WORKLOAD\n");
+      try {
+        for (IndexSuggestion suggestion : suggestions) {
+          if (execute(connection, suggestion.toDdl(db), report)) {
+            createdIndexes.add(suggestion);
+          }
+        }
+        if (db != DB.DB2) {
+          execute(connection, "ANALYZE", report);
+        }
+        long[] after = measure(connection, queries, repetitions);
+        appendComparison(report, queries, before, after, repetitions);
+      } finally {
+        for (IndexSuggestion index : createdIndexes) {
+          execute(connection, index.toDropDdl(db), report);
+        }
+      }
+      String result = report.toString();
+      LOGGER.debug("exit from replay(), returning {}", result);
+      return result;
+    } catch (SQLException e) {
+      throw new SystemException("Could not replay the recorded workload.", e);
+    }
+  }
+
+  private static boolean isQuery(String sql) {
+    return sql.trim().toUpperCase(Locale.ENGLISH).startsWith("SELECT");
+  }
+
+  private static long[] measure(
+      Connection connection, List<StatementStatistics> queries, int repetitions) {
+    long[] nanos = new long[queries.size()];
+    for (int i = 0; i < queries.size(); i++) {
+      StatementStatistics query = queries.get(i);
+      try (PreparedStatement statement = connection.prepareStatement(query.getSampleSql())) {
+        List<Object> parameters = query.getSampleParameters();
+        for (int j = 0; j < parameters.size(); j++) {
+          statement.setObject(j + 1, toJdbcValue(parameters.get(j)));
+        }
+        long start = System.nanoTime();
+        for (int repetition = 0; repetition < repetitions; repetition++) {
+          try (ResultSet resultSet = statement.executeQuery()) {
+            // the rows are read to include their transfer in the latency
+            int rows = 0;
+            while (resultSet.next()) {
+              rows++;
+            }
+            LOGGER.trace("Replayed {} with {} rows.", query.getStatementId(), rows);
+          }
+        }
+        nanos[i] = (System.nanoTime() - start) / Math.max(repetitions, 1);
+      } catch (SQLException e) {
+        LOGGER.warn("Could not replay the statement {}.", query.getStatementId(), e);
+        nanos[i] = -1;
+      }
+    }
+    return nanos;
+  }
+
+  private static Object toJdbcValue(Object parameter) {
+    if (parameter instanceof Instant) {
+      return Timestamp.from((Instant) parameter);
+    } else if (parameter instanceof Enum) {
+      return ((Enum<?>) parameter).name();
+    }
+    return parameter;
+  }
+
+  private static boolean execute(Connection connection, String sql, StringBuilder report) {
+    String statement = sql.endsWith(";") ? sql.substring(0, sql.length() - 1) : sql;
+    try (Statement jdbcStatement = connection.createStatement()) {
+      jdbcStatement.execute(statement);
+      report.append(sql).append('\n');
+      return true;
+    } catch (SQLException e) {
+      LOGGER.warn("Could not execute {}.", statement, e);
+      report.append("-- failed: ").append(sql).append(" (").append(e.getMessage()).append(")\n");
+      return false;
+    }
+  }
+
+  private static void appendComparison(
+      StringBuilder report,
+      List<StatementStatistics> queries,
+      long[] before,
+      long[] after,
+      int repetitions) {
+    report.append(
+        String.format("-- average latency of %d executions in microseconds%n", repetitions));
+    report.append("-- before | after | statement\n");
+    for (int i = 0; i < queries.size(); i++) {
+      report.append(
+          String.format(
+              "-- %s | %s | %s%n",
+              micros(before[i]), micros(after[i]), queries.get(i).getStatementId()));
+    }
+  }
+
+  private static String micros(long nanos) {
+    return nanos < 0 ? "failed" : String.valueOf(nanos / 1000);
+  }
+}
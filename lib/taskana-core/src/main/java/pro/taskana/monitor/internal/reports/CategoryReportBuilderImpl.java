@@ -32,7 +32,7 @@ public class CategoryReportBuilderImpl
     LOGGER.debug("entry to buildReport(), this = {}", this);
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR);
     try {
-      this.taskanaEngine.openConnection();
+      this.taskanaEngine.openReadOnlyConnection();
       CategoryReport report = new CategoryReport(this.columnHeaders);
       List<MonitorQueryItem> monitorQueryItems =
           this.monitorMapper.getTaskCountOfCategories(
@@ -35,7 +35,7 @@ public class ClassificationReportBuilderImpl
     LOGGER.debug("entry to buildReport(), this = {}", this);
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
     try {
-      this.taskanaEngine.openConnection();
+      this.taskanaEngine.openReadOnlyConnection();
       ClassificationReport report = new ClassificationReport(this.columnHeaders);
       List<MonitorQueryItem> monitorQueryItems =
           this.monitorMapper.getTaskCountOfClassifications(
@@ -62,7 +62,7 @@ public class ClassificationReportBuilderImpl
     LOGGER.debug("entry to buildDetailedReport(), this = {}", this);
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
     try {
-      this.taskanaEngine.openConnection();
+      this.taskanaEngine.openReadOnlyConnection();
       DetailedClassificationReport report = new DetailedClassificationReport(this.columnHeaders);
       List<DetailedMonitorQueryItem> detailedMonitorQueryItems =
           this.monitorMapper.getTaskCountOfDetailedClassifications(
@@ -38,7 +38,7 @@ public class CustomFieldValueReportBuilderImpl
     LOGGER.debug("entry to buildReport(customField = {}), this = {}", this.customField, this);
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR);
     try {
-      this.taskanaEngine.openConnection();
+      this.taskanaEngine.openReadOnlyConnection();
       CustomFieldValueReport report = new CustomFieldValueReport(this.columnHeaders);
       List<MonitorQueryItem> monitorQueryItems =
           this.monitorMapper.getTaskCountOfCustomFieldValues(
@@ -32,7 +32,7 @@ public class TaskStatusReportBuilderImpl implements TaskStatusReport.Builder {
     LOGGER.debug("entry to buildReport(), this = {}", this);
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
     try {
-      this.taskanaEngine.openConnection();
+      this.taskanaEngine.openReadOnlyConnection();
       List<TaskQueryItem> tasks =
           this.monitorMapper.getTasksCountByState(this.domains, this.states);
       TaskStatusReport report = new TaskStatusReport(this.states);
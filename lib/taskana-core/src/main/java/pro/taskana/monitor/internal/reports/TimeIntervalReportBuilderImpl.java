@@ -124,7 +124,7 @@ abstract class TimeIntervalReportBuilderImpl<
 
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR);
     try {
-      this.taskanaEngine.openConnection();
+      this.taskanaEngine.openReadOnlyConnection();
       if (this.columnHeaders == null) {
         throw new InvalidArgumentException("ColumnHeader must not be null.");
       }
@@ -164,7 +164,7 @@ abstract class TimeIntervalReportBuilderImpl<
         this);
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR);
     try {
-      this.taskanaEngine.openConnection();
+      this.taskanaEngine.openReadOnlyConnection();
       return monitorMapper.getCustomAttributeValuesForReport(
           this.workbasketIds,
           this.states,
@@ -67,7 +67,7 @@ public class TimestampReportBuilderImpl
     LOGGER.debug("entry to buildDetailedReport(), this = {}", this);
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
     try {
-      this.taskanaEngine.openConnection();
+      this.taskanaEngine.openReadOnlyConnection();
       TimestampReport report = new TimestampReport(this.columnHeaders);
       List<TimestampQueryItem> items =
           status.stream()
@@ -34,7 +34,7 @@ public class WorkbasketReportBuilderImpl
     LOGGER.debug("entry to buildReport(), this = {}", this);
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
     try {
-      this.taskanaEngine.openConnection();
+      this.taskanaEngine.openReadOnlyConnection();
       WorkbasketReport report = new WorkbasketReport(this.columnHeaders);
       List<MonitorQueryItem> monitorQueryItems =
           this.monitorMapper.getTaskCountOfWorkbaskets(
@@ -62,7 +62,7 @@ public class WorkbasketReportBuilderImpl
     LOGGER.debug("entry to buildPlannedDateReport(), this = {}", this);
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
     try {
-      this.taskanaEngine.openConnection();
+      this.taskanaEngine.openReadOnlyConnection();
       WorkbasketReport report = new WorkbasketReport(this.columnHeaders);
       List<MonitorQueryItem> monitorQueryItems =
           this.monitorMapper.getTaskCountOfWorkbasketsBasedOnPlannedDate(
@@ -1,5 +1,7 @@
 package pro.taskana.spi.history.api;
 
+import java.util.List;
+
 import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.spi.history.api.events.TaskanaHistoryEvent;
 
@@ -20,4 +22,14 @@ public interface TaskanaHistory {
    * @param event {@link TaskanaHistoryEvent} The event to be created.
    */
   void create(TaskanaHistoryEvent event);
+
+  /**
+   * Create a batch of new history events, e.g. for the tasks of a bulk update. Providers which can
+   * store several events at once should override this method.
+   *
+   * @param events the {@link TaskanaHistoryEvent}s to be created.
+   */
+  default void create(List<TaskanaHistoryEvent> events) {
+    events.forEach(this::create);
+  }
 }
@@ -1,6 +1,7 @@
 package pro.taskana.spi.history.api.events.task;
 
 import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
 
 public class UpdatedEvent extends TaskEvent {
 
@@ -9,4 +10,10 @@ public class UpdatedEvent extends TaskEvent {
     eventType = "TASK_UPDATED";
     created = updatedTask.getModified();
   }
+
+  public UpdatedEvent(TaskSummary updatedTask, String userId, String details) {
+    super(updatedTask, userId, details);
+    eventType = "TASK_UPDATED";
+    created = updatedTask.getModified();
+  }
 }
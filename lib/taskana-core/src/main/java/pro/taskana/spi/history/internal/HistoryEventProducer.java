@@ -1,5 +1,6 @@
 package pro.taskana.spi.history.internal;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import org.slf4j.Logger;
@@ -45,4 +46,9 @@ public final class HistoryEventProducer {
     LOGGER.debug("Sending event to history service providers: {}", event);
     serviceLoader.forEach(historyProvider -> historyProvider.create(event));
   }
+
+  public void createEvents(List<TaskanaHistoryEvent> events) {
+    LOGGER.debug("Sending {} events to history service providers", events.size());
+    serviceLoader.forEach(historyProvider -> historyProvider.create(events));
+  }
 }
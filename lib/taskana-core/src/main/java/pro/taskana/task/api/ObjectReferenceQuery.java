@@ -46,4 +46,7 @@ public interface ObjectReferenceQuery
    * @return the query
    */
   ObjectReferenceQuery valueIn(String... values);
+
+  @Override
+  ObjectReferenceQuery usePrimaryDataSource();
 }
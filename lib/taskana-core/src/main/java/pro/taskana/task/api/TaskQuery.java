@@ -902,4 +902,25 @@ public interface TaskQuery extends BaseQuery<TaskSummary, TaskQueryColumnName> {
    * @return the query
    */
   TaskQuery orderByAttachmentReceived(SortDirection sortDirection);
+
+  /**
+   * Include the archived tasks into the query. The archive is only read if the archiving of tasks
+   * is enabled. Without this flag, it is only read if the query filters for tasks in an end state
+   * or by the completion date.
+   *
+   * @return the query
+   */
+  TaskQuery includeArchivedTasks();
+
+  /**
+   * Add the comment summaries to the resulting task summaries. These are the number of comments
+   * and the creation time and creator of the latest comment. They are loaded with one additional
+   * query for all tasks of the result.
+   *
+   * @return the query
+   */
+  TaskQuery withCommentSummaries();
+
+  @Override
+  TaskQuery usePrimaryDataSource();
 }
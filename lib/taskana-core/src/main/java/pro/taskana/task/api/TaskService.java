@@ -119,6 +119,49 @@ public interface TaskService {
       throws TaskNotFoundException, InvalidOwnerException, InvalidStateException,
           NotAuthorizedException;
 
+  /**
+   * Claim an existing task for the current user with a single conditional update, without loading
+   * the task. Use {@link #claim(String)} if the claimed task or the reason of a failure is needed.
+   *
+   * @param taskId the id of the task to be claimed
+   * @return true if the task was claimed, false if it does not exist, is neither READY nor claimed
+   *     by the current user or the current user has no read permission for its workbasket
+   */
+  boolean tryClaim(String taskId);
+
+  /**
+   * Cancel the claim of an existing task with a single conditional update, without loading the
+   * task. Use {@link #cancelClaim(String)} if the task or the reason of a failure is needed.
+   *
+   * @param taskId the id of the task which should be unclaimed
+   * @return true if the claim was cancelled, false if the task does not exist, is in an end state,
+   *     is claimed by another user or the current user has no read permission for its workbasket
+   */
+  boolean tryCancelClaim(String taskId);
+
+  /**
+   * Complete a task claimed by the current user with a single conditional update, without loading
+   * the task. Use {@link #completeTask(String)} if the completed task or the reason of a failure
+   * is needed.
+   *
+   * @param taskId the id of the task which should be completed
+   * @return true if the task was completed, false if it does not exist, is not claimed by the
+   *     current user or the current user has no read permission for its workbasket
+   */
+  boolean tryCompleteTask(String taskId);
+
+  /**
+   * Claims the next READY task which matches the given query for the current user. Candidates are
+   * taken in the order of the query. If the query has no sort order, tasks with the highest
+   * priority and the earliest due date are claimed first. Candidates which are locked or claimed
+   * by a concurrent call are skipped, so concurrent callers do not compete for the same task.
+   *
+   * @param query the query which selects the candidates. Only its READY tasks are claimed, the
+   *     query itself is not changed.
+   * @return the claimed task or null if no task matching the query could be claimed
+   */
+  Task claimNext(TaskQuery query);
+
   /**
    * Persists a not persisted Task which does not exist already.
    *
@@ -147,6 +190,22 @@ public interface TaskService {
    */
   Task getTask(String taskId) throws TaskNotFoundException, NotAuthorizedException;
 
+  /**
+   * Get the details of a task by Id. If loadAttachmentsLazily is true, the attachments of the task
+   * are not read together with the task, but on the first call of {@link Task#getAttachments()}.
+   * This saves the queries for the attachments and their classifications if the caller does not
+   * need them.
+   *
+   * @param taskId the id of the task
+   * @param loadAttachmentsLazily true if the attachments shall be loaded on their first access
+   * @return the Task
+   * @throws TaskNotFoundException thrown of the {@link Task} with taskId is not found
+   * @throws NotAuthorizedException if the current user has no READ permission for the workbasket
+   *     the task is in.
+   */
+  Task getTask(String taskId, boolean loadAttachmentsLazily)
+      throws TaskNotFoundException, NotAuthorizedException;
+
   /**
    * Transfer a task to another work basket. The transfer sets the transferred flag and resets the
    * read flag.
@@ -204,6 +263,18 @@ public interface TaskService {
    */
   TaskQuery createTaskQuery();
 
+  /**
+   * Returns an estimate of the total number of tasks. The estimate is read from the statistics of
+   * the database (e.g. after RUNSTATS on DB2 or ANALYZE on PostgreSQL) and is therefore much
+   * cheaper than an exact count via {@link TaskQuery#count()}. It is not filtered by any
+   * permission and is intended for administrative views. If the database does not provide any
+   * statistics, the exact number of tasks is returned.
+   *
+   * @return the estimated number of tasks
+   * @throws NotAuthorizedException if the current user is not member of role ADMIN or TASK_ADMIN
+   */
+  long estimateTaskCount() throws NotAuthorizedException;
+
   /**
    * Returns a not persisted instance of {@link Task}. The returned task has no workbasket Id set.
    * When createTask() is invoked for this task, TaskService will call the TaskRouting SPI to
@@ -377,6 +448,24 @@ public interface TaskService {
   List<String> updateTasks(List<String> taskIds, Map<String, String> customFieldsToUpdate)
       throws InvalidArgumentException;
 
+  /**
+   * Updates all tasks which are selected by a {@link TaskQuery}. The tasks are not loaded, but
+   * updated in chunks of ascending ids, so the selection can contain any number of tasks. If the
+   * history is enabled, the events of a chunk are written together. Archived tasks are not updated.
+   *
+   * @param selection the {@link TaskQuery} that is used to select the tasks. Sorting and paging of
+   *     the query are ignored. The query itself is not changed.
+   * @param customFieldsToUpdate a {@link Map} that contains as key the identification of the custom
+   *     field and as value the corresponding new value of that custom field. The key for
+   *     identification of the custom field must be a String with value "1", "2" ... "16" as in the
+   *     setCustomAttribute or getCustomAttribute method of {@link Task}
+   * @return the number of modified tasks
+   * @throws InvalidArgumentException If the customFieldsToUpdate map contains an invalid key or if
+   *     the selection is null
+   */
+  long updateTasks(TaskQuery selection, Map<String, String> customFieldsToUpdate)
+      throws InvalidArgumentException;
+
   /**
    * Create a task comment.
    *
@@ -388,9 +477,11 @@ public interface TaskService {
    *     existing task.
    * @throws InvalidArgumentException If the given taskCommentId from the provided task comment is
    *     not null or empty
+   * @throws InvalidStateException If the task of the task comment is archived
    */
   TaskComment createTaskComment(TaskComment taskComment)
-      throws NotAuthorizedException, TaskNotFoundException, InvalidArgumentException;
+      throws NotAuthorizedException, TaskNotFoundException, InvalidArgumentException,
+          InvalidStateException;
 
   /**
    * Update a task comment.
@@ -459,6 +550,21 @@ public interface TaskService {
   List<TaskComment> getTaskComments(String taskId)
       throws NotAuthorizedException, TaskNotFoundException;
 
+  /**
+   * Retrieves the task comments of the given tasks. The read permission is checked once per
+   * workbasket of the tasks and the comments of all tasks are retrieved together.
+   *
+   * @param taskIds The ids of the tasks for which all task comments should be retrieved
+   * @return the list of task comments, grouped by the tasks in the order of the given ids and
+   *     ordered by their creation within a task
+   * @throws NotAuthorizedException If the current user is not authorized to access one of the
+   *     tasks.
+   * @throws TaskNotFoundException If one of the given taskIds does not refer to an existing task.
+   * @throws InvalidArgumentException If the list of taskIds is null.
+   */
+  List<TaskComment> getTaskComments(List<String> taskIds)
+      throws NotAuthorizedException, TaskNotFoundException, InvalidArgumentException;
+
   /**
    * Sets the callback state on a list of tasks. Note: this method is primarily intended to be used
    * by the TaskanaAdapter
@@ -5,6 +5,7 @@ import java.util.List;
 
 import pro.taskana.classification.api.models.ClassificationSummary;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.task.api.TaskQuery;
 import pro.taskana.task.api.TaskState;
 import pro.taskana.workbasket.api.models.WorkbasketSummary;
 
@@ -133,6 +134,32 @@ public interface TaskSummary {
    */
   List<AttachmentSummary> getAttachmentSummaries();
 
+  /**
+   * Gets the number of comments of the task. The comment summaries are only loaded, if they were
+   * requested with {@link TaskQuery#withCommentSummaries()}.
+   *
+   * @return the number of comments of the task or null, if the comment summaries were not loaded
+   */
+  Integer getCommentCount();
+
+  /**
+   * Gets the creation time of the latest comment of the task. The comment summaries are only
+   * loaded, if they were requested with {@link TaskQuery#withCommentSummaries()}.
+   *
+   * @return the creation time of the latest comment or null, if there is none or the comment
+   *     summaries were not loaded
+   */
+  Instant getLastCommentCreated();
+
+  /**
+   * Gets the creator of the latest comment of the task. The comment summaries are only loaded, if
+   * they were requested with {@link TaskQuery#withCommentSummaries()}.
+   *
+   * @return the creator of the latest comment or null, if there is none or the comment summaries
+   *     were not loaded
+   */
+  String getLastCommentCreator();
+
   /**
    * Gets the domain of the task.
    *
@@ -1,10 +1,12 @@
 package pro.taskana.task.internal;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.Function;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.slf4j.Logger;
@@ -15,10 +17,10 @@ import pro.taskana.classification.api.exceptions.ClassificationNotFoundException
 import pro.taskana.classification.api.models.ClassificationSummary;
 import pro.taskana.common.api.BulkOperationResults;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
-import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.task.api.exceptions.AttachmentPersistenceException;
 import pro.taskana.task.api.models.Attachment;
-import pro.taskana.task.api.models.AttachmentSummary;
 import pro.taskana.task.api.models.ObjectReference;
 import pro.taskana.task.api.models.Task;
 import pro.taskana.task.internal.models.AttachmentImpl;
@@ -27,11 +29,15 @@ import pro.taskana.task.internal.models.TaskImpl;
 public class AttachmentHandler {
   private static final Logger LOGGER = LoggerFactory.getLogger(AttachmentHandler.class);
   private static final String ID_PREFIX_ATTACHMENT = "TAI";
+  private final InternalTaskanaEngine taskanaEngine;
   private final AttachmentMapper attachmentMapper;
   private final ClassificationService classificationService;
 
   AttachmentHandler(
-      AttachmentMapper attachmentMapper, ClassificationService classificationService) {
+      InternalTaskanaEngine taskanaEngine,
+      AttachmentMapper attachmentMapper,
+      ClassificationService classificationService) {
+    this.taskanaEngine = taskanaEngine;
     this.attachmentMapper = attachmentMapper;
     this.classificationService = classificationService;
   }
@@ -90,9 +96,34 @@ public class AttachmentHandler {
         newTaskImpl.getAttachments().stream().filter(Objects::nonNull).collect(Collectors.toList());
     newTaskImpl.setAttachments(newAttachments);
 
-    deleteRemovedAttachmentsOnTaskUpdate(newTaskImpl, oldTaskImpl);
-    insertNewAttachmentsOnTaskUpdate(newTaskImpl, oldTaskImpl);
-    updateModifiedAttachmentsOnTaskUpdate(newTaskImpl, oldTaskImpl);
+    // the diff is keyed by the attachment ids, so that it is linear in the number of attachments
+    Map<String, Attachment> oldAttachmentsById = new HashMap<>();
+    oldTaskImpl
+        .getAttachments()
+        .forEach(attachment -> oldAttachmentsById.put(attachment.getId(), attachment));
+    Set<String> retainedAttachmentIds = new HashSet<>();
+    List<AttachmentImpl> attachmentsToInsert = new ArrayList<>();
+    List<AttachmentImpl> attachmentsToUpdate = new ArrayList<>();
+    for (Attachment attachment : newAttachments) {
+      Attachment oldAttachment =
+          attachment.getId() == null ? null : oldAttachmentsById.get(attachment.getId());
+      if (oldAttachment == null) {
+        attachmentsToInsert.add((AttachmentImpl) attachment);
+      } else {
+        retainedAttachmentIds.add(attachment.getId());
+        if (!attachment.equals(oldAttachment)) {
+          attachmentsToUpdate.add((AttachmentImpl) attachment);
+        }
+      }
+    }
+    List<String> attachmentIdsToDelete =
+        oldAttachmentsById.keySet().stream()
+            .filter(id -> !retainedAttachmentIds.contains(id))
+            .collect(Collectors.toList());
+
+    deleteRemovedAttachmentsOnTaskUpdate(newTaskImpl, attachmentIdsToDelete);
+    insertNewAttachmentsOnTaskUpdate(newTaskImpl, attachmentsToInsert);
+    updateModifiedAttachmentsOnTaskUpdate(attachmentsToUpdate);
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
           "exit from insertAndDeleteAttachmentsOnTaskUpdate(oldTaskImpl = {}, newTaskImpl = {})",
@@ -101,119 +132,75 @@ public class AttachmentHandler {
     }
   }
 
-  void updateModifiedAttachmentsOnTaskUpdate(TaskImpl newTaskImpl, TaskImpl oldTaskImpl) {
-    List<Attachment> newAttachments = newTaskImpl.getAttachments();
-    List<Attachment> oldAttachments = oldTaskImpl.getAttachments();
-    if (newAttachments != null
-        && !newAttachments.isEmpty()
-        && oldAttachments != null
-        && !oldAttachments.isEmpty()) {
-      final Map<String, Attachment> oldAttachmentMap =
-          oldAttachments.stream()
-              .collect(Collectors.toMap(AttachmentSummary::getId, Function.identity()));
-      newAttachments.forEach(
-          a -> {
-            if (oldAttachmentMap.containsKey(a.getId())
-                && !a.equals(oldAttachmentMap.get(a.getId()))) {
-              attachmentMapper.update((AttachmentImpl) a);
-            }
-          });
-    }
-  }
-
-  void insertNewAttachmentsOnTaskUpdate(TaskImpl newTaskImpl, TaskImpl oldTaskImpl)
-      throws AttachmentPersistenceException {
-    List<String> oldAttachmentIds =
-        oldTaskImpl.getAttachments().stream()
-            .map(AttachmentSummary::getId)
-            .collect(Collectors.toList());
-    List<AttachmentPersistenceException> exceptions = new ArrayList<>();
-    newTaskImpl
-        .getAttachments()
-        .forEach(
-            a -> {
-              if (!oldAttachmentIds.contains(a.getId())) {
-                try {
-                  insertNewAttachmentOnTaskUpdate(newTaskImpl, a);
-                } catch (AttachmentPersistenceException excpt) {
-                  exceptions.add(excpt);
-                  LOGGER.warn("attempted to insert attachment {} and caught exception", a, excpt);
-                }
-              }
-            });
-    if (!exceptions.isEmpty()) {
-      throw exceptions.get(0);
-    }
-  }
-
   void insertNewAttachmentsOnTaskCreation(TaskImpl task)
       throws InvalidArgumentException, AttachmentPersistenceException {
     List<Attachment> attachments = task.getAttachments();
-    if (attachments != null) {
+    if (attachments != null && !attachments.isEmpty()) {
+      List<AttachmentImpl> attachmentImpls = new ArrayList<>();
       for (Attachment attachment : attachments) {
         AttachmentImpl attachmentImpl = (AttachmentImpl) attachment;
-        initializeAndInsertAttachment(task, attachmentImpl);
+        initAttachment(attachmentImpl, task);
+        ObjectReference objRef = attachmentImpl.getObjectReference();
+        ObjectReference.validate(objRef, "ObjectReference", "Attachment");
+        attachmentImpls.add(attachmentImpl);
       }
+      insertAttachments(task, attachmentImpls);
     }
   }
 
-  void deleteRemovedAttachmentsOnTaskUpdate(TaskImpl newTaskImpl, TaskImpl oldTaskImpl) {
+  private void updateModifiedAttachmentsOnTaskUpdate(List<AttachmentImpl> attachmentsToUpdate) {
+    // the attachments differ in all columns, so every changed attachment needs its own statement
+    attachmentsToUpdate.forEach(attachmentMapper::update);
+  }
+
+  private void insertNewAttachmentsOnTaskUpdate(
+      TaskImpl newTaskImpl, List<AttachmentImpl> attachmentsToInsert)
+      throws AttachmentPersistenceException {
+    attachmentsToInsert.forEach(attachment -> initAttachment(attachment, newTaskImpl));
+    insertAttachments(newTaskImpl, attachmentsToInsert);
+  }
+
+  private void deleteRemovedAttachmentsOnTaskUpdate(
+      TaskImpl newTaskImpl, List<String> attachmentIdsToDelete) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
-          "entry to deleteRemovedAttachmentsOnTaskUpdate(oldTaskImpl = {}, newTaskImpl = {})",
-          oldTaskImpl,
-          newTaskImpl);
-    }
-
-    final List<Attachment> newAttachments = newTaskImpl.getAttachments();
-    List<String> newAttachmentIds = new ArrayList<>();
-    if (newAttachments != null && !newAttachments.isEmpty()) {
-      newAttachmentIds =
-          newAttachments.stream().map(Attachment::getId).collect(Collectors.toList());
-    }
-    List<Attachment> oldAttachments = oldTaskImpl.getAttachments();
-    if (oldAttachments != null && !oldAttachments.isEmpty()) {
-      final List<String> newAttIds = newAttachmentIds;
-      oldAttachments.forEach(
-          a -> {
-            if (!newAttIds.contains(a.getId())) {
-              attachmentMapper.deleteAttachment(a.getId());
-              LOGGER.debug(
-                  "TaskService.updateTask() for TaskId={} DELETED an Attachment={}.",
-                  newTaskImpl.getId(),
-                  a);
-            }
-          });
-    }
+          "entry to deleteRemovedAttachmentsOnTaskUpdate(newTaskImpl = {}, "
+              + "attachmentIdsToDelete = {})",
+          newTaskImpl,
+          attachmentIdsToDelete);
+    }
+    CollectionUtil.forEachChunk(attachmentIdsToDelete, attachmentMapper::deleteMultiple);
+    LOGGER.debug(
+        "TaskService.updateTask() for TaskId={} DELETED the Attachments={}.",
+        newTaskImpl.getId(),
+        attachmentIdsToDelete);
     LOGGER.debug("exit from deleteRemovedAttachmentsOnTaskUpdate()");
   }
 
-  void insertNewAttachmentOnTaskUpdate(TaskImpl newTaskImpl, Attachment attachment)
+  private void insertAttachments(TaskImpl task, List<AttachmentImpl> attachmentImpls)
       throws AttachmentPersistenceException {
-    LOGGER.debug("entry to insertNewAttachmentOnTaskUpdate()");
-    AttachmentImpl attachmentImpl = (AttachmentImpl) attachment;
-    initAttachment(attachmentImpl, newTaskImpl);
-
+    LOGGER.debug("entry to insertAttachments()");
     try {
-      attachmentMapper.insert(attachmentImpl);
+      CollectionUtil.forEachChunk(attachmentImpls, attachmentMapper::insertAll);
       LOGGER.debug(
-          "TaskService.updateTask() for TaskId={} INSERTED an Attachment={}.",
-          newTaskImpl.getId(),
-          attachmentImpl);
+          "TaskService.updateTask() for TaskId={} INSERTED the Attachments={}.",
+          task.getId(),
+          attachmentImpls);
     } catch (PersistenceException e) {
       throw new AttachmentPersistenceException(
           String.format(
-              "Cannot insert the Attachement %s for Task %s  because it already exists.",
-              attachmentImpl.getId(), newTaskImpl.getId()),
+              "Cannot insert the Attachements %s for Task %s because one already exists.",
+              attachmentImpls.stream().map(AttachmentImpl::getId).collect(Collectors.toList()),
+              task.getId()),
           e.getCause());
     }
-    LOGGER.debug("exit from insertNewAttachmentOnTaskUpdate(), returning");
+    LOGGER.debug("exit from insertAttachments()");
   }
 
   void initAttachment(AttachmentImpl attachment, Task newTask) {
     LOGGER.debug("entry to initAttachment()");
     if (attachment.getId() == null) {
-      attachment.setId(IdGenerator.generateWithPrefix(ID_PREFIX_ATTACHMENT));
+      attachment.setId(taskanaEngine.getIdGenerator().generateId(ID_PREFIX_ATTACHMENT));
     }
     if (attachment.getCreated() == null) {
       attachment.setCreated(newTask.getModified());
@@ -226,26 +213,4 @@ public class AttachmentHandler {
     }
     LOGGER.debug("exit from initAttachment()");
   }
-
-  private void initializeAndInsertAttachment(TaskImpl task, AttachmentImpl attachmentImpl)
-      throws AttachmentPersistenceException, InvalidArgumentException {
-    LOGGER.debug("entry to initializeAndInsertAttachment()");
-    initAttachment(attachmentImpl, task);
-    ObjectReference objRef = attachmentImpl.getObjectReference();
-    ObjectReference.validate(objRef, "ObjectReference", "Attachment");
-    try {
-      attachmentMapper.insert(attachmentImpl);
-      LOGGER.debug(
-          "TaskService.updateTask() for TaskId={} INSERTED an Attachment={}.",
-          task.getId(),
-          attachmentImpl);
-    } catch (PersistenceException e) {
-      throw new AttachmentPersistenceException(
-          String.format(
-              "Cannot insert the Attachement %s for Task %s  because it already exists.",
-              attachmentImpl.getId(), task.getId()),
-          e.getCause());
-    }
-    LOGGER.debug("exit from initializeAndInsertAttachment()");
-  }
 }
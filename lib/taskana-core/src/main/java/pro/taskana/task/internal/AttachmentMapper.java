@@ -27,6 +27,15 @@ public interface AttachmentMapper {
           + " #{att.objectReference.type}, #{att.objectReference.value}, #{att.channel}, #{att.received}, #{att.customAttributes,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler} )")
   void insert(@Param("att") AttachmentImpl att);
 
+  @Insert(
+      "<script>INSERT INTO ATTACHMENT (ID, TASK_ID, CREATED, MODIFIED, CLASSIFICATION_KEY, CLASSIFICATION_ID, REF_COMPANY, REF_SYSTEM, REF_INSTANCE, REF_TYPE, REF_VALUE, CHANNEL, RECEIVED, CUSTOM_ATTRIBUTES) VALUES "
+          + "<foreach item='att' collection='attachments' separator=',' >"
+          + "(#{att.id}, #{att.taskId}, #{att.created}, #{att.modified}, #{att.classificationSummary.key}, #{att.classificationSummary.id}, #{att.objectReference.company}, #{att.objectReference.system}, #{att.objectReference.systemInstance}, "
+          + " #{att.objectReference.type}, #{att.objectReference.value}, #{att.channel}, #{att.received}, #{att.customAttributes,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler} )"
+          + "</foreach>"
+          + "</script>")
+  void insertAll(@Param("attachments") List<AttachmentImpl> attachments);
+
   @Select(
       "<script> SELECT ID, TASK_ID, CREATED, MODIFIED, CLASSIFICATION_KEY, CLASSIFICATION_ID, REF_COMPANY, REF_SYSTEM, REF_INSTANCE, REF_TYPE, REF_VALUE, CHANNEL, RECEIVED, CUSTOM_ATTRIBUTES "
           + "FROM ATTACHMENT "
@@ -34,6 +43,7 @@ public interface AttachmentMapper {
           + "<if test=\"_databaseId == 'db2'\">with UR </if> "
           + "</script>")
   @Results(
+      id = "attachmentResult",
       value = {
         @Result(property = "id", column = "ID"),
         @Result(property = "taskId", column = "TASK_ID"),
@@ -72,6 +82,7 @@ public interface AttachmentMapper {
           + "<if test=\"_databaseId == 'db2'\">with UR </if> "
           + "</script>")
   @Results(
+      id = "attachmentSummaryResult",
       value = {
         @Result(property = "id", column = "ID"),
         @Result(property = "taskId", column = "TASK_ID"),
@@ -93,6 +104,10 @@ public interface AttachmentMapper {
   @Delete("DELETE FROM ATTACHMENT WHERE ID=#{attachmentId}")
   void deleteAttachment(@Param("attachmentId") String attachmentId);
 
+  @Delete(
+      "<script>DELETE FROM ATTACHMENT WHERE ID IN(<foreach item='item' collection='attachmentIds' separator=',' >#{item}</foreach>)</script>")
+  void deleteMultiple(@Param("attachmentIds") List<String> attachmentIds);
+
   @Update(
       "UPDATE ATTACHMENT SET TASK_ID = #{taskId}, CREATED = #{created}, MODIFIED = #{modified},"
           + " CLASSIFICATION_KEY = #{classificationSummary.key}, CLASSIFICATION_ID = #{classificationSummary.id}, REF_COMPANY = #{objectReference.company}, REF_SYSTEM = #{objectReference.system},"
@@ -29,6 +29,7 @@ public class ObjectReferenceQueryImpl implements ObjectReferenceQuery {
       "pro.taskana.task.internal.TaskQueryMapper.queryObjectReferenceColumnValues";
   private static final Logger LOGGER = LoggerFactory.getLogger(ObjectReferenceQueryImpl.class);
   private InternalTaskanaEngine taskanaEngine;
+  private boolean usePrimaryDataSource;
   private ObjectReferenceQueryColumnName columnName;
   private String[] company;
   private String[] system;
@@ -72,12 +73,18 @@ public class ObjectReferenceQueryImpl implements ObjectReferenceQuery {
     return this;
   }
 
+  @Override
+  public ObjectReferenceQuery usePrimaryDataSource() {
+    this.usePrimaryDataSource = true;
+    return this;
+  }
+
   @Override
   public List<ObjectReference> list() {
     LOGGER.debug("entry to list(), this = {}", this);
     List<ObjectReference> result = new ArrayList<>();
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       result = taskanaEngine.getSqlSession().selectList(LINK_TO_MAPPER, this);
       return result;
     } finally {
@@ -96,7 +103,7 @@ public class ObjectReferenceQueryImpl implements ObjectReferenceQuery {
     LOGGER.debug("entry to list(offset = {}, limit = {}), this = {}", offset, limit, this);
     List<ObjectReference> result = new ArrayList<>();
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       RowBounds rowBounds = new RowBounds(offset, limit);
       result = taskanaEngine.getSqlSession().selectList(LINK_TO_MAPPER, this, rowBounds);
       return result;
@@ -128,7 +135,7 @@ public class ObjectReferenceQueryImpl implements ObjectReferenceQuery {
     LOGGER.debug("Entry to listValues(dbColumnName={}) this = {}", columnName, this);
     List<String> result = new ArrayList<>();
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       this.columnName = columnName;
       this.orderBy.clear();
       this.addOrderCriteria(columnName.toString(), sortDirection);
@@ -150,7 +157,7 @@ public class ObjectReferenceQueryImpl implements ObjectReferenceQuery {
     LOGGER.debug("entry to single(), this = {}", this);
     ObjectReference result = null;
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       result = taskanaEngine.getSqlSession().selectOne(LINK_TO_MAPPER, this);
       return result;
     } finally {
@@ -164,7 +171,7 @@ public class ObjectReferenceQueryImpl implements ObjectReferenceQuery {
     LOGGER.debug("entry to count(), this = {}", this);
     Long rowCount = null;
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       rowCount = taskanaEngine.getSqlSession().selectOne(LINK_TO_COUNTER, this);
       return (rowCount == null) ? 0L : rowCount;
     } finally {
@@ -224,6 +231,14 @@ public class ObjectReferenceQueryImpl implements ObjectReferenceQuery {
     return this;
   }
 
+  private void openQueryConnection() {
+    if (usePrimaryDataSource) {
+      taskanaEngine.openConnection();
+    } else {
+      taskanaEngine.openReadOnlyConnection();
+    }
+  }
+
   @Override
   public String toString() {
     return "ObjectReferenceQueryImpl [taskanaEngine="
@@ -37,7 +37,6 @@ class ServiceLevelHandler {
   private final InternalTaskanaEngine taskanaEngine;
   private final TaskMapper taskMapper;
   private final AttachmentMapper attachmentMapper;
-  private final WorkingDaysToDaysConverter converter;
 
   ServiceLevelHandler(
       InternalTaskanaEngine taskanaEngine,
@@ -46,11 +45,6 @@ class ServiceLevelHandler {
     this.taskanaEngine = taskanaEngine;
     this.taskMapper = taskMapper;
     this.attachmentMapper = attachmentMapper;
-    WorkingDaysToDaysConverter.setGermanPublicHolidaysEnabled(
-        taskanaEngine.getEngine().getConfiguration().isGermanPublicHolidaysEnabled());
-    WorkingDaysToDaysConverter.setCorpusChristiEnabled(
-        taskanaEngine.getEngine().getConfiguration().isCorpusChristiEnabled());
-    this.converter = WorkingDaysToDaysConverter.initialize();
   }
 
   // use the same algorithm as setPlannedPropertyOfTasksImpl to refresh
@@ -284,11 +278,11 @@ class ServiceLevelHandler {
   }
 
   private Instant getPrecedingWorkingDays(Instant instant, Duration days) {
-    return converter.subtractWorkingDaysFromInstant(instant, days);
+    return WorkingDaysToDaysConverter.initialize().subtractWorkingDaysFromInstant(instant, days);
   }
 
   private Instant getFollowingWorkingDays(Instant instant, Duration days) {
-    return converter.addWorkingDaysToInstant(instant, days);
+    return WorkingDaysToDaysConverter.initialize().addWorkingDaysToInstant(instant, days);
   }
 
   /**
@@ -314,6 +308,7 @@ class ServiceLevelHandler {
    */
   private void ensureServiceLevelIsNotViolated(
       TaskImpl task, Duration duration, Instant calcPlanned) throws InvalidArgumentException {
+    WorkingDaysToDaysConverter converter = WorkingDaysToDaysConverter.initialize();
     if (task.getPlanned() != null
         && !task.getPlanned().equals(calcPlanned)
         // manual entered planned date is a different working day than computed value
@@ -0,0 +1,192 @@
+package pro.taskana.task.internal;
+
+import java.time.Instant;
+import java.util.List;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.ResultMap;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+import pro.taskana.task.internal.models.AttachmentImpl;
+import pro.taskana.task.internal.models.AttachmentSummaryImpl;
+import pro.taskana.task.internal.models.MinimalTaskSummary;
+import pro.taskana.task.internal.models.TaskCommentImpl;
+import pro.taskana.task.internal.models.TaskCommentStatistics;
+import pro.taskana.task.internal.models.TaskImpl;
+
+/**
+ * This class is the mybatis mapping of the archive tables. They keep the tasks in an end state
+ * together with their attachments and comments apart from the active tasks.
+ */
+@SuppressWarnings("checkstyle:LineLength")
+public interface TaskArchiveMapper {
+
+  String TASK_COLUMNS =
+      "ID, EXTERNAL_ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, DUE, NAME, CREATOR, DESCRIPTION, NOTE, PRIORITY, STATE, CLASSIFICATION_CATEGORY, CLASSIFICATION_KEY, CLASSIFICATION_ID, "
+          + "WORKBASKET_ID, WORKBASKET_KEY, DOMAIN, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, OWNER, POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED, "
+          + "CALLBACK_STATE, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, CUSTOM_9, CUSTOM_10, CUSTOM_11, CUSTOM_12, CUSTOM_13, CUSTOM_14, CUSTOM_15, CUSTOM_16";
+
+  String ATTACHMENT_COLUMNS =
+      "ID, TASK_ID, CREATED, MODIFIED, CLASSIFICATION_KEY, CLASSIFICATION_ID, REF_COMPANY, REF_SYSTEM, REF_INSTANCE, REF_TYPE, REF_VALUE, CHANNEL, RECEIVED";
+
+  String TASK_COMMENT_COLUMNS = "ID, TASK_ID, TEXT_FIELD, CREATOR, CREATED, MODIFIED";
+
+  String TASK_IDS = "<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>";
+
+  @Select(
+      "<script>SELECT ID FROM TASK "
+          + "WHERE STATE IN ('COMPLETED', 'CANCELLED', 'TERMINATED') AND COMPLETED &lt; #{completedBefore} "
+          + "AND (CALLBACK_STATE IS NULL OR CALLBACK_STATE != 'CALLBACK_PROCESSING_REQUIRED') "
+          + "ORDER BY COMPLETED ASC, ID ASC "
+          + "FETCH FIRST ${limit} ROWS ONLY "
+          + "</script>")
+  List<String> findTaskIdsToArchive(
+      @Param("completedBefore") Instant completedBefore, @Param("limit") int limit);
+
+  @Insert(
+      "<script>INSERT INTO TASK_ARCHIVE ("
+          + TASK_COLUMNS
+          + ", CALLBACK_INFO, CUSTOM_ATTRIBUTES) "
+          + "SELECT "
+          + TASK_COLUMNS
+          + ", CALLBACK_INFO, CUSTOM_ATTRIBUTES FROM TASK WHERE ID IN ("
+          + TASK_IDS
+          + ")</script>")
+  int copyTasks(@Param("taskIds") List<String> taskIds);
+
+  @Insert(
+      "<script>INSERT INTO ATTACHMENT_ARCHIVE ("
+          + ATTACHMENT_COLUMNS
+          + ", CUSTOM_ATTRIBUTES) "
+          + "SELECT "
+          + ATTACHMENT_COLUMNS
+          + ", CUSTOM_ATTRIBUTES FROM ATTACHMENT WHERE TASK_ID IN ("
+          + TASK_IDS
+          + ")</script>")
+  int copyAttachments(@Param("taskIds") List<String> taskIds);
+
+  @Insert(
+      "<script>INSERT INTO TASK_COMMENT_ARCHIVE ("
+          + TASK_COMMENT_COLUMNS
+          + ") "
+          + "SELECT "
+          + TASK_COMMENT_COLUMNS
+          + " FROM TASK_COMMENT WHERE TASK_ID IN ("
+          + TASK_IDS
+          + ")</script>")
+  int copyComments(@Param("taskIds") List<String> taskIds);
+
+  @Delete("<script>DELETE FROM ATTACHMENT WHERE TASK_ID IN (" + TASK_IDS + ")</script>")
+  void deleteActiveAttachments(@Param("taskIds") List<String> taskIds);
+
+  @Delete("<script>DELETE FROM TASK_COMMENT WHERE TASK_ID IN (" + TASK_IDS + ")</script>")
+  void deleteActiveComments(@Param("taskIds") List<String> taskIds);
+
+  @Select(
+      "<script>SELECT "
+          + TASK_COLUMNS
+          + ", CALLBACK_INFO, CUSTOM_ATTRIBUTES "
+          + "FROM TASK_ARCHIVE "
+          + "WHERE ID = #{id} "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @ResultMap("pro.taskana.task.internal.TaskMapper.taskResult")
+  TaskImpl findById(@Param("id") String id);
+
+  @Select(
+      "<script>SELECT "
+          + ATTACHMENT_COLUMNS
+          + ", CUSTOM_ATTRIBUTES "
+          + "FROM ATTACHMENT_ARCHIVE "
+          + "WHERE TASK_ID = #{taskId} "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @ResultMap("pro.taskana.task.internal.AttachmentMapper.attachmentResult")
+  List<AttachmentImpl> findAttachmentsByTaskId(@Param("taskId") String taskId);
+
+  @Select(
+      "<script>SELECT "
+          + ATTACHMENT_COLUMNS
+          + " FROM ATTACHMENT_ARCHIVE "
+          + "WHERE TASK_ID IN ("
+          + TASK_IDS
+          + ") "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @ResultMap("pro.taskana.task.internal.AttachmentMapper.attachmentSummaryResult")
+  List<AttachmentSummaryImpl> findAttachmentSummariesByTaskIds(
+      @Param("taskIds") List<String> taskIds);
+
+  @Select(
+      "<script>SELECT "
+          + TASK_COMMENT_COLUMNS
+          + " FROM TASK_COMMENT_ARCHIVE "
+          + "WHERE TASK_ID = #{taskId} "
+          + "ORDER BY CREATED ASC "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @ResultMap("pro.taskana.task.internal.TaskCommentMapper.taskCommentResult")
+  List<TaskCommentImpl> findCommentsByTaskId(@Param("taskId") String taskId);
+
+  @Select(
+      "<script>SELECT "
+          + TASK_COMMENT_COLUMNS
+          + " FROM TASK_COMMENT_ARCHIVE "
+          + "WHERE TASK_ID IN ("
+          + TASK_IDS
+          + ") "
+          + "ORDER BY TASK_ID ASC, CREATED ASC "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @ResultMap("pro.taskana.task.internal.TaskCommentMapper.taskCommentResult")
+  List<TaskCommentImpl> findCommentsByTaskIds(@Param("taskIds") List<String> taskIds);
+
+  @Select(
+      "<script>SELECT g.TASK_ID, g.COMMENT_COUNT, g.LAST_CREATED, "
+          + "(SELECT MAX(l.CREATOR) FROM TASK_COMMENT_ARCHIVE l WHERE l.TASK_ID = g.TASK_ID AND l.CREATED = g.LAST_CREATED) AS LAST_CREATOR "
+          + "FROM (SELECT TASK_ID, COUNT(ID) AS COMMENT_COUNT, MAX(CREATED) AS LAST_CREATED FROM TASK_COMMENT_ARCHIVE "
+          + "WHERE TASK_ID IN ("
+          + TASK_IDS
+          + ") "
+          + "GROUP BY TASK_ID) g "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @ResultMap("pro.taskana.task.internal.TaskCommentMapper.taskCommentStatisticsResult")
+  List<TaskCommentStatistics> findCommentStatisticsByTaskIds(
+      @Param("taskIds") List<String> taskIds);
+
+  @Select(
+      "<script>SELECT ID, EXTERNAL_ID, STATE, WORKBASKET_ID, OWNER, CLAIMED, MODIFIED, CLASSIFICATION_ID, "
+          + "PLANNED, DUE, CALLBACK_STATE FROM TASK_ARCHIVE "
+          + "WHERE ID IN ("
+          + TASK_IDS
+          + ") "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @ResultMap("pro.taskana.task.internal.TaskMapper.minimalTaskSummaryResult")
+  List<MinimalTaskSummary> findExistingTasks(@Param("taskIds") List<String> taskIds);
+
+  @Select(
+      "<script>SELECT COUNT(ID) FROM TASK_ARCHIVE "
+          + "WHERE EXTERNAL_ID = #{externalId} "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  long countTasksWithExternalId(@Param("externalId") String externalId);
+
+  @Update(
+      "<script>UPDATE TASK_ARCHIVE SET CLASSIFICATION_CATEGORY = #{category} "
+          + "WHERE CLASSIFICATION_ID = #{classificationId}</script>")
+  void updateClassificationCategoryOnChange(
+      @Param("classificationId") String classificationId, @Param("category") String category);
+
+  @Delete("<script>DELETE FROM TASK_ARCHIVE WHERE ID IN (" + TASK_IDS + ")</script>")
+  void deleteTasks(@Param("taskIds") List<String> taskIds);
+
+  @Delete("<script>DELETE FROM ATTACHMENT_ARCHIVE WHERE TASK_ID IN (" + TASK_IDS + ")</script>")
+  void deleteAttachments(@Param("taskIds") List<String> taskIds);
+
+  @Delete("<script>DELETE FROM TASK_COMMENT_ARCHIVE WHERE TASK_ID IN (" + TASK_IDS + ")</script>")
+  void deleteComments(@Param("taskIds") List<String> taskIds);
+}
@@ -5,14 +5,18 @@ import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.ResultMap;
 import org.apache.ibatis.annotations.Results;
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 
 import pro.taskana.task.internal.models.TaskCommentImpl;
+import pro.taskana.task.internal.models.TaskCommentStatistics;
 
 public interface TaskCommentMapper {
 
+  String TASK_IDS = "<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>";
+
   @Insert(
       "INSERT INTO TASK_COMMENT (ID, TASK_ID, TEXT_FIELD, CREATOR, CREATED, MODIFIED) "
           + "VALUES (#{taskComment.id}, #{taskComment.taskId}, #{taskComment.textField},"
@@ -35,6 +39,7 @@ public interface TaskCommentMapper {
           + "<if test=\"_databaseId == 'db2'\">with UR </if> "
           + "</script>")
   @Results(
+      id = "taskCommentResult",
       value = {
         @Result(property = "id", column = "ID"),
         @Result(property = "taskId", column = "TASK_ID"),
@@ -61,4 +66,38 @@ public interface TaskCommentMapper {
         @Result(property = "modified", column = "MODIFIED"),
       })
   TaskCommentImpl findById(@Param("taskCommentId") String taskCommentId);
+
+  @Select(
+      "<script> SELECT ID, TASK_ID, TEXT_FIELD, CREATOR, CREATED, MODIFIED"
+          + " FROM TASK_COMMENT "
+          + "WHERE TASK_ID IN ("
+          + TASK_IDS
+          + ") "
+          + "ORDER BY TASK_ID ASC, CREATED ASC "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @ResultMap("pro.taskana.task.internal.TaskCommentMapper.taskCommentResult")
+  List<TaskCommentImpl> findByTaskIds(@Param("taskIds") List<String> taskIds);
+
+  @Select(
+      "<script> SELECT g.TASK_ID, g.COMMENT_COUNT, g.LAST_CREATED, "
+          + "(SELECT MAX(l.CREATOR) FROM TASK_COMMENT l "
+          + "WHERE l.TASK_ID = g.TASK_ID AND l.CREATED = g.LAST_CREATED) AS LAST_CREATOR "
+          + "FROM (SELECT TASK_ID, COUNT(ID) AS COMMENT_COUNT, MAX(CREATED) AS LAST_CREATED "
+          + "FROM TASK_COMMENT "
+          + "WHERE TASK_ID IN ("
+          + TASK_IDS
+          + ") "
+          + "GROUP BY TASK_ID) g "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @Results(
+      id = "taskCommentStatisticsResult",
+      value = {
+        @Result(property = "taskId", column = "TASK_ID"),
+        @Result(property = "commentCount", column = "COMMENT_COUNT"),
+        @Result(property = "lastCreated", column = "LAST_CREATED"),
+        @Result(property = "lastCreator", column = "LAST_CREATOR"),
+      })
+  List<TaskCommentStatistics> findStatisticsByTaskIds(@Param("taskIds") List<String> taskIds);
 }
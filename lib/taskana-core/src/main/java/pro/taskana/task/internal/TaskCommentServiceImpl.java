@@ -2,7 +2,12 @@ package pro.taskana.task.internal;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,11 +18,17 @@ import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.common.internal.security.CurrentUserContext;
-import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.common.internal.util.CollectionUtil;
+import pro.taskana.task.api.exceptions.InvalidStateException;
 import pro.taskana.task.api.exceptions.TaskCommentNotFoundException;
 import pro.taskana.task.api.exceptions.TaskNotFoundException;
+import pro.taskana.task.api.models.Task;
 import pro.taskana.task.api.models.TaskComment;
+import pro.taskana.task.internal.models.MinimalTaskSummary;
 import pro.taskana.task.internal.models.TaskCommentImpl;
+import pro.taskana.task.internal.models.TaskCommentStatistics;
+import pro.taskana.task.internal.models.TaskImpl;
+import pro.taskana.task.internal.models.TaskSummaryImpl;
 
 class TaskCommentServiceImpl {
 
@@ -27,6 +38,8 @@ class TaskCommentServiceImpl {
       " Not authorized, TaskComment creator and current user must match. TaskComment creator is ";
   private static final String BUT_CURRENT_USER_IS = " but current user is ";
   private static final String ID_PREFIX_TASK_COMMENT = "TCI";
+  private static final String TASK_WITH_ID_IS_ARCHIVED =
+      "Task with Id %s is archived and can't be commented.";
   private InternalTaskanaEngine taskanaEngine;
   private TaskServiceImpl taskService;
   private TaskCommentMapper taskCommentMapper;
@@ -98,7 +111,8 @@ class TaskCommentServiceImpl {
   }
 
   TaskComment createTaskComment(TaskComment taskCommentToCreate)
-      throws NotAuthorizedException, TaskNotFoundException, InvalidArgumentException {
+      throws NotAuthorizedException, TaskNotFoundException, InvalidArgumentException,
+          InvalidStateException {
 
     LOGGER.debug("entry to setTaskComment (taskCommentToCreate = {})", taskCommentToCreate);
 
@@ -108,7 +122,10 @@ class TaskCommentServiceImpl {
 
       taskanaEngine.openConnection();
 
-      taskService.getTask(taskCommentImplToCreate.getTaskId());
+      TaskImpl task = (TaskImpl) taskService.getTask(taskCommentImplToCreate.getTaskId(), true);
+      if (taskService.isArchived(task)) {
+        throw new InvalidStateException(String.format(TASK_WITH_ID_IS_ARCHIVED, task.getId()));
+      }
 
       validateNoneExistingTaskCommentId(taskCommentImplToCreate.getId());
 
@@ -169,9 +186,12 @@ class TaskCommentServiceImpl {
 
       taskanaEngine.openConnection();
 
-      taskService.getTask(taskId);
+      Task task = taskService.getTask(taskId, true);
 
       List<TaskComment> taskComments = new ArrayList<>(taskCommentMapper.findByTaskId(taskId));
+      if (taskComments.isEmpty()) {
+        taskComments.addAll(taskService.findArchivedTaskComments(task));
+      }
 
       if (taskComments.isEmpty()) {
         LOGGER.debug("getTaskComments() found no comments for the provided taskId");
@@ -187,6 +207,90 @@ class TaskCommentServiceImpl {
     }
   }
 
+  List<TaskComment> getTaskComments(List<String> taskIds)
+      throws NotAuthorizedException, TaskNotFoundException, InvalidArgumentException {
+
+    LOGGER.debug("entry to getTaskComments (taskIds = {})", taskIds);
+
+    if (taskIds == null) {
+      throw new InvalidArgumentException("List of TaskIds must not be null.");
+    }
+
+    List<TaskComment> taskComments = new ArrayList<>();
+
+    try {
+
+      taskanaEngine.openConnection();
+
+      List<String> distinctTaskIds = taskIds.stream().distinct().collect(Collectors.toList());
+      if (distinctTaskIds.isEmpty()) {
+        return taskComments;
+      }
+
+      List<MinimalTaskSummary> tasks = taskService.findTasksWithReadPermission(distinctTaskIds);
+
+      Map<String, List<TaskComment>> taskCommentsByTaskId = new HashMap<>();
+      List<TaskCommentImpl> foundTaskComments = new ArrayList<>();
+      CollectionUtil.forEachChunk(
+          distinctTaskIds,
+          chunk -> foundTaskComments.addAll(taskCommentMapper.findByTaskIds(chunk)));
+      foundTaskComments.addAll(taskService.findArchivedTaskComments(tasks));
+      for (TaskCommentImpl taskComment : foundTaskComments) {
+        taskCommentsByTaskId
+            .computeIfAbsent(taskComment.getTaskId(), taskId -> new ArrayList<>())
+            .add(taskComment);
+      }
+      for (String taskId : distinctTaskIds) {
+        taskComments.addAll(taskCommentsByTaskId.getOrDefault(taskId, Collections.emptyList()));
+      }
+
+      return taskComments;
+
+    } finally {
+
+      taskanaEngine.returnConnection();
+
+      LOGGER.debug("exit from getTaskComments(), returning {} comments", taskComments.size());
+    }
+  }
+
+  void addCommentSummariesToTaskSummaries(List<TaskSummaryImpl> taskSummaries) {
+
+    LOGGER.debug("entry to addCommentSummariesToTaskSummaries()");
+
+    if (taskSummaries == null || taskSummaries.isEmpty()) {
+      return;
+    }
+
+    List<String> taskIds =
+        taskSummaries.stream().map(TaskSummaryImpl::getId).distinct().collect(Collectors.toList());
+
+    List<TaskCommentStatistics> statistics = new ArrayList<>();
+    CollectionUtil.forEachChunk(
+        taskIds, chunk -> statistics.addAll(taskCommentMapper.findStatisticsByTaskIds(chunk)));
+    statistics.addAll(taskService.findArchivedTaskCommentStatistics(taskSummaries));
+    Map<String, TaskCommentStatistics> statisticsByTaskId =
+        statistics.stream()
+            .collect(
+                Collectors.toMap(
+                    TaskCommentStatistics::getTaskId,
+                    Function.identity(),
+                    (active, archived) -> active));
+
+    for (TaskSummaryImpl taskSummary : taskSummaries) {
+      TaskCommentStatistics taskStatistics = statisticsByTaskId.get(taskSummary.getId());
+      if (taskStatistics == null) {
+        taskSummary.setCommentCount(0);
+      } else {
+        taskSummary.setCommentCount(taskStatistics.getCommentCount());
+        taskSummary.setLastCommentCreated(taskStatistics.getLastCreated());
+        taskSummary.setLastCommentCreator(taskStatistics.getLastCreator());
+      }
+    }
+
+    LOGGER.debug("exit from addCommentSummariesToTaskSummaries()");
+  }
+
   TaskComment getTaskComment(String taskCommentId)
       throws TaskCommentNotFoundException, NotAuthorizedException, TaskNotFoundException,
           InvalidArgumentException {
@@ -209,7 +313,7 @@ class TaskCommentServiceImpl {
             String.format("TaskComment for taskCommentId '%s' was not found", taskCommentId));
       }
 
-      taskService.getTask(result.getTaskId());
+      taskService.getTask(result.getTaskId(), true);
 
       return result;
 
@@ -237,7 +341,8 @@ class TaskCommentServiceImpl {
 
     Instant now = Instant.now();
 
-    taskCommentImplToCreate.setId(IdGenerator.generateWithPrefix(ID_PREFIX_TASK_COMMENT));
+    taskCommentImplToCreate.setId(
+        taskanaEngine.getIdGenerator().generateId(ID_PREFIX_TASK_COMMENT));
     taskCommentImplToCreate.setModified(now);
     taskCommentImplToCreate.setCreated(now);
 
@@ -33,6 +33,7 @@ public interface TaskMapper {
           + "<if test=\"_databaseId == 'db2'\">with UR </if> "
           + "</script>")
   @Results(
+      id = "taskResult",
       value = {
         @Result(property = "id", column = "ID"),
         @Result(property = "externalId", column = "EXTERNAL_ID"),
@@ -123,6 +124,22 @@ public interface TaskMapper {
           + "WHERE ID = #{id}")
   void update(TaskImpl task);
 
+  @Select(
+      "<script>"
+          + "<choose>"
+          + "<when test=\"_databaseId == 'db2'\">"
+          + "SELECT CARD FROM SYSCAT.TABLES WHERE TABSCHEMA = CURRENT SCHEMA AND TABNAME = 'TASK' with UR "
+          + "</when>"
+          + "<when test=\"_databaseId == 'postgres'\">"
+          + "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = to_regclass('task') "
+          + "</when>"
+          + "<otherwise>"
+          + "SELECT ROW_COUNT_ESTIMATE FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = SCHEMA() AND TABLE_NAME = 'TASK' "
+          + "</otherwise>"
+          + "</choose>"
+          + "</script>")
+  Long estimateTaskCount();
+
   @Delete("DELETE FROM TASK WHERE ID = #{id}")
   void delete(String id);
 
@@ -156,16 +173,18 @@ public interface TaskMapper {
       @Param("referencetask") TaskSummaryImpl referencetask);
 
   @Update(
-      "<script>"
-          + " UPDATE TASK SET COMPLETED = #{referencetask.completed}, MODIFIED = #{referencetask.modified}, STATE = #{referencetask.state}"
-          + " WHERE ID IN <foreach item='taskId' index='index' separator=',' open='(' close=')' collection='taskIds'>#{taskId}</foreach>"
+      "<script>UPDATE TASK SET COMPLETED = #{now}, MODIFIED = #{now}, STATE = 'COMPLETED' "
+          + "WHERE ID IN <foreach item='taskId' index='index' separator=',' open='(' close=')' collection='taskIds'>#{taskId}</foreach> "
+          + "AND STATE = 'CLAIMED' AND CLAIMED IS NOT NULL "
+          + "AND OWNER IN (<foreach item='item' collection='ownerAccessIds' separator=',' >#{item}</foreach>)"
           + "</script>")
-  void updateCompleted(
+  int completeTasksIfClaimed(
       @Param("taskIds") List<String> taskIds,
-      @Param("referencetask") TaskSummaryImpl referencetask);
+      @Param("now") Instant now,
+      @Param("ownerAccessIds") List<String> ownerAccessIds);
 
   @Select(
-      "<script>SELECT ID, EXTERNAL_ID, STATE, WORKBASKET_ID, OWNER, MODIFIED, CLASSIFICATION_ID, "
+      "<script>SELECT ID, EXTERNAL_ID, STATE, WORKBASKET_ID, OWNER, CLAIMED, MODIFIED, CLASSIFICATION_ID, "
           + "PLANNED, DUE, CALLBACK_STATE FROM TASK "
           + "<where> "
           + "<if test='taskIds != null'>ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>)</if> "
@@ -174,6 +193,7 @@ public interface TaskMapper {
           + "<if test=\"_databaseId == 'db2'\">with UR </if> "
           + "</script>")
   @Results(
+      id = "minimalTaskSummaryResult",
       value = {
         @Result(property = "taskId", column = "ID"),
         @Result(property = "externalId", column = "EXTERNAL_ID"),
@@ -181,6 +201,7 @@ public interface TaskMapper {
         @Result(property = "classificationId", column = "CLASSIFICATION_ID"),
         @Result(property = "owner", column = "OWNER"),
         @Result(property = "taskState", column = "STATE"),
+        @Result(property = "claimed", column = "CLAIMED"),
         @Result(property = "modified", column = "MODIFIED"),
         @Result(property = "due", column = "DUE"),
         @Result(property = "planned", column = "PLANNED"),
@@ -218,7 +239,7 @@ public interface TaskMapper {
           + "MODIFIED = #{task.modified} "
           + "WHERE ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>) "
           + "</script>")
-  void updateTasks(
+  int updateTasks(
       @Param("taskIds") List<String> taskIds,
       @Param("task") TaskImpl task,
       @Param("fields") CustomPropertySelector fields);
@@ -288,4 +309,49 @@ public interface TaskMapper {
   @Results(value = {@Result(property = "id", column = "ID")})
   List<String> filterTaskIdsNotAuthorizedFor(
       @Param("taskIds") List<String> taskIds, @Param("accessIds") List<String> accessIds);
+
+  @Update(
+      "<script>UPDATE TASK SET OWNER = #{owner}, CLAIMED = #{now}, MODIFIED = #{now}, STATE = 'CLAIMED', "
+          + "IS_READ = <choose><when test=\"_databaseId == 'db2'\">1</when><otherwise>TRUE</otherwise></choose> "
+          + "WHERE ID = #{taskId} AND (STATE = 'READY' OR (STATE = 'CLAIMED'<if test='!force'> AND OWNER = #{owner}</if>)) "
+          + "<if test='accessIds != null'>AND WORKBASKET_ID IN (SELECT WORKBASKET_ID FROM WORKBASKET_ACCESS_LIST "
+          + "WHERE ACCESS_ID IN (<foreach item='item' collection='accessIds' separator=',' >#{item}</foreach>) "
+          + "AND PERM_READ = <choose><when test=\"_databaseId == 'db2'\">1</when><otherwise>TRUE</otherwise></choose>) </if>"
+          + "</script>")
+  int claimTaskIfClaimable(
+      @Param("taskId") String taskId,
+      @Param("owner") String owner,
+      @Param("now") Instant now,
+      @Param("force") boolean force,
+      @Param("accessIds") List<String> accessIds);
+
+  @Update(
+      "<script>UPDATE TASK SET OWNER = NULL, CLAIMED = NULL, MODIFIED = #{now}, STATE = 'READY', "
+          + "IS_READ = <choose><when test=\"_databaseId == 'db2'\">1</when><otherwise>TRUE</otherwise></choose> "
+          + "WHERE ID = #{taskId} AND (STATE = 'READY' OR (STATE = 'CLAIMED'<if test='!force'> AND OWNER = #{owner}</if>)) "
+          + "<if test='accessIds != null'>AND WORKBASKET_ID IN (SELECT WORKBASKET_ID FROM WORKBASKET_ACCESS_LIST "
+          + "WHERE ACCESS_ID IN (<foreach item='item' collection='accessIds' separator=',' >#{item}</foreach>) "
+          + "AND PERM_READ = <choose><when test=\"_databaseId == 'db2'\">1</when><otherwise>TRUE</otherwise></choose>) </if>"
+          + "</script>")
+  int cancelClaimOfTaskIfClaimed(
+      @Param("taskId") String taskId,
+      @Param("owner") String owner,
+      @Param("now") Instant now,
+      @Param("force") boolean force,
+      @Param("accessIds") List<String> accessIds);
+
+  @Update(
+      "<script>UPDATE TASK SET OWNER = #{owner}, COMPLETED = #{now}, MODIFIED = #{now}, STATE = 'COMPLETED' "
+          + "WHERE ID = #{taskId} AND STATE = 'CLAIMED' AND CLAIMED IS NOT NULL "
+          + "<if test='ownerAccessIds != null'>AND OWNER IN (<foreach item='item' collection='ownerAccessIds' separator=',' >#{item}</foreach>) </if>"
+          + "<if test='accessIds != null'>AND WORKBASKET_ID IN (SELECT WORKBASKET_ID FROM WORKBASKET_ACCESS_LIST "
+          + "WHERE ACCESS_ID IN (<foreach item='item' collection='accessIds' separator=',' >#{item}</foreach>) "
+          + "AND PERM_READ = <choose><when test=\"_databaseId == 'db2'\">1</when><otherwise>TRUE</otherwise></choose>) </if>"
+          + "</script>")
+  int completeTaskIfClaimed(
+      @Param("taskId") String taskId,
+      @Param("owner") String owner,
+      @Param("now") Instant now,
+      @Param("ownerAccessIds") List<String> ownerAccessIds,
+      @Param("accessIds") List<String> accessIds);
 }
@@ -14,6 +14,7 @@ import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.TimeInterval;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.api.exceptions.TaskanaRuntimeException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.common.internal.configuration.DB;
@@ -32,7 +33,7 @@ import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 import pro.taskana.workbasket.internal.WorkbasketQueryImpl;
 
 /** TaskQuery for generating dynamic sql. */
-public class TaskQueryImpl implements TaskQuery {
+public class TaskQueryImpl implements TaskQuery, Cloneable {
 
   private static final String ARGUMENT = "Argument '";
   private static final String GET_CUSTOM_ATTRIBUTE_NOT_A_NUMBER_BETWEEN_1_AND_16 =
@@ -51,6 +52,9 @@ public class TaskQueryImpl implements TaskQuery {
   private static final String IS_INVALID = " is invalid.";
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskQueryImpl.class);
   private InternalTaskanaEngine taskanaEngine;
+  private boolean usePrimaryDataSource;
+  private boolean includeArchivedTasks;
+  private boolean withCommentSummaries;
   private TaskServiceImpl taskService;
   private TaskQueryColumnName columnName;
   private String[] nameIn;
@@ -157,6 +161,11 @@ public class TaskQueryImpl implements TaskQuery {
   private boolean addAttachmentColumnsToSelectClauseForOrdering = false;
   private boolean addClassificationNameToSelectClauseForOrdering = false;
   private boolean addAttachmentClassificationNameToSelectClauseForOrdering = false;
+  private Long countLimit;
+  private String taskIdGreaterThan;
+  private Integer valuesLimit;
+  private boolean lockForClaim = false;
+  private boolean activeTasksOnly = false;
 
   TaskQueryImpl(InternalTaskanaEngine taskanaEngine) {
     this.taskanaEngine = taskanaEngine;
@@ -963,12 +972,30 @@ public class TaskQueryImpl implements TaskQuery {
     return addOrderCriteria("RECEIVED", sortDirection);
   }
 
+  @Override
+  public TaskQuery includeArchivedTasks() {
+    this.includeArchivedTasks = true;
+    return this;
+  }
+
+  @Override
+  public TaskQuery withCommentSummaries() {
+    this.withCommentSummaries = true;
+    return this;
+  }
+
+  @Override
+  public TaskQuery usePrimaryDataSource() {
+    this.usePrimaryDataSource = true;
+    return this;
+  }
+
   @Override
   public List<TaskSummary> list() {
     List<TaskSummary> result = new ArrayList<>();
     try {
       LOGGER.debug("entry to list(), this = {}", this);
-      taskanaEngine.openConnection();
+      openQueryConnection();
       checkForIllegalParamCombinations();
       checkOpenAndReadPermissionForSpecifiedWorkbaskets();
       setupJoinAndOrderParameters();
@@ -981,7 +1008,7 @@ public class TaskQueryImpl implements TaskQuery {
             tasks.size(),
             tasks);
       }
-      result = taskService.augmentTaskSummariesByContainedSummaries(tasks);
+      result = augmentTaskSummaries(tasks);
       return result;
     } finally {
       taskanaEngine.returnConnection();
@@ -999,7 +1026,7 @@ public class TaskQueryImpl implements TaskQuery {
     LOGGER.debug("entry to list(offset = {}, limit = {}), this = {}", offset, limit, this);
     List<TaskSummary> result = new ArrayList<>();
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       checkForIllegalParamCombinations();
       checkOpenAndReadPermissionForSpecifiedWorkbaskets();
       setupAccessIds();
@@ -1007,7 +1034,7 @@ public class TaskQueryImpl implements TaskQuery {
       RowBounds rowBounds = new RowBounds(offset, limit);
       List<TaskSummaryImpl> tasks =
           taskanaEngine.getSqlSession().selectList(getLinkToMapperScript(), this, rowBounds);
-      result = taskService.augmentTaskSummariesByContainedSummaries(tasks);
+      result = augmentTaskSummaries(tasks);
       return result;
     } catch (PersistenceException e) {
       if (e.getMessage().contains("ERRORCODE=-4470")) {
@@ -1034,7 +1061,7 @@ public class TaskQueryImpl implements TaskQuery {
     LOGGER.debug("Entry to listValues(dbColumnName={}) this = {}", columnName, this);
     List<String> result = new ArrayList<>();
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       this.columnName = columnName;
       this.orderBy.clear();
       this.addOrderCriteria(columnName.toString(), sortDirection);
@@ -1068,12 +1095,37 @@ public class TaskQueryImpl implements TaskQuery {
     }
   }
 
+  /**
+   * Returns the ids of the next tasks of this query in ascending order. The iteration continues
+   * after the last returned id instead of an offset, so it neither skips nor repeats tasks if the
+   * tasks are changed between two calls. Archived tasks are not returned, because they can't be
+   * changed.
+   *
+   * @param lastTaskId the last id of the previous call or null for the first call
+   * @param limit the maximum number of returned ids
+   * @return the ids of the next tasks
+   */
+  List<String> listIdsAfter(String lastTaskId, int limit) {
+    LOGGER.debug("entry to listIdsAfter(lastTaskId = {}, limit = {})", lastTaskId, limit);
+    try {
+      taskIdGreaterThan = lastTaskId;
+      valuesLimit = limit;
+      activeTasksOnly = true;
+      return listValues(TaskQueryColumnName.ID, SortDirection.ASCENDING);
+    } finally {
+      taskIdGreaterThan = null;
+      valuesLimit = null;
+      activeTasksOnly = false;
+      LOGGER.debug("exit from listIdsAfter()");
+    }
+  }
+
   @Override
   public TaskSummary single() {
     LOGGER.debug("entry to single(), this = {}", this);
     TaskSummary result = null;
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       checkOpenAndReadPermissionForSpecifiedWorkbaskets();
       setupAccessIds();
       setupJoinAndOrderParameters();
@@ -1084,7 +1136,7 @@ public class TaskQueryImpl implements TaskQuery {
       }
       List<TaskSummaryImpl> tasks = new ArrayList<>();
       tasks.add(taskSummaryImpl);
-      List<TaskSummary> augmentedList = taskService.augmentTaskSummariesByContainedSummaries(tasks);
+      List<TaskSummary> augmentedList = augmentTaskSummaries(tasks);
       result = augmentedList.get(0);
 
       return result;
@@ -1099,7 +1151,7 @@ public class TaskQueryImpl implements TaskQuery {
     LOGGER.debug("entry to count(), this = {}", this);
     Long rowCount = null;
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       checkOpenAndReadPermissionForSpecifiedWorkbaskets();
       setupAccessIds();
       setupJoinAndOrderParameters();
@@ -1111,6 +1163,68 @@ public class TaskQueryImpl implements TaskQuery {
     }
   }
 
+  @Override
+  public long countUpTo(long limit) {
+    LOGGER.debug("entry to countUpTo(limit = {}), this = {}", limit, this);
+    if (limit <= 0) {
+      LOGGER.debug("exit from countUpTo(). Returning result 0 because of a non positive limit");
+      return 0L;
+    }
+    Long rowCount = null;
+    try {
+      openQueryConnection();
+      checkOpenAndReadPermissionForSpecifiedWorkbaskets();
+      setupAccessIds();
+      setupJoinAndOrderParameters();
+      countLimit = limit;
+      rowCount = taskanaEngine.getSqlSession().selectOne(getLinkToCounterTaskScript(), this);
+      return (rowCount == null) ? 0L : rowCount;
+    } finally {
+      countLimit = null;
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from countUpTo(). Returning result {} ", rowCount);
+    }
+  }
+
+  /**
+   * Selects the first READY task of this query and locks it within the current transaction. Tasks
+   * which are locked by a concurrent transaction are skipped if the database supports it. Without
+   * a sort order the tasks with the highest priority and the earliest due date come first. This
+   * query is not changed.
+   *
+   * @return the id of the locked task or null if no READY task matches this query
+   */
+  String lockNextReadyTask() {
+    TaskQueryImpl lockQuery = copy();
+    lockQuery.stateIn(TaskState.READY);
+    if (lockQuery.orderBy.isEmpty()) {
+      lockQuery.orderByPriority(SortDirection.DESCENDING).orderByDue(SortDirection.ASCENDING);
+    }
+    lockQuery.lockForClaim = true;
+    lockQuery.activeTasksOnly = true;
+    LOGGER.debug("entry to lockNextReadyTask(), this = {}", lockQuery);
+    String taskId = null;
+    try {
+      // the lock must be held by the transaction which claims the task
+      taskanaEngine.openConnection();
+      lockQuery.checkForIllegalParamCombinations();
+      lockQuery.checkOpenAndReadPermissionForSpecifiedWorkbaskets();
+      lockQuery.setupAccessIds();
+      lockQuery.setupJoinAndOrderParameters();
+      // rows can't be locked by a DISTINCT select and only the first row is of interest anyway
+      lockQuery.useDistinctKeyword = false;
+      List<TaskSummaryImpl> tasks =
+          taskanaEngine.getSqlSession().selectList(lockQuery.getLinkToMapperScript(), lockQuery);
+      if (!tasks.isEmpty()) {
+        taskId = tasks.get(0).getId();
+      }
+      return taskId;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from lockNextReadyTask(). Returning result {} ", taskId);
+    }
+  }
+
   public String getLinkToMapperScript() {
     return DB.DB2.dbProductId.equals(getDatabaseId()) ? LINK_TO_MAPPER_DB2 : LINK_TO_MAPPER;
   }
@@ -1119,6 +1233,33 @@ public class TaskQueryImpl implements TaskQuery {
     return DB.DB2.dbProductId.equals(getDatabaseId()) ? LINK_TO_COUNTER_DB2 : LINK_TO_COUNTER;
   }
 
+  public Long getCountLimit() {
+    return countLimit;
+  }
+
+  public String getTaskIdGreaterThan() {
+    return taskIdGreaterThan;
+  }
+
+  public Integer getValuesLimit() {
+    return valuesLimit;
+  }
+
+  public boolean isIncludeArchive() {
+    // archived tasks can neither be claimed nor updated and the rows of a union can't be locked
+    if (activeTasksOnly
+        || !taskanaEngine.getEngine().getConfiguration().isTaskArchivingEnabled()) {
+      return false;
+    }
+    return includeArchivedTasks
+        || completedIn != null
+        || (stateIn != null && Arrays.stream(stateIn).anyMatch(TaskState::isEndState));
+  }
+
+  public boolean isLockForClaim() {
+    return lockForClaim;
+  }
+
   public boolean isUseDistinctKeyword() {
     return useDistinctKeyword;
   }
@@ -1732,6 +1873,38 @@ public class TaskQueryImpl implements TaskQuery {
     return this;
   }
 
+  /**
+   * Duplicates this query, so that the copy can be changed without changing this query.
+   *
+   * @return the copy of this query
+   */
+  TaskQueryImpl copy() {
+    try {
+      TaskQueryImpl copy = (TaskQueryImpl) super.clone();
+      copy.orderBy = new ArrayList<>(orderBy);
+      copy.orderColumns = new ArrayList<>(orderColumns);
+      return copy;
+    } catch (CloneNotSupportedException e) {
+      throw new SystemException("Could not copy the task query.", e);
+    }
+  }
+
+  private void openQueryConnection() {
+    if (usePrimaryDataSource) {
+      taskanaEngine.openConnection();
+    } else {
+      taskanaEngine.openReadOnlyConnection();
+    }
+  }
+
+  private List<TaskSummary> augmentTaskSummaries(List<TaskSummaryImpl> tasks) {
+    List<TaskSummary> result = taskService.augmentTaskSummariesByContainedSummaries(tasks);
+    if (withCommentSummaries) {
+      taskService.addCommentSummariesToTaskSummaries(tasks);
+    }
+    return result;
+  }
+
   @Override
   public String toString() {
     return "TaskQueryImpl [columnName="
@@ -1764,6 +1937,10 @@ public class TaskQueryImpl implements TaskQuery {
         + Arrays.toString(workbasketIdIn)
         + ", stateIn="
         + Arrays.toString(stateIn)
+        + ", includeArchivedTasks="
+        + includeArchivedTasks
+        + ", withCommentSummaries="
+        + withCommentSummaries
         + ", classificationIdIn="
         + Arrays.toString(classificationIdIn)
         + ", classificationKeyIn="
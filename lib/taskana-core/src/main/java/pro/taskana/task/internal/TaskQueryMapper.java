@@ -12,6 +12,24 @@ import pro.taskana.task.internal.models.TaskSummaryImpl;
 @SuppressWarnings({"checkstyle:LineLength", "checkstyle:Indentation"})
 public interface TaskQueryMapper {
 
+  String TASKS =
+      "<choose><when test='includeArchive'>"
+          + "(SELECT "
+          + TaskArchiveMapper.TASK_COLUMNS
+          + " FROM TASK UNION ALL SELECT "
+          + TaskArchiveMapper.TASK_COLUMNS
+          + " FROM TASK_ARCHIVE)"
+          + "</when><otherwise>TASK</otherwise></choose>";
+
+  String ATTACHMENTS =
+      "<choose><when test='includeArchive'>"
+          + "(SELECT "
+          + TaskArchiveMapper.ATTACHMENT_COLUMNS
+          + " FROM ATTACHMENT UNION ALL SELECT "
+          + TaskArchiveMapper.ATTACHMENT_COLUMNS
+          + " FROM ATTACHMENT_ARCHIVE)"
+          + "</when><otherwise>ATTACHMENT</otherwise></choose>";
+
   @Select(
       "<script> "
           + "SELECT <if test=\"useDistinctKeyword\">DISTINCT</if> t.ID, t.EXTERNAL_ID, t.CREATED, t.CLAIMED, t.COMPLETED, t.MODIFIED, t.PLANNED, t.DUE, t.NAME, t.CREATOR, t.DESCRIPTION, t.NOTE, t.PRIORITY, t.STATE, t.CLASSIFICATION_KEY, "
@@ -27,9 +45,9 @@ public interface TaskQueryMapper {
           + "<if test=\"addAttachmentClassificationNameToSelectClauseForOrdering\">"
           + ", ac.NAME "
           + "</if>"
-          + "FROM TASK t "
+          + "FROM " + TASKS + " t "
           + "<if test=\"joinWithAttachments\">"
-          + "LEFT JOIN ATTACHMENT AS a ON t.ID = a.TASK_ID "
+          + "LEFT JOIN " + ATTACHMENTS + " AS a ON t.ID = a.TASK_ID "
           + "</if>"
           + "<if test=\"joinWithClassifications\">"
           + "LEFT JOIN CLASSIFICATION AS c ON t.CLASSIFICATION_ID = c.ID "
@@ -136,6 +154,9 @@ public interface TaskQueryMapper {
           + "<if test='wildcardSearchValueLike != null and wildcardSearchFieldIn != null'>AND (<foreach item='item' collection='wildcardSearchFieldIn' separator=' OR '>t.${item} LIKE #{wildcardSearchValueLike}</foreach>)</if> "
           + "</where>"
           + "<if test='!orderBy.isEmpty()'>ORDER BY <foreach item='item' collection='orderBy' separator=',' >${item}</foreach></if> "
+          + "<if test='lockForClaim'>FETCH FIRST 1 ROWS ONLY "
+          + "<if test=\"_databaseId == 'postgres'\">FOR UPDATE OF t SKIP LOCKED</if>"
+          + "</if> "
           + "</script>")
   @Results(
       value = {
@@ -220,9 +241,9 @@ public interface TaskQueryMapper {
           + "<if test=\"addAttachmentClassificationNameToSelectClauseForOrdering\">"
           + ", ac.NAME "
           + "</if>"
-          + " FROM TASK t "
+          + " FROM " + TASKS + " t "
           + "<if test=\"joinWithAttachments\">"
-          + "LEFT JOIN ATTACHMENT a ON t.ID = a.TASK_ID "
+          + "LEFT JOIN " + ATTACHMENTS + " a ON t.ID = a.TASK_ID "
           + "</if>"
           + "<if test=\"joinWithClassifications\">"
           + "LEFT JOIN CLASSIFICATION AS c ON t.CLASSIFICATION_ID = c.ID "
@@ -376,7 +397,8 @@ public interface TaskQueryMapper {
           + "${item}"
           + "</foreach>"
           + "</if> "
-          + "with UR "
+          + "<choose><when test='lockForClaim'>FETCH FIRST 1 ROWS ONLY WITH RS USE AND KEEP UPDATE LOCKS SKIP LOCKED DATA </when>"
+          + "<otherwise>with UR </otherwise></choose>"
           + "</script>")
   @Results(
       value = {
@@ -456,9 +478,16 @@ public interface TaskQueryMapper {
 
   @Select(
       "<script> "
-          + "SELECT COUNT( <if test=\"useDistinctKeyword\">DISTINCT</if>  t.ID) FROM TASK t "
+          + "<choose>"
+          + "<when test='countLimit != null'>"
+          + "SELECT COUNT(*) FROM (SELECT <if test=\"useDistinctKeyword\">DISTINCT</if> t.ID FROM " + TASKS + " t "
+          + "</when>"
+          + "<otherwise>"
+          + "SELECT COUNT( <if test=\"useDistinctKeyword\">DISTINCT</if>  t.ID) FROM " + TASKS + " t "
+          + "</otherwise>"
+          + "</choose>"
           + "<if test=\"joinWithAttachments\">"
-          + "LEFT JOIN ATTACHMENT AS a ON t.ID = a.TASK_ID "
+          + "LEFT JOIN " + ATTACHMENTS + " AS a ON t.ID = a.TASK_ID "
           + "</if>"
           + "<if test=\"joinWithClassifications\">"
           + "LEFT JOIN CLASSIFICATION AS c ON t.CLASSIFICATION_ID = c.ID "
@@ -563,14 +592,15 @@ public interface TaskQueryMapper {
           + "<if test='attachmentReferenceLike != null'>AND (<foreach item='item' collection='attachmentReferenceLike' separator=' OR '>UPPER(a.REF_VALUE) LIKE #{item}</foreach>)</if> "
           + "<if test='attachmentReceivedIn !=null'> AND ( <foreach item='item' collection='attachmentReceivedIn' separator=' OR ' > ( <if test='item.begin!=null'> a.RECEIVED &gt;= #{item.begin} </if> <if test='item.begin!=null and item.end!=null'> AND </if><if test='item.end!=null'> a.RECEIVED &lt;=#{item.end} </if>)</foreach>)</if> "
           + "</where>"
+          + "<if test='countLimit != null'>FETCH FIRST ${countLimit} ROWS ONLY ) AS LIMITED_TASKS </if>"
           + "</script>")
   Long countQueryTasks(TaskQueryImpl taskQuery);
 
   @Select(
       "<script> "
-          + "WITH X (ID, WORKBASKET_ID) AS (SELECT <if test=\"useDistinctKeyword\">DISTINCT</if> t.ID, t.WORKBASKET_ID FROM TASK t "
+          + "WITH X (ID, WORKBASKET_ID) AS (SELECT <if test=\"useDistinctKeyword\">DISTINCT</if> t.ID, t.WORKBASKET_ID FROM " + TASKS + " t "
           + "<if test=\"joinWithAttachments\">"
-          + "LEFT JOIN ATTACHMENT AS a ON t.ID = a.TASK_ID "
+          + "LEFT JOIN " + ATTACHMENTS + " AS a ON t.ID = a.TASK_ID "
           + "</if>"
           + "<if test=\"joinWithClassifications\">"
           + "LEFT JOIN CLASSIFICATION AS c ON t.CLASSIFICATION_ID = c.ID "
@@ -678,7 +708,14 @@ public interface TaskQueryMapper {
           + "s.perm_read = 1 "
           + "fetch first 1 rows only "
           + ") FROM X ) "
+          + "<choose>"
+          + "<when test='countLimit != null'>"
+          + "SELECT COUNT(*) FROM (SELECT ID FROM Y WHERE FLAG = 1 FETCH FIRST ${countLimit} ROWS ONLY) AS LIMITED_TASKS "
+          + "</when>"
+          + "<otherwise>"
           + "SELECT COUNT(*)  FROM Y WHERE FLAG = 1 "
+          + "</otherwise>"
+          + "</choose>"
           + "with UR "
           + "</script>")
   Long countQueryTasksDb2(TaskQueryImpl taskQuery);
@@ -698,9 +735,9 @@ public interface TaskQueryMapper {
 
   @Select(
       "<script>SELECT DISTINCT ${columnName} "
-          + "FROM TASK t "
+          + "FROM " + TASKS + " t "
           + "<if test=\"joinWithAttachments\">"
-          + "LEFT JOIN ATTACHMENT AS a ON t.ID = a.TASK_ID "
+          + "LEFT JOIN " + ATTACHMENTS + " AS a ON t.ID = a.TASK_ID "
           + "</if>"
           + "<if test=\"joinWithClassifications\">"
           + "LEFT JOIN CLASSIFICATION AS c ON t.CLASSIFICATION_ID = c.ID "
@@ -716,6 +753,7 @@ public interface TaskQueryMapper {
           + "group by WORKBASKET_ID ) where max_read = 1 ) "
           + "</if> "
           + "<if test='taskIds != null'>AND t.ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>)</if> "
+          + "<if test='taskIdGreaterThan != null'>AND t.ID &gt; #{taskIdGreaterThan} </if> "
           + "<if test='externalIdIn != null'>AND t.EXTERNAL_ID IN(<foreach item='item' collection='externalIdIn' separator=',' >#{item}</foreach>)</if> "
           + "<if test='externalIdLike != null'>AND (<foreach item='item' collection='externalIdLike' separator=' OR '>UPPER(t.EXTERNAL_ID) LIKE #{item}</foreach>)</if> "
           + "<if test='createdIn !=null'> AND ( <foreach item='item' collection='createdIn' separator=' OR ' > ( <if test='item.begin!=null'> t.CREATED &gt;= #{item.begin} </if> <if test='item.begin!=null and item.end!=null'> AND </if><if test='item.end!=null'> t.CREATED &lt;=#{item.end} </if>)</foreach>)</if> "
@@ -842,6 +880,7 @@ public interface TaskQueryMapper {
           + "</otherwise>"
           + "</choose>"
           + "</foreach></if> "
+          + "<if test='valuesLimit != null'>FETCH FIRST ${valuesLimit} ROWS ONLY </if>"
           + "<if test=\"_databaseId == 'db2'\">with UR </if> "
           + "</script>")
   List<String> queryTaskColumnValues(TaskQueryImpl taskQuery);
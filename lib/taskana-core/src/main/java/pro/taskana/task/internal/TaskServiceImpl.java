@@ -1,9 +1,8 @@
 package pro.taskana.task.internal;
 
-import java.lang.reflect.Field;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
@@ -11,13 +10,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.ibatis.exceptions.PersistenceException;
-import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,10 +31,10 @@ import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.CustomPropertySelector;
 import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.common.internal.security.CurrentUserContext;
-import pro.taskana.common.internal.util.CheckedFunction;
-import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.common.internal.util.CollectionUtil;
+import pro.taskana.common.internal.util.ObjectAttributeChangeDetector;
 import pro.taskana.common.internal.util.Pair;
-import pro.taskana.common.internal.util.Triplet;
+import pro.taskana.spi.history.api.events.TaskanaHistoryEvent;
 import pro.taskana.spi.history.api.events.task.ClaimCancelledEvent;
 import pro.taskana.spi.history.api.events.task.ClaimedEvent;
 import pro.taskana.spi.history.api.events.task.CompletedEvent;
@@ -65,6 +61,8 @@ import pro.taskana.task.internal.ServiceLevelHandler.BulkLog;
 import pro.taskana.task.internal.models.AttachmentImpl;
 import pro.taskana.task.internal.models.AttachmentSummaryImpl;
 import pro.taskana.task.internal.models.MinimalTaskSummary;
+import pro.taskana.task.internal.models.TaskCommentImpl;
+import pro.taskana.task.internal.models.TaskCommentStatistics;
 import pro.taskana.task.internal.models.TaskImpl;
 import pro.taskana.task.internal.models.TaskSummaryImpl;
 import pro.taskana.workbasket.api.WorkbasketPermission;
@@ -97,15 +95,22 @@ public class TaskServiceImpl implements TaskService {
   private static final String ID_PREFIX_TASK = "TKI";
   private static final String ID_PREFIX_EXT_TASK_ID = "ETI";
   private static final String ID_PREFIX_BUSINESS_PROCESS = "BPI";
+  private static final int UPDATE_TASKS_CHUNK_SIZE = 1000;
   private static final Set<String> ALLOWED_KEYS =
       IntStream.rangeClosed(1, 16).mapToObj(String::valueOf).collect(Collectors.toSet());
   private static final String TASK_WITH_ID_IS_ALREADY_IN_END_STATE =
       "Task with Id %s is already in an end state.";
+  private static final int CLAIM_NEXT_ATTEMPTS = 3;
+  private static final String TASK_WITH_ID_IS_ARCHIVED =
+      "Task with Id %s is archived and can't be modified.";
+  private static final String TASK_WITH_ID_WAS_MODIFIED_CONCURRENTLY =
+      "Task with Id %s was modified concurrently.";
   private InternalTaskanaEngine taskanaEngine;
   private WorkbasketService workbasketService;
   private ClassificationService classificationService;
   private TaskMapper taskMapper;
   private AttachmentMapper attachmentMapper;
+  private TaskArchiveMapper taskArchiveMapper;
   private HistoryEventProducer historyEventProducer;
   private TaskTransferrer taskTransferrer;
   private TaskCommentServiceImpl taskCommentService;
@@ -117,17 +122,53 @@ public class TaskServiceImpl implements TaskService {
       TaskMapper taskMapper,
       TaskCommentMapper taskCommentMapper,
       AttachmentMapper attachmentMapper) {
+    this(
+        taskanaEngine,
+        taskanaEngine.getEngine().getWorkbasketService(),
+        taskanaEngine.getEngine().getClassificationService(),
+        taskMapper,
+        taskCommentMapper,
+        attachmentMapper);
+  }
+
+  public TaskServiceImpl(
+      InternalTaskanaEngine taskanaEngine,
+      WorkbasketService workbasketService,
+      ClassificationService classificationService,
+      TaskMapper taskMapper,
+      TaskCommentMapper taskCommentMapper,
+      AttachmentMapper attachmentMapper) {
+    this(
+        taskanaEngine,
+        workbasketService,
+        classificationService,
+        taskMapper,
+        taskCommentMapper,
+        attachmentMapper,
+        null);
+  }
+
+  public TaskServiceImpl(
+      InternalTaskanaEngine taskanaEngine,
+      WorkbasketService workbasketService,
+      ClassificationService classificationService,
+      TaskMapper taskMapper,
+      TaskCommentMapper taskCommentMapper,
+      AttachmentMapper attachmentMapper,
+      TaskArchiveMapper taskArchiveMapper) {
     super();
     this.taskanaEngine = taskanaEngine;
     this.taskMapper = taskMapper;
-    this.workbasketService = taskanaEngine.getEngine().getWorkbasketService();
+    this.workbasketService = workbasketService;
     this.attachmentMapper = attachmentMapper;
-    this.classificationService = taskanaEngine.getEngine().getClassificationService();
+    this.taskArchiveMapper = taskArchiveMapper;
+    this.classificationService = classificationService;
     this.historyEventProducer = taskanaEngine.getHistoryEventProducer();
-    this.taskTransferrer = new TaskTransferrer(taskanaEngine, taskMapper, this);
+    this.taskTransferrer = new TaskTransferrer(taskanaEngine, workbasketService, taskMapper, this);
     this.taskCommentService = new TaskCommentServiceImpl(taskanaEngine, taskCommentMapper, this);
     this.serviceLevelHandler = new ServiceLevelHandler(taskanaEngine, taskMapper, attachmentMapper);
-    this.attachmentHandler = new AttachmentHandler(attachmentMapper, classificationService);
+    this.attachmentHandler =
+        new AttachmentHandler(taskanaEngine, attachmentMapper, classificationService);
   }
 
   @Override
@@ -172,6 +213,89 @@ public class TaskServiceImpl implements TaskService {
     return completeTask(taskId, true);
   }
 
+  @Override
+  public boolean tryClaim(String taskId) {
+    String userId = CurrentUserContext.getUserid();
+    LOGGER.debug("entry to tryClaim(id = {}, userId = {})", taskId, userId);
+    boolean claimed = false;
+    try {
+      taskanaEngine.openConnection();
+      claimed = claimTaskIfClaimable(taskId, userId, false);
+      if (claimed && HistoryEventProducer.isHistoryEnabled()) {
+        historyEventProducer.createEvent(new ClaimedEvent(getUpdatedTask(taskId), userId));
+      }
+      return claimed;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from tryClaim(). Returning result {} ", claimed);
+    }
+  }
+
+  @Override
+  public boolean tryCancelClaim(String taskId) {
+    String userId = CurrentUserContext.getUserid();
+    LOGGER.debug("entry to tryCancelClaim(id = {}, userId = {})", taskId, userId);
+    boolean cancelled = false;
+    try {
+      taskanaEngine.openConnection();
+      cancelled = cancelClaimOfTaskIfClaimed(taskId, userId, false);
+      if (cancelled && HistoryEventProducer.isHistoryEnabled()) {
+        historyEventProducer.createEvent(new ClaimCancelledEvent(getUpdatedTask(taskId), userId));
+      }
+      return cancelled;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from tryCancelClaim(). Returning result {} ", cancelled);
+    }
+  }
+
+  @Override
+  public boolean tryCompleteTask(String taskId) {
+    String userId = CurrentUserContext.getUserid();
+    LOGGER.debug("entry to tryCompleteTask(id = {}, userId = {})", taskId, userId);
+    boolean completed = false;
+    try {
+      taskanaEngine.openConnection();
+      completed = completeTaskIfClaimed(taskId, userId, false);
+      if (completed && HistoryEventProducer.isHistoryEnabled()) {
+        historyEventProducer.createEvent(new CompletedEvent(getUpdatedTask(taskId), userId));
+      }
+      return completed;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from tryCompleteTask(). Returning result {} ", completed);
+    }
+  }
+
+  @Override
+  public Task claimNext(TaskQuery query) {
+    String userId = CurrentUserContext.getUserid();
+    LOGGER.debug("entry to claimNext(query = {}, userId = {})", query, userId);
+    Task claimedTask = null;
+    try {
+      taskanaEngine.openConnection();
+      TaskQueryImpl taskQuery = (TaskQueryImpl) query;
+      // the locked task can only be missed by the claim if the database can't skip locked rows
+      for (int attempt = 0; attempt < CLAIM_NEXT_ATTEMPTS; attempt++) {
+        String taskId = taskQuery.lockNextReadyTask();
+        if (taskId == null) {
+          return null;
+        }
+        if (claimTaskIfClaimable(taskId, userId, false)) {
+          claimedTask = getUpdatedTask(taskId);
+          if (HistoryEventProducer.isHistoryEnabled()) {
+            historyEventProducer.createEvent(new ClaimedEvent(claimedTask, userId));
+          }
+          return claimedTask;
+        }
+      }
+      return null;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from claimNext(). Returning result {} ", claimedTask);
+    }
+  }
+
   @Override
   public Task createTask(Task taskToCreate)
       throws NotAuthorizedException, WorkbasketNotFoundException, ClassificationNotFoundException,
@@ -225,6 +349,13 @@ public class TaskServiceImpl implements TaskService {
           this.classificationService.getClassification(classificationKey, workbasket.getDomain());
       task.setClassificationSummary(classification.asSummary());
       ObjectReference.validate(task.getPrimaryObjRef(), "primary ObjectReference", TASK);
+      // UC_EXTERNAL_ID doesn't cover the archive
+      if (task.getExternalId() != null
+          && taskArchiveMapper != null
+          && taskArchiveMapper.countTasksWithExternalId(task.getExternalId()) > 0) {
+        throw new TaskAlreadyExistException(
+            "Task with external id " + task.getExternalId() + " already exists");
+      }
       standardSettings(task, classification);
       setCallbackStateOnTaskCreation(task);
       try {
@@ -277,12 +408,23 @@ public class TaskServiceImpl implements TaskService {
 
   @Override
   public Task getTask(String id) throws NotAuthorizedException, TaskNotFoundException {
-    LOGGER.debug("entry to getTaskById(id = {})", id);
+    return getTask(id, false);
+  }
+
+  @Override
+  public Task getTask(String id, boolean loadAttachmentsLazily)
+      throws NotAuthorizedException, TaskNotFoundException {
+    LOGGER.debug(
+        "entry to getTaskById(id = {}, loadAttachmentsLazily = {})", id, loadAttachmentsLazily);
     TaskImpl resultTask = null;
     try {
       taskanaEngine.openConnection();
 
       resultTask = taskMapper.findById(id);
+      boolean archived = resultTask == null && isTaskArchivingEnabled();
+      if (archived) {
+        resultTask = taskArchiveMapper.findById(id);
+      }
       if (resultTask != null) {
         WorkbasketQueryImpl query = (WorkbasketQueryImpl) workbasketService.createWorkbasketQuery();
         query.setUsedToAugmentTasks(true);
@@ -300,17 +442,24 @@ public class TaskServiceImpl implements TaskService {
           resultTask.setWorkbasketSummary(workbaskets.get(0));
         }
 
-        List<AttachmentImpl> attachmentImpls =
-            attachmentMapper.findAttachmentsByTaskId(resultTask.getId());
+        List<AttachmentImpl> attachmentImpls = null;
+        if (!loadAttachmentsLazily) {
+          attachmentImpls = findAttachmentsByTaskId(resultTask.getId(), archived);
+        }
         if (attachmentImpls == null) {
           attachmentImpls = new ArrayList<>();
         }
 
         List<ClassificationSummary> classifications;
         classifications = findClassificationForTaskImplAndAttachments(resultTask, attachmentImpls);
-        List<Attachment> attachments =
-            addClassificationSummariesToAttachments(attachmentImpls, classifications);
-        resultTask.setAttachments(attachments);
+        if (loadAttachmentsLazily) {
+          String taskId = resultTask.getId();
+          resultTask.setAttachmentLoader(() -> loadAttachments(taskId, archived));
+        } else {
+          List<Attachment> attachments =
+              addClassificationSummariesToAttachments(attachmentImpls, classifications);
+          resultTask.setAttachments(attachments);
+        }
 
         String classificationId = resultTask.getClassificationSummary().getId();
         ClassificationSummary classification =
@@ -372,6 +521,25 @@ public class TaskServiceImpl implements TaskService {
     return new TaskQueryImpl(taskanaEngine);
   }
 
+  @Override
+  public long estimateTaskCount() throws NotAuthorizedException {
+    LOGGER.debug("entry to estimateTaskCount()");
+    taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.ADMIN, TaskanaRole.TASK_ADMIN);
+    Long estimate = null;
+    try {
+      taskanaEngine.openConnection();
+      estimate = taskMapper.estimateTaskCount();
+      if (estimate == null || estimate < 0) {
+        LOGGER.debug("No table statistics available. Falling back to an exact count.");
+        estimate = createTaskQuery().count();
+      }
+      return estimate;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from estimateTaskCount(). Returning result {} ", estimate);
+    }
+  }
+
   @Override
   public Task newTask() {
     return newTask(null);
@@ -421,6 +589,10 @@ public class TaskServiceImpl implements TaskService {
     try {
       taskanaEngine.openConnection();
       oldTaskImpl = (TaskImpl) getTask(newTaskImpl.getId());
+      if (isArchived(oldTaskImpl)) {
+        throw new InvalidStateException(
+            String.format(TASK_WITH_ID_IS_ARCHIVED, oldTaskImpl.getId()));
+      }
 
       newTaskImpl = checkConcurrencyAndSetModified(newTaskImpl, oldTaskImpl);
 
@@ -497,7 +669,14 @@ public class TaskServiceImpl implements TaskService {
         return bulkLog;
       }
 
-      List<MinimalTaskSummary> taskSummaries = taskMapper.findExistingTasks(taskIds, null);
+      List<MinimalTaskSummary> taskSummaries =
+          new ArrayList<>(taskMapper.findExistingTasks(taskIds, null));
+      List<String> archivedTaskIds = new ArrayList<>();
+      if (isTaskArchivingEnabled()) {
+        List<MinimalTaskSummary> archivedSummaries = taskArchiveMapper.findExistingTasks(taskIds);
+        archivedSummaries.forEach(summary -> archivedTaskIds.add(summary.getTaskId()));
+        taskSummaries.addAll(archivedSummaries);
+      }
 
       Iterator<String> taskIdIterator = taskIds.iterator();
       while (taskIdIterator.hasNext()) {
@@ -505,6 +684,8 @@ public class TaskServiceImpl implements TaskService {
       }
       if (!taskIds.isEmpty()) {
         taskMapper.deleteMultiple(taskIds);
+        archivedTaskIds.retainAll(taskIds);
+        deleteArchivedTasks(archivedTaskIds);
       }
       return bulkLog;
     } finally {
@@ -527,13 +708,13 @@ public class TaskServiceImpl implements TaskService {
       BulkOperationResults<String, TaskanaException> bulkLog = new BulkOperationResults<>();
       List<String> taskIds = new ArrayList<>(taskIdsToBeCompleted);
       removeNonExistingTasksFromTaskIdList(taskIds, bulkLog);
+      taskIds = taskIds.stream().distinct().collect(Collectors.toList());
 
-      List<TaskSummary> taskSummaries =
-          this.createTaskQuery().idIn(taskIds.toArray(new String[0])).list();
-
-      checkIfTasksMatchCompleteCriteria(taskIds, taskSummaries, bulkLog);
-
-      updateTasksToBeCompleted(taskIds, taskSummaries);
+      if (!taskIds.isEmpty()) {
+        Map<String, MinimalTaskSummary> taskSummaries = findReadableMinimalTaskSummaries(taskIds);
+        checkIfTasksMatchCompleteCriteria(taskIds, taskSummaries, bulkLog);
+        updateTasksToBeCompleted(taskIds, bulkLog);
+      }
 
       return bulkLog;
     } finally {
@@ -623,9 +804,57 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
+  @Override
+  public long updateTasks(TaskQuery selection, Map<String, String> customFieldsToUpdate)
+      throws InvalidArgumentException {
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "entry to updateTasks(selection = {}, customFieldsToUpdate = {})",
+          selection,
+          customFieldsToUpdate);
+    }
+    if (!(selection instanceof TaskQueryImpl)) {
+      throw new InvalidArgumentException(
+          "The selection argument to updateTasks must be a query of the TaskService.");
+    }
+    validateCustomFields(customFieldsToUpdate);
+    CustomPropertySelector fieldSelector = new CustomPropertySelector();
+    TaskImpl updatedTask = initUpdatedTask(customFieldsToUpdate, fieldSelector);
+    // listing the ids changes the order and the limits of the query
+    TaskQueryImpl query = ((TaskQueryImpl) selection).copy();
+
+    long updatedCount = 0;
+    try {
+      taskanaEngine.openConnection();
+      // iterate by id instead of an offset, the update may remove tasks from the selection
+      String lastTaskId = null;
+      List<String> taskIds;
+      do {
+        taskIds = query.listIdsAfter(lastTaskId, UPDATE_TASKS_CHUNK_SIZE);
+        if (taskIds.isEmpty()) {
+          break;
+        }
+        List<TaskSummary> oldTaskSummaries =
+            HistoryEventProducer.isHistoryEnabled()
+                ? getTasksToChange(taskIds)
+                : Collections.emptyList();
+        updatedCount += taskMapper.updateTasks(taskIds, updatedTask, fieldSelector);
+        if (HistoryEventProducer.isHistoryEnabled()) {
+          createUpdatedEvents(oldTaskSummaries, customFieldsToUpdate, updatedTask.getModified());
+        }
+        lastTaskId = taskIds.get(taskIds.size() - 1);
+      } while (taskIds.size() == UPDATE_TASKS_CHUNK_SIZE);
+      return updatedCount;
+    } finally {
+      LOGGER.debug("exit from updateTasks(), updated {} tasks.", updatedCount);
+      taskanaEngine.returnConnection();
+    }
+  }
+
   @Override
   public TaskComment createTaskComment(TaskComment taskComment)
-      throws NotAuthorizedException, TaskNotFoundException, InvalidArgumentException {
+      throws NotAuthorizedException, TaskNotFoundException, InvalidArgumentException,
+          InvalidStateException {
     return taskCommentService.createTaskComment(taskComment);
   }
 
@@ -657,6 +886,13 @@ public class TaskServiceImpl implements TaskService {
     return taskCommentService.getTaskComments(taskId);
   }
 
+  @Override
+  public List<TaskComment> getTaskComments(List<String> taskIds)
+      throws NotAuthorizedException, TaskNotFoundException, InvalidArgumentException {
+
+    return taskCommentService.getTaskComments(taskIds);
+  }
+
   @Override
   public BulkOperationResults<String, TaskanaException> setCallbackStateForTasks(
       List<String> externalIds, CallbackState state) {
@@ -674,7 +910,11 @@ public class TaskServiceImpl implements TaskService {
         return bulkLog;
       }
 
-      List<MinimalTaskSummary> taskSummaries = taskMapper.findExistingTasks(null, externalIds);
+      Map<String, MinimalTaskSummary> taskSummaries =
+          taskMapper.findExistingTasks(null, externalIds).stream()
+              .collect(
+                  Collectors.toMap(
+                      MinimalTaskSummary::getExternalId, task -> task, (first, second) -> first));
 
       Iterator<String> taskIdIterator = externalIds.iterator();
       while (taskIdIterator.hasNext()) {
@@ -712,11 +952,19 @@ public class TaskServiceImpl implements TaskService {
       Pair<List<MinimalTaskSummary>, BulkLog> resultsPair = getMinimalTaskSummaries(taskIds);
       // set the Owner of these tasks we are authorized for
       List<MinimalTaskSummary> existingMinimalTaskSummaries = resultsPair.getLeft();
+      bulkLog.addAllErrors(resultsPair.getRight());
+      // only ready tasks get a new owner, so the others are not part of the update
+      bulkLog.addAllErrors(
+          addExceptionsForTasksWhoseOwnerWasNotSet(
+              owner,
+              existingMinimalTaskSummaries.stream()
+                  .filter(task -> !TaskState.READY.equals(task.getTaskState()))
+                  .collect(Collectors.toList())));
       taskIds =
           existingMinimalTaskSummaries.stream()
+              .filter(task -> TaskState.READY.equals(task.getTaskState()))
               .map(MinimalTaskSummary::getTaskId)
               .collect(Collectors.toList());
-      bulkLog.addAllErrors(resultsPair.getRight());
       if (taskIds.isEmpty()) {
         return bulkLog;
       } else {
@@ -883,49 +1131,13 @@ public class TaskServiceImpl implements TaskService {
         oldTaskImpl,
         newTaskImpl);
 
-    List<Field> fields = new ArrayList<>();
-
-    Class<?> currentClass = oldTaskImpl.getClass();
-    while (currentClass.getSuperclass() != null) {
-      fields.addAll(Arrays.asList(currentClass.getDeclaredFields()));
-      currentClass = currentClass.getSuperclass();
-    }
-
-    Predicate<Triplet<Field, Object, Object>> areFieldsNotEqual =
-        fieldAndValuePairTriplet ->
-            !Objects.equals(
-                fieldAndValuePairTriplet.getMiddle(), fieldAndValuePairTriplet.getRight());
-    Predicate<Triplet<Field, Object, Object>> isFieldNotCustomAttributes =
-        fieldAndValuePairTriplet ->
-            !fieldAndValuePairTriplet.getLeft().getName().equals("customAttributes");
-
-    List<JSONObject> changedAttributes =
-        fields.stream()
-            .peek(field -> field.setAccessible(true))
-            .map(
-                CheckedFunction.wrap(
-                    field -> new Triplet<>(field, field.get(oldTaskImpl), field.get(newTaskImpl))))
-            .filter(areFieldsNotEqual.and(isFieldNotCustomAttributes))
-            .map(
-                fieldAndValuePairTriplet -> {
-                  JSONObject changedAttribute = new JSONObject();
-                  changedAttribute.put("fieldName", fieldAndValuePairTriplet.getLeft().getName());
-                  changedAttribute.put(
-                      "oldValue",
-                      Optional.ofNullable(fieldAndValuePairTriplet.getMiddle()).orElse(""));
-                  changedAttribute.put(
-                      "newValue",
-                      Optional.ofNullable(fieldAndValuePairTriplet.getRight()).orElse(""));
-                  return changedAttribute;
-                })
-            .collect(Collectors.toList());
-
-    JSONObject changes = new JSONObject();
-    changes.put("changes", changedAttributes);
+    String changes =
+        ObjectAttributeChangeDetector.determineChangesInAttributes(
+            oldTaskImpl, newTaskImpl, "customAttributes");
 
     LOGGER.debug("Exit from determineChangesInTaskAttributes()");
 
-    return changes.toString();
+    return changes;
   }
 
   Pair<List<MinimalTaskSummary>, BulkLog> getMinimalTaskSummaries(List<String> argTaskIds) {
@@ -960,10 +1172,11 @@ public class TaskServiceImpl implements TaskService {
             new NotAuthorizedException(
                 String.format("User %s is not authorized for task %s ", userId, taskId), userId));
       }
-      taskIds.removeAll(taskIdsNotAuthorizedFor);
+      Set<String> taskIdsAuthorizedFor = new HashSet<>(taskIds);
+      taskIdsAuthorizedFor.removeAll(taskIdsNotAuthorizedFor);
       List<MinimalTaskSummary> tasksAuthorizedFor =
           existingTasks.stream()
-              .filter(t -> taskIds.contains(t.getTaskId()))
+              .filter(t -> taskIdsAuthorizedFor.contains(t.getTaskId()))
               .collect(Collectors.toList());
       return new Pair<>(tasksAuthorizedFor, bulkLog);
     }
@@ -973,10 +1186,10 @@ public class TaskServiceImpl implements TaskService {
       List<String> requestTaskIds, List<MinimalTaskSummary> existingMinimalTaskSummaries) {
     BulkLog bulkLog = new BulkLog();
     List<String> nonExistingTaskIds = new ArrayList<>(requestTaskIds);
-    List<String> existingTaskIds =
+    Set<String> existingTaskIds =
         existingMinimalTaskSummaries.stream()
             .map(MinimalTaskSummary::getTaskId)
-            .collect(Collectors.toList());
+            .collect(Collectors.toSet());
     nonExistingTaskIds.removeAll(existingTaskIds);
     nonExistingTaskIds.forEach(
         taskId ->
@@ -1027,6 +1240,14 @@ public class TaskServiceImpl implements TaskService {
         "augmentTaskSummariesByContainedSummaries() about to query for attachmentSummaries ");
     List<AttachmentSummaryImpl> attachmentSummaries =
         attachmentMapper.findAttachmentSummariesByTaskIds(taskIds);
+    if (isTaskArchivingEnabled()) {
+      List<String> endStateTaskIds = getEndStateTaskIds(taskSummaries);
+      if (!endStateTaskIds.isEmpty()) {
+        attachmentSummaries = new ArrayList<>(attachmentSummaries);
+        attachmentSummaries.addAll(
+            taskArchiveMapper.findAttachmentSummariesByTaskIds(endStateTaskIds));
+      }
+    }
 
     List<ClassificationSummary> classifications =
         findClassificationsForTasksAndAttachments(taskSummaries, attachmentSummaries);
@@ -1039,6 +1260,133 @@ public class TaskServiceImpl implements TaskService {
     return result;
   }
 
+  /**
+   * Moves the oldest tasks, which are in an end state since the given instant, together with their
+   * attachments and comments into the archive tables.
+   *
+   * @param completedBefore only tasks completed before this instant are archived
+   * @param batchSize the maximum number of tasks which are archived
+   * @return the number of archived tasks
+   * @throws NotAuthorizedException if the current user is not an admin
+   */
+  public int archiveTasks(Instant completedBefore, int batchSize) throws NotAuthorizedException {
+    LOGGER.debug(
+        "entry to archiveTasks(completedBefore = {}, batchSize = {})", completedBefore, batchSize);
+    taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.ADMIN);
+    int archivedTasks = 0;
+    try {
+      taskanaEngine.openConnection();
+      if (!isTaskArchivingEnabled()) {
+        return archivedTasks;
+      }
+      List<String> taskIds = taskArchiveMapper.findTaskIdsToArchive(completedBefore, batchSize);
+      if (!taskIds.isEmpty()) {
+        taskArchiveMapper.copyTasks(taskIds);
+        taskArchiveMapper.copyAttachments(taskIds);
+        taskArchiveMapper.copyComments(taskIds);
+        taskArchiveMapper.deleteActiveComments(taskIds);
+        taskArchiveMapper.deleteActiveAttachments(taskIds);
+        taskMapper.deleteMultiple(taskIds);
+        archivedTasks = taskIds.size();
+      }
+      return archivedTasks;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from archiveTasks(), returning {}", archivedTasks);
+    }
+  }
+
+  List<TaskCommentImpl> findArchivedTaskComments(Task task) {
+    if (!isTaskArchivingEnabled() || !task.getState().isEndState()) {
+      return Collections.emptyList();
+    }
+    return taskArchiveMapper.findCommentsByTaskId(task.getId());
+  }
+
+  List<TaskCommentImpl> findArchivedTaskComments(List<MinimalTaskSummary> tasks) {
+    if (!isTaskArchivingEnabled()) {
+      return Collections.emptyList();
+    }
+    List<String> endStateTaskIds =
+        tasks.stream()
+            .filter(task -> task.getTaskState() != null && task.getTaskState().isEndState())
+            .map(MinimalTaskSummary::getTaskId)
+            .collect(Collectors.toList());
+    List<TaskCommentImpl> taskComments = new ArrayList<>();
+    CollectionUtil.forEachChunk(
+        endStateTaskIds,
+        chunk -> taskComments.addAll(taskArchiveMapper.findCommentsByTaskIds(chunk)));
+    return taskComments;
+  }
+
+  List<TaskCommentStatistics> findArchivedTaskCommentStatistics(
+      List<TaskSummaryImpl> taskSummaries) {
+    if (!isTaskArchivingEnabled()) {
+      return Collections.emptyList();
+    }
+    List<TaskCommentStatistics> statistics = new ArrayList<>();
+    CollectionUtil.forEachChunk(
+        getEndStateTaskIds(taskSummaries),
+        chunk -> statistics.addAll(taskArchiveMapper.findCommentStatisticsByTaskIds(chunk)));
+    return statistics;
+  }
+
+  void addCommentSummariesToTaskSummaries(List<TaskSummaryImpl> taskSummaries) {
+    taskCommentService.addCommentSummariesToTaskSummaries(taskSummaries);
+  }
+
+  /**
+   * Returns the given tasks, if they exist and the current user is allowed to read them. The read
+   * permission is checked with one query for all workbaskets of the tasks.
+   *
+   * @param taskIds the ids of the tasks
+   * @return the minimal summaries of the active and archived tasks
+   * @throws TaskNotFoundException if one of the tasks does not exist
+   * @throws NotAuthorizedException if the current user may not read one of the tasks
+   */
+  List<MinimalTaskSummary> findTasksWithReadPermission(List<String> taskIds)
+      throws TaskNotFoundException, NotAuthorizedException {
+    LOGGER.debug("entry to findTasksWithReadPermission(taskIds = {})", taskIds);
+    List<MinimalTaskSummary> tasks = new ArrayList<>();
+    CollectionUtil.forEachChunk(
+        taskIds, chunk -> tasks.addAll(taskMapper.findExistingTasks(chunk, null)));
+    if (tasks.size() < taskIds.size() && isTaskArchivingEnabled()) {
+      CollectionUtil.forEachChunk(
+          taskIds, chunk -> tasks.addAll(taskArchiveMapper.findExistingTasks(chunk)));
+    }
+    Set<String> existingTaskIds =
+        tasks.stream().map(MinimalTaskSummary::getTaskId).collect(Collectors.toSet());
+    for (String taskId : taskIds) {
+      if (!existingTaskIds.contains(taskId)) {
+        throw new TaskNotFoundException(taskId, String.format(TASK_WITH_ID_WAS_NOT_FOUND, taskId));
+      }
+    }
+
+    String[] workbasketIds =
+        tasks.stream().map(MinimalTaskSummary::getWorkbasketId).distinct().toArray(String[]::new);
+    if (workbasketIds.length > 0) {
+      WorkbasketQueryImpl query = (WorkbasketQueryImpl) workbasketService.createWorkbasketQuery();
+      query.setUsedToAugmentTasks(true);
+      Set<String> readableWorkbasketIds =
+          query.idIn(workbasketIds).list().stream()
+              .map(WorkbasketSummary::getId)
+              .collect(Collectors.toSet());
+      for (String workbasketId : workbasketIds) {
+        if (!readableWorkbasketIds.contains(workbasketId)) {
+          String currentUser = CurrentUserContext.getUserid();
+          throw new NotAuthorizedException(
+              "The current user "
+                  + currentUser
+                  + " has no read permission for workbasket "
+                  + workbasketId,
+              currentUser);
+        }
+      }
+    }
+    LOGGER.debug("exit from findTasksWithReadPermission()");
+    return tasks;
+  }
+
   private TaskImpl checkConcurrencyAndSetModified(TaskImpl newTaskImpl, TaskImpl oldTaskImpl)
       throws ConcurrencyException {
     // TODO: not safe to rely only on different timestamps.
@@ -1109,23 +1457,22 @@ public class TaskServiceImpl implements TaskService {
     TaskImpl task;
     try {
       taskanaEngine.openConnection();
-      task = (TaskImpl) getTask(taskId);
-      TaskState state = task.getState();
-      if (!state.in(TaskState.READY, TaskState.CLAIMED)) {
+      if (!claimTaskIfClaimable(taskId, userId, forceClaim)) {
+        // determine the reason why the task could not be claimed
+        task = (TaskImpl) getTask(taskId);
+        TaskState state = task.getState();
+        if (!state.in(TaskState.READY, TaskState.CLAIMED)) {
+          throw new InvalidStateException(
+              String.format(TASK_WITH_ID_IS_ALREADY_IN_END_STATE, taskId));
+        }
+        if (state == TaskState.CLAIMED && !forceClaim && !task.getOwner().equals(userId)) {
+          throw new InvalidOwnerException(
+              String.format(TASK_WITH_ID_IS_ALREADY_CLAIMED_BY, taskId, task.getOwner()));
+        }
         throw new InvalidStateException(
-            String.format(TASK_WITH_ID_IS_ALREADY_IN_END_STATE, taskId));
+            String.format(TASK_WITH_ID_WAS_MODIFIED_CONCURRENTLY, taskId));
       }
-      if (state == TaskState.CLAIMED && !forceClaim && !task.getOwner().equals(userId)) {
-        throw new InvalidOwnerException(
-            String.format(TASK_WITH_ID_IS_ALREADY_CLAIMED_BY, taskId, task.getOwner()));
-      }
-      Instant now = Instant.now();
-      task.setOwner(userId);
-      task.setModified(now);
-      task.setClaimed(now);
-      task.setRead(true);
-      task.setState(TaskState.CLAIMED);
-      taskMapper.update(task);
+      task = (TaskImpl) getTask(taskId);
       LOGGER.debug("Task '{}' claimed by user '{}'.", taskId, userId);
       if (HistoryEventProducer.isHistoryEnabled()) {
         historyEventProducer.createEvent(new ClaimedEvent(task, CurrentUserContext.getUserid()));
@@ -1149,23 +1496,22 @@ public class TaskServiceImpl implements TaskService {
     TaskImpl task;
     try {
       taskanaEngine.openConnection();
-      task = (TaskImpl) getTask(taskId);
-      TaskState state = task.getState();
-      if (state.isEndState()) {
+      if (!cancelClaimOfTaskIfClaimed(taskId, userId, forceUnclaim)) {
+        // determine the reason why the claim could not be cancelled
+        task = (TaskImpl) getTask(taskId);
+        TaskState state = task.getState();
+        if (state.isEndState()) {
+          throw new InvalidStateException(
+              String.format(TASK_WITH_ID_IS_ALREADY_IN_END_STATE, taskId));
+        }
+        if (state == TaskState.CLAIMED && !forceUnclaim && !userId.equals(task.getOwner())) {
+          throw new InvalidOwnerException(
+              String.format(TASK_WITH_ID_IS_ALREADY_CLAIMED_BY, taskId, task.getOwner()));
+        }
         throw new InvalidStateException(
-            String.format(TASK_WITH_ID_IS_ALREADY_IN_END_STATE, taskId));
+            String.format(TASK_WITH_ID_WAS_MODIFIED_CONCURRENTLY, taskId));
       }
-      if (state == TaskState.CLAIMED && !forceUnclaim && !userId.equals(task.getOwner())) {
-        throw new InvalidOwnerException(
-            String.format(TASK_WITH_ID_IS_ALREADY_CLAIMED_BY, taskId, task.getOwner()));
-      }
-      Instant now = Instant.now();
-      task.setOwner(null);
-      task.setModified(now);
-      task.setClaimed(null);
-      task.setRead(true);
-      task.setState(TaskState.READY);
-      taskMapper.update(task);
+      task = (TaskImpl) getTask(taskId);
       LOGGER.debug("Task '{}' unclaimed by user '{}'.", taskId, userId);
       if (HistoryEventProducer.isHistoryEnabled()) {
         historyEventProducer.createEvent(
@@ -1187,45 +1533,43 @@ public class TaskServiceImpl implements TaskService {
     TaskImpl task;
     try {
       taskanaEngine.openConnection();
-      task = (TaskImpl) this.getTask(taskId);
-
-      if (task.getState() == TaskState.COMPLETED) {
-        return task;
-      }
+      if (!completeTaskIfClaimed(taskId, userId, isForced)) {
+        // determine the reason why the task could not be completed
+        task = (TaskImpl) this.getTask(taskId);
 
-      if (task.getState().in(TaskState.CANCELLED, TaskState.TERMINATED)) {
-        throw new InvalidStateException(
-            String.format(
-                "Cannot complete task %s because it is in state %s.", taskId, task.getState()));
-      }
+        if (task.getState() == TaskState.COMPLETED) {
+          return task;
+        }
 
-      // check pre-conditions for non-forced invocation
-      if (!isForced) {
-        if (task.getClaimed() == null || task.getState() != TaskState.CLAIMED) {
+        if (task.getState().in(TaskState.CANCELLED, TaskState.TERMINATED)) {
           throw new InvalidStateException(
-              String.format(TASK_WITH_ID_HAS_TO_BE_CLAIMED_BEFORE, taskId));
-        } else if (!CurrentUserContext.getAccessIds().contains(task.getOwner())) {
-          throw new InvalidOwnerException(
               String.format(
-                  "Owner of task %s is %s, but current user is %s ",
-                  taskId, task.getOwner(), userId));
+                  "Cannot complete task %s because it is in state %s.", taskId, task.getState()));
         }
-      } else {
-        // CLAIM-forced, if task was not already claimed before.
-        if (task.getClaimed() == null || task.getState() != TaskState.CLAIMED) {
-          task = (TaskImpl) this.forceClaim(taskId);
+
+        boolean isClaimed = task.getClaimed() != null && task.getState() == TaskState.CLAIMED;
+        // check pre-conditions for non-forced invocation
+        if (!isForced) {
+          if (!isClaimed) {
+            throw new InvalidStateException(
+                String.format(TASK_WITH_ID_HAS_TO_BE_CLAIMED_BEFORE, taskId));
+          } else if (!CurrentUserContext.getAccessIds().contains(task.getOwner())) {
+            throw new InvalidOwnerException(
+                String.format(
+                    "Owner of task %s is %s, but current user is %s ",
+                    taskId, task.getOwner(), userId));
+          }
+        } else if (!isClaimed) {
+          // CLAIM-forced, if task was not already claimed before.
+          this.forceClaim(taskId);
+          if (completeTaskIfClaimed(taskId, userId, true)) {
+            return finishCompletion(taskId, userId);
+          }
         }
+        throw new InvalidStateException(
+            String.format(TASK_WITH_ID_WAS_MODIFIED_CONCURRENTLY, taskId));
       }
-      Instant now = Instant.now();
-      task.setCompleted(now);
-      task.setModified(now);
-      task.setState(TaskState.COMPLETED);
-      task.setOwner(userId);
-      taskMapper.update(task);
-      LOGGER.debug("Task '{}' completed by user '{}'.", taskId, userId);
-      if (HistoryEventProducer.isHistoryEnabled()) {
-        historyEventProducer.createEvent(new CompletedEvent(task, CurrentUserContext.getUserid()));
-      }
+      task = finishCompletion(taskId, userId);
     } finally {
       taskanaEngine.returnConnection();
       LOGGER.debug("exit from completeTask()");
@@ -1233,6 +1577,62 @@ public class TaskServiceImpl implements TaskService {
     return task;
   }
 
+  private TaskImpl finishCompletion(String taskId, String userId)
+      throws TaskNotFoundException, NotAuthorizedException {
+    TaskImpl task = (TaskImpl) this.getTask(taskId);
+    LOGGER.debug("Task '{}' completed by user '{}'.", taskId, userId);
+    if (HistoryEventProducer.isHistoryEnabled()) {
+      historyEventProducer.createEvent(new CompletedEvent(task, CurrentUserContext.getUserid()));
+    }
+    return task;
+  }
+
+  private boolean claimTaskIfClaimable(String taskId, String userId, boolean force) {
+    List<String> accessIds = getAccessIdsToCheckReadPermission();
+    return (accessIds == null || !accessIds.isEmpty())
+        && taskMapper.claimTaskIfClaimable(taskId, userId, Instant.now(), force, accessIds) == 1;
+  }
+
+  private boolean cancelClaimOfTaskIfClaimed(String taskId, String userId, boolean force) {
+    List<String> accessIds = getAccessIdsToCheckReadPermission();
+    return (accessIds == null || !accessIds.isEmpty())
+        && taskMapper.cancelClaimOfTaskIfClaimed(taskId, userId, Instant.now(), force, accessIds)
+            == 1;
+  }
+
+  private boolean completeTaskIfClaimed(String taskId, String userId, boolean force) {
+    List<String> accessIds = getAccessIdsToCheckReadPermission();
+    List<String> ownerAccessIds = force ? null : CurrentUserContext.getAccessIds();
+    return (accessIds == null || !accessIds.isEmpty())
+        && taskMapper.completeTaskIfClaimed(
+                taskId, userId, Instant.now(), ownerAccessIds, accessIds)
+            == 1;
+  }
+
+  /**
+   * Returns the access ids which are used to check the read permission inside of a conditional
+   * update. Admins and task admins are allowed to read every task, so null is returned for them.
+   */
+  private List<String> getAccessIdsToCheckReadPermission() {
+    if (taskanaEngine.getEngine().isUserInRole(TaskanaRole.ADMIN, TaskanaRole.TASK_ADMIN)) {
+      return null;
+    }
+    return CurrentUserContext.getAccessIds().stream()
+        .filter(Objects::nonNull)
+        .map(String::toLowerCase)
+        .collect(Collectors.toList());
+  }
+
+  private Task getUpdatedTask(String taskId) {
+    try {
+      return getTask(taskId);
+    } catch (TaskNotFoundException | NotAuthorizedException e) {
+      // the task was updated inside of the same transaction, so this can not happen
+      throw new SystemException(
+          String.format("Task %s could not be read after its update.", taskId), e);
+    }
+  }
+
   private void deleteTask(String taskId, boolean forceDelete)
       throws TaskNotFoundException, InvalidStateException, NotAuthorizedException {
     LOGGER.debug("entry to deleteTask(taskId = {} , forceDelete = {})", taskId, forceDelete);
@@ -1251,7 +1651,11 @@ public class TaskServiceImpl implements TaskService {
         throw new InvalidStateException(String.format(TASK_WITH_ID_CALLBACK_NOT_PROCESSED, taskId));
       }
 
-      taskMapper.delete(taskId);
+      if (isArchived(task)) {
+        deleteArchivedTasks(Collections.singletonList(taskId));
+      } else {
+        taskMapper.delete(taskId);
+      }
       LOGGER.debug("Task {} deleted.", taskId);
     } finally {
       taskanaEngine.returnConnection();
@@ -1300,7 +1704,7 @@ public class TaskServiceImpl implements TaskService {
 
   private void removeSingleTaskForCallbackStateByExternalId(
       BulkOperationResults<String, TaskanaException> bulkLog,
-      List<MinimalTaskSummary> taskSummaries,
+      Map<String, MinimalTaskSummary> taskSummaries,
       Iterator<String> externalIdIterator,
       CallbackState desiredCallbackState) {
     LOGGER.debug("entry to removeSingleTask()");
@@ -1310,11 +1714,7 @@ public class TaskServiceImpl implements TaskService {
           "", new InvalidArgumentException(IDS_WITH_EMPTY_OR_NULL_VALUE_ARE_NOT_ALLOWED));
       externalIdIterator.remove();
     } else {
-      MinimalTaskSummary foundSummary =
-          taskSummaries.stream()
-              .filter(taskSummary -> currentExternalId.equals(taskSummary.getExternalId()))
-              .findFirst()
-              .orElse(null);
+      MinimalTaskSummary foundSummary = taskSummaries.get(currentExternalId);
       if (foundSummary == null) {
         bulkLog.addError(
             currentExternalId,
@@ -1359,9 +1759,9 @@ public class TaskServiceImpl implements TaskService {
     TaskImpl task1 = task;
     LOGGER.debug("entry to standardSettings()");
     final Instant now = Instant.now();
-    task1.setId(IdGenerator.generateWithPrefix(ID_PREFIX_TASK));
+    task1.setId(taskanaEngine.getIdGenerator().generateId(ID_PREFIX_TASK));
     if (task1.getExternalId() == null) {
-      task1.setExternalId(IdGenerator.generateWithPrefix(ID_PREFIX_EXT_TASK_ID));
+      task1.setExternalId(taskanaEngine.getIdGenerator().generateId(ID_PREFIX_EXT_TASK_ID));
     }
     task1.setState(TaskState.READY);
     task1.setCreated(now);
@@ -1378,7 +1778,8 @@ public class TaskServiceImpl implements TaskService {
 
     // if no business process id is provided, a unique id is created.
     if (task1.getBusinessProcessId() == null) {
-      task1.setBusinessProcessId(IdGenerator.generateWithPrefix(ID_PREFIX_BUSINESS_PROCESS));
+      task1.setBusinessProcessId(
+          taskanaEngine.getIdGenerator().generateId(ID_PREFIX_BUSINESS_PROCESS));
     }
 
     // null in case of manual tasks
@@ -1423,9 +1824,29 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
+  /**
+   * Returns the minimal summaries of the given tasks which the current user is allowed to read.
+   * Tasks which are not readable are treated like tasks which do not exist.
+   */
+  private Map<String, MinimalTaskSummary> findReadableMinimalTaskSummaries(List<String> taskIds) {
+    List<MinimalTaskSummary> existingTasks = taskMapper.findExistingTasks(taskIds, null);
+    Set<String> taskIdsNotAuthorizedFor = new HashSet<>();
+    if (!existingTasks.isEmpty()
+        && !taskanaEngine.getEngine().isUserInRole(TaskanaRole.ADMIN, TaskanaRole.TASK_ADMIN)) {
+      List<String> existingTaskIds =
+          existingTasks.stream().map(MinimalTaskSummary::getTaskId).collect(Collectors.toList());
+      taskIdsNotAuthorizedFor.addAll(
+          taskMapper.filterTaskIdsNotAuthorizedFor(
+              existingTaskIds, CurrentUserContext.getAccessIds()));
+    }
+    return existingTasks.stream()
+        .filter(task -> !taskIdsNotAuthorizedFor.contains(task.getTaskId()))
+        .collect(Collectors.toMap(MinimalTaskSummary::getTaskId, task -> task));
+  }
+
   private void checkIfTasksMatchCompleteCriteria(
       List<String> taskIds,
-      List<TaskSummary> taskSummaries,
+      Map<String, MinimalTaskSummary> taskSummaries,
       BulkOperationResults<String, TaskanaException> bulkLog) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
@@ -1436,26 +1857,22 @@ public class TaskServiceImpl implements TaskService {
           bulkLog);
     }
 
-    Instant now = Instant.now();
+    Set<String> accessIds = new HashSet<>(CurrentUserContext.getAccessIds());
     Iterator<String> taskIdIterator = taskIds.iterator();
     while (taskIdIterator.hasNext()) {
       String currentTaskId = taskIdIterator.next();
-      TaskSummaryImpl taskSummary =
-          (TaskSummaryImpl)
-              taskSummaries.stream()
-                  .filter(ts -> currentTaskId.equals(ts.getId()))
-                  .findFirst()
-                  .orElse(null);
+      MinimalTaskSummary taskSummary = taskSummaries.get(currentTaskId);
       if (taskSummary == null) {
         bulkLog.addError(
             currentTaskId,
             new TaskNotFoundException(
                 currentTaskId, String.format(TASK_WITH_ID_WAS_NOT_FOUND, currentTaskId)));
         taskIdIterator.remove();
-      } else if (taskSummary.getClaimed() == null || taskSummary.getState() != TaskState.CLAIMED) {
+      } else if (taskSummary.getClaimed() == null
+          || taskSummary.getTaskState() != TaskState.CLAIMED) {
         bulkLog.addError(currentTaskId, new InvalidStateException(currentTaskId));
         taskIdIterator.remove();
-      } else if (!CurrentUserContext.getAccessIds().contains(taskSummary.getOwner())) {
+      } else if (!accessIds.contains(taskSummary.getOwner())) {
         bulkLog.addError(
             currentTaskId,
             new InvalidOwnerException(
@@ -1463,27 +1880,38 @@ public class TaskServiceImpl implements TaskService {
                     "TaskOwner is %s, but currentUser is %s.",
                     taskSummary.getOwner(), CurrentUserContext.getUserid())));
         taskIdIterator.remove();
-      } else {
-        taskSummary.setCompleted(now);
-        taskSummary.setModified(now);
-        taskSummary.setState(TaskState.COMPLETED);
       }
     }
     LOGGER.debug("exit from checkIfTasksMatchCompleteCriteria()");
   }
 
-  private void updateTasksToBeCompleted(List<String> taskIds, List<TaskSummary> taskSummaries) {
-    if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug(
-          "entry to updateTasksToBeCompleted(taskIds = {}, taskSummaries = {})",
-          taskIds,
-          taskSummaries);
-    }
-
-    if (!taskIds.isEmpty() && !taskSummaries.isEmpty()) {
-      taskMapper.updateCompleted(taskIds, (TaskSummaryImpl) taskSummaries.get(0));
-      if (HistoryEventProducer.isHistoryEnabled()) {
-        createTasksCompletedEvents(taskSummaries);
+  private void updateTasksToBeCompleted(
+      List<String> taskIds, BulkOperationResults<String, TaskanaException> bulkLog) {
+    LOGGER.debug("entry to updateTasksToBeCompleted(taskIds = {})", taskIds);
+
+    if (!taskIds.isEmpty()) {
+      // every database keeps milliseconds, so the completed tasks can be recognized by it
+      Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+      // the update repeats the checks, so a concurrent change of a task is not overwritten
+      int completedTasks =
+          taskMapper.completeTasksIfClaimed(taskIds, now, CurrentUserContext.getAccessIds());
+      if (completedTasks != taskIds.size()) {
+        Set<String> modifiedTaskIds = new HashSet<>();
+        for (MinimalTaskSummary taskSummary : taskMapper.findExistingTasks(taskIds, null)) {
+          if (taskSummary.getTaskState() != TaskState.COMPLETED
+              || !now.equals(taskSummary.getModified())) {
+            String taskId = taskSummary.getTaskId();
+            bulkLog.addError(
+                taskId,
+                new InvalidStateException(
+                    String.format(TASK_WITH_ID_WAS_MODIFIED_CONCURRENTLY, taskId)));
+            modifiedTaskIds.add(taskId);
+          }
+        }
+        taskIds.removeAll(modifiedTaskIds);
+      }
+      if (HistoryEventProducer.isHistoryEnabled() && !taskIds.isEmpty()) {
+        createTasksCompletedEvents(taskIds);
       }
     }
     LOGGER.debug("exit from updateTasksToBeCompleted()");
@@ -1673,6 +2101,62 @@ public class TaskServiceImpl implements TaskService {
     LOGGER.debug("exit from addClassificationSummariesToAttachmentSummaries()");
   }
 
+  private List<Attachment> loadAttachments(String taskId, boolean archived) {
+    LOGGER.debug("entry to loadAttachments(taskId = {}, archived = {})", taskId, archived);
+    List<Attachment> result = new ArrayList<>();
+    try {
+      taskanaEngine.openConnection();
+      List<AttachmentImpl> attachmentImpls = findAttachmentsByTaskId(taskId, archived);
+      if (attachmentImpls != null && !attachmentImpls.isEmpty()) {
+        Set<String> classificationIds =
+            attachmentImpls.stream()
+                .map(att -> att.getClassificationSummary().getId())
+                .collect(Collectors.toSet());
+        result =
+            addClassificationSummariesToAttachments(
+                attachmentImpls, queryClassificationsForTasksAndAttachments(classificationIds));
+      }
+      return result;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from loadAttachments(), returning {}", result);
+    }
+  }
+
+  private List<AttachmentImpl> findAttachmentsByTaskId(String taskId, boolean archived) {
+    return archived
+        ? taskArchiveMapper.findAttachmentsByTaskId(taskId)
+        : attachmentMapper.findAttachmentsByTaskId(taskId);
+  }
+
+  private static List<String> getEndStateTaskIds(List<TaskSummaryImpl> taskSummaries) {
+    return taskSummaries.stream()
+        .filter(summary -> summary.getState() != null && summary.getState().isEndState())
+        .map(TaskSummaryImpl::getId)
+        .distinct()
+        .collect(Collectors.toList());
+  }
+
+  private boolean isTaskArchivingEnabled() {
+    return taskArchiveMapper != null
+        && taskanaEngine.getEngine().getConfiguration().isTaskArchivingEnabled();
+  }
+
+  boolean isArchived(TaskImpl task) {
+    return isTaskArchivingEnabled()
+        && task.getState().isEndState()
+        && taskMapper.findExistingTasks(Collections.singletonList(task.getId()), null).isEmpty();
+  }
+
+  private void deleteArchivedTasks(List<String> taskIds) {
+    if (taskIds.isEmpty()) {
+      return;
+    }
+    taskArchiveMapper.deleteComments(taskIds);
+    taskArchiveMapper.deleteAttachments(taskIds);
+    taskArchiveMapper.deleteTasks(taskIds);
+  }
+
   private List<Attachment> addClassificationSummariesToAttachments(
       List<AttachmentImpl> attachmentImpls, List<ClassificationSummary> classifications) {
     if (LOGGER.isDebugEnabled()) {
@@ -1757,6 +2241,28 @@ public class TaskServiceImpl implements TaskService {
     LOGGER.debug("exit from validateCustomFields()");
   }
 
+  private void createUpdatedEvents(
+      List<TaskSummary> oldTaskSummaries,
+      Map<String, String> customFieldsToUpdate,
+      Instant modified)
+      throws InvalidArgumentException {
+    String userId = CurrentUserContext.getUserid();
+    List<TaskanaHistoryEvent> events = new ArrayList<>(oldTaskSummaries.size());
+    for (TaskSummary oldTaskSummary : oldTaskSummaries) {
+      TaskSummaryImpl newTaskSummary = (TaskSummaryImpl) oldTaskSummary.copy();
+      for (Map.Entry<String, String> entry : customFieldsToUpdate.entrySet()) {
+        newTaskSummary.setCustomAttribute(entry.getKey(), entry.getValue());
+      }
+      // both sides are copies, so that only the custom fields differ
+      String changes =
+          ObjectAttributeChangeDetector.determineChangesInAttributes(
+              oldTaskSummary.copy(), newTaskSummary);
+      ((TaskSummaryImpl) oldTaskSummary).setModified(modified);
+      events.add(new UpdatedEvent(oldTaskSummary, userId, changes));
+    }
+    historyEventProducer.createEvents(events);
+  }
+
   private List<TaskSummary> getTasksToChange(List<String> taskIds) {
     return createTaskQuery().idIn(taskIds.toArray(new String[0])).list();
   }
@@ -1825,10 +2331,19 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
-  private void createTasksCompletedEvents(List<TaskSummary> taskSummaries) {
-    taskSummaries.forEach(
-        task ->
-            historyEventProducer.createEvent(
-                new CompletedEvent(task, CurrentUserContext.getUserid())));
+  private void createTasksCompletedEvents(List<String> taskIds) {
+    // the events need the complete summaries, they are read in one query per batch
+    String userId = CurrentUserContext.getUserid();
+    int batchSize =
+        taskanaEngine.getEngine().getConfiguration().getMaxNumberOfUpdatesPerTransaction();
+    for (int from = 0; from < taskIds.size(); from += batchSize) {
+      List<String> batch = taskIds.subList(from, Math.min(from + batchSize, taskIds.size()));
+      List<TaskSummary> completedTasks =
+          createTaskQuery().idIn(batch.toArray(new String[0])).usePrimaryDataSource().list();
+      historyEventProducer.createEvents(
+          completedTasks.stream()
+              .map(task -> new CompletedEvent(task, userId))
+              .collect(Collectors.toList()));
+    }
   }
 }
@@ -50,11 +50,19 @@ public class TaskTransferrer {
 
   TaskTransferrer(
       InternalTaskanaEngine taskanaEngine, TaskMapper taskMapper, TaskServiceImpl taskService) {
+    this(taskanaEngine, taskanaEngine.getEngine().getWorkbasketService(), taskMapper, taskService);
+  }
+
+  TaskTransferrer(
+      InternalTaskanaEngine taskanaEngine,
+      WorkbasketService workbasketService,
+      TaskMapper taskMapper,
+      TaskServiceImpl taskService) {
     super();
     this.taskanaEngine = taskanaEngine;
     this.taskService = taskService;
     this.taskMapper = taskMapper;
-    this.workbasketService = taskanaEngine.getEngine().getWorkbasketService();
+    this.workbasketService = workbasketService;
     this.historyEventProducer = taskanaEngine.getHistoryEventProducer();
   }
 
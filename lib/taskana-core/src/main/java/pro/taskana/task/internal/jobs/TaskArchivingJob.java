@@ -0,0 +1,109 @@
+package pro.taskana.task.internal.jobs;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
+import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.task.internal.TaskServiceImpl;
+
+/**
+ * Job to move the tasks in an end state into the archive tables. This keeps the active task tables
+ * small, while the archived tasks remain readable.
+ */
+public class TaskArchivingJob extends AbstractTaskanaJob {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskArchivingJob.class);
+
+  // Parameter
+  private final boolean enabled;
+  private final Duration runEvery;
+  private final Duration minimumAge;
+  private final int batchSize;
+
+  public TaskArchivingJob(
+      TaskanaEngine taskanaEngine,
+      TaskanaTransactionProvider<Object> txProvider,
+      ScheduledJob scheduledJob) {
+    super(taskanaEngine, txProvider, scheduledJob);
+    enabled = taskanaEngine.getConfiguration().isTaskArchivingEnabled();
+    runEvery = taskanaEngine.getConfiguration().getArchiveJobRunEvery();
+    minimumAge = taskanaEngine.getConfiguration().getArchiveJobMinimumAge();
+    batchSize = taskanaEngine.getConfiguration().getMaxNumberOfUpdatesPerTransaction();
+  }
+
+  @Override
+  public void run() throws TaskanaException {
+    if (!enabled) {
+      LOGGER.info("Archiving of tasks is disabled. The TaskArchivingJob is not rescheduled.");
+      return;
+    }
+    Instant completedBefore = Instant.now().minus(minimumAge);
+    LOGGER.info("Running job to archive all tasks completed before ({})", completedBefore);
+    try {
+      int totalNumberOfTasksArchived = 0;
+      int archivedTasks;
+      do {
+        archivedTasks = archiveTasksTransactionally(completedBefore);
+        totalNumberOfTasksArchived += archivedTasks;
+      } while (archivedTasks > 0);
+      LOGGER.info("Job ended successfully. {} tasks archived.", totalNumberOfTasksArchived);
+    } catch (Exception e) {
+      throw new TaskanaException("Error while processing TaskArchivingJob.", e);
+    } finally {
+      scheduleNextArchivingJob();
+    }
+  }
+
+  /**
+   * Initializes the TaskArchivingJob schedule. <br>
+   * A new archiving job is scheduled, if the archiving of tasks is enabled.
+   *
+   * @param taskanaEngine the TASKANA engine.
+   */
+  public static void initializeSchedule(TaskanaEngine taskanaEngine) {
+    TaskArchivingJob job = new TaskArchivingJob(taskanaEngine, null, null);
+    if (job.enabled) {
+      job.scheduleNextArchivingJob();
+    }
+  }
+
+  private int archiveTasksTransactionally(Instant completedBefore) throws NotAuthorizedException {
+    LOGGER.debug("entry to archiveTasksTransactionally(completedBefore = {})", completedBefore);
+    TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngineImpl.getTaskService();
+    int archivedTasks;
+    if (txProvider != null) {
+      archivedTasks =
+          (Integer)
+              txProvider.executeInTransaction(
+                  () -> {
+                    try {
+                      return taskService.archiveTasks(completedBefore, batchSize);
+                    } catch (NotAuthorizedException e) {
+                      LOGGER.warn("Could not archive tasks.", e);
+                      return 0;
+                    }
+                  });
+    } else {
+      archivedTasks = taskService.archiveTasks(completedBefore, batchSize);
+    }
+    LOGGER.debug("exit from archiveTasksTransactionally(), returning {}", archivedTasks);
+    return archivedTasks;
+  }
+
+  private void scheduleNextArchivingJob() {
+    LOGGER.debug("Entry to scheduleNextArchivingJob.");
+    ScheduledJob job = new ScheduledJob();
+    job.setType(ScheduledJob.Type.TASKARCHIVINGJOB);
+    job.setDue(Instant.now().plus(runEvery));
+    taskanaEngineImpl.getJobService().createJob(job);
+    LOGGER.info("Scheduling next run of the TaskArchivingJob for {}", job.getDue());
+    LOGGER.debug("Exit from scheduleNextArchivingJob.");
+  }
+}
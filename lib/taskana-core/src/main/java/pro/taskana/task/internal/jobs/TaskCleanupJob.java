@@ -105,6 +105,7 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
                 .getTaskService()
                 .createTaskQuery()
                 .parentBusinessProcessIdIn(task.getParentBusinessProcessId())
+                .includeArchivedTasks()
                 .count());
         countParentTask.merge(task.getParentBusinessProcessId(), 1L, Long::sum);
       }
@@ -129,6 +130,7 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
               .getTaskService()
               .createTaskQuery()
               .parentBusinessProcessIdIn(ids)
+              .includeArchivedTasks()
               .list();
     }
 
@@ -14,6 +14,7 @@ public class MinimalTaskSummary {
   private String classificationId;
   private String owner;
   private TaskState taskState;
+  private Instant claimed;
   private Instant planned;
   private Instant due;
   private Instant modified;
@@ -93,6 +94,14 @@ public class MinimalTaskSummary {
     this.taskState = taskState;
   }
 
+  public Instant getClaimed() {
+    return claimed;
+  }
+
+  public void setClaimed(Instant claimed) {
+    this.claimed = claimed;
+  }
+
   public CallbackState getCallbackState() {
     return callbackState;
   }
@@ -115,6 +124,8 @@ public class MinimalTaskSummary {
         + owner
         + ", taskState="
         + taskState
+        + ", claimed="
+        + claimed
         + ", planned="
         + planned
         + ", due="
@@ -0,0 +1,60 @@
+package pro.taskana.task.internal.models;
+
+import java.time.Instant;
+
+/**
+ * The number of comments of a task together with the creation time and the creator of its latest
+ * comment. They are used to add the comment summaries to task summaries.
+ */
+public class TaskCommentStatistics {
+
+  private String taskId;
+  private int commentCount;
+  private Instant lastCreated;
+  private String lastCreator;
+
+  public String getTaskId() {
+    return taskId;
+  }
+
+  public void setTaskId(String taskId) {
+    this.taskId = taskId;
+  }
+
+  public int getCommentCount() {
+    return commentCount;
+  }
+
+  public void setCommentCount(int commentCount) {
+    this.commentCount = commentCount;
+  }
+
+  public Instant getLastCreated() {
+    return lastCreated;
+  }
+
+  public void setLastCreated(Instant lastCreated) {
+    this.lastCreated = lastCreated;
+  }
+
+  public String getLastCreator() {
+    return lastCreator;
+  }
+
+  public void setLastCreator(String lastCreator) {
+    this.lastCreator = lastCreator;
+  }
+
+  @Override
+  public String toString() {
+    return "TaskCommentStatistics [taskId="
+        + taskId
+        + ", commentCount="
+        + commentCount
+        + ", lastCreated="
+        + lastCreated
+        + ", lastCreator="
+        + lastCreator
+        + "]";
+  }
+}
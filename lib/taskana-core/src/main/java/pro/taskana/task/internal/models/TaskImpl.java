@@ -6,10 +6,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import pro.taskana.classification.internal.models.ClassificationSummaryImpl;
-import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.task.api.CallbackState;
 import pro.taskana.task.api.models.Attachment;
 import pro.taskana.task.api.models.AttachmentSummary;
@@ -20,13 +20,13 @@ import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
 /** Task entity. */
 public class TaskImpl extends TaskSummaryImpl implements Task {
 
-  private static final String NOT_A_VALID_NUMBER_SET =
-      "Argument '%s' of setCustomAttribute() cannot be converted to a number between 1 and 16";
   // All objects have to be serializable
   private Map<String, String> customAttributes = Collections.emptyMap();
   private Map<String, String> callbackInfo = Collections.emptyMap();
   private CallbackState callbackState;
   private List<Attachment> attachments = new ArrayList<>();
+  // loads the attachments on their first access if the task was read without them
+  private transient Supplier<List<Attachment>> attachmentLoader;
 
   public TaskImpl() {}
 
@@ -94,75 +94,9 @@ public class TaskImpl extends TaskSummaryImpl implements Task {
     this.callbackInfo = callbackInfo;
   }
 
-  @Override
-  public void setCustomAttribute(String number, String value) throws InvalidArgumentException {
-    int num;
-    try {
-      num = Integer.parseInt(number);
-    } catch (NumberFormatException e) {
-      throw new InvalidArgumentException(
-          String.format(NOT_A_VALID_NUMBER_SET, number), e.getCause());
-    }
-
-    switch (num) {
-      case 1:
-        custom1 = value;
-        break;
-      case 2:
-        custom2 = value;
-        break;
-      case 3:
-        custom3 = value;
-        break;
-      case 4:
-        custom4 = value;
-        break;
-      case 5:
-        custom5 = value;
-        break;
-      case 6:
-        custom6 = value;
-        break;
-      case 7:
-        custom7 = value;
-        break;
-      case 8:
-        custom8 = value;
-        break;
-      case 9:
-        custom9 = value;
-        break;
-      case 10:
-        custom10 = value;
-        break;
-      case 11:
-        custom11 = value;
-        break;
-      case 12:
-        custom12 = value;
-        break;
-      case 13:
-        custom13 = value;
-        break;
-      case 14:
-        custom14 = value;
-        break;
-      case 15:
-        custom15 = value;
-        break;
-      case 16:
-        custom16 = value;
-        break;
-      default:
-        throw new InvalidArgumentException(String.format(NOT_A_VALID_NUMBER_SET, number));
-    }
-  }
-
   @Override
   public void addAttachment(Attachment attachmentToAdd) {
-    if (attachments == null) {
-      attachments = new ArrayList<>();
-    }
+    List<Attachment> attachments = getAttachments();
     if (attachmentToAdd != null) {
       if (attachmentToAdd.getId() != null) {
         attachments.removeIf(attachment -> attachmentToAdd.getId().equals(attachment.getId()));
@@ -173,6 +107,11 @@ public class TaskImpl extends TaskSummaryImpl implements Task {
 
   @Override
   public List<Attachment> getAttachments() {
+    if (attachmentLoader != null) {
+      Supplier<List<Attachment>> loader = attachmentLoader;
+      attachmentLoader = null;
+      attachments = loader.get();
+    }
     if (attachments == null) {
       attachments = new ArrayList<>();
     }
@@ -180,6 +119,7 @@ public class TaskImpl extends TaskSummaryImpl implements Task {
   }
 
   public void setAttachments(List<Attachment> attachments) {
+    attachmentLoader = null;
     if (attachments != null) {
       this.attachments = attachments;
     } else if (this.attachments == null) {
@@ -191,7 +131,7 @@ public class TaskImpl extends TaskSummaryImpl implements Task {
   public TaskSummary asSummary() {
     TaskSummaryImpl taskSummary = new TaskSummaryImpl();
     List<AttachmentSummary> attSummaries = new ArrayList<>();
-    for (Attachment att : attachments) {
+    for (Attachment att : getAttachments()) {
       attSummaries.add(att.asSummary());
     }
     taskSummary.setAttachmentSummaries(attSummaries);
@@ -241,6 +181,7 @@ public class TaskImpl extends TaskSummaryImpl implements Task {
   @Override
   public Attachment removeAttachment(String attachmentId) {
     Attachment result = null;
+    List<Attachment> attachments = getAttachments();
     for (Attachment attachment : attachments) {
       if (attachment.getId().equals(attachmentId) && attachments.remove(attachment)) {
         result = attachment;
@@ -250,6 +191,16 @@ public class TaskImpl extends TaskSummaryImpl implements Task {
     return result;
   }
 
+  /**
+   * Sets the loader for the attachments of a task which was read without its attachments. The
+   * loader is called on the first access of the attachments.
+   *
+   * @param attachmentLoader loads the attachments of this task
+   */
+  public void setAttachmentLoader(Supplier<List<Attachment>> attachmentLoader) {
+    this.attachmentLoader = attachmentLoader;
+  }
+
   @Override
   public String getClassificationCategory() {
     return this.classificationSummary == null ? null : this.classificationSummary.getCategory();
@@ -265,6 +216,8 @@ public class TaskImpl extends TaskSummaryImpl implements Task {
 
   @Override
   public TaskImpl copy() {
+    // a copy is detached from the database, so its attachments are loaded now
+    getAttachments();
     return new TaskImpl(this);
   }
 
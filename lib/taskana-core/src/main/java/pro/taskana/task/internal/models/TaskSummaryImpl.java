@@ -20,6 +20,8 @@ public class TaskSummaryImpl implements TaskSummary {
 
   private static final String NOT_A_VALID_NUMBER_GET =
       "Argument '%s' of getCustomAttribute() cannot be converted to a number between 1 and 16";
+  private static final String NOT_A_VALID_NUMBER_SET =
+      "Argument '%s' of setCustomAttribute() cannot be converted to a number between 1 and 16";
 
   protected String id;
   protected String externalId;
@@ -45,6 +47,9 @@ public class TaskSummaryImpl implements TaskSummary {
   protected boolean isTransferred;
   // All objects have to be serializable
   protected List<AttachmentSummary> attachmentSummaries = new ArrayList<>();
+  protected Integer commentCount;
+  protected Instant lastCommentCreated;
+  protected String lastCommentCreator;
   protected String custom1;
   protected String custom2;
   protected String custom3;
@@ -86,6 +91,9 @@ public class TaskSummaryImpl implements TaskSummary {
     isRead = copyFrom.isRead;
     isTransferred = copyFrom.isTransferred;
     attachmentSummaries = new ArrayList<>(copyFrom.attachmentSummaries);
+    commentCount = copyFrom.commentCount;
+    lastCommentCreated = copyFrom.lastCommentCreated;
+    lastCommentCreator = copyFrom.lastCommentCreator;
     custom1 = copyFrom.custom1;
     custom2 = copyFrom.custom2;
     custom3 = copyFrom.custom3;
@@ -324,6 +332,33 @@ public class TaskSummaryImpl implements TaskSummary {
     this.attachmentSummaries = attachmentSummaries;
   }
 
+  @Override
+  public Integer getCommentCount() {
+    return commentCount;
+  }
+
+  public void setCommentCount(Integer commentCount) {
+    this.commentCount = commentCount;
+  }
+
+  @Override
+  public Instant getLastCommentCreated() {
+    return lastCommentCreated;
+  }
+
+  public void setLastCommentCreated(Instant lastCommentCreated) {
+    this.lastCommentCreated = lastCommentCreated;
+  }
+
+  @Override
+  public String getLastCommentCreator() {
+    return lastCommentCreator;
+  }
+
+  public void setLastCommentCreator(String lastCommentCreator) {
+    this.lastCommentCreator = lastCommentCreator;
+  }
+
   /*
    * (non-Javadoc)
    * @see pro.taskana.TaskSummary#getDomain()
@@ -470,6 +505,69 @@ public class TaskSummaryImpl implements TaskSummary {
     }
   }
 
+  public void setCustomAttribute(String number, String value) throws InvalidArgumentException {
+    int num;
+    try {
+      num = Integer.parseInt(number);
+    } catch (NumberFormatException e) {
+      throw new InvalidArgumentException(
+          String.format(NOT_A_VALID_NUMBER_SET, number), e.getCause());
+    }
+
+    switch (num) {
+      case 1:
+        custom1 = value;
+        break;
+      case 2:
+        custom2 = value;
+        break;
+      case 3:
+        custom3 = value;
+        break;
+      case 4:
+        custom4 = value;
+        break;
+      case 5:
+        custom5 = value;
+        break;
+      case 6:
+        custom6 = value;
+        break;
+      case 7:
+        custom7 = value;
+        break;
+      case 8:
+        custom8 = value;
+        break;
+      case 9:
+        custom9 = value;
+        break;
+      case 10:
+        custom10 = value;
+        break;
+      case 11:
+        custom11 = value;
+        break;
+      case 12:
+        custom12 = value;
+        break;
+      case 13:
+        custom13 = value;
+        break;
+      case 14:
+        custom14 = value;
+        break;
+      case 15:
+        custom15 = value;
+        break;
+      case 16:
+        custom16 = value;
+        break;
+      default:
+        throw new InvalidArgumentException(String.format(NOT_A_VALID_NUMBER_SET, number));
+    }
+  }
+
   @Override
   public TaskSummaryImpl copy() {
     return new TaskSummaryImpl(this);
@@ -793,6 +891,12 @@ public class TaskSummaryImpl implements TaskSummary {
         + isTransferred
         + ", attachmentSummaries="
         + attachmentSummaries
+        + ", commentCount="
+        + commentCount
+        + ", lastCommentCreated="
+        + lastCommentCreated
+        + ", lastCommentCreator="
+        + lastCommentCreator
         + ", custom1="
         + custom1
         + ", custom2="
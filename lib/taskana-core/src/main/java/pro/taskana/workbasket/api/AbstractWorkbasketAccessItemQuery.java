@@ -63,4 +63,7 @@ public interface AbstractWorkbasketAccessItemQuery<
    * @return the query
    */
   Q orderById(SortDirection sortDirection);
+
+  @Override
+  Q usePrimaryDataSource();
 }
@@ -96,4 +96,7 @@ public interface WorkbasketAccessItemQuery
    * @return the query
    */
   WorkbasketAccessItemQuery orderById(SortDirection sortDirection);
+
+  @Override
+  WorkbasketAccessItemQuery usePrimaryDataSource();
 }
@@ -449,4 +449,7 @@ public interface WorkbasketQuery extends BaseQuery<WorkbasketSummary, Workbasket
    * @return the query
    */
   WorkbasketQuery markedForDeletion(boolean markedForDeletion);
+
+  @Override
+  WorkbasketQuery usePrimaryDataSource();
 }
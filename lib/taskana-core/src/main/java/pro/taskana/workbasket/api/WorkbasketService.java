@@ -1,6 +1,7 @@
 package pro.taskana.workbasket.api;
 
 import java.util.List;
+import java.util.Map;
 
 import pro.taskana.common.api.BulkOperationResults;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
@@ -15,6 +16,7 @@ import pro.taskana.workbasket.api.exceptions.WorkbasketInUseException;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 import pro.taskana.workbasket.api.models.Workbasket;
 import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
+import pro.taskana.workbasket.api.models.WorkbasketDefinition;
 import pro.taskana.workbasket.api.models.WorkbasketSummary;
 
 /** This service manages Workbaskets. */
@@ -347,4 +349,41 @@ public interface WorkbasketService {
    *     ADMIN
    */
   void deleteWorkbasketAccessItemsForAccessId(String accessId) throws NotAuthorizedException;
+
+  /**
+   * Imports workbasket definitions with set-based operations. A workbasket whose key and domain
+   * already exist is updated via {@link #updateWorkbasket(Workbasket)}, all others are created with
+   * a new id. The access items and distribution targets of every imported workbasket are
+   * completely replaced by the ones of its definition.
+   *
+   * <p>The definitions are consumed chunk by chunk while they are iterated, so the given {@link
+   * Iterable} may read them lazily from a stream. Only the ids of the imported workbaskets and
+   * their distribution targets are kept until the end, where the distribution targets are written.
+   * New workbaskets and access items are written with multi-row statements instead of one
+   * statement per entity, which makes this method suitable for importing large organization
+   * models. A failing import of more definitions than fit into one chunk is only undone if it runs
+   * inside a transaction.
+   *
+   * @param definitions the workbasket definitions to import
+   * @return a map from the workbasket id given in each definition to the id of the workbasket in
+   *     this system
+   * @throws NotAuthorizedException if the current user is not member of role BUSINESS_ADMIN or
+   *     ADMIN or is not authorized to read an existing workbasket
+   * @throws InvalidArgumentException if {@code definitions} is null or an access item has no
+   *     accessId
+   * @throws InvalidWorkbasketException if a workbasket is invalid or a distribution target neither
+   *     refers to an imported nor to an existing workbasket
+   * @throws DomainNotFoundException if the domain of a workbasket does not exist
+   * @throws WorkbasketAlreadyExistException if {@code definitions} contains the same key and domain
+   *     more than once
+   * @throws WorkbasketAccessItemAlreadyExistException if a definition contains multiple access
+   *     items with the same accessId
+   * @throws WorkbasketNotFoundException if an existing workbasket is deleted during the import
+   * @throws ConcurrencyException if an existing workbasket is modified during the import
+   */
+  Map<String, String> importWorkbasketDefinitions(Iterable<WorkbasketDefinition> definitions)
+      throws NotAuthorizedException, InvalidArgumentException, InvalidWorkbasketException,
+          DomainNotFoundException, WorkbasketAlreadyExistException,
+          WorkbasketAccessItemAlreadyExistException, WorkbasketNotFoundException,
+          ConcurrencyException;
 }
@@ -0,0 +1,57 @@
+package pro.taskana.workbasket.api.models;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A workbasket together with its access items and distribution targets, as used by the bulk import
+ * of workbasket definitions.
+ *
+ * <p>The id of the workbasket is the id it had in the exporting system. Distribution targets refer
+ * either to such an id of another definition of the same import or to the id of a workbasket which
+ * already exists in the system.
+ */
+public class WorkbasketDefinition {
+
+  private final Workbasket workbasket;
+  private final List<WorkbasketAccessItem> accessItems;
+  private final Set<String> distributionTargetIds;
+
+  public WorkbasketDefinition(
+      Workbasket workbasket,
+      Collection<? extends WorkbasketAccessItem> accessItems,
+      Collection<String> distributionTargetIds) {
+    this.workbasket = workbasket;
+    this.accessItems = accessItems == null ? new ArrayList<>() : new ArrayList<>(accessItems);
+    this.distributionTargetIds =
+        distributionTargetIds == null
+            ? new LinkedHashSet<>()
+            : new LinkedHashSet<>(distributionTargetIds);
+  }
+
+  public Workbasket getWorkbasket() {
+    return workbasket;
+  }
+
+  public List<WorkbasketAccessItem> getAccessItems() {
+    return accessItems;
+  }
+
+  public Set<String> getDistributionTargetIds() {
+    return distributionTargetIds;
+  }
+
+  @Override
+  public String toString() {
+    return "WorkbasketDefinition [workbasket="
+        + workbasket
+        + ", accessItems="
+        + accessItems
+        + ", distributionTargetIds="
+        + distributionTargetIds
+        + "]";
+  }
+}
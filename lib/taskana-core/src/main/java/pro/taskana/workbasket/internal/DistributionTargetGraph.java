@@ -0,0 +1,127 @@
+package pro.taskana.workbasket.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import pro.taskana.common.internal.util.Pair;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
+
+/**
+ * Keeps all distribution targets of all workbaskets in memory, so that the distribution targets
+ * and sources of a workbasket can be determined without a database query. The commit of a change
+ * of the distribution targets or of a workbasket with distribution targets or sources increments
+ * the version of the graph. A loaded snapshot is only used while its version is the current one
+ * and its time to live has not elapsed, which bounds the delay until changes of other engines
+ * become visible. A transaction with uncommitted changes does not use the graph. A time to live of
+ * zero disables the graph.
+ */
+public class DistributionTargetGraph {
+
+  private final long timeToLiveMillis;
+  private final AtomicLong version = new AtomicLong();
+  private volatile Snapshot snapshot;
+
+  public DistributionTargetGraph(Duration timeToLive) {
+    this.timeToLiveMillis = timeToLive.toMillis();
+  }
+
+  boolean isEnabled() {
+    return timeToLiveMillis > 0;
+  }
+
+  /**
+   * Returns the current snapshot of the graph and loads it if necessary.
+   *
+   * @param workbasketLoader loads the summaries of all workbaskets with distribution targets or
+   *     sources
+   * @param distributionTargetLoader loads all pairs of source and target workbasket ids
+   * @return the current snapshot
+   */
+  Snapshot getSnapshot(
+      Supplier<List<WorkbasketSummaryImpl>> workbasketLoader,
+      Supplier<List<Pair<String, String>>> distributionTargetLoader) {
+    long currentVersion = version.get();
+    Snapshot currentSnapshot = snapshot;
+    if (currentSnapshot != null
+        && currentSnapshot.version == currentVersion
+        && System.currentTimeMillis() < currentSnapshot.expiresAt) {
+      return currentSnapshot;
+    }
+    // a snapshot loaded while the graph is invalidated keeps the old version and is never used
+    Snapshot loadedSnapshot =
+        new Snapshot(
+            currentVersion,
+            System.currentTimeMillis() + timeToLiveMillis,
+            workbasketLoader.get(),
+            distributionTargetLoader.get());
+    snapshot = loadedSnapshot;
+    return loadedSnapshot;
+  }
+
+  /** Discards the loaded snapshot after a change of distribution targets or workbaskets. */
+  void invalidate() {
+    version.incrementAndGet();
+    snapshot = null;
+  }
+
+  /** The distribution targets of all workbaskets at one point in time. */
+  static final class Snapshot {
+
+    private final long version;
+    private final long expiresAt;
+    private final Map<String, WorkbasketSummaryImpl> workbaskets = new HashMap<>();
+    private final Map<String, List<String>> targetIdsBySourceId = new HashMap<>();
+    private final Map<String, List<String>> sourceIdsByTargetId = new HashMap<>();
+
+    private Snapshot(
+        long version,
+        long expiresAt,
+        List<WorkbasketSummaryImpl> workbaskets,
+        List<Pair<String, String>> distributionTargets) {
+      this.version = version;
+      this.expiresAt = expiresAt;
+      workbaskets.forEach(workbasket -> this.workbaskets.put(workbasket.getId(), workbasket));
+      for (Pair<String, String> distributionTarget : distributionTargets) {
+        targetIdsBySourceId
+            .computeIfAbsent(distributionTarget.getLeft(), id -> new ArrayList<>())
+            .add(distributionTarget.getRight());
+        sourceIdsByTargetId
+            .computeIfAbsent(distributionTarget.getRight(), id -> new ArrayList<>())
+            .add(distributionTarget.getLeft());
+      }
+    }
+
+    List<WorkbasketSummary> getDistributionTargets(String sourceId) {
+      return getWorkbaskets(targetIdsBySourceId.get(sourceId));
+    }
+
+    List<WorkbasketSummary> getDistributionSources(String targetId) {
+      return getWorkbaskets(sourceIdsByTargetId.get(targetId));
+    }
+
+    private List<WorkbasketSummary> getWorkbaskets(List<String> workbasketIds) {
+      if (workbasketIds == null) {
+        return Collections.emptyList();
+      }
+      List<WorkbasketSummary> result = new ArrayList<>();
+      for (String workbasketId : workbasketIds) {
+        WorkbasketSummaryImpl workbasket = workbaskets.get(workbasketId);
+        if (workbasket != null) {
+          // the cached summaries are shared, so the caller gets copies
+          WorkbasketSummaryImpl copy = workbasket.copy();
+          copy.setId(workbasket.getId());
+          copy.setKey(workbasket.getKey());
+          result.add(copy);
+        }
+      }
+      return result;
+    }
+  }
+}
@@ -34,6 +34,7 @@ public class WorkbasketAccessItemQueryImpl implements WorkbasketAccessItemQuery
   private String[] idIn;
 
   private InternalTaskanaEngine taskanaEngine;
+  private boolean usePrimaryDataSource;
   private List<String> orderBy;
   private List<String> orderColumns;
 
@@ -100,6 +101,12 @@ public class WorkbasketAccessItemQueryImpl implements WorkbasketAccessItemQuery
     return addOrderCriteria("ID", sortDirection);
   }
 
+  @Override
+  public WorkbasketAccessItemQuery usePrimaryDataSource() {
+    this.usePrimaryDataSource = true;
+    return this;
+  }
+
   @Override
   public List<WorkbasketAccessItem> list() {
     LOGGER.debug("entry to list(), this = {}", this);
@@ -120,7 +127,7 @@ public class WorkbasketAccessItemQueryImpl implements WorkbasketAccessItemQuery
     LOGGER.debug("entry to list(offset = {}, limit = {}), this = {}", offset, limit, this);
     List<WorkbasketAccessItem> result = new ArrayList<>();
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       RowBounds rowBounds = new RowBounds(offset, limit);
       List<WorkbasketAccessItemImpl> foundAccessItms =
           taskanaEngine.getSqlSession().selectList(LINK_TO_MAPPER, this, rowBounds);
@@ -152,7 +159,7 @@ public class WorkbasketAccessItemQueryImpl implements WorkbasketAccessItemQuery
     LOGGER.debug("Entry to listValues(dbColumnName={}) this = {}", columnName, this);
     List<String> result = null;
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       this.columnName = columnName;
       this.orderBy.clear();
       this.addOrderCriteria(columnName.toString(), sortDirection);
@@ -175,7 +182,7 @@ public class WorkbasketAccessItemQueryImpl implements WorkbasketAccessItemQuery
     LOGGER.debug("entry to single(), this = {}", this);
     WorkbasketAccessItem accessItm = null;
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       accessItm = taskanaEngine.getSqlSession().selectOne(LINK_TO_MAPPER, this);
       return accessItm;
     } finally {
@@ -189,7 +196,7 @@ public class WorkbasketAccessItemQueryImpl implements WorkbasketAccessItemQuery
     LOGGER.debug("entry to count(), this = {}", this);
     Long rowCount = null;
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       rowCount = taskanaEngine.getSqlSession().selectOne(LINK_TO_COUNTER, this);
       return (rowCount == null) ? 0L : rowCount;
     } finally {
@@ -245,6 +252,14 @@ public class WorkbasketAccessItemQueryImpl implements WorkbasketAccessItemQuery
     return this;
   }
 
+  private void openQueryConnection() {
+    if (usePrimaryDataSource) {
+      taskanaEngine.openConnection();
+    } else {
+      taskanaEngine.openReadOnlyConnection();
+    }
+  }
+
   @Override
   public String toString() {
     return "WorkbasketAccessItemQueryImpl ["
@@ -1,5 +1,7 @@
 package pro.taskana.workbasket.internal;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
@@ -71,6 +73,41 @@ public interface WorkbasketMapper {
       })
   WorkbasketImpl findByKeyAndDomain(@Param("key") String key, @Param("domain") String domain);
 
+  @Select(
+      "<script>SELECT ID, KEY, CREATED, MODIFIED, NAME, DOMAIN, TYPE, DESCRIPTION, OWNER, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, ORG_LEVEL_1, ORG_LEVEL_2, ORG_LEVEL_3, ORG_LEVEL_4, MARKED_FOR_DELETION FROM WORKBASKET "
+          + "WHERE KEY IN (<foreach item='key' collection='keys' separator=',' >#{key}</foreach>) "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @Results(
+      value = {
+        @Result(property = "id", column = "ID"),
+        @Result(property = "key", column = "KEY"),
+        @Result(property = "created", column = "CREATED"),
+        @Result(property = "modified", column = "MODIFIED"),
+        @Result(property = "name", column = "NAME"),
+        @Result(property = "domain", column = "DOMAIN"),
+        @Result(property = "type", column = "TYPE"),
+        @Result(property = "description", column = "DESCRIPTION"),
+        @Result(property = "owner", column = "OWNER"),
+        @Result(property = "custom1", column = "CUSTOM_1"),
+        @Result(property = "custom2", column = "CUSTOM_2"),
+        @Result(property = "custom3", column = "CUSTOM_3"),
+        @Result(property = "custom4", column = "CUSTOM_4"),
+        @Result(property = "orgLevel1", column = "ORG_LEVEL_1"),
+        @Result(property = "orgLevel2", column = "ORG_LEVEL_2"),
+        @Result(property = "orgLevel3", column = "ORG_LEVEL_3"),
+        @Result(property = "orgLevel4", column = "ORG_LEVEL_4"),
+        @Result(property = "markedForDeletion", column = "MARKED_FOR_DELETION")
+      })
+  List<WorkbasketImpl> findByKeys(@Param("keys") Collection<String> keys);
+
+  @Select(
+      "<script>SELECT ID FROM WORKBASKET "
+          + "WHERE ID IN (<foreach item='id' collection='ids' separator=',' >#{id}</foreach>) "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  List<String> findExistingIds(@Param("ids") Collection<String> ids);
+
   @Select(
       "<script>SELECT ID, KEY, NAME, DESCRIPTION, OWNER, DOMAIN, TYPE, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, ORG_LEVEL_1, ORG_LEVEL_2, ORG_LEVEL_3, ORG_LEVEL_4 FROM WORKBASKET WHERE ID IN (SELECT TARGET_ID FROM DISTRIBUTION_TARGETS WHERE SOURCE_ID = #{id}) "
           + "<if test=\"_databaseId == 'db2'\">with UR </if> "
@@ -120,6 +157,31 @@ public interface WorkbasketMapper {
       })
   List<WorkbasketSummaryImpl> findDistributionSources(@Param("id") String id);
 
+  @Select(
+      "<script>SELECT ID, KEY, NAME, DESCRIPTION, OWNER, DOMAIN, TYPE, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, ORG_LEVEL_1, ORG_LEVEL_2, ORG_LEVEL_3, ORG_LEVEL_4 FROM WORKBASKET "
+          + "WHERE ID IN (SELECT SOURCE_ID FROM DISTRIBUTION_TARGETS) OR ID IN (SELECT TARGET_ID FROM DISTRIBUTION_TARGETS) "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @Results(
+      value = {
+        @Result(property = "id", column = "ID"),
+        @Result(property = "key", column = "KEY"),
+        @Result(property = "name", column = "NAME"),
+        @Result(property = "description", column = "DESCRIPTION"),
+        @Result(property = "owner", column = "OWNER"),
+        @Result(property = "domain", column = "DOMAIN"),
+        @Result(property = "type", column = "TYPE"),
+        @Result(property = "custom1", column = "CUSTOM_1"),
+        @Result(property = "custom2", column = "CUSTOM_2"),
+        @Result(property = "custom3", column = "CUSTOM_3"),
+        @Result(property = "custom4", column = "CUSTOM_4"),
+        @Result(property = "orgLevel1", column = "ORG_LEVEL_1"),
+        @Result(property = "orgLevel2", column = "ORG_LEVEL_2"),
+        @Result(property = "orgLevel3", column = "ORG_LEVEL_3"),
+        @Result(property = "orgLevel4", column = "ORG_LEVEL_4")
+      })
+  List<WorkbasketSummaryImpl> findWorkbasketsWithDistributionTargetsOrSources();
+
   @Select(
       "<script>SELECT ID, KEY, NAME, DESCRIPTION, OWNER, DOMAIN, TYPE, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, ORG_LEVEL_1, ORG_LEVEL_2, ORG_LEVEL_3, ORG_LEVEL_4 FROM WORKBASKET WHERE ID = #{id} "
           + "<if test=\"_databaseId == 'db2'\">with UR </if> "
@@ -174,6 +236,14 @@ public interface WorkbasketMapper {
   @Options(keyProperty = "id", keyColumn = "ID")
   void insert(@Param("workbasket") WorkbasketImpl workbasket);
 
+  @Insert(
+      "<script>INSERT INTO WORKBASKET (ID, KEY, CREATED, MODIFIED, NAME, DOMAIN, TYPE, DESCRIPTION, OWNER, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, ORG_LEVEL_1, ORG_LEVEL_2, ORG_LEVEL_3, ORG_LEVEL_4, MARKED_FOR_DELETION) VALUES "
+          + "<foreach item='workbasket' collection='workbaskets' separator=',' >"
+          + "(#{workbasket.id}, #{workbasket.key}, #{workbasket.created}, #{workbasket.modified}, #{workbasket.name}, #{workbasket.domain}, #{workbasket.type}, #{workbasket.description}, #{workbasket.owner}, #{workbasket.custom1}, #{workbasket.custom2}, #{workbasket.custom3}, #{workbasket.custom4}, #{workbasket.orgLevel1}, #{workbasket.orgLevel2}, #{workbasket.orgLevel3}, #{workbasket.orgLevel4}, #{workbasket.markedForDeletion})"
+          + "</foreach>"
+          + "</script>")
+  void insertAll(@Param("workbaskets") List<WorkbasketImpl> workbaskets);
+
   @Update(
       "UPDATE WORKBASKET SET MODIFIED = #{workbasket.modified}, KEY = #{workbasket.key}, NAME = #{workbasket.name}, DOMAIN = #{workbasket.domain}, TYPE = #{workbasket.type}, DESCRIPTION = #{workbasket.description}, OWNER = #{workbasket.owner}, CUSTOM_1 = #{workbasket.custom1}, CUSTOM_2 = #{workbasket.custom2}, CUSTOM_3 = #{workbasket.custom3}, CUSTOM_4 = #{workbasket.custom4}, ORG_LEVEL_1 = #{workbasket.orgLevel1}, ORG_LEVEL_2 = #{workbasket.orgLevel2}, ORG_LEVEL_3 = #{workbasket.orgLevel3}, ORG_LEVEL_4 = #{workbasket.orgLevel4}, MARKED_FOR_DELETION = #{workbasket.markedForDeletion} WHERE id = #{workbasket.id}")
   void update(@Param("workbasket") WorkbasketImpl workbasket);
@@ -182,6 +252,12 @@ public interface WorkbasketMapper {
       "UPDATE WORKBASKET SET MODIFIED = #{workbasket.modified}, NAME = #{workbasket.name}, TYPE = #{workbasket.type}, DESCRIPTION = #{workbasket.description}, OWNER = #{workbasket.owner}, CUSTOM_1 = #{workbasket.custom1}, CUSTOM_2 = #{workbasket.custom2}, CUSTOM_3 = #{workbasket.custom3}, CUSTOM_4 = #{workbasket.custom4}, ORG_LEVEL_1 = #{workbasket.orgLevel1}, ORG_LEVEL_2 = #{workbasket.orgLevel2}, ORG_LEVEL_3 = #{workbasket.orgLevel3}, ORG_LEVEL_4 = #{workbasket.orgLevel4}, MARKED_FOR_DELETION = #{workbasket.markedForDeletion} WHERE KEY = #{workbasket.key} AND DOMAIN = #{workbasket.domain}")
   void updateByKeyAndDomain(@Param("workbasket") WorkbasketImpl workbasket);
 
+  @Update(
+      "<script>UPDATE WORKBASKET SET MODIFIED = #{modified} "
+          + "WHERE ID IN (<foreach item='id' collection='ids' separator=',' >#{id}</foreach>)"
+          + "</script>")
+  void updateModified(@Param("ids") List<String> ids, @Param("modified") Instant modified);
+
   @Delete("DELETE FROM WORKBASKET where id = #{id}")
   void delete(@Param("id") String id);
 }
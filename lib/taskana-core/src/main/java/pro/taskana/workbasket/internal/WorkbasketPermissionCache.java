@@ -0,0 +1,194 @@
+package pro.taskana.workbasket.internal;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import pro.taskana.workbasket.api.WorkbasketPermission;
+
+/**
+ * Caches the permissions which a set of access ids has on a workbasket. The cached permissions are
+ * the merged permissions of all access items of the access ids on the workbasket. The cache is
+ * invalidated after the commit of a transaction which changed the access items of a workbasket by
+ * this engine. Such a transaction neither reads nor fills the cache. Changes of other engines, e.g.
+ * of other nodes of a cluster, are visible after the time to live of an entry. A time to live of
+ * zero disables the cache.
+ */
+public class WorkbasketPermissionCache {
+
+  private static final int MAX_ENTRIES = 10000;
+
+  private final long timeToLiveMillis;
+  private final Map<CacheKey, CachedPermissions> entries = new ConcurrentHashMap<>();
+
+  public WorkbasketPermissionCache(Duration timeToLive) {
+    this.timeToLiveMillis = timeToLive.toMillis();
+  }
+
+  /**
+   * Returns the cached permissions of the access ids on the workbasket with the given id.
+   *
+   * @param workbasketId the id of the workbasket
+   * @param accessIds the access ids of the current user
+   * @return the cached permissions or null if no valid entry exists
+   */
+  CachedPermissions get(String workbasketId, Collection<String> accessIds) {
+    return get(new CacheKey(workbasketId, null, accessIds));
+  }
+
+  /**
+   * Returns the cached permissions of the access ids on the workbasket with the given key and
+   * domain.
+   *
+   * @param workbasketKey the key of the workbasket
+   * @param domain the domain of the workbasket
+   * @param accessIds the access ids of the current user
+   * @return the cached permissions or null if no valid entry exists
+   */
+  CachedPermissions get(String workbasketKey, String domain, Collection<String> accessIds) {
+    return get(new CacheKey(workbasketKey, domain, accessIds));
+  }
+
+  CachedPermissions put(
+      String workbasketId, Collection<String> accessIds, Set<WorkbasketPermission> permissions) {
+    return put(new CacheKey(workbasketId, null, accessIds), workbasketId, permissions);
+  }
+
+  CachedPermissions put(
+      String workbasketKey,
+      String domain,
+      Collection<String> accessIds,
+      String workbasketId,
+      Set<WorkbasketPermission> permissions) {
+    return put(new CacheKey(workbasketKey, domain, accessIds), workbasketId, permissions);
+  }
+
+  /**
+   * Removes all entries of the workbasket with the given id.
+   *
+   * @param workbasketId the id of the workbasket whose access items or existence changed
+   */
+  void invalidate(String workbasketId) {
+    entries.values().removeIf(entry -> entry.workbasketId.equals(workbasketId));
+  }
+
+  /** Removes all entries, e.g. after the access items of an access id changed. */
+  void invalidateAll() {
+    entries.clear();
+  }
+
+  private CachedPermissions get(CacheKey key) {
+    if (timeToLiveMillis <= 0) {
+      return null;
+    }
+    CachedPermissions cachedPermissions = entries.get(key);
+    if (cachedPermissions == null || cachedPermissions.isExpired()) {
+      return null;
+    }
+    return cachedPermissions;
+  }
+
+  private CachedPermissions put(
+      CacheKey key, String workbasketId, Set<WorkbasketPermission> permissions) {
+    CachedPermissions cachedPermissions =
+        new CachedPermissions(
+            workbasketId, permissions, System.currentTimeMillis() + timeToLiveMillis);
+    if (timeToLiveMillis > 0) {
+      if (entries.size() >= MAX_ENTRIES) {
+        entries.values().removeIf(CachedPermissions::isExpired);
+        if (entries.size() >= MAX_ENTRIES) {
+          entries.clear();
+        }
+      }
+      entries.put(key, cachedPermissions);
+    }
+    return cachedPermissions;
+  }
+
+  /** The merged permissions of a set of access ids on a workbasket. */
+  static final class CachedPermissions {
+
+    private final String workbasketId;
+    private final Set<WorkbasketPermission> permissions;
+    private final boolean hasAccessItem;
+    private final long expiresAt;
+
+    private CachedPermissions(
+        String workbasketId, Set<WorkbasketPermission> permissions, long expiresAt) {
+      this.workbasketId = workbasketId;
+      this.permissions =
+          permissions == null || permissions.isEmpty()
+              ? EnumSet.noneOf(WorkbasketPermission.class)
+              : EnumSet.copyOf(permissions);
+      this.hasAccessItem = permissions != null;
+      this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Creates permissions which are not stored in the cache, e.g. for a transaction with
+     * uncommitted changes of access items.
+     */
+    static CachedPermissions uncached(String workbasketId, Set<WorkbasketPermission> permissions) {
+      return new CachedPermissions(workbasketId, permissions, 0);
+    }
+
+    String getWorkbasketId() {
+      return workbasketId;
+    }
+
+    /** Returns false if none of the access ids has an access item for the workbasket. */
+    boolean hasAccessItem() {
+      return hasAccessItem;
+    }
+
+    boolean contains(WorkbasketPermission permission) {
+      return permissions.contains(permission);
+    }
+
+    private boolean isExpired() {
+      return System.currentTimeMillis() >= expiresAt;
+    }
+  }
+
+  private static final class CacheKey {
+
+    private final String workbasketIdOrKey;
+    private final String domain;
+    private final Set<String> accessIds;
+
+    private CacheKey(String workbasketIdOrKey, String domain, Collection<String> accessIds) {
+      this.workbasketIdOrKey = workbasketIdOrKey;
+      this.domain = domain;
+      this.accessIds = new TreeSet<>();
+      for (String accessId : accessIds) {
+        if (accessId != null) {
+          this.accessIds.add(accessId.toLowerCase());
+        }
+      }
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(workbasketIdOrKey, domain, accessIds);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof CacheKey)) {
+        return false;
+      }
+      CacheKey other = (CacheKey) obj;
+      return Objects.equals(workbasketIdOrKey, other.workbasketIdOrKey)
+          && Objects.equals(domain, other.domain)
+          && Objects.equals(accessIds, other.accessIds);
+    }
+  }
+}
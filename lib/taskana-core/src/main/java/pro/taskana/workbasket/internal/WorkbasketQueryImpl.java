@@ -72,6 +72,7 @@ public class WorkbasketQueryImpl implements WorkbasketQuery {
   private boolean markedForDeletion;
 
   private InternalTaskanaEngine taskanaEngine;
+  private boolean usePrimaryDataSource;
   private List<String> orderBy;
   private List<String> orderColumns;
   private boolean joinWithAccessList;
@@ -381,12 +382,18 @@ public class WorkbasketQueryImpl implements WorkbasketQuery {
     return this;
   }
 
+  @Override
+  public WorkbasketQuery usePrimaryDataSource() {
+    this.usePrimaryDataSource = true;
+    return this;
+  }
+
   @Override
   public List<WorkbasketSummary> list() {
     LOGGER.debug("entry to list(), this = {}", this);
     List<WorkbasketSummary> workbaskets = new ArrayList<>();
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       handleCallerRolesAndAccessIds();
       workbaskets = taskanaEngine.getSqlSession().selectList(LINK_TO_MAPPER, this);
       return workbaskets;
@@ -407,7 +414,7 @@ public class WorkbasketQueryImpl implements WorkbasketQuery {
     LOGGER.debug("entry to list(offset = {}, limit = {}), this = {}", offset, limit, this);
     List<WorkbasketSummary> workbaskets = new ArrayList<>();
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       RowBounds rowBounds = new RowBounds(offset, limit);
       handleCallerRolesAndAccessIds();
       workbaskets = taskanaEngine.getSqlSession().selectList(LINK_TO_MAPPER, this, rowBounds);
@@ -437,7 +444,7 @@ public class WorkbasketQueryImpl implements WorkbasketQuery {
     LOGGER.debug("Entry to listValues(dbColumnName={}) this = {}", columnName, this);
     List<String> result = new ArrayList<>();
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       this.columnName = columnName;
       handleCallerRolesAndAccessIds();
       this.orderBy.clear();
@@ -459,7 +466,7 @@ public class WorkbasketQueryImpl implements WorkbasketQuery {
     LOGGER.debug("entry to single(), this = {}", this);
     WorkbasketSummary workbasket = null;
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       handleCallerRolesAndAccessIds();
       workbasket = taskanaEngine.getSqlSession().selectOne(LINK_TO_MAPPER, this);
       return workbasket;
@@ -474,7 +481,7 @@ public class WorkbasketQueryImpl implements WorkbasketQuery {
     LOGGER.debug("entry to count(), this = {}", this);
     Long rowCount = null;
     try {
-      taskanaEngine.openConnection();
+      openQueryConnection();
       handleCallerRolesAndAccessIds();
       rowCount = taskanaEngine.getSqlSession().selectOne(LINK_TO_COUNTER, this);
       return (rowCount == null) ? 0L : rowCount;
@@ -704,6 +711,14 @@ public class WorkbasketQueryImpl implements WorkbasketQuery {
     return this;
   }
 
+  private void openQueryConnection() {
+    if (usePrimaryDataSource) {
+      taskanaEngine.openConnection();
+    } else {
+      taskanaEngine.openReadOnlyConnection();
+    }
+  }
+
   @Override
   public String toString() {
     return "WorkbasketQueryImpl ["
@@ -3,10 +3,15 @@ package pro.taskana.workbasket.internal;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.slf4j.Logger;
@@ -14,6 +19,7 @@ import org.slf4j.LoggerFactory;
 
 import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.KeyDomain;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
 import pro.taskana.common.api.exceptions.DomainNotFoundException;
@@ -22,7 +28,8 @@ import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.common.internal.security.CurrentUserContext;
-import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.common.internal.util.CollectionUtil;
+import pro.taskana.common.internal.util.Pair;
 import pro.taskana.task.api.TaskState;
 import pro.taskana.workbasket.api.WorkbasketAccessItemQuery;
 import pro.taskana.workbasket.api.WorkbasketPermission;
@@ -35,10 +42,11 @@ import pro.taskana.workbasket.api.exceptions.WorkbasketInUseException;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 import pro.taskana.workbasket.api.models.Workbasket;
 import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
+import pro.taskana.workbasket.api.models.WorkbasketDefinition;
 import pro.taskana.workbasket.api.models.WorkbasketSummary;
+import pro.taskana.workbasket.internal.WorkbasketPermissionCache.CachedPermissions;
 import pro.taskana.workbasket.internal.models.WorkbasketAccessItemImpl;
 import pro.taskana.workbasket.internal.models.WorkbasketImpl;
-import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
 
 /**
  * This is the implementation of WorkbasketService.
@@ -134,7 +142,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       }
 
       if (workbasket.getId() == null || workbasket.getId().isEmpty()) {
-        workbasket.setId(IdGenerator.generateWithPrefix(ID_PREFIX_WORKBASKET));
+        workbasket.setId(taskanaEngine.getIdGenerator().generateId(ID_PREFIX_WORKBASKET));
       }
       validateWorkbasket(workbasket);
 
@@ -178,6 +186,8 @@ public class WorkbasketServiceImpl implements WorkbasketService {
 
         workbasketMapper.update(workbasketImplToUpdate);
       }
+      // the distribution target graph contains the summaries of the workbaskets
+      invalidateDistributionTargetGraphIfInvolved(oldWorkbasket.getId());
       LOGGER.debug(
           "Method updateWorkbasket() updated workbasket '{}'", workbasketImplToUpdate.getId());
 
@@ -213,7 +223,8 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     WorkbasketAccessItemImpl accessItem = (WorkbasketAccessItemImpl) workbasketAccessItem;
     try {
       taskanaEngine.openConnection();
-      accessItem.setId(IdGenerator.generateWithPrefix(ID_PREFIX_WORKBASKET_AUTHORIZATION));
+      accessItem.setId(
+          taskanaEngine.getIdGenerator().generateId(ID_PREFIX_WORKBASKET_AUTHORIZATION));
       if (workbasketAccessItem.getId() == null
           || workbasketAccessItem.getAccessId() == null
           || workbasketAccessItem.getWorkbasketId() == null) {
@@ -233,6 +244,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       }
       try {
         workbasketAccessMapper.insert(accessItem);
+        invalidateCachedPermissions(accessItem.getWorkbasketId());
         LOGGER.debug(
             "Method createWorkbasketAccessItem() created workbaskteAccessItem {}", accessItem);
       } catch (PersistenceException e) {
@@ -278,6 +290,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       }
 
       workbasketAccessMapper.update(accessItem);
+      invalidateCachedPermissions(accessItem.getWorkbasketId());
       LOGGER.debug(
           "Method updateWorkbasketAccessItem() updated workbasketAccessItem {}", accessItem);
       return accessItem;
@@ -295,6 +308,8 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
       workbasketAccessMapper.delete(accessItemId);
+      // the workbasket of the deleted item is unknown, so all cached permissions are dropped
+      invalidateAllCachedPermissions();
       LOGGER.debug(
           "Method deleteWorkbasketAccessItem() deleted workbasketAccessItem wit Id {}",
           accessItemId);
@@ -311,7 +326,12 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
 
-      if (workbasketMapper.findById(workbasketId) == null) {
+      List<String> accessIds = CurrentUserContext.getAccessIds();
+      WorkbasketPermissionCache permissionCache = getUsablePermissionCache();
+      CachedPermissions grantedPermissions =
+          permissionCache == null ? null : permissionCache.get(workbasketId, accessIds);
+
+      if (grantedPermissions == null && workbasketMapper.findById(workbasketId) == null) {
         throw new WorkbasketNotFoundException(
             workbasketId, "Workbasket with id " + workbasketId + " was not found.");
       }
@@ -320,10 +340,16 @@ public class WorkbasketServiceImpl implements WorkbasketService {
         return;
       }
 
-      List<String> accessIds = CurrentUserContext.getAccessIds();
-      WorkbasketAccessItem wbAcc =
-          workbasketAccessMapper.findByWorkbasketAndAccessId(workbasketId, accessIds);
-      if (wbAcc == null) {
+      if (grantedPermissions == null) {
+        WorkbasketAccessItem wbAcc =
+            workbasketAccessMapper.findByWorkbasketAndAccessId(workbasketId, accessIds);
+        Set<WorkbasketPermission> permissions = getPermissionSetFromAccessItem(wbAcc);
+        grantedPermissions =
+            permissionCache == null
+                ? CachedPermissions.uncached(workbasketId, permissions)
+                : permissionCache.put(workbasketId, accessIds, permissions);
+      }
+      if (!grantedPermissions.hasAccessItem()) {
         throw new NotAuthorizedException(
             "Not authorized. Permission '"
                 + Arrays.toString(requestedPermissions)
@@ -333,9 +359,6 @@ public class WorkbasketServiceImpl implements WorkbasketService {
             CurrentUserContext.getUserid());
       }
 
-      List<WorkbasketPermission> grantedPermissions =
-          this.getPermissionsFromWorkbasketAccessItem(wbAcc);
-
       for (WorkbasketPermission perm : requestedPermissions) {
         if (!grantedPermissions.contains(perm)) {
           isAuthorized = false;
@@ -362,20 +385,36 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
 
-      if (workbasketMapper.findByKeyAndDomain(workbasketKey, domain) == null) {
-        throw new WorkbasketNotFoundException(
-            workbasketKey,
-            domain,
-            "Workbasket with key " + workbasketKey + " and domain " + domain + " was not found");
+      List<String> accessIds = CurrentUserContext.getAccessIds();
+      WorkbasketPermissionCache permissionCache = getUsablePermissionCache();
+      CachedPermissions grantedPermissions =
+          permissionCache == null ? null : permissionCache.get(workbasketKey, domain, accessIds);
+
+      WorkbasketImpl workbasket = null;
+      if (grantedPermissions == null) {
+        workbasket = workbasketMapper.findByKeyAndDomain(workbasketKey, domain);
+        if (workbasket == null) {
+          throw new WorkbasketNotFoundException(
+              workbasketKey,
+              domain,
+              "Workbasket with key " + workbasketKey + " and domain " + domain + " was not found");
+        }
       }
       if (skipAuthorizationCheck(requestedPermissions)) {
         return;
       }
-      List<String> accessIds = CurrentUserContext.getAccessIds();
-      WorkbasketAccessItem wbAcc =
-          workbasketAccessMapper.findByWorkbasketKeyDomainAndAccessId(
-              workbasketKey, domain, accessIds);
-      if (wbAcc == null) {
+      if (grantedPermissions == null) {
+        WorkbasketAccessItem wbAcc =
+            workbasketAccessMapper.findByWorkbasketKeyDomainAndAccessId(
+                workbasketKey, domain, accessIds);
+        Set<WorkbasketPermission> permissions = getPermissionSetFromAccessItem(wbAcc);
+        grantedPermissions =
+            permissionCache == null
+                ? CachedPermissions.uncached(workbasket.getId(), permissions)
+                : permissionCache.put(
+                    workbasketKey, domain, accessIds, workbasket.getId(), permissions);
+      }
+      if (!grantedPermissions.hasAccessItem()) {
         throw new NotAuthorizedException(
             "Not authorized. Permission '"
                 + Arrays.toString(requestedPermissions)
@@ -386,9 +425,6 @@ public class WorkbasketServiceImpl implements WorkbasketService {
                 + "' is needed.",
             CurrentUserContext.getUserid());
       }
-      List<WorkbasketPermission> grantedPermissions =
-          this.getPermissionsFromWorkbasketAccessItem(wbAcc);
-
       for (WorkbasketPermission perm : requestedPermissions) {
         if (!grantedPermissions.contains(perm)) {
           isAuthorized = false;
@@ -460,7 +496,8 @@ public class WorkbasketServiceImpl implements WorkbasketService {
                 workbasketId, workbasketAccessItem));
       }
       if (wbAccessItemImpl.getId() == null || wbAccessItemImpl.getId().isEmpty()) {
-        wbAccessItemImpl.setId(IdGenerator.generateWithPrefix(ID_PREFIX_WORKBASKET_AUTHORIZATION));
+        wbAccessItemImpl.setId(
+            taskanaEngine.getIdGenerator().generateId(ID_PREFIX_WORKBASKET_AUTHORIZATION));
       }
       if (ids.contains(wbAccessItemImpl.getAccessId())) {
         throw new WorkbasketAccessItemAlreadyExistException(wbAccessItemImpl);
@@ -473,6 +510,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       // delete all current ones
       workbasketAccessMapper.deleteAllAccessItemsForWorkbasketId(workbasketId);
       accessItems.forEach(workbasketAccessMapper::insert);
+      invalidateCachedPermissions(workbasketId);
     } finally {
       taskanaEngine.returnConnection();
       LOGGER.debug("exit from setWorkbasketAccessItems(workbasketAccessItems = {})", wbAccessItems);
@@ -520,9 +558,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
           .isUserInRole(TaskanaRole.ADMIN, TaskanaRole.BUSINESS_ADMIN, TaskanaRole.TASK_ADMIN)) {
         checkAuthorization(workbasketId, WorkbasketPermission.READ);
       }
-      List<WorkbasketSummaryImpl> distributionTargets =
-          workbasketMapper.findDistributionTargets(workbasketId);
-      result.addAll(distributionTargets);
+      result.addAll(findDistributionTargets(workbasketId));
       return result;
     } finally {
       taskanaEngine.returnConnection();
@@ -551,9 +587,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
           .isUserInRole(TaskanaRole.ADMIN, TaskanaRole.BUSINESS_ADMIN, TaskanaRole.TASK_ADMIN)) {
         checkAuthorization(workbasket.getId(), WorkbasketPermission.READ);
       }
-      List<WorkbasketSummaryImpl> distributionTargets =
-          workbasketMapper.findDistributionTargets(workbasket.getId());
-      result.addAll(distributionTargets);
+      result.addAll(findDistributionTargets(workbasket.getId()));
       return result;
     } finally {
       taskanaEngine.returnConnection();
@@ -581,23 +615,37 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       taskanaEngine.openConnection();
       // check existence of source workbasket
       WorkbasketImpl sourceWorkbasket = (WorkbasketImpl) getWorkbasket(sourceWorkbasketId);
+      List<String> targetIds =
+          targetWorkbasketIds == null
+              ? new ArrayList<>()
+              : new ArrayList<>(new LinkedHashSet<>(targetWorkbasketIds));
+      // check existence of all target workbaskets with one query per chunk
+      Set<String> existingTargetIds = new HashSet<>();
+      CollectionUtil.forEachChunk(
+          targetIds, chunk -> existingTargetIds.addAll(workbasketMapper.findExistingIds(chunk)));
+      for (String targetId : targetIds) {
+        if (!existingTargetIds.contains(targetId)) {
+          throw new WorkbasketNotFoundException(
+              targetId, "Workbasket with id " + targetId + " was not found.");
+        }
+      }
+
       distributionTargetMapper.deleteAllDistributionTargetsBySourceId(sourceWorkbasketId);
 
       sourceWorkbasket.setModified(Instant.now());
       workbasketMapper.update(sourceWorkbasket);
 
-      if (targetWorkbasketIds != null) {
-        for (String targetId : targetWorkbasketIds) {
-          // check for existence of target workbasket
-          getWorkbasket(targetId);
-          distributionTargetMapper.insert(sourceWorkbasketId, targetId);
-          LOGGER.debug(
-              "Method setDistributionTargets() created distribution target "
-                  + "for source '{}' and target {}",
-              sourceWorkbasketId,
-              targetId);
-        }
-      }
+      List<Pair<String, String>> distributionTargets =
+          targetIds.stream()
+              .map(targetId -> Pair.of(sourceWorkbasketId, targetId))
+              .collect(Collectors.toList());
+      CollectionUtil.forEachChunk(distributionTargets, distributionTargetMapper::insertAll);
+      invalidateDistributionTargetGraph();
+      LOGGER.debug(
+          "Method setDistributionTargets() created distribution targets "
+              + "for source '{}' and targets {}",
+          sourceWorkbasketId,
+          targetIds);
     } finally {
       taskanaEngine.returnConnection();
       if (LOGGER.isDebugEnabled()) {
@@ -633,6 +681,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
                 + "distribution target exists already. Doing nothing.");
       } else {
         distributionTargetMapper.insert(sourceWorkbasketId, targetWorkbasketId);
+        invalidateDistributionTargetGraph();
         LOGGER.debug(
             "addDistributionTarget inserted distribution target sourceId = {}, targetId = {}",
             sourceWorkbasketId,
@@ -665,6 +714,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
               sourceWorkbasketId, targetWorkbasketId);
       if (numberOfDistTargets > 0) {
         distributionTargetMapper.delete(sourceWorkbasketId, targetWorkbasketId);
+        invalidateDistributionTargetGraph();
         LOGGER.debug(
             "removeDistributionTarget deleted distribution target sourceId = {}, targetId = {}",
             sourceWorkbasketId,
@@ -727,12 +777,14 @@ public class WorkbasketServiceImpl implements WorkbasketService {
 
       boolean canBeDeletedNow = countTasksInWorkbasket == 0;
 
+      invalidateDistributionTargetGraphIfInvolved(workbasketId);
       if (canBeDeletedNow) {
         workbasketMapper.delete(workbasketId);
         deleteReferencesToWorkbasket(workbasketId);
       } else {
         markWorkbasketForDeletion(workbasketId);
       }
+      invalidateCachedPermissions(workbasketId);
       return canBeDeletedNow;
     } finally {
       taskanaEngine.returnConnection();
@@ -805,9 +857,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       if (!taskanaEngine.getEngine().isUserInRole(TaskanaRole.ADMIN, TaskanaRole.BUSINESS_ADMIN)) {
         checkAuthorization(workbasketId, WorkbasketPermission.READ);
       }
-      List<WorkbasketSummaryImpl> distributionSources =
-          workbasketMapper.findDistributionSources(workbasketId);
-      result.addAll(distributionSources);
+      result.addAll(findDistributionSources(workbasketId));
       return result;
     } finally {
       taskanaEngine.returnConnection();
@@ -834,9 +884,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       if (!taskanaEngine.getEngine().isUserInRole(TaskanaRole.ADMIN, TaskanaRole.BUSINESS_ADMIN)) {
         checkAuthorization(workbasket.getId(), WorkbasketPermission.READ);
       }
-      List<WorkbasketSummaryImpl> distributionSources =
-          workbasketMapper.findDistributionSources(workbasket.getId());
-      result.addAll(distributionSources);
+      result.addAll(findDistributionSources(workbasket.getId()));
       return result;
     } finally {
       taskanaEngine.returnConnection();
@@ -858,12 +906,80 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
       workbasketAccessMapper.deleteAccessItemsForAccessId(accessId);
+      invalidateAllCachedPermissions();
     } finally {
       taskanaEngine.returnConnection();
       LOGGER.debug("exit from deleteWorkbasketAccessItemsForAccessId(accessId={}).", accessId);
     }
   }
 
+  @Override
+  public Map<String, String> importWorkbasketDefinitions(Iterable<WorkbasketDefinition> definitions)
+      throws NotAuthorizedException, InvalidArgumentException, InvalidWorkbasketException,
+          DomainNotFoundException, WorkbasketAlreadyExistException,
+          WorkbasketAccessItemAlreadyExistException, WorkbasketNotFoundException,
+          ConcurrencyException {
+    LOGGER.debug("entry to importWorkbasketDefinitions()");
+    taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
+    if (definitions == null) {
+      throw new InvalidArgumentException("The workbasket definitions must not be NULL.");
+    }
+
+    // key: workbasket id of the definition
+    // value: system id
+    Map<String, String> idConversion = new HashMap<>();
+    try {
+      taskanaEngine.openConnection();
+      Instant now = Instant.now();
+      Set<KeyDomain> importedKeyDomains = new HashSet<>();
+      // key: system id of the source workbasket
+      // value: distribution target ids as given in the definition
+      Map<String, Set<String>> distributionTargets = new LinkedHashMap<>();
+      List<String> existingIds = new ArrayList<>();
+
+      // STEP 1: import the workbaskets and access items chunk by chunk while they are read
+      ImportChunk chunk = new ImportChunk();
+      for (WorkbasketDefinition definition : definitions) {
+        Workbasket workbasket = definition.getWorkbasket();
+        if (!importedKeyDomains.add(new KeyDomain(workbasket.getKey(), workbasket.getDomain()))) {
+          throw new WorkbasketAlreadyExistException(workbasket);
+        }
+        chunk.definitions.add(definition);
+        if (chunk.definitions.size() == CollectionUtil.CHUNK_SIZE) {
+          prepareImportChunk(chunk, now, idConversion, distributionTargets);
+          writeImportChunk(chunk, now);
+          existingIds.addAll(chunk.existingIds);
+          chunk = new ImportChunk();
+        }
+      }
+      // the last chunk is written after the distribution targets are resolved,
+      // so that an import which fits into one chunk writes nothing if a target is invalid
+      prepareImportChunk(chunk, now, idConversion, distributionTargets);
+      List<Pair<String, String>> distributionTargetPairs =
+          resolveDistributionTargets(distributionTargets, idConversion);
+      writeImportChunk(chunk, now);
+      existingIds.addAll(chunk.existingIds);
+
+      // STEP 2: replace the distribution targets once all workbaskets exist
+      CollectionUtil.forEachChunk(
+          existingIds, distributionTargetMapper::deleteAllDistributionTargetsBySourceIds);
+      CollectionUtil.forEachChunk(distributionTargetPairs, distributionTargetMapper::insertAll);
+      invalidateAllCachedPermissions();
+      invalidateDistributionTargetGraph();
+      LOGGER.debug(
+          "Method importWorkbasketDefinitions() imported {} workbaskets "
+              + "with {} distribution targets",
+          distributionTargets.size(),
+          distributionTargetPairs.size());
+      return idConversion;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug(
+          "exit from importWorkbasketDefinitions(). Returning {} converted ids",
+          idConversion.size());
+    }
+  }
+
   /**
    * Check if current workbasket is based on the newest (by modified).
    *
@@ -883,6 +999,186 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     }
   }
 
+  private void prepareImportChunk(
+      ImportChunk chunk,
+      Instant now,
+      Map<String, String> idConversion,
+      Map<String, Set<String>> distributionTargets)
+      throws InvalidArgumentException, InvalidWorkbasketException, DomainNotFoundException,
+          WorkbasketAccessItemAlreadyExistException {
+    Map<KeyDomain, WorkbasketImpl> existingWorkbaskets = findExistingWorkbaskets(chunk.definitions);
+    for (WorkbasketDefinition definition : chunk.definitions) {
+      WorkbasketImpl workbasket = (WorkbasketImpl) definition.getWorkbasket();
+      String definitionId = workbasket.getId();
+      WorkbasketImpl existingWorkbasket =
+          existingWorkbaskets.get(new KeyDomain(workbasket.getKey(), workbasket.getDomain()));
+      if (existingWorkbasket == null) {
+        workbasket.setId(taskanaEngine.getIdGenerator().generateId(ID_PREFIX_WORKBASKET));
+        workbasket.setCreated(now);
+        workbasket.setModified(now);
+        validateWorkbasket(workbasket);
+        chunk.workbasketsToInsert.add(workbasket);
+      } else {
+        workbasket.setId(existingWorkbasket.getId());
+        workbasket.setCreated(existingWorkbasket.getCreated());
+        // updateWorkbasket() compares this with the stored workbasket
+        workbasket.setModified(existingWorkbasket.getModified());
+        validateWorkbasket(workbasket);
+        chunk.existingIds.add(workbasket.getId());
+        if (workbasket.asSummary().equals(existingWorkbasket.asSummary())) {
+          chunk.unchangedIds.add(workbasket.getId());
+        } else {
+          chunk.workbasketsToUpdate.add(workbasket);
+        }
+      }
+      chunk.accessItems.addAll(prepareAccessItemsForImport(workbasket.getId(), definition));
+      distributionTargets.put(workbasket.getId(), definition.getDistributionTargetIds());
+      if (definitionId != null) {
+        idConversion.put(definitionId, workbasket.getId());
+      }
+    }
+  }
+
+  private void writeImportChunk(ImportChunk chunk, Instant now)
+      throws NotAuthorizedException, WorkbasketNotFoundException, ConcurrencyException {
+    CollectionUtil.forEachChunk(chunk.workbasketsToInsert, workbasketMapper::insertAll);
+    for (WorkbasketImpl workbasket : chunk.workbasketsToUpdate) {
+      updateWorkbasket(workbasket);
+    }
+    CollectionUtil.forEachChunk(
+        chunk.unchangedIds, ids -> workbasketMapper.updateModified(ids, now));
+    CollectionUtil.forEachChunk(
+        chunk.existingIds, workbasketAccessMapper::deleteAllAccessItemsForWorkbasketIds);
+    CollectionUtil.forEachChunk(chunk.accessItems, workbasketAccessMapper::insertAll);
+    LOGGER.debug(
+        "Method importWorkbasketDefinitions() created {} and updated {} workbaskets "
+            + "with {} access items",
+        chunk.workbasketsToInsert.size(),
+        chunk.workbasketsToUpdate.size(),
+        chunk.accessItems.size());
+  }
+
+  private Map<KeyDomain, WorkbasketImpl> findExistingWorkbaskets(
+      List<WorkbasketDefinition> definitions) {
+    Set<KeyDomain> importedKeyDomains =
+        definitions.stream()
+            .map(WorkbasketDefinition::getWorkbasket)
+            .map(workbasket -> new KeyDomain(workbasket.getKey(), workbasket.getDomain()))
+            .collect(Collectors.toSet());
+    List<String> keys =
+        importedKeyDomains.stream().map(KeyDomain::getKey).distinct().collect(Collectors.toList());
+    Map<KeyDomain, WorkbasketImpl> existingWorkbaskets = new HashMap<>();
+    CollectionUtil.forEachChunk(
+        keys,
+        chunk -> {
+          for (WorkbasketImpl workbasket : workbasketMapper.findByKeys(chunk)) {
+            KeyDomain keyDomain = new KeyDomain(workbasket.getKey(), workbasket.getDomain());
+            if (importedKeyDomains.contains(keyDomain)) {
+              existingWorkbaskets.put(keyDomain, workbasket);
+            }
+          }
+        });
+    return existingWorkbaskets;
+  }
+
+  private List<WorkbasketAccessItemImpl> prepareAccessItemsForImport(
+      String workbasketId, WorkbasketDefinition definition)
+      throws InvalidArgumentException, WorkbasketAccessItemAlreadyExistException {
+    Set<String> accessIds = new HashSet<>();
+    List<WorkbasketAccessItemImpl> accessItems = new ArrayList<>();
+    for (WorkbasketAccessItem workbasketAccessItem : definition.getAccessItems()) {
+      WorkbasketAccessItemImpl accessItem = (WorkbasketAccessItemImpl) workbasketAccessItem;
+      if (accessItem.getAccessId() == null) {
+        throw new InvalidArgumentException(
+            String.format(
+                "Checking the preconditions of the current WorkbasketAccessItem failed "
+                    + "- the accessId is NULL. WorkbasketAccessItem=%s",
+                accessItem));
+      }
+      if (!accessIds.add(accessItem.getAccessId())) {
+        throw new WorkbasketAccessItemAlreadyExistException(accessItem);
+      }
+      accessItem.setId(
+          taskanaEngine.getIdGenerator().generateId(ID_PREFIX_WORKBASKET_AUTHORIZATION));
+      accessItem.setWorkbasketId(workbasketId);
+      accessItems.add(accessItem);
+    }
+    return accessItems;
+  }
+
+  private List<Pair<String, String>> resolveDistributionTargets(
+      Map<String, Set<String>> distributionTargets, Map<String, String> idConversion)
+      throws InvalidWorkbasketException {
+    List<String> unknownIds =
+        distributionTargets.values().stream()
+            .flatMap(Set::stream)
+            .filter(targetId -> !idConversion.containsKey(targetId))
+            .distinct()
+            .collect(Collectors.toList());
+    Set<String> existingIds = new HashSet<>();
+    CollectionUtil.forEachChunk(
+        unknownIds, chunk -> existingIds.addAll(workbasketMapper.findExistingIds(chunk)));
+
+    List<Pair<String, String>> pairs = new ArrayList<>();
+    for (Map.Entry<String, Set<String>> entry : distributionTargets.entrySet()) {
+      Set<String> targetIds = new HashSet<>();
+      for (String targetId : entry.getValue()) {
+        String systemId = idConversion.getOrDefault(targetId, targetId);
+        if (!idConversion.containsKey(targetId) && !existingIds.contains(targetId)) {
+          throw new InvalidWorkbasketException(
+              String.format(
+                  "invalid import state: Workbasket '%s' does not exist in the given import list",
+                  targetId));
+        }
+        if (targetIds.add(systemId)) {
+          pairs.add(Pair.of(entry.getKey(), systemId));
+        }
+      }
+    }
+    return pairs;
+  }
+
+  private List<WorkbasketSummary> findDistributionTargets(String sourceId) {
+    DistributionTargetGraph graph = taskanaEngine.getDistributionTargetGraph();
+    if (!graph.isEnabled() || taskanaEngine.hasUncommittedChanges()) {
+      return new ArrayList<>(workbasketMapper.findDistributionTargets(sourceId));
+    }
+    return getDistributionTargetGraphSnapshot(graph).getDistributionTargets(sourceId);
+  }
+
+  private List<WorkbasketSummary> findDistributionSources(String targetId) {
+    DistributionTargetGraph graph = taskanaEngine.getDistributionTargetGraph();
+    if (!graph.isEnabled() || taskanaEngine.hasUncommittedChanges()) {
+      return new ArrayList<>(workbasketMapper.findDistributionSources(targetId));
+    }
+    return getDistributionTargetGraphSnapshot(graph).getDistributionSources(targetId);
+  }
+
+  private DistributionTargetGraph.Snapshot getDistributionTargetGraphSnapshot(
+      DistributionTargetGraph graph) {
+    return graph.getSnapshot(
+        workbasketMapper::findWorkbasketsWithDistributionTargetsOrSources,
+        distributionTargetMapper::findAll);
+  }
+
+  private void invalidateDistributionTargetGraph() {
+    DistributionTargetGraph graph = taskanaEngine.getDistributionTargetGraph();
+    taskanaEngine.runAfterCommit(() -> graph.invalidate());
+  }
+
+  /**
+   * Invalidates the distribution target graph after a change of the given workbasket if the graph
+   * contains it, i.e. if the workbasket has distribution targets or is one.
+   *
+   * @param workbasketId the id of the changed workbasket
+   */
+  private void invalidateDistributionTargetGraphIfInvolved(String workbasketId) {
+    if (taskanaEngine.getDistributionTargetGraph().isEnabled()
+        && distributionTargetMapper.getNumberOfDistributionTargetsAndSources(workbasketId) > 0) {
+      invalidateDistributionTargetGraph();
+    }
+  }
+
   private void validateWorkbasketId(String workbasketId) throws InvalidArgumentException {
     if (workbasketId == null) {
       throw new InvalidArgumentException("The WorkbasketId can´t be NULL");
@@ -899,6 +1195,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
         .getTaskService()
         .createTaskQuery()
         .workbasketIdIn(workbasketId)
+        .includeArchivedTasks()
         .count();
   }
 
@@ -958,6 +1255,36 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     }
   }
 
+  /**
+   * Returns the permission cache unless the current transaction changed access items, because
+   * such a transaction must see its own changes and must not cache them before they are committed.
+   *
+   * @return the permission cache or null if it must not be used
+   */
+  private WorkbasketPermissionCache getUsablePermissionCache() {
+    return taskanaEngine.hasUncommittedChanges()
+        ? null
+        : taskanaEngine.getWorkbasketPermissionCache();
+  }
+
+  private void invalidateCachedPermissions(String workbasketId) {
+    WorkbasketPermissionCache permissionCache = taskanaEngine.getWorkbasketPermissionCache();
+    taskanaEngine.runAfterCommit(() -> permissionCache.invalidate(workbasketId));
+  }
+
+  private void invalidateAllCachedPermissions() {
+    WorkbasketPermissionCache permissionCache = taskanaEngine.getWorkbasketPermissionCache();
+    taskanaEngine.runAfterCommit(() -> permissionCache.invalidateAll());
+  }
+
+  private Set<WorkbasketPermission> getPermissionSetFromAccessItem(
+      WorkbasketAccessItem workbasketAccessItem) {
+    if (workbasketAccessItem == null) {
+      return null;
+    }
+    return new HashSet<>(getPermissionsFromWorkbasketAccessItem(workbasketAccessItem));
+  }
+
   private List<WorkbasketPermission> getPermissionsFromWorkbasketAccessItem(
       WorkbasketAccessItem workbasketAccessItem) {
     List<WorkbasketPermission> permissions = new ArrayList<>();
@@ -1040,4 +1367,15 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     distributionTargetMapper.deleteAllDistributionTargetsByTargetId(workbasketId);
     workbasketAccessMapper.deleteAllAccessItemsForWorkbasketId(workbasketId);
   }
+
+  /** The definitions of one chunk of a workbasket import and what has to be written for them. */
+  private static class ImportChunk {
+
+    private final List<WorkbasketDefinition> definitions = new ArrayList<>();
+    private final List<WorkbasketImpl> workbasketsToInsert = new ArrayList<>();
+    private final List<WorkbasketImpl> workbasketsToUpdate = new ArrayList<>();
+    private final List<String> existingIds = new ArrayList<>();
+    private final List<String> unchangedIds = new ArrayList<>();
+    private final List<WorkbasketAccessItemImpl> accessItems = new ArrayList<>();
+  }
 }
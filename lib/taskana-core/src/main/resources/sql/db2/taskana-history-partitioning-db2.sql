@@ -0,0 +1,64 @@
+-- Optional: converts HISTORY_EVENTS into a table which is range partitioned by the month of CREATED.
+-- Monthly partitions are named P_yyyyMM. The HistoryCleanupJob of the simple history provider
+-- creates the partitions of the current and the next month and drops (detaches) every partition
+-- whose events are all older than taskana.jobs.history.cleanup.minimumAge.
+-- DB2 has no default partition: events can only be written into existing partitions, so the
+-- HistoryCleanupJob has to run at least once a month.
+-- Existing events are kept in the partition P_INITIAL and are removed row by row.
+-- Replace %nextMonth% with the first day of the next month (e.g. 2020-08-01) and run the
+-- HistoryCleanupJob afterwards to create the partition of the next month.
+
+SET SCHEMA %schemaName%;
+
+RENAME TABLE HISTORY_EVENTS TO HISTORY_EVENTS_UNPARTITIONED;
+RENAME INDEX IDX_HISTORY_EVENTS_CREATED TO IDX_HISTORY_EVENTS_UNPARTITIONED_CREATED;
+RENAME INDEX IDX_HISTORY_EVENTS_TASK_ID TO IDX_HISTORY_EVENTS_UNPARTITIONED_TASK_ID;
+RENAME INDEX IDX_HISTORY_EVENTS_BUSINESS_PROCESS_ID TO IDX_HISTORY_EVENTS_UNPARTITIONED_BUSINESS_PROCESS_ID;
+
+CREATE TABLE HISTORY_EVENTS
+(
+    ID                            INT      NOT NULL GENERATED BY DEFAULT AS IDENTITY (START WITH 1 INCREMENT BY 1),
+    BUSINESS_PROCESS_ID           VARCHAR(128) NULL,
+    PARENT_BUSINESS_PROCESS_ID    VARCHAR(128) NULL,
+    TASK_ID                       VARCHAR(40)  NULL,
+    EVENT_TYPE                    VARCHAR(32)  NULL,
+    CREATED                       TIMESTAMP    NOT NULL,
+    USER_ID                       VARCHAR(32)  NULL,
+    DOMAIN                        VARCHAR(32)  NULL,
+    WORKBASKET_KEY                VARCHAR(64)  NULL,
+    POR_COMPANY                   VARCHAR(32)  NULL,
+    POR_SYSTEM                    VARCHAR(32)  NULL,
+    POR_INSTANCE                  VARCHAR(32)  NULL,
+    POR_TYPE                      VARCHAR(32)  NULL,
+    POR_VALUE                     VARCHAR(128) NULL,
+    TASK_CLASSIFICATION_KEY       VARCHAR(32)  NULL,
+    TASK_CLASSIFICATION_CATEGORY  VARCHAR(32)  NULL,
+    ATTACHMENT_CLASSIFICATION_KEY VARCHAR(32)  NULL,
+    OLD_VALUE                     VARCHAR(255) NULL,
+    NEW_VALUE                     VARCHAR(255) NULL,
+    CUSTOM_1                      VARCHAR(128) NULL,
+    CUSTOM_2                      VARCHAR(128) NULL,
+    CUSTOM_3                      VARCHAR(128) NULL,
+    CUSTOM_4                      VARCHAR(128) NULL,
+    DETAILS                       CLOB         NULL,
+    PRIMARY KEY (ID, CREATED)
+)
+PARTITION BY RANGE (CREATED)
+(PARTITION P_INITIAL STARTING FROM (MINVALUE) ENDING AT ('%nextMonth% 00:00:00') EXCLUSIVE);
+
+CREATE INDEX IDX_HISTORY_EVENTS_CREATED ON HISTORY_EVENTS (CREATED ASC) PARTITIONED;
+CREATE INDEX IDX_HISTORY_EVENTS_TASK_ID ON HISTORY_EVENTS (TASK_ID ASC, CREATED ASC, ID ASC) PARTITIONED;
+CREATE INDEX IDX_HISTORY_EVENTS_BUSINESS_PROCESS_ID ON HISTORY_EVENTS (BUSINESS_PROCESS_ID ASC, CREATED ASC, ID ASC) PARTITIONED;
+
+INSERT INTO HISTORY_EVENTS (ID, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, TASK_ID, EVENT_TYPE, CREATED, USER_ID, DOMAIN,
+    WORKBASKET_KEY, POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, TASK_CLASSIFICATION_KEY,
+    TASK_CLASSIFICATION_CATEGORY, ATTACHMENT_CLASSIFICATION_KEY, OLD_VALUE, NEW_VALUE, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, DETAILS)
+SELECT ID, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, TASK_ID, EVENT_TYPE, COALESCE(CREATED, CURRENT TIMESTAMP), USER_ID, DOMAIN,
+    WORKBASKET_KEY, POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, TASK_CLASSIFICATION_KEY,
+    TASK_CLASSIFICATION_CATEGORY, ATTACHMENT_CLASSIFICATION_KEY, OLD_VALUE, NEW_VALUE, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, DETAILS
+FROM HISTORY_EVENTS_UNPARTITIONED;
+
+-- Replace %nextId% with the highest ID of the copied events plus one.
+ALTER TABLE HISTORY_EVENTS ALTER COLUMN ID RESTART WITH %nextId%;
+
+DROP TABLE HISTORY_EVENTS_UNPARTITIONED;
@@ -7,7 +7,7 @@ CREATE TABLE TASKANA_SCHEMA_VERSION(
         PRIMARY KEY (ID)
 );
 -- The VERSION value must match the value of TaskanaEngineConfiguration.TASKANA_SCHEMA_VERSION
-INSERT INTO TASKANA_SCHEMA_VERSION (VERSION, CREATED) VALUES ('3.0.0', CURRENT_TIMESTAMP);
+INSERT INTO TASKANA_SCHEMA_VERSION (VERSION, CREATED) VALUES ('3.0.1', CURRENT_TIMESTAMP);
 
 CREATE TABLE CLASSIFICATION(
     ID VARCHAR(40) NOT NULL,
@@ -60,6 +60,10 @@ CREATE TABLE WORKBASKET(
     CONSTRAINT WB_KEY_DOMAIN UNIQUE (KEY, DOMAIN)
 );
 
+CREATE INDEX IDX_WORKBASKET_UPPER_KEY ON WORKBASKET (UPPER(KEY) ASC, UPPER(DOMAIN) ASC);
+
+CREATE INDEX IDX_WORKBASKET_UPPER_NAME ON WORKBASKET (UPPER(NAME) ASC);
+
 CREATE TABLE TASK (
         ID VARCHAR(40) NOT NULL,
         EXTERNAL_ID VARCHAR(64) NOT NULL,
@@ -192,6 +196,102 @@ CREATE TABLE TASK_COMMENT(
     CONSTRAINT COMMENT_TASK FOREIGN KEY (TASK_ID) REFERENCES TASK ON DELETE CASCADE
 );
 
+CREATE TABLE TASK_ARCHIVE(
+        ID VARCHAR(40) NOT NULL,
+        EXTERNAL_ID VARCHAR(64) NOT NULL,
+        CREATED TIMESTAMP NULL,
+        CLAIMED TIMESTAMP NULL,
+        COMPLETED TIMESTAMP NULL,
+        MODIFIED TIMESTAMP NULL,
+        PLANNED TIMESTAMP NULL,
+        DUE TIMESTAMP NULL,
+        NAME VARCHAR(255) NULL,
+        CREATOR VARCHAR(32) NULL,
+        DESCRIPTION VARCHAR(1024) NULL,
+        NOTE VARCHAR(4096) NULL,
+        PRIORITY INT NULL,
+        STATE VARCHAR(20) NULL,
+        CLASSIFICATION_CATEGORY VARCHAR(32) NULL,
+        CLASSIFICATION_KEY VARCHAR(32) NULL,
+        CLASSIFICATION_ID VARCHAR(40) NULL,
+        WORKBASKET_ID VARCHAR(40) NULL,
+        WORKBASKET_KEY VARCHAR(64) NULL,
+        DOMAIN VARCHAR(32) NULL,
+        BUSINESS_PROCESS_ID VARCHAR(128) NULL,
+        PARENT_BUSINESS_PROCESS_ID VARCHAR(128) NULL,
+        OWNER VARCHAR(32) NULL,
+        POR_COMPANY VARCHAR(32) NOT NULL,
+        POR_SYSTEM VARCHAR(32),
+        POR_INSTANCE VARCHAR(32),
+        POR_TYPE VARCHAR(32) NOT NULL,
+        POR_VALUE VARCHAR(128) NOT NULL,
+        IS_READ SMALLINT NOT NULL,
+        IS_TRANSFERRED SMALLINT NOT NULL,
+        CALLBACK_INFO CLOB NULL,
+        CALLBACK_STATE VARCHAR(30) NULL,
+        CUSTOM_ATTRIBUTES CLOB NULL,
+        CUSTOM_1 VARCHAR(255) NULL,
+        CUSTOM_2 VARCHAR(255) NULL,
+        CUSTOM_3 VARCHAR(255) NULL,
+        CUSTOM_4 VARCHAR(255) NULL,
+        CUSTOM_5 VARCHAR(255) NULL,
+        CUSTOM_6 VARCHAR(255) NULL,
+        CUSTOM_7 VARCHAR(255) NULL,
+        CUSTOM_8 VARCHAR(255) NULL,
+        CUSTOM_9 VARCHAR(255) NULL,
+        CUSTOM_10 VARCHAR(255) NULL,
+        CUSTOM_11 VARCHAR(255) NULL,
+        CUSTOM_12 VARCHAR(255) NULL,
+        CUSTOM_13 VARCHAR(255) NULL,
+        CUSTOM_14 VARCHAR(255) NULL,
+        CUSTOM_15 VARCHAR(255) NULL,
+        CUSTOM_16 VARCHAR(255) NULL,
+        PRIMARY KEY (ID),
+        CONSTRAINT UC_ARCHIVE_EXTERNAL_ID UNIQUE (EXTERNAL_ID),
+        CONSTRAINT TASK_ARCHIVE_WB FOREIGN KEY (WORKBASKET_ID) REFERENCES WORKBASKET ON DELETE NO ACTION,
+        CONSTRAINT TASK_ARCHIVE_CLASS FOREIGN KEY (CLASSIFICATION_ID) REFERENCES CLASSIFICATION ON DELETE NO ACTION
+);
+
+CREATE TABLE ATTACHMENT_ARCHIVE(
+    ID VARCHAR(40) NOT NULL,
+    TASK_ID VARCHAR(40) NOT NULL,
+    CREATED TIMESTAMP NULL,
+    MODIFIED TIMESTAMP NULL,
+    CLASSIFICATION_KEY VARCHAR(32) NULL,
+    CLASSIFICATION_ID VARCHAR(40) NULL,
+    REF_COMPANY VARCHAR(32) NOT NULL,
+    REF_SYSTEM VARCHAR(32) NOT NULL,
+    REF_INSTANCE VARCHAR(32) NOT NULL,
+    REF_TYPE VARCHAR(32) NOT NULL,
+    REF_VALUE VARCHAR(128) NOT NULL,
+    CHANNEL VARCHAR(64) NULL,
+    RECEIVED TIMESTAMP NULL,
+    CUSTOM_ATTRIBUTES CLOB NULL,
+    PRIMARY KEY (ID),
+    CONSTRAINT ATT_ARCHIVE_CLASS FOREIGN KEY (CLASSIFICATION_ID) REFERENCES CLASSIFICATION ON DELETE NO ACTION
+);
+
+CREATE TABLE TASK_COMMENT_ARCHIVE(
+    ID VARCHAR(40) NOT NULL,
+    TASK_ID VARCHAR(40) NOT NULL,
+    TEXT_FIELD VARCHAR(1024) NULL,
+    CREATOR VARCHAR(32) NULL,
+    CREATED TIMESTAMP NULL,
+    MODIFIED TIMESTAMP NULL,
+    PRIMARY KEY (ID),
+    CONSTRAINT COMMENT_ARCHIVE_TASK FOREIGN KEY (TASK_ID) REFERENCES TASK_ARCHIVE ON DELETE CASCADE
+);
+
+CREATE INDEX IDX_TASK_ARCHIVE_COMPLETED ON TASK_ARCHIVE (COMPLETED ASC);
+
+CREATE INDEX IDX_TASK_ARCHIVE_WORKBASKET_ID ON TASK_ARCHIVE (WORKBASKET_ID ASC);
+
+CREATE INDEX IDX_ATTACHMENT_ARCHIVE_TASK_ID ON ATTACHMENT_ARCHIVE (TASK_ID ASC);
+
+CREATE INDEX IDX_TASK_COMMENT_TASK_ID ON TASK_COMMENT (TASK_ID ASC, CREATED ASC);
+
+CREATE INDEX IDX_TASK_COMMENT_ARCHIVE_TASK_ID ON TASK_COMMENT_ARCHIVE (TASK_ID ASC);
+
 CREATE TABLE SCHEDULED_JOB(
         JOB_ID          INTEGER NOT NULL,
         PRIORITY        INTEGER NULL,
@@ -235,6 +335,10 @@ CREATE TABLE HISTORY_EVENTS
     PRIMARY KEY (ID)
 );
 
+CREATE INDEX IDX_HISTORY_EVENTS_CREATED ON HISTORY_EVENTS (CREATED ASC);
+CREATE INDEX IDX_HISTORY_EVENTS_TASK_ID ON HISTORY_EVENTS (TASK_ID ASC, CREATED ASC, ID ASC);
+CREATE INDEX IDX_HISTORY_EVENTS_BUSINESS_PROCESS_ID ON HISTORY_EVENTS (BUSINESS_PROCESS_ID ASC, CREATED ASC, ID ASC);
+
 CREATE SEQUENCE SCHEDULED_JOB_SEQ
   MINVALUE 1
   START WITH 1
@@ -0,0 +1,62 @@
+-- Optional: converts HISTORY_EVENTS into a table which is range partitioned by the month of CREATED.
+-- Requires PostgreSQL 11 or later.
+-- Monthly partitions are named HISTORY_EVENTS_yyyyMM. The HistoryCleanupJob of the simple history
+-- provider creates the partitions of the current and the next month and drops every partition
+-- whose events are all older than taskana.jobs.history.cleanup.minimumAge.
+-- Existing events are moved into the default partition and are removed row by row.
+
+SET search_path TO %schemaName%;
+
+ALTER TABLE HISTORY_EVENTS RENAME TO HISTORY_EVENTS_UNPARTITIONED;
+ALTER INDEX IDX_HISTORY_EVENTS_CREATED RENAME TO IDX_HISTORY_EVENTS_UNPARTITIONED_CREATED;
+ALTER INDEX IDX_HISTORY_EVENTS_TASK_ID RENAME TO IDX_HISTORY_EVENTS_UNPARTITIONED_TASK_ID;
+ALTER INDEX IDX_HISTORY_EVENTS_BUSINESS_PROCESS_ID RENAME TO IDX_HISTORY_EVENTS_UNPARTITIONED_BUSINESS_PROCESS_ID;
+
+CREATE SEQUENCE HISTORY_EVENTS_ID_SEQ;
+
+CREATE TABLE HISTORY_EVENTS
+(
+    ID                            INT          NOT NULL DEFAULT NEXTVAL('HISTORY_EVENTS_ID_SEQ'),
+    BUSINESS_PROCESS_ID           VARCHAR(128) NULL,
+    PARENT_BUSINESS_PROCESS_ID    VARCHAR(128) NULL,
+    TASK_ID                       VARCHAR(40)  NULL,
+    EVENT_TYPE                    VARCHAR(32)  NULL,
+    CREATED                       TIMESTAMP    NOT NULL,
+    USER_ID                       VARCHAR(32)  NULL,
+    DOMAIN                        VARCHAR(32)  NULL,
+    WORKBASKET_KEY                VARCHAR(64)  NULL,
+    POR_COMPANY                   VARCHAR(32)  NULL,
+    POR_SYSTEM                    VARCHAR(32)  NULL,
+    POR_INSTANCE                  VARCHAR(32)  NULL,
+    POR_TYPE                      VARCHAR(32)  NULL,
+    POR_VALUE                     VARCHAR(128) NULL,
+    TASK_CLASSIFICATION_KEY       VARCHAR(32)  NULL,
+    TASK_CLASSIFICATION_CATEGORY  VARCHAR(32)  NULL,
+    ATTACHMENT_CLASSIFICATION_KEY VARCHAR(32)  NULL,
+    OLD_VALUE                     VARCHAR(255) NULL,
+    NEW_VALUE                     VARCHAR(255) NULL,
+    CUSTOM_1                      VARCHAR(128) NULL,
+    CUSTOM_2                      VARCHAR(128) NULL,
+    CUSTOM_3                      VARCHAR(128) NULL,
+    CUSTOM_4                      VARCHAR(128) NULL,
+    DETAILS                       TEXT         NULL,
+    PRIMARY KEY (ID, CREATED)
+) PARTITION BY RANGE (CREATED);
+
+CREATE INDEX IDX_HISTORY_EVENTS_CREATED ON HISTORY_EVENTS (CREATED ASC);
+CREATE INDEX IDX_HISTORY_EVENTS_TASK_ID ON HISTORY_EVENTS (TASK_ID ASC, CREATED ASC, ID ASC);
+CREATE INDEX IDX_HISTORY_EVENTS_BUSINESS_PROCESS_ID ON HISTORY_EVENTS (BUSINESS_PROCESS_ID ASC, CREATED ASC, ID ASC);
+
+CREATE TABLE HISTORY_EVENTS_DEFAULT PARTITION OF HISTORY_EVENTS DEFAULT;
+
+INSERT INTO HISTORY_EVENTS (ID, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, TASK_ID, EVENT_TYPE, CREATED, USER_ID, DOMAIN,
+    WORKBASKET_KEY, POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, TASK_CLASSIFICATION_KEY,
+    TASK_CLASSIFICATION_CATEGORY, ATTACHMENT_CLASSIFICATION_KEY, OLD_VALUE, NEW_VALUE, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, DETAILS)
+SELECT ID, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, TASK_ID, EVENT_TYPE, COALESCE(CREATED, CURRENT_TIMESTAMP), USER_ID, DOMAIN,
+    WORKBASKET_KEY, POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, TASK_CLASSIFICATION_KEY,
+    TASK_CLASSIFICATION_CATEGORY, ATTACHMENT_CLASSIFICATION_KEY, OLD_VALUE, NEW_VALUE, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, DETAILS
+FROM HISTORY_EVENTS_UNPARTITIONED;
+
+SELECT SETVAL('HISTORY_EVENTS_ID_SEQ', (SELECT COALESCE(MAX(ID), 0) + 1 FROM HISTORY_EVENTS), FALSE);
+
+DROP TABLE HISTORY_EVENTS_UNPARTITIONED;
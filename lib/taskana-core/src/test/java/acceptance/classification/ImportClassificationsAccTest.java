@@ -0,0 +1,180 @@
+package acceptance.classification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.exceptions.ClassificationAlreadyExistException;
+import pro.taskana.classification.api.models.Classification;
+import pro.taskana.classification.internal.models.ClassificationImpl;
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.exceptions.DomainNotFoundException;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.internal.JobServiceImpl;
+import pro.taskana.common.internal.security.JaasExtension;
+import pro.taskana.common.internal.security.WithAccessId;
+
+/** Acceptance test for the bulk import of classifications. */
+@ExtendWith(JaasExtension.class)
+class ImportClassificationsAccTest extends AbstractAccTest {
+
+  private ClassificationService classificationService;
+
+  @BeforeEach
+  void resetDatabase() throws Exception {
+    resetDb(false);
+    classificationService = taskanaEngine.getClassificationService();
+  }
+
+  @WithAccessId(user = "dummy", groups = "businessadmin")
+  @Test
+  void should_ResolveParentsInsideImport_When_ParentIsReferencedByImportId() throws Exception {
+    Classification parent = createClassification("import-parent", "IMPORT_P", null, null);
+    Classification child = createClassification("import-child", "IMPORT_C", "import-parent", null);
+    Classification grandchild =
+        createClassification("import-grandchild", "IMPORT_G", null, "IMPORT_C");
+
+    Map<String, String> ids =
+        classificationService.importClassifications(Arrays.asList(grandchild, child, parent));
+
+    assertThat(ids).containsOnlyKeys("import-parent", "import-child", "import-grandchild");
+    Classification importedChild = classificationService.getClassification("IMPORT_C", "DOMAIN_A");
+    assertThat(importedChild.getId()).isEqualTo(ids.get("import-child"));
+    assertThat(importedChild.getParentId()).isEqualTo(ids.get("import-parent"));
+    assertThat(importedChild.getParentKey()).isEqualTo("IMPORT_P");
+    Classification importedGrandchild =
+        classificationService.getClassification("IMPORT_G", "DOMAIN_A");
+    assertThat(importedGrandchild.getParentId()).isEqualTo(ids.get("import-child"));
+    Classification masterChild = classificationService.getClassification("IMPORT_C", "");
+    assertThat(masterChild.getIsValidInDomain()).isFalse();
+    assertThat(masterChild.getParentKey()).isEqualTo("IMPORT_P");
+  }
+
+  @WithAccessId(user = "dummy", groups = "businessadmin")
+  @Test
+  void should_HookExistingChildToNewParent_When_ImportContainsBoth() throws Exception {
+    Classification existingChild = classificationService.getClassification("L110102", "DOMAIN_A");
+    existingChild.setParentId("");
+    existingChild.setParentKey("IMPORT_P");
+    Classification newParent = createClassification("import-parent", "IMPORT_P", null, "L11010");
+
+    Map<String, String> ids =
+        classificationService.importClassifications(Arrays.asList(existingChild, newParent));
+
+    assertThat(ids.get(existingChild.getId())).isEqualTo(existingChild.getId());
+    Classification updatedChild = classificationService.getClassification("L110102", "DOMAIN_A");
+    assertThat(updatedChild.getParentId()).isEqualTo(ids.get("import-parent"));
+    Classification importedParent =
+        classificationService.getClassification("IMPORT_P", "DOMAIN_A");
+    assertThat(importedParent.getParentId()).isEqualTo("CLI:100000000000000000000000000000000004");
+  }
+
+  @WithAccessId(user = "dummy", groups = "businessadmin")
+  @Test
+  void should_DropParent_When_ParentCanNotBeResolved() throws Exception {
+    Classification child = createClassification("import-child", "IMPORT_C", null, "UNKNOWN");
+
+    classificationService.importClassifications(Collections.singletonList(child));
+
+    Classification importedChild = classificationService.getClassification("IMPORT_C", "DOMAIN_A");
+    assertThat(importedChild.getParentKey()).isEmpty();
+    assertThat(importedChild.getParentId()).isEmpty();
+  }
+
+  @WithAccessId(user = "dummy", groups = "businessadmin")
+  @Test
+  void should_CreateOneJobPerChangedClassification_When_PriorityAndServiceLevelChange()
+      throws Exception {
+    Classification changed = classificationService.getClassification("L110107", "DOMAIN_A");
+    changed.setPriority(99);
+    changed.setServiceLevel("P2D");
+    Classification unchanged = classificationService.getClassification("L110105", "DOMAIN_A");
+    JobServiceImpl jobService = (JobServiceImpl) taskanaEngine.getJobService();
+    long jobsBefore = countClassificationChangedJobs(jobService);
+
+    classificationService.importClassifications(Arrays.asList(changed, unchanged));
+
+    assertThat(countClassificationChangedJobs(jobService)).isEqualTo(jobsBefore + 1);
+    Classification updated = classificationService.getClassification("L110107", "DOMAIN_A");
+    assertThat(updated.getPriority()).isEqualTo(99);
+    assertThat(updated.getServiceLevel()).isEqualTo("P2D");
+    assertThat(classificationService.getClassification("L110105", "DOMAIN_A").getModified())
+        .isEqualTo(unchanged.getModified());
+  }
+
+  @WithAccessId(user = "dummy", groups = "businessadmin")
+  @Test
+  void should_ThrowException_When_KeyAndDomainAreImportedTwice() {
+    Classification first = createClassification("import-1", "IMPORT_D", null, null);
+    Classification second = createClassification("import-2", "IMPORT_D", null, null);
+
+    ThrowingCallable call =
+        () -> classificationService.importClassifications(Arrays.asList(first, second));
+    assertThatThrownBy(call).isInstanceOf(ClassificationAlreadyExistException.class);
+  }
+
+  @WithAccessId(user = "dummy", groups = "businessadmin")
+  @Test
+  void should_ThrowException_When_TypeOfExistingClassificationChanges() throws Exception {
+    Classification existing = classificationService.getClassification("T6310", "");
+    Classification changed = classificationService.newClassification("T6310", "", "DOCUMENT");
+    changed.setName(existing.getName());
+
+    ThrowingCallable call =
+        () -> classificationService.importClassifications(Collections.singletonList(changed));
+    assertThatThrownBy(call).isInstanceOf(InvalidArgumentException.class);
+  }
+
+  @WithAccessId(user = "dummy", groups = "businessadmin")
+  @Test
+  void should_ThrowException_When_DomainDoesNotExist() {
+    Classification classification =
+        classificationService.newClassification("IMPORT_X", "UNKNOWN_DOMAIN", "TASK");
+
+    ThrowingCallable call =
+        () ->
+            classificationService.importClassifications(
+                Collections.singletonList(classification));
+    assertThatThrownBy(call).isInstanceOf(DomainNotFoundException.class);
+  }
+
+  @WithAccessId(user = "user_1_1")
+  @Test
+  void should_ThrowException_When_UserIsNoAdmin() {
+    Classification classification =
+        classificationService.newClassification("IMPORT_X", "DOMAIN_A", "TASK");
+
+    ThrowingCallable call =
+        () ->
+            classificationService.importClassifications(
+                Collections.singletonList(classification));
+    assertThatThrownBy(call).isInstanceOf(NotAuthorizedException.class);
+  }
+
+  private Classification createClassification(
+      String importId, String key, String parentId, String parentKey) {
+    ClassificationImpl classification =
+        (ClassificationImpl) classificationService.newClassification(key, "DOMAIN_A", "TASK");
+    classification.setId(importId);
+    classification.setName("name of " + key);
+    classification.setParentId(parentId);
+    classification.setParentKey(parentKey);
+    return classification;
+  }
+
+  private long countClassificationChangedJobs(JobServiceImpl jobService) {
+    return jobService.findJobsToRun().stream()
+        .filter(job -> ScheduledJob.Type.CLASSIFICATIONCHANGEDJOB.equals(job.getType()))
+        .count();
+  }
+}
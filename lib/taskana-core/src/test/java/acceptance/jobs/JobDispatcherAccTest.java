@@ -0,0 +1,77 @@
+package acceptance.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.JobQueueStatistics;
+import pro.taskana.common.api.JobService;
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.internal.jobs.JobDispatcher;
+import pro.taskana.common.internal.security.JaasExtension;
+import pro.taskana.common.internal.security.WithAccessId;
+
+/** Acceptance test for the JobDispatcher and the metrics of the job queue. */
+@ExtendWith(JaasExtension.class)
+class JobDispatcherAccTest extends AbstractAccTest {
+
+  private JobService jobService;
+
+  @BeforeEach
+  void before() throws Exception {
+    resetDb(false);
+    jobService = taskanaEngine.getJobService();
+  }
+
+  @Test
+  void should_CountOverdueJob_When_JobIsCreatedWithDueInThePast() {
+    long depthBefore = jobService.getJobQueueStatistics().getDepth();
+
+    jobService.createJob(createJob(Instant.now().minus(Duration.ofHours(1))));
+    jobService.createJob(createJob(Instant.now().plus(Duration.ofHours(1))));
+
+    JobQueueStatistics statistics = jobService.getJobQueueStatistics();
+    assertThat(statistics.getDepth()).isEqualTo(depthBefore + 1);
+    assertThat(statistics.getLag()).isGreaterThanOrEqualTo(Duration.ofMinutes(59));
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_RunJobWithoutPolling_When_JobIsCreatedWhileDispatcherIsRunning() throws Exception {
+    taskanaEngine.getConfiguration().setJobPollingInterval(Duration.ofHours(1));
+    JobDispatcher dispatcher = new JobDispatcher(taskanaEngine, null);
+    dispatcher.start();
+    try {
+      waitUntilNoJobIsDue();
+      assertThat(jobService.getJobQueueStatistics().getDepth()).isZero();
+
+      // the dispatcher is woken up right after the commit, so the job may already be done here
+      jobService.createJob(createJob(Instant.now().minusSeconds(1)));
+
+      waitUntilNoJobIsDue();
+      assertThat(jobService.getJobQueueStatistics().getDepth()).isZero();
+    } finally {
+      dispatcher.stop();
+      taskanaEngine.getConfiguration().setJobPollingInterval(Duration.ofMinutes(5));
+    }
+  }
+
+  private ScheduledJob createJob(Instant due) {
+    ScheduledJob job = new ScheduledJob();
+    job.setType(ScheduledJob.Type.WORKBASKETCLEANUPJOB);
+    job.setDue(due);
+    return job;
+  }
+
+  private void waitUntilNoJobIsDue() throws InterruptedException {
+    Instant timeout = Instant.now().plus(Duration.ofSeconds(20));
+    while (jobService.getJobQueueStatistics().getDepth() > 0 && Instant.now().isBefore(timeout)) {
+      Thread.sleep(100);
+    }
+  }
+}
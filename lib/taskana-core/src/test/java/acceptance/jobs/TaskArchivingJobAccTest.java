@@ -0,0 +1,210 @@
+package acceptance.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.models.Classification;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.internal.TaskanaEngineTestConfiguration;
+import pro.taskana.common.internal.security.JaasExtension;
+import pro.taskana.common.internal.security.WithAccessId;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.exceptions.InvalidStateException;
+import pro.taskana.task.api.exceptions.TaskAlreadyExistException;
+import pro.taskana.task.api.exceptions.TaskNotFoundException;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskComment;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.TaskQueryImpl;
+import pro.taskana.task.internal.TaskServiceImpl;
+import pro.taskana.task.internal.jobs.TaskArchivingJob;
+
+/** Acceptance test for the archiving of tasks in an end state. */
+@ExtendWith(JaasExtension.class)
+class TaskArchivingJobAccTest extends AbstractAccTest {
+
+  private static final String TASK_ID = "TKI:000000000000000000000000000000000000";
+
+  private TaskanaEngine archivingEngine;
+  private TaskService taskService;
+
+  @BeforeEach
+  void setupEngine() throws Exception {
+    resetDb(false);
+    TaskanaEngineConfiguration configuration =
+        new TaskanaEngineConfiguration(
+            TaskanaEngineTestConfiguration.getDataSource(),
+            false,
+            TaskanaEngineTestConfiguration.getSchemaName());
+    configuration.setTaskArchivingEnabled(true);
+    configuration.setArchiveJobMinimumAge(Duration.ZERO);
+    archivingEngine = configuration.buildTaskanaEngine();
+    archivingEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+    taskService = archivingEngine.getTaskService();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_MoveTasksInEndStateOutOfActiveQueries_When_JobRuns() throws Exception {
+    long activeTasks = taskService.createTaskQuery().count();
+    long completedTasks = taskService.createTaskQuery().stateIn(TaskState.COMPLETED).count();
+
+    new TaskArchivingJob(archivingEngine, null, null).run();
+
+    List<TaskSummary> remainingTasks = taskService.createTaskQuery().list();
+    assertThat(remainingTasks)
+        .hasSizeLessThan((int) activeTasks)
+        .noneMatch(task -> task.getState().isEndState() && task.getCompleted() != null);
+    assertThat(taskService.createTaskQuery().stateIn(TaskState.COMPLETED).count())
+        .isEqualTo(completedTasks);
+    assertThat(taskService.createTaskQuery().includeArchivedTasks().count())
+        .isEqualTo(activeTasks);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_UpdateActiveTasksOnly_When_SelectionContainsArchivedTasks() throws Exception {
+    new TaskArchivingJob(archivingEngine, null, null).run();
+    long activeTasks = taskService.createTaskQuery().count();
+    TaskQuery selection = taskService.createTaskQuery().includeArchivedTasks();
+    long selectedTasks = selection.count();
+
+    long updatedCount =
+        taskService.updateTasks(selection, Collections.singletonMap("3", "updated value"));
+
+    assertThat(selectedTasks).isGreaterThan(activeTasks);
+    assertThat(updatedCount).isEqualTo(activeTasks);
+    assertThat(taskService.createTaskQuery().customAttributeIn("3", "updated value").count())
+        .isEqualTo(activeTasks);
+    assertThat(((TaskQueryImpl) selection).getOrderBy()).isEmpty();
+    assertThat(selection.count()).isEqualTo(selectedTasks);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReadArchivedTaskWithAttachmentsAndComments_When_TaskIsRequested() throws Exception {
+    Task task = taskService.getTask(TASK_ID);
+    int attachments = task.getAttachments().size();
+    int comments = taskService.getTaskComments(TASK_ID).size();
+    taskService.forceCompleteTask(TASK_ID);
+
+    int archivedTasks =
+        ((TaskServiceImpl) taskService).archiveTasks(Instant.now().plusSeconds(60), 1000);
+
+    assertThat(archivedTasks).isPositive();
+    assertThat(taskService.createTaskQuery().idIn(TASK_ID).count()).isZero();
+    Task archivedTask = taskService.getTask(TASK_ID);
+    assertThat(archivedTask.getState()).isEqualTo(TaskState.COMPLETED);
+    assertThat(archivedTask.getAttachments()).hasSize(attachments);
+    assertThat(taskService.getTaskComments(TASK_ID)).hasSize(comments);
+    assertThat(taskService.getTaskComments(Collections.singletonList(TASK_ID))).hasSize(comments);
+    assertThat(
+            taskService
+                .createTaskQuery()
+                .idIn(TASK_ID)
+                .stateIn(TaskState.COMPLETED)
+                .withCommentSummaries()
+                .single()
+                .getCommentCount())
+        .isEqualTo(comments);
+    assertThat(
+            taskService
+                .createTaskQuery()
+                .idIn(TASK_ID)
+                .stateIn(TaskState.COMPLETED)
+                .single()
+                .getAttachmentSummaries())
+        .hasSize(attachments);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_RejectUpdate_When_TaskIsArchived() throws Exception {
+    taskService.forceCompleteTask(TASK_ID);
+    ((TaskServiceImpl) taskService).archiveTasks(Instant.now().plusSeconds(60), 1000);
+
+    Task archivedTask = taskService.getTask(TASK_ID);
+    archivedTask.setNote("changed");
+
+    assertThatThrownBy(() -> taskService.updateTask(archivedTask))
+        .isInstanceOf(InvalidStateException.class);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_DeleteArchivedTask_When_TasksAreDeleted() throws Exception {
+    taskService.forceCompleteTask(TASK_ID);
+    ((TaskServiceImpl) taskService).archiveTasks(Instant.now().plusSeconds(60), 1000);
+
+    taskService.deleteTasks(new ArrayList<>(Collections.singletonList(TASK_ID)));
+
+    assertThatThrownBy(() -> taskService.getTask(TASK_ID))
+        .isInstanceOf(TaskNotFoundException.class);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_RejectComment_When_TaskIsArchived() throws Exception {
+    taskService.forceCompleteTask(TASK_ID);
+    ((TaskServiceImpl) taskService).archiveTasks(Instant.now().plusSeconds(60), 1000);
+
+    TaskComment taskComment = taskService.newTaskComment(TASK_ID);
+
+    assertThatThrownBy(() -> taskService.createTaskComment(taskComment))
+        .isInstanceOf(InvalidStateException.class);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_RejectExternalIdOfArchivedTask_When_TaskIsCreated() throws Exception {
+    taskService.forceCompleteTask(TASK_ID);
+    ((TaskServiceImpl) taskService).archiveTasks(Instant.now().plusSeconds(60), 1000);
+    Task archivedTask = taskService.getTask(TASK_ID);
+
+    Task newTask = taskService.newTask(archivedTask.getWorkbasketSummary().getId());
+    newTask.setClassificationKey(archivedTask.getClassificationSummary().getKey());
+    newTask.setPrimaryObjRef(archivedTask.getPrimaryObjRef());
+    newTask.setExternalId(archivedTask.getExternalId());
+
+    assertThatThrownBy(() -> taskService.createTask(newTask))
+        .isInstanceOf(TaskAlreadyExistException.class);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_UpdateCategoryOfArchivedTask_When_ClassificationCategoryChanges() throws Exception {
+    taskService.forceCompleteTask(TASK_ID);
+    ((TaskServiceImpl) taskService).archiveTasks(Instant.now().plusSeconds(60), 1000);
+    ClassificationService classificationService = archivingEngine.getClassificationService();
+    Classification classification =
+        classificationService.getClassification(
+            taskService.getTask(TASK_ID).getClassificationSummary().getId());
+    classification.setCategory("EXTERNAL");
+
+    classificationService.updateClassification(classification);
+
+    assertThat(
+            taskService
+                .createTaskQuery()
+                .idIn(TASK_ID)
+                .includeArchivedTasks()
+                .classificationCategoryIn("EXTERNAL")
+                .count())
+        .isOne();
+  }
+}
@@ -0,0 +1,66 @@
+package acceptance.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.util.List;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.internal.TaskanaEngineProxyForTest;
+import pro.taskana.common.internal.TaskanaEngineTestConfiguration;
+import pro.taskana.common.internal.persistence.LazyMapperConfiguration;
+import pro.taskana.common.internal.security.JaasExtension;
+import pro.taskana.common.internal.security.WithAccessId;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
+
+/** Acceptance test for the lazy initialization of the engine. */
+@ExtendWith(JaasExtension.class)
+class LazyInitializationAccTest extends AbstractAccTest {
+
+  private TaskanaEngine lazyEngine;
+  private Configuration mybatisConfiguration;
+
+  @BeforeEach
+  void setupEngine() throws Exception {
+    resetDb(false);
+    TaskanaEngineConfiguration configuration =
+        new TaskanaEngineConfiguration(
+            TaskanaEngineTestConfiguration.getDataSource(),
+            false,
+            TaskanaEngineTestConfiguration.getSchemaName());
+    configuration.setLazyInitializationEnabled(true);
+    lazyEngine = configuration.buildTaskanaEngine();
+    lazyEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+    mybatisConfiguration =
+        new TaskanaEngineProxyForTest(lazyEngine).getSqlSession().getConfiguration();
+  }
+
+  @Test
+  void should_NotParseMappers_When_EngineIsBuilt() {
+    assertThat(mybatisConfiguration).isInstanceOf(LazyMapperConfiguration.class);
+    assertThat(mybatisConfiguration.getMappedStatementNames()).isEmpty();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ParseMappersOnFirstUse_When_ServicesAreCalled() throws Exception {
+    List<TaskSummary> tasks =
+        lazyEngine
+            .getTaskService()
+            .createTaskQuery()
+            .workbasketIdIn("WBI:100000000000000000000000000000000006")
+            .list();
+    Task task = lazyEngine.getTaskService().getTask(tasks.get(0).getId());
+
+    assertThat(task.getWorkbasketSummary().getId())
+        .isEqualTo("WBI:100000000000000000000000000000000006");
+    assertThat(mybatisConfiguration.getMappedStatementNames()).isNotEmpty();
+  }
+}
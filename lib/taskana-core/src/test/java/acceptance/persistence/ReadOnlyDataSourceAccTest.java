@@ -0,0 +1,140 @@
+package acceptance.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.internal.TaskanaEngineTestConfiguration;
+import pro.taskana.common.internal.security.JaasExtension;
+import pro.taskana.common.internal.security.WithAccessId;
+import pro.taskana.monitor.api.reports.CategoryReport;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.TaskSummary;
+
+/** Acceptance test for the routing of queries and reports to a read-only DataSource. */
+@ExtendWith(JaasExtension.class)
+class ReadOnlyDataSourceAccTest extends AbstractAccTest {
+
+  private final AtomicInteger readOnlyConnections = new AtomicInteger();
+  private TaskanaEngine readOnlyEngine;
+
+  @BeforeEach
+  void setupEngine() throws Exception {
+    resetDb(false);
+    TaskanaEngineConfiguration configuration =
+        new TaskanaEngineConfiguration(
+            TaskanaEngineTestConfiguration.getDataSource(),
+            false,
+            TaskanaEngineTestConfiguration.getSchemaName());
+    configuration.setReadOnlyDatasource(
+        countConnections(TaskanaEngineTestConfiguration.getDataSource()));
+    readOnlyEngine = configuration.buildTaskanaEngine();
+    readOnlyEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+    readOnlyConnections.set(0);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_UseReadOnlyDataSource_When_QueryIsExecuted() {
+    List<TaskSummary> tasks =
+        readOnlyEngine
+            .getTaskService()
+            .createTaskQuery()
+            .workbasketIdIn("WBI:100000000000000000000000000000000006")
+            .list();
+
+    assertThat(tasks).isNotEmpty();
+    assertThat(readOnlyConnections).hasPositiveValue();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_UsePrimaryDataSource_When_QueryDemandsIt() {
+    long count =
+        readOnlyEngine
+            .getTaskService()
+            .createTaskQuery()
+            .workbasketIdIn("WBI:100000000000000000000000000000000006")
+            .usePrimaryDataSource()
+            .count();
+
+    assertThat(count).isPositive();
+    assertThat(readOnlyConnections).hasValue(0);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_UsePrimaryDataSource_When_QueryIsPartOfAnUpdate() throws Exception {
+    TaskService taskService = readOnlyEngine.getTaskService();
+
+    long updatedTasks =
+        taskService.updateTasks(
+            taskService.createTaskQuery().primaryObjectReferenceValueIn("22334455"),
+            Collections.singletonMap("1", "updated"));
+
+    assertThat(updatedTasks).isPositive();
+    assertThat(readOnlyConnections).hasValue(0);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_UsePrimaryDataSource_When_ManagedTransactionCanNotBeDetermined() throws Exception {
+    TaskanaEngineConfiguration configuration =
+        new TaskanaEngineConfiguration(
+            TaskanaEngineTestConfiguration.getDataSource(),
+            true,
+            TaskanaEngineTestConfiguration.getSchemaName());
+    configuration.setReadOnlyDatasource(
+        countConnections(TaskanaEngineTestConfiguration.getDataSource()));
+    TaskanaEngine managedEngine = configuration.buildTaskanaEngine();
+
+    long count =
+        managedEngine
+            .getTaskService()
+            .createTaskQuery()
+            .workbasketIdIn("WBI:100000000000000000000000000000000006")
+            .count();
+
+    assertThat(count).isPositive();
+    assertThat(readOnlyConnections).hasValue(0);
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_UseReadOnlyDataSource_When_ReportIsBuilt() throws Exception {
+    CategoryReport report =
+        readOnlyEngine.getMonitorService().createCategoryReportBuilder().buildReport();
+
+    assertThat(report.rowSize()).isPositive();
+    assertThat(readOnlyConnections).hasPositiveValue();
+  }
+
+  private DataSource countConnections(DataSource dataSource) {
+    return (DataSource)
+        Proxy.newProxyInstance(
+            DataSource.class.getClassLoader(),
+            new Class<?>[] {DataSource.class},
+            (proxy, method, args) -> {
+              if ("getConnection".equals(method.getName())) {
+                readOnlyConnections.incrementAndGet();
+              }
+              try {
+                return method.invoke(dataSource, args);
+              } catch (InvocationTargetException e) {
+                throw e.getCause();
+              }
+            });
+  }
+}
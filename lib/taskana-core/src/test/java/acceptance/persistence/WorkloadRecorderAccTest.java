@@ -0,0 +1,113 @@
+package acceptance.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.sql.Connection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.internal.TaskanaEngineProxyForTest;
+import pro.taskana.common.internal.TaskanaEngineTestConfiguration;
+import pro.taskana.common.internal.configuration.DB;
+import pro.taskana.common.internal.security.JaasExtension;
+import pro.taskana.common.internal.security.WithAccessId;
+import pro.taskana.common.internal.workload.IndexAdvisor;
+import pro.taskana.common.internal.workload.IndexSuggestion;
+import pro.taskana.common.internal.workload.StatementStatistics;
+import pro.taskana.common.internal.workload.WorkloadRecorder;
+import pro.taskana.common.internal.workload.WorkloadReplayer;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+
+/** Acceptance test for the recording of the query workload and the suggested indexes. */
+@ExtendWith(JaasExtension.class)
+class WorkloadRecorderAccTest extends AbstractAccTest {
+
+  private TaskanaEngine recordingEngine;
+  private WorkloadRecorder workloadRecorder;
+
+  @BeforeEach
+  void setupEngine() throws Exception {
+    resetDb(false);
+    TaskanaEngineConfiguration configuration =
+        new TaskanaEngineConfiguration(
+            TaskanaEngineTestConfiguration.getDataSource(),
+            false,
+            TaskanaEngineTestConfiguration.getSchemaName());
+    configuration.setWorkloadRecordingEnabled(true);
+    recordingEngine = configuration.buildTaskanaEngine();
+    recordingEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+    workloadRecorder =
+        new TaskanaEngineProxyForTest(recordingEngine).getEngine().getWorkloadRecorder();
+    workloadRecorder.reset();
+  }
+
+  @Test
+  void should_NotRecordWorkload_When_RecordingIsDisabled() throws Exception {
+    assertThat(new TaskanaEngineProxyForTest(taskanaEngine).getEngine().getWorkloadRecorder())
+        .isNull();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_GroupStatementsByShape_When_QueriesOnlyDifferInTheirParameters() {
+    TaskService taskService = recordingEngine.getTaskService();
+    taskService.createTaskQuery().ownerIn("user-1-1").list();
+    taskService.createTaskQuery().ownerIn("user-1-2", "user-1-3").list();
+
+    List<StatementStatistics> statistics = workloadRecorder.getStatistics();
+
+    assertThat(statistics)
+        .filteredOn(statement -> statement.getStatementId().endsWith("queryTaskSummaries"))
+        .hasSize(1)
+        .first()
+        .satisfies(
+            statement -> {
+              assertThat(statement.getExecutions()).isEqualTo(2);
+              assertThat(statement.getTotalNanos()).isPositive();
+              assertThat(statement.getFingerprint()).doesNotContain("user-1");
+              assertThat(statement.getSampleParameters()).contains("user-1-1");
+            });
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_SuggestIndexesAndReplayWorkload_When_QueriesWereRecorded() throws Exception {
+    recordingEngine
+        .getTaskService()
+        .createTaskQuery()
+        .stateIn(TaskState.READY)
+        .orderByDue(null)
+        .list();
+    List<StatementStatistics> workload = workloadRecorder.getStatistics();
+    DB db;
+    try (Connection connection = TaskanaEngineTestConfiguration.getDataSource().getConnection()) {
+      db = DB.getDatabase(connection.getMetaData().getDatabaseProductName());
+    }
+    IndexAdvisor indexAdvisor = new IndexAdvisor(db);
+
+    List<IndexSuggestion> suggestions = indexAdvisor.suggestIndexes(workload);
+    String report =
+        indexAdvisor.createReport(workload, TaskanaEngineTestConfiguration.getSchemaName());
+    String replay =
+        new WorkloadReplayer(
+                TaskanaEngineTestConfiguration.getDataSource(),
+                TaskanaEngineTestConfiguration.getSchemaName())
+            .replay(workload, suggestions, 3);
+
+    assertThat(suggestions)
+        .anySatisfy(
+            suggestion -> {
+              assertThat(suggestion.getTable()).isEqualTo("TASK");
+              assertThat(suggestion.getColumns()).contains("STATE", "DUE");
+            });
+    assertThat(report).contains("CREATE INDEX", "IDX_TASK_", "queryTaskSummaries");
+    assertThat(replay).contains("CREATE INDEX", "DROP INDEX", "queryTaskSummaries");
+  }
+}
@@ -0,0 +1,82 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.internal.security.JaasExtension;
+import pro.taskana.common.internal.security.WithAccessId;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
+
+/** Acceptance tests for claiming the next task of a query. */
+@ExtendWith(JaasExtension.class)
+class ClaimNextTaskAccTest extends AbstractAccTest {
+
+  private TaskService taskService;
+
+  @BeforeEach
+  void resetDatabase() throws Exception {
+    resetDb(false);
+    taskService = taskanaEngine.getTaskService();
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_ClaimTasksByDueDate_When_QueryHasNoSortOrder() {
+    TaskQuery query =
+        taskService.createTaskQuery().workbasketIdIn("WBI:100000000000000000000000000000000007");
+
+    Task first = taskService.claimNext(query);
+    Task second = taskService.claimNext(query);
+    Task third = taskService.claimNext(query);
+
+    assertThat(first.getId()).isEqualTo("TKI:000000000000000000000000000000000025");
+    assertThat(first.getState()).isEqualTo(TaskState.CLAIMED);
+    assertThat(first.getOwner()).isEqualTo("user_1_1");
+    assertThat(second.getId()).isEqualTo("TKI:000000000000000000000000000000000033");
+    assertThat(third).isNull();
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_ClaimTasksInOrderOfQuery_When_QueryHasSortOrder() {
+    Task claimedTask =
+        taskService.claimNext(
+            taskService
+                .createTaskQuery()
+                .workbasketIdIn("WBI:100000000000000000000000000000000007")
+                .orderByDue(SortDirection.DESCENDING));
+
+    assertThat(claimedTask.getId()).isEqualTo("TKI:000000000000000000000000000000000033");
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_NotChangeQuery_When_TaskIsClaimed() {
+    TaskQuery query =
+        taskService.createTaskQuery().workbasketIdIn("WBI:100000000000000000000000000000000007");
+    long countBefore = query.count();
+
+    Task claimedTask = taskService.claimNext(query);
+
+    assertThat(claimedTask).isNotNull();
+    assertThat(query.count()).isEqualTo(countBefore);
+    assertThat(query.list()).extracting(TaskSummary::getId).contains(claimedTask.getId());
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_ReturnNull_When_NoTaskMatchesTheQuery() {
+    Task claimedTask = taskService.claimNext(taskService.createTaskQuery().nameIn("NOT_EXISTING"));
+
+    assertThat(claimedTask).isNull();
+  }
+}
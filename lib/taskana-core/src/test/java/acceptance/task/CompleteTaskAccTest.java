@@ -6,14 +6,18 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import acceptance.AbstractAccTest;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestTemplate;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
+import pro.taskana.common.api.BulkOperationResults;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.security.CurrentUserContext;
 import pro.taskana.common.internal.security.JaasExtension;
 import pro.taskana.common.internal.security.WithAccessId;
@@ -329,6 +333,40 @@ class CompleteTaskAccTest extends AbstractAccTest {
     assertThatThrownBy(call).isInstanceOf(InvalidOwnerException.class);
   }
 
+  @WithAccessId(user = "user_1_2", groups = "group_1")
+  @Test
+  void should_CompleteOnlyValidTasks_When_BulkCompletingTasksWithVariousErrors() throws Exception {
+    resetDb(false);
+    TaskService taskService = taskanaEngine.getTaskService();
+    List<String> taskIds =
+        Arrays.asList(
+            "TKI:000000000000000000000000000000000102",
+            "TKI:000000000000000000000000000000000102",
+            "TKI:000000000000000000000000000000000025",
+            "TKI:000000000000000000000000000000000026",
+            "TKI:000000000000000000000000000000003333",
+            "");
+
+    BulkOperationResults<String, TaskanaException> results = taskService.completeTasks(taskIds);
+
+    assertThat(results.getErrorMap()).hasSize(4);
+    assertThat(results.getErrorForId("TKI:000000000000000000000000000000000025"))
+        .isInstanceOf(InvalidStateException.class);
+    assertThat(results.getErrorForId("TKI:000000000000000000000000000000000026"))
+        .isInstanceOf(InvalidOwnerException.class);
+    assertThat(results.getErrorForId("TKI:000000000000000000000000000000003333"))
+        .isInstanceOf(TaskNotFoundException.class);
+    assertThat(results.getErrorForId("")).isInstanceOf(InvalidArgumentException.class);
+    Task completedTask = taskService.getTask("TKI:000000000000000000000000000000000102");
+    assertThat(completedTask.getState()).isEqualTo(TaskState.COMPLETED);
+    assertThat(completedTask.getCompleted()).isNotNull().isEqualTo(completedTask.getModified());
+    assertThat(completedTask.getOwner()).isEqualTo("user_1_2");
+    assertThat(taskService.getTask("TKI:000000000000000000000000000000000025").getState())
+        .isEqualTo(TaskState.READY);
+    assertThat(taskService.getTask("TKI:000000000000000000000000000000000026").getState())
+        .isEqualTo(TaskState.CLAIMED);
+  }
+
   private boolean isBeforeOrEqual(Instant before, Instant after) {
     return before.isBefore(after) || before.equals(after);
   }
@@ -13,6 +13,7 @@ import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.internal.security.JaasExtension;
 import pro.taskana.common.internal.security.WithAccessId;
 import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.exceptions.InvalidStateException;
 import pro.taskana.task.api.exceptions.TaskNotFoundException;
 import pro.taskana.task.api.models.TaskComment;
 
@@ -26,7 +27,8 @@ public class CreateTaskCommentAccTest extends AbstractAccTest {
   @WithAccessId(user = "user_1_1", groups = "group_1")
   @Test
   void should_CreateTaskComment_For_TaskComment()
-      throws TaskNotFoundException, NotAuthorizedException, InvalidArgumentException {
+      throws TaskNotFoundException, NotAuthorizedException, InvalidArgumentException,
+          InvalidStateException {
 
     TaskService taskService = taskanaEngine.getTaskService();
 
@@ -4,7 +4,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import acceptance.AbstractAccTest;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,6 +21,7 @@ import pro.taskana.task.api.TaskService;
 import pro.taskana.task.api.exceptions.TaskCommentNotFoundException;
 import pro.taskana.task.api.exceptions.TaskNotFoundException;
 import pro.taskana.task.api.models.TaskComment;
+import pro.taskana.task.api.models.TaskSummary;
 
 @ExtendWith(JaasExtension.class)
 public class GetTaskCommentAccTest extends AbstractAccTest {
@@ -94,4 +99,96 @@ public class GetTaskCommentAccTest extends AbstractAccTest {
         () -> taskService.getTaskComment("TCI:000000000000000000000000000000000012");
     assertThatThrownBy(lambda).isInstanceOf(NotAuthorizedException.class);
   }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_ReturnTaskCommentsGroupedByTask_For_MultipleTaskIds() throws Exception {
+
+    TaskService taskService = taskanaEngine.getTaskService();
+
+    List<TaskComment> taskComments =
+        taskService.getTaskComments(
+            Arrays.asList(
+                "TKI:000000000000000000000000000000000025",
+                "TKI:000000000000000000000000000000000000",
+                "TKI:000000000000000000000000000000000036",
+                "TKI:000000000000000000000000000000000025"));
+    assertThat(taskComments)
+        .extracting(TaskComment::getTaskId)
+        .containsExactly(
+            "TKI:000000000000000000000000000000000025",
+            "TKI:000000000000000000000000000000000000",
+            "TKI:000000000000000000000000000000000000",
+            "TKI:000000000000000000000000000000000000");
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_FailToReturnTaskComments_When_OneOfTheTasksIsNotVisible() {
+
+    TaskService taskService = taskanaEngine.getTaskService();
+
+    ThrowingCallable call =
+        () ->
+            taskService.getTaskComments(
+                Arrays.asList(
+                    "TKI:000000000000000000000000000000000000",
+                    "TKI:000000000000000000000000000000000004"));
+    assertThatThrownBy(call).isInstanceOf(NotAuthorizedException.class);
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_FailToReturnTaskComments_When_OneOfTheTasksIsNotExisting() {
+
+    TaskService taskService = taskanaEngine.getTaskService();
+
+    ThrowingCallable call =
+        () ->
+            taskService.getTaskComments(
+                Arrays.asList("TKI:000000000000000000000000000000000000", "TKI:NOT_EXISTING"));
+    assertThatThrownBy(call).isInstanceOf(TaskNotFoundException.class);
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_AddCommentSummaries_When_QueryingTasksWithCommentSummaries() {
+
+    TaskService taskService = taskanaEngine.getTaskService();
+
+    Map<String, TaskSummary> tasks =
+        taskService
+            .createTaskQuery()
+            .idIn(
+                "TKI:000000000000000000000000000000000000",
+                "TKI:000000000000000000000000000000000025",
+                "TKI:000000000000000000000000000000000036")
+            .withCommentSummaries()
+            .list()
+            .stream()
+            .collect(Collectors.toMap(TaskSummary::getId, Function.identity()));
+
+    TaskSummary taskWithComments = tasks.get("TKI:000000000000000000000000000000000000");
+    assertThat(taskWithComments.getCommentCount()).isEqualTo(3);
+    assertThat(taskWithComments.getLastCommentCreated()).isNotNull();
+    assertThat(taskWithComments.getLastCommentCreator()).isEqualTo("user_1_1");
+    assertThat(tasks.get("TKI:000000000000000000000000000000000025").getCommentCount())
+        .isEqualTo(1);
+    TaskSummary taskWithoutComments = tasks.get("TKI:000000000000000000000000000000000036");
+    assertThat(taskWithoutComments.getCommentCount()).isZero();
+    assertThat(taskWithoutComments.getLastCommentCreated()).isNull();
+    assertThat(taskWithoutComments.getLastCommentCreator()).isNull();
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_NotAddCommentSummaries_When_QueryingTasksWithoutCommentSummaries() {
+
+    TaskService taskService = taskanaEngine.getTaskService();
+
+    TaskSummary task =
+        taskService.createTaskQuery().idIn("TKI:000000000000000000000000000000000000").single();
+    assertThat(task.getCommentCount()).isNull();
+    assertThat(task.getLastCommentCreator()).isNull();
+  }
 }
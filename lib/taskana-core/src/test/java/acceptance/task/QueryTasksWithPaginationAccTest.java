@@ -1,15 +1,19 @@
 package acceptance.task;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import acceptance.AbstractAccTest;
 import java.util.List;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import pro.taskana.common.api.KeyDomain;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.internal.security.JaasExtension;
 import pro.taskana.common.internal.security.WithAccessId;
+import pro.taskana.task.api.TaskQuery;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.task.api.models.TaskSummary;
 
@@ -176,4 +180,39 @@ class QueryTasksWithPaginationAccTest extends AbstractAccTest {
     long count = taskService.createTaskQuery().attachmentChannelIn("ch6").count();
     assertThat(count).isEqualTo(2L);
   }
+
+  @WithAccessId(user = "teamlead_1", groups = "group_1")
+  @Test
+  void testCountUpToOfTaskQueryStopsAtLimit() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    TaskQuery query =
+        taskService.createTaskQuery().workbasketKeyDomainIn(new KeyDomain("GPK_KSC", "DOMAIN_A"));
+    assertThat(query.countUpTo(10)).isEqualTo(10L);
+    assertThat(query.countUpTo(100)).isEqualTo(22L);
+    assertThat(query.countUpTo(0)).isZero();
+    assertThat(query.count()).isEqualTo(22L);
+  }
+
+  @WithAccessId(user = "teamlead_1", groups = "group_1")
+  @Test
+  void testCountUpToOfTaskQueryWithAttachmentChannelFilter() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    long count = taskService.createTaskQuery().attachmentChannelIn("ch6").countUpTo(1);
+    assertThat(count).isEqualTo(1L);
+  }
+
+  @WithAccessId(user = "admin", groups = "admin")
+  @Test
+  void testEstimateTaskCountReturnsNonNegativeValue() throws Exception {
+    TaskService taskService = taskanaEngine.getTaskService();
+    assertThat(taskService.estimateTaskCount()).isNotNegative();
+  }
+
+  @WithAccessId(user = "teamlead_1", groups = "group_1")
+  @Test
+  void testEstimateTaskCountIsNotAllowedForNonAdmins() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    ThrowingCallable call = taskService::estimateTaskCount;
+    assertThatThrownBy(call).isInstanceOf(NotAuthorizedException.class);
+  }
 }
@@ -0,0 +1,101 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.internal.security.JaasExtension;
+import pro.taskana.common.internal.security.WithAccessId;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.models.Task;
+
+/** Acceptance tests for the conditional claim, cancel claim and complete operations. */
+@ExtendWith(JaasExtension.class)
+class TryClaimAndCompleteTaskAccTest extends AbstractAccTest {
+
+  private TaskService taskService;
+
+  @BeforeEach
+  void resetDatabase() throws Exception {
+    resetDb(false);
+    taskService = taskanaEngine.getTaskService();
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_ClaimTask_When_TaskIsReady() throws Exception {
+    assertThat(taskService.tryClaim("TKI:000000000000000000000000000000000025")).isTrue();
+
+    Task claimedTask = taskService.getTask("TKI:000000000000000000000000000000000025");
+    assertThat(claimedTask.getState()).isEqualTo(TaskState.CLAIMED);
+    assertThat(claimedTask.getOwner()).isEqualTo("user_1_1");
+    assertThat(claimedTask.isRead()).isTrue();
+    assertThat(claimedTask.getClaimed()).isEqualTo(claimedTask.getModified());
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_NotClaimTask_When_TaskIsClaimedByOtherUser() throws Exception {
+    Task taskBefore = taskService.getTask("TKI:000000000000000000000000000000000100");
+
+    assertThat(taskService.tryClaim("TKI:000000000000000000000000000000000100")).isFalse();
+
+    Task taskAfter = taskService.getTask("TKI:000000000000000000000000000000000100");
+    assertThat(taskAfter.getOwner()).isEqualTo(taskBefore.getOwner());
+    assertThat(taskAfter.getModified()).isEqualTo(taskBefore.getModified());
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_ReturnFalse_When_TaskDoesNotExistOrIsNotReadable() {
+    assertThat(taskService.tryClaim("NOT_EXISTING")).isFalse();
+    assertThat(taskService.tryClaim("TKI:000000000000000000000000000000000004")).isFalse();
+    assertThat(taskService.tryCompleteTask("TKI:000000000000000000000000000000000004")).isFalse();
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_NotClaimTask_When_TaskIsInEndState() {
+    assertThat(taskService.tryClaim("TKI:000000000000000000000000000000000036")).isFalse();
+    assertThat(taskService.tryCancelClaim("TKI:000000000000000000000000000000000036")).isFalse();
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_CancelClaim_When_TaskIsClaimedByCurrentUser() throws Exception {
+    assertThat(taskService.tryClaim("TKI:000000000000000000000000000000000025")).isTrue();
+
+    assertThat(taskService.tryCancelClaim("TKI:000000000000000000000000000000000025")).isTrue();
+
+    Task task = taskService.getTask("TKI:000000000000000000000000000000000025");
+    assertThat(task.getState()).isEqualTo(TaskState.READY);
+    assertThat(task.getOwner()).isNull();
+    assertThat(task.getClaimed()).isNull();
+    assertThat(taskService.tryCancelClaim("TKI:000000000000000000000000000000000100")).isFalse();
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_CompleteTaskOnlyOnce_When_TaskIsClaimedByCurrentUser() throws Exception {
+    assertThat(taskService.tryCompleteTask("TKI:000000000000000000000000000000000001")).isTrue();
+    assertThat(taskService.tryCompleteTask("TKI:000000000000000000000000000000000001")).isFalse();
+
+    Task completedTask = taskService.getTask("TKI:000000000000000000000000000000000001");
+    assertThat(completedTask.getState()).isEqualTo(TaskState.COMPLETED);
+    assertThat(completedTask.getCompleted()).isEqualTo(completedTask.getModified());
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_NotCompleteTask_When_TaskIsNotClaimedByCurrentUser() throws Exception {
+    assertThat(taskService.tryCompleteTask("TKI:000000000000000000000000000000000025")).isFalse();
+    assertThat(taskService.tryCompleteTask("TKI:000000000000000000000000000000000027")).isFalse();
+
+    assertThat(taskService.getTask("TKI:000000000000000000000000000000000025").getState())
+        .isEqualTo(TaskState.READY);
+  }
+}
@@ -22,6 +22,7 @@ import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.internal.security.JaasExtension;
 import pro.taskana.common.internal.security.WithAccessId;
+import pro.taskana.task.api.TaskQuery;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.task.api.TaskState;
 import pro.taskana.task.api.exceptions.AttachmentPersistenceException;
@@ -30,6 +31,7 @@ import pro.taskana.task.api.exceptions.TaskAlreadyExistException;
 import pro.taskana.task.api.exceptions.TaskNotFoundException;
 import pro.taskana.task.api.models.ObjectReference;
 import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
 import pro.taskana.task.internal.models.TaskImpl;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 
@@ -269,6 +271,40 @@ class UpdateTaskAccTest extends AbstractAccTest {
     }
   }
 
+  @WithAccessId(user = "teamlead_1", groups = "group_1")
+  @Test
+  void should_UpdateAllSelectedTasks_When_UpdateTasksIsCalledWithQuery() throws Exception {
+    TaskQuery selection = taskService.createTaskQuery().primaryObjectReferenceValueIn("22334455");
+    Map<String, String> customProperties = new HashMap<>();
+    customProperties.put("3", "This is modifiedValue 3");
+    customProperties.put("14", null);
+
+    long updatedCount = taskService.updateTasks(selection, customProperties);
+
+    assertThat(updatedCount).isEqualTo(6);
+    List<TaskSummary> updatedTasks =
+        taskService
+            .createTaskQuery()
+            .primaryObjectReferenceValueIn("22334455")
+            .customAttributeIn("3", "This is modifiedValue 3")
+            .list();
+    assertThat(updatedTasks).hasSize(6);
+    for (TaskSummary task : updatedTasks) {
+      assertThat(task.getCustomAttribute("14")).isNull();
+    }
+  }
+
+  @WithAccessId(user = "teamlead_1", groups = "group_1")
+  @Test
+  void should_ThrowException_When_UpdateTasksIsCalledWithQueryAndInvalidCustomField() {
+    TaskQuery selection = taskService.createTaskQuery().primaryObjectReferenceValueIn("22334455");
+    Map<String, String> customProperties = new HashMap<>();
+    customProperties.put("17", "invalid");
+
+    assertThatThrownBy(() -> taskService.updateTasks(selection, customProperties))
+        .isInstanceOf(InvalidArgumentException.class);
+  }
+
   @WithAccessId(user = "teamlead_1", groups = "group_1")
   @Test
   void should_UpdateTaskCustomAttributes_When_UpdateTasksIsCalled()
@@ -9,6 +9,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -572,4 +573,63 @@ class UpdateTaskAttachmentsAccTest extends AbstractAccTest {
     assertThat(updatedTask.getModified()).isEqualTo(updatedAttachment.getModified());
     assertThat(updatedAttachment.getCustomAttributes().get("TEST_KEY")).isEqualTo("TEST_VALUE");
   }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_InsertUpdateAndDeleteAttachmentsInChunks_When_TaskHasManyAttachments()
+      throws Exception {
+    for (int i = 0; i < 150; i++) {
+      task.addAttachment(createDocumentAttachment("DOC" + i));
+    }
+    task = taskService.updateTask(task);
+    task = taskService.getTask(task.getId());
+    assertThat(task.getAttachments()).hasSize(150);
+
+    List<Attachment> retainedAttachments = new ArrayList<>(task.getAttachments().subList(0, 40));
+    retainedAttachments.forEach(a -> a.setChannel("FAX"));
+    task.getAttachments().clear();
+    task.getAttachments().addAll(retainedAttachments);
+    for (int i = 0; i < 120; i++) {
+      task.addAttachment(createDocumentAttachment("NEW_DOC" + i));
+    }
+    task = taskService.updateTask(task);
+
+    Task readTask = taskService.getTask(task.getId());
+    assertThat(readTask.getAttachments()).hasSize(160);
+    assertThat(readTask.getAttachments())
+        .filteredOn(a -> "FAX".equals(a.getChannel()))
+        .extracting(Attachment::getId)
+        .containsExactlyInAnyOrderElementsOf(
+            retainedAttachments.stream().map(Attachment::getId).collect(Collectors.toList()));
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_LoadAttachmentsOnFirstAccess_When_TaskIsReadWithLazyAttachments()
+      throws Exception {
+    task.addAttachment(attachment);
+    task = taskService.updateTask(task);
+
+    Task lazyTask = taskService.getTask(task.getId(), true);
+    lazyTask.setNote("attachments not needed");
+    lazyTask = taskService.updateTask(lazyTask);
+
+    Task readTask = taskService.getTask(task.getId());
+    assertThat(readTask.getNote()).isEqualTo("attachments not needed");
+    assertThat(readTask.getAttachments())
+        .extracting(Attachment::getId)
+        .containsExactly(attachment.getId());
+    assertThat(lazyTask.getAttachments()).isEqualTo(readTask.getAttachments());
+    assertThat(readTask.getAttachments().get(0).getClassificationSummary().getName())
+        .isNotNull();
+  }
+
+  private Attachment createDocumentAttachment(String documentId) {
+    return createAttachment(
+        "DOCTYPE_DEFAULT",
+        createObjectReference("COMPANY_A", "SYSTEM_B", "INSTANCE_B", "ArchiveId", documentId),
+        "E-MAIL",
+        "2018-01-15",
+        createSimpleCustomProperties(1));
+  }
 }
@@ -5,7 +5,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import acceptance.AbstractAccTest;
 import java.io.IOException;
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -16,7 +18,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestTemplate;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.internal.TaskanaEngineTestConfiguration;
 import pro.taskana.common.internal.security.JaasExtension;
 import pro.taskana.common.internal.security.WithAccessId;
 import pro.taskana.workbasket.api.WorkbasketService;
@@ -276,6 +281,76 @@ class DistributionTargetsAccTest extends AbstractAccTest {
     resetDb(false);
   }
 
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_ReturnCurrentDistributionTargets_When_TargetWorkbasketIsUpdatedOrRemoved()
+      throws Exception {
+    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+    final String sourceId = "WBI:100000000000000000000000000000000001";
+    final String targetId = "WBI:100000000000000000000000000000000004";
+    assertThat(workbasketService.getDistributionTargets(sourceId))
+        .extracting(WorkbasketSummary::getId)
+        .contains(targetId);
+
+    Workbasket targetWorkbasket = workbasketService.getWorkbasket(targetId);
+    targetWorkbasket.setName("renamed target");
+    workbasketService.updateWorkbasket(targetWorkbasket);
+
+    assertThat(workbasketService.getDistributionTargets(sourceId))
+        .filteredOn(summary -> targetId.equals(summary.getId()))
+        .extracting(WorkbasketSummary::getName)
+        .containsExactly("renamed target");
+
+    workbasketService.removeDistributionTarget(sourceId, targetId);
+
+    assertThat(workbasketService.getDistributionTargets(sourceId))
+        .extracting(WorkbasketSummary::getId)
+        .doesNotContain(targetId);
+    assertThat(workbasketService.getDistributionSources(targetId))
+        .extracting(WorkbasketSummary::getId)
+        .doesNotContain(sourceId);
+
+    // reset DB to original state
+    resetDb(false);
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_ReturnCommittedDistributionTargets_When_RemovalIsRolledBack() throws Exception {
+    TaskanaEngineConfiguration configuration =
+        new TaskanaEngineConfiguration(
+            TaskanaEngineTestConfiguration.getDataSource(),
+            false,
+            TaskanaEngineTestConfiguration.getSchemaName());
+    configuration.setDistributionTargetCacheTimeToLive(Duration.ofHours(1));
+    TaskanaEngine engine = configuration.buildTaskanaEngine();
+    WorkbasketService workbasketService = engine.getWorkbasketService();
+    final String sourceId = "WBI:100000000000000000000000000000000001";
+    final String targetId = "WBI:100000000000000000000000000000000004";
+    assertThat(workbasketService.getDistributionTargets(sourceId))
+        .extracting(WorkbasketSummary::getId)
+        .contains(targetId);
+
+    try (Connection connection = TaskanaEngineTestConfiguration.getDataSource().getConnection()) {
+      engine.setConnection(connection);
+      workbasketService.removeDistributionTarget(sourceId, targetId);
+      assertThat(workbasketService.getDistributionTargets(sourceId))
+          .extracting(WorkbasketSummary::getId)
+          .doesNotContain(targetId);
+
+      connection.rollback();
+
+      assertThat(workbasketService.getDistributionTargets(sourceId))
+          .extracting(WorkbasketSummary::getId)
+          .contains(targetId);
+    } finally {
+      engine.closeConnection();
+    }
+    assertThat(workbasketService.getDistributionTargets(sourceId))
+        .extracting(WorkbasketSummary::getId)
+        .contains(targetId);
+  }
+
   @WithAccessId(
       user = "user_2_2",
       groups = {"group_1", "group_2"})
@@ -0,0 +1,188 @@
+package acceptance.workbasket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.internal.security.JaasExtension;
+import pro.taskana.common.internal.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.WorkbasketType;
+import pro.taskana.workbasket.api.exceptions.InvalidWorkbasketException;
+import pro.taskana.workbasket.api.exceptions.WorkbasketAccessItemAlreadyExistException;
+import pro.taskana.workbasket.api.exceptions.WorkbasketAlreadyExistException;
+import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
+import pro.taskana.workbasket.api.models.Workbasket;
+import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
+import pro.taskana.workbasket.api.models.WorkbasketDefinition;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+import pro.taskana.workbasket.internal.models.WorkbasketImpl;
+
+/** Acceptance test for the bulk import of workbasket definitions. */
+@ExtendWith(JaasExtension.class)
+class ImportWorkbasketDefinitionsAccTest extends AbstractAccTest {
+
+  private static final String EXISTING_TARGET_ID = "WBI:100000000000000000000000000000000002";
+
+  private WorkbasketService workbasketService;
+
+  @BeforeEach
+  void resetDatabase() throws Exception {
+    resetDb(false);
+    workbasketService = taskanaEngine.getWorkbasketService();
+  }
+
+  @WithAccessId(user = "teamlead_1", groups = "businessadmin")
+  @Test
+  void should_CreateWorkbasketsWithAccessItemsAndDistributionTargets_When_KeysAreNew()
+      throws Exception {
+    WorkbasketDefinition first =
+        new WorkbasketDefinition(
+            createWorkbasket("old-1", "IMPORT_1", "Imported 1"),
+            Collections.singletonList(createAccessItem("user_1_1")),
+            Arrays.asList("old-2", EXISTING_TARGET_ID));
+    WorkbasketDefinition second =
+        new WorkbasketDefinition(
+            createWorkbasket("old-2", "IMPORT_2", "Imported 2"),
+            Arrays.asList(createAccessItem("user_1_1"), createAccessItem("user_1_2")),
+            null);
+
+    Map<String, String> ids =
+        workbasketService.importWorkbasketDefinitions(Arrays.asList(first, second));
+
+    assertThat(ids).containsOnlyKeys("old-1", "old-2");
+    Workbasket imported = workbasketService.getWorkbasket("IMPORT_1", "DOMAIN_A");
+    assertThat(imported.getId()).isEqualTo(ids.get("old-1")).startsWith("WBI");
+    assertThat(imported.getName()).isEqualTo("Imported 1");
+    assertThat(imported.getCreated()).isNotNull();
+    assertThat(workbasketService.getWorkbasketAccessItems(ids.get("old-1")))
+        .extracting(WorkbasketAccessItem::getAccessId)
+        .containsExactly("user_1_1");
+    assertThat(workbasketService.getWorkbasketAccessItems(ids.get("old-2")))
+        .extracting(WorkbasketAccessItem::getAccessId)
+        .containsExactlyInAnyOrder("user_1_1", "user_1_2");
+    assertThat(workbasketService.getDistributionTargets(ids.get("old-1")))
+        .extracting(WorkbasketSummary::getId)
+        .containsExactlyInAnyOrder(ids.get("old-2"), EXISTING_TARGET_ID);
+    assertThat(workbasketService.getDistributionTargets(ids.get("old-2"))).isEmpty();
+  }
+
+  @WithAccessId(user = "teamlead_1", groups = "businessadmin")
+  @Test
+  void should_ReplaceAccessItemsAndDistributionTargets_When_WorkbasketAlreadyExists()
+      throws Exception {
+    Workbasket existing = workbasketService.getWorkbasket("GPK_KSC", "DOMAIN_A");
+    assertThat(workbasketService.getDistributionTargets(existing.getId())).isNotEmpty();
+    WorkbasketDefinition definition =
+        new WorkbasketDefinition(
+            createWorkbasket("foreign-id", "GPK_KSC", "Renamed Gruppenpostkorb"),
+            Collections.singletonList(createAccessItem("user_1_2")),
+            Collections.emptyList());
+
+    Map<String, String> ids =
+        workbasketService.importWorkbasketDefinitions(Collections.singletonList(definition));
+
+    assertThat(ids).containsEntry("foreign-id", existing.getId());
+    Workbasket updated = workbasketService.getWorkbasket(existing.getId());
+    assertThat(updated.getName()).isEqualTo("Renamed Gruppenpostkorb");
+    assertThat(updated.getCreated()).isEqualTo(existing.getCreated());
+    assertThat(updated.getModified()).isAfter(existing.getModified());
+    assertThat(workbasketService.getWorkbasketAccessItems(existing.getId()))
+        .extracting(WorkbasketAccessItem::getAccessId)
+        .containsExactly("user_1_2");
+    assertThat(workbasketService.getDistributionTargets(existing.getId())).isEmpty();
+  }
+
+  @WithAccessId(user = "teamlead_1", groups = "businessadmin")
+  @Test
+  void should_IterateDefinitionsOnlyOnce_When_ImportingFromAStream() throws Exception {
+    Stream<WorkbasketDefinition> definitions =
+        Stream.of("IMPORT_1", "IMPORT_2")
+            .map(key -> new WorkbasketDefinition(createWorkbasket(key, key, key), null, null));
+
+    Map<String, String> ids = workbasketService.importWorkbasketDefinitions(definitions::iterator);
+
+    assertThat(ids).containsOnlyKeys("IMPORT_1", "IMPORT_2");
+    assertThat(workbasketService.getWorkbasket("IMPORT_2", "DOMAIN_A").getId())
+        .isEqualTo(ids.get("IMPORT_2"));
+  }
+
+  @WithAccessId(user = "teamlead_1", groups = "businessadmin")
+  @Test
+  void should_ThrowException_When_KeyAndDomainAreImportedTwice() {
+    List<WorkbasketDefinition> definitions =
+        Arrays.asList(
+            new WorkbasketDefinition(createWorkbasket("a", "IMPORT_1", "A"), null, null),
+            new WorkbasketDefinition(createWorkbasket("b", "IMPORT_1", "B"), null, null));
+
+    ThrowingCallable call = () -> workbasketService.importWorkbasketDefinitions(definitions);
+    assertThatThrownBy(call).isInstanceOf(WorkbasketAlreadyExistException.class);
+  }
+
+  @WithAccessId(user = "teamlead_1", groups = "businessadmin")
+  @Test
+  void should_ThrowException_When_AccessIdIsImportedTwiceForOneWorkbasket() {
+    List<WorkbasketDefinition> definitions =
+        Collections.singletonList(
+            new WorkbasketDefinition(
+                createWorkbasket("a", "IMPORT_1", "A"),
+                Arrays.asList(createAccessItem("user_1_1"), createAccessItem("user_1_1")),
+                null));
+
+    ThrowingCallable call = () -> workbasketService.importWorkbasketDefinitions(definitions);
+    assertThatThrownBy(call).isInstanceOf(WorkbasketAccessItemAlreadyExistException.class);
+  }
+
+  @WithAccessId(user = "teamlead_1", groups = "businessadmin")
+  @Test
+  void should_NotImportAnything_When_DistributionTargetDoesNotExist() {
+    List<WorkbasketDefinition> definitions =
+        Collections.singletonList(
+            new WorkbasketDefinition(
+                createWorkbasket("a", "IMPORT_1", "A"),
+                null,
+                Collections.singletonList("invalidWorkbasketId")));
+
+    ThrowingCallable call = () -> workbasketService.importWorkbasketDefinitions(definitions);
+    assertThatThrownBy(call).isInstanceOf(InvalidWorkbasketException.class);
+    assertThatThrownBy(() -> workbasketService.getWorkbasket("IMPORT_1", "DOMAIN_A"))
+        .isInstanceOf(WorkbasketNotFoundException.class);
+  }
+
+  @WithAccessId(user = "user_1_1")
+  @Test
+  void should_ThrowException_When_UserIsNotBusinessAdmin() {
+    List<WorkbasketDefinition> definitions =
+        Collections.singletonList(
+            new WorkbasketDefinition(createWorkbasket("a", "IMPORT_1", "A"), null, null));
+
+    ThrowingCallable call = () -> workbasketService.importWorkbasketDefinitions(definitions);
+    assertThatThrownBy(call).isInstanceOf(NotAuthorizedException.class);
+  }
+
+  private Workbasket createWorkbasket(String id, String key, String name) {
+    Workbasket workbasket = workbasketService.newWorkbasket(key, "DOMAIN_A");
+    ((WorkbasketImpl) workbasket).setId(id);
+    workbasket.setName(name);
+    workbasket.setType(WorkbasketType.GROUP);
+    return workbasket;
+  }
+
+  private WorkbasketAccessItem createAccessItem(String accessId) {
+    WorkbasketAccessItem accessItem = workbasketService.newWorkbasketAccessItem(null, accessId);
+    accessItem.setPermRead(true);
+    accessItem.setPermOpen(true);
+    return accessItem;
+  }
+}
@@ -0,0 +1,134 @@
+package acceptance.workbasket;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.sql.Connection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.internal.TaskanaEngineTestConfiguration;
+import pro.taskana.common.internal.security.JaasExtension;
+import pro.taskana.common.internal.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketPermission;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
+import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
+
+/** Acceptance tests which ensure that cached workbasket permissions are invalidated. */
+@ExtendWith(JaasExtension.class)
+class WorkbasketPermissionCacheAccTest extends AbstractAccTest {
+
+  private static final String WORKBASKET_ID = "WBI:100000000000000000000000000000000003";
+
+  private WorkbasketService workbasketService;
+
+  @BeforeEach
+  void resetDatabase() throws Exception {
+    resetDb(false);
+    workbasketService = taskanaEngine.getWorkbasketService();
+  }
+
+  @WithAccessId(user = "teamlead_1", groups = "businessadmin")
+  @Test
+  void should_GrantPermission_When_AccessItemIsCreatedAfterFailedCheck() throws Exception {
+    assertThatThrownBy(
+            () -> workbasketService.checkAuthorization(WORKBASKET_ID, WorkbasketPermission.READ))
+        .isInstanceOf(NotAuthorizedException.class);
+
+    WorkbasketAccessItem accessItem =
+        workbasketService.newWorkbasketAccessItem(WORKBASKET_ID, "teamlead_1");
+    accessItem.setPermRead(true);
+    accessItem = workbasketService.createWorkbasketAccessItem(accessItem);
+
+    assertThatCode(
+            () -> workbasketService.checkAuthorization(WORKBASKET_ID, WorkbasketPermission.READ))
+        .doesNotThrowAnyException();
+    assertThatCode(
+            () ->
+                workbasketService.checkAuthorization(
+                    "GPK_KSC_2", "DOMAIN_A", WorkbasketPermission.READ))
+        .doesNotThrowAnyException();
+
+    workbasketService.deleteWorkbasketAccessItem(accessItem.getId());
+
+    assertThatThrownBy(
+            () -> workbasketService.checkAuthorization(WORKBASKET_ID, WorkbasketPermission.READ))
+        .isInstanceOf(NotAuthorizedException.class);
+    assertThatThrownBy(
+            () ->
+                workbasketService.checkAuthorization(
+                    "GPK_KSC_2", "DOMAIN_A", WorkbasketPermission.READ))
+        .isInstanceOf(NotAuthorizedException.class);
+  }
+
+  @WithAccessId(user = "teamlead_1", groups = "businessadmin")
+  @Test
+  void should_ApplyUpdatedPermissions_When_AccessItemIsUpdated() throws Exception {
+    final String workbasketId = "WBI:100000000000000000000000000000000005";
+    assertThatCode(
+            () -> workbasketService.checkAuthorization(workbasketId, WorkbasketPermission.APPEND))
+        .doesNotThrowAnyException();
+    assertThatThrownBy(
+            () -> workbasketService.checkAuthorization(workbasketId, WorkbasketPermission.TRANSFER))
+        .isInstanceOf(NotAuthorizedException.class);
+
+    WorkbasketAccessItem accessItem =
+        workbasketService.getWorkbasketAccessItems(workbasketId).stream()
+            .filter(item -> "teamlead_1".equals(item.getAccessId()))
+            .findFirst()
+            .orElseThrow(IllegalStateException::new);
+    accessItem.setPermTransfer(true);
+    workbasketService.updateWorkbasketAccessItem(accessItem);
+
+    assertThatCode(
+            () -> workbasketService.checkAuthorization(workbasketId, WorkbasketPermission.TRANSFER))
+        .doesNotThrowAnyException();
+  }
+
+  @WithAccessId(user = "teamlead_1", groups = "businessadmin")
+  @Test
+  void should_DenyAccess_When_GrantIsRolledBack() throws Exception {
+    TaskanaEngine engine = taskanaEngineConfiguration.buildTaskanaEngine();
+    WorkbasketService service = engine.getWorkbasketService();
+    try (Connection connection = TaskanaEngineTestConfiguration.getDataSource().getConnection()) {
+      engine.setConnection(connection);
+      WorkbasketAccessItem accessItem =
+          service.newWorkbasketAccessItem(WORKBASKET_ID, "teamlead_1");
+      accessItem.setPermRead(true);
+      service.createWorkbasketAccessItem(accessItem);
+      assertThatCode(() -> service.checkAuthorization(WORKBASKET_ID, WorkbasketPermission.READ))
+          .doesNotThrowAnyException();
+
+      connection.rollback();
+
+      assertThatThrownBy(() -> service.checkAuthorization(WORKBASKET_ID, WorkbasketPermission.READ))
+          .isInstanceOf(NotAuthorizedException.class);
+    } finally {
+      engine.closeConnection();
+    }
+    assertThatThrownBy(() -> service.checkAuthorization(WORKBASKET_ID, WorkbasketPermission.READ))
+        .isInstanceOf(NotAuthorizedException.class);
+  }
+
+  @WithAccessId(user = "teamlead_1", groups = "businessadmin")
+  @Test
+  void should_ThrowWorkbasketNotFound_When_CachedWorkbasketIsDeleted() throws Exception {
+    final String workbasketId = "WBI:100000000000000000000000000000000013";
+    WorkbasketAccessItem accessItem =
+        workbasketService.newWorkbasketAccessItem(workbasketId, "teamlead_1");
+    accessItem.setPermRead(true);
+    workbasketService.createWorkbasketAccessItem(accessItem);
+    workbasketService.checkAuthorization(workbasketId, WorkbasketPermission.READ);
+
+    workbasketService.deleteWorkbasket(workbasketId);
+
+    assertThatThrownBy(
+            () -> workbasketService.checkAuthorization(workbasketId, WorkbasketPermission.READ))
+        .isInstanceOf(WorkbasketNotFoundException.class);
+  }
+}
@@ -0,0 +1,97 @@
+package benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import pro.taskana.common.internal.TaskanaEngineTestConfiguration;
+import pro.taskana.common.internal.util.IdGenerator;
+
+/**
+ * Compares random ids with time-ordered ids. The generation is measured with concurrent threads,
+ * the inserts into a table with a primary key of the same width as the TASK table in the test
+ * database. Run it with <code>
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=benchmark.IdGeneratorBenchmark</code> in lib/taskana-core.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+  private static final String TABLE_NAME = "ID_GENERATOR_BENCHMARK";
+  private static final int INSERT_BATCH_SIZE = 100;
+
+  @Param({"false", "true"})
+  public boolean timeOrdered;
+
+  private Connection connection;
+  private IdGenerator idGenerator;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(IdGeneratorBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+
+  @Setup(Level.Trial)
+  public void setup() throws SQLException {
+    idGenerator = new IdGenerator(timeOrdered);
+    connection = TaskanaEngineTestConfiguration.getDataSource().getConnection();
+    connection.setSchema(TaskanaEngineTestConfiguration.getSchemaName());
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(
+          "CREATE TABLE " + TABLE_NAME + " (ID VARCHAR(40) NOT NULL, PRIMARY KEY (ID))");
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE " + TABLE_NAME);
+    } finally {
+      connection.close();
+    }
+  }
+
+  @Benchmark
+  @Threads(4)
+  public String generateId() {
+    return idGenerator.generateId("TKI");
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(INSERT_BATCH_SIZE)
+  public int[] insertIds() throws SQLException {
+    try (PreparedStatement statement =
+        connection.prepareStatement("INSERT INTO " + TABLE_NAME + " (ID) VALUES (?)")) {
+      for (int i = 0; i < INSERT_BATCH_SIZE; i++) {
+        statement.setString(1, idGenerator.generateId("TKI"));
+        statement.addBatch();
+      }
+      return statement.executeBatch();
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package benchmark;
+
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import pro.taskana.common.internal.util.CheckedFunction;
+import pro.taskana.common.internal.util.ObjectAttributeChangeDetector;
+import pro.taskana.common.internal.util.Triplet;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.internal.models.TaskImpl;
+
+/**
+ * Compares the ObjectAttributeChangeDetector with the reflective comparison of tasks which was
+ * used for the details of the history events before. Run it with <code>
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=benchmark.TaskChangeDetectionBenchmark</code> in lib/taskana-core.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskChangeDetectionBenchmark {
+
+  private TaskImpl oldTask;
+  private TaskImpl newTask;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(TaskChangeDetectionBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+
+  @Setup
+  public void setup() {
+    Instant now = Instant.now();
+    oldTask = createTask(now);
+    newTask = createTask(now);
+    newTask.setOwner("user_1_1");
+    newTask.setState(TaskState.CLAIMED);
+    newTask.setRead(true);
+    newTask.setModified(now.plusSeconds(60));
+  }
+
+  @Benchmark
+  public String reflectiveComparison() {
+    return determineChangesReflectively(oldTask, newTask);
+  }
+
+  @Benchmark
+  public String precompiledComparison() {
+    return ObjectAttributeChangeDetector.determineChangesInAttributes(
+        oldTask, newTask, "customAttributes");
+  }
+
+  private static TaskImpl createTask(Instant now) {
+    TaskImpl task = new TaskImpl();
+    task.setId("TKI:000000000000000000000000000000000001");
+    task.setCreated(now);
+    task.setModified(now);
+    task.setDue(now.plusSeconds(3600));
+    task.setName("Task01");
+    task.setPriority(2);
+    task.setState(TaskState.READY);
+    task.setClassificationKey("L10000");
+    task.setWorkbasketKey("USER_1_1");
+    task.setBusinessProcessId("BPI01");
+    task.setCustom1("custom1");
+    return task;
+  }
+
+  /** The comparison of TaskServiceImpl before the introduction of the change detector. */
+  private static String determineChangesReflectively(TaskImpl oldTaskImpl, TaskImpl newTaskImpl) {
+    List<Field> fields = new ArrayList<>();
+
+    Class<?> currentClass = oldTaskImpl.getClass();
+    while (currentClass.getSuperclass() != null) {
+      fields.addAll(Arrays.asList(currentClass.getDeclaredFields()));
+      currentClass = currentClass.getSuperclass();
+    }
+
+    List<JSONObject> changedAttributes =
+        fields.stream()
+            .peek(field -> field.setAccessible(true))
+            .map(
+                CheckedFunction.wrap(
+                    field -> new Triplet<>(field, field.get(oldTaskImpl), field.get(newTaskImpl))))
+            .filter(triplet -> !Objects.equals(triplet.getMiddle(), triplet.getRight()))
+            .filter(triplet -> !triplet.getLeft().getName().equals("customAttributes"))
+            .map(
+                triplet -> {
+                  JSONObject changedAttribute = new JSONObject();
+                  changedAttribute.put("fieldName", triplet.getLeft().getName());
+                  changedAttribute.put(
+                      "oldValue", Optional.ofNullable(triplet.getMiddle()).orElse(""));
+                  changedAttribute.put(
+                      "newValue", Optional.ofNullable(triplet.getRight()).orElse(""));
+                  return changedAttribute;
+                })
+            .collect(Collectors.toList());
+
+    JSONObject changes = new JSONObject();
+    changes.put("changes", changedAttributes);
+    return changes.toString();
+  }
+}
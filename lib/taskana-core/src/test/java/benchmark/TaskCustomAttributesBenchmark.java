@@ -0,0 +1,139 @@
+package benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.apache.ibatis.session.SqlSession;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.internal.TaskanaEngineProxyForTest;
+import pro.taskana.common.internal.TaskanaEngineTestConfiguration;
+import pro.taskana.common.internal.persistence.JsonMapCodec;
+import pro.taskana.sampledata.SampleDataGenerator;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.ObjectReference;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.TaskMapper;
+import pro.taskana.task.internal.models.TaskImpl;
+
+/**
+ * Measures the reading of tasks with 30 custom attributes from the test database and compares the
+ * JsonMapCodec with the conversion by org.json which was used before. Run it with <code>
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=benchmark.TaskCustomAttributesBenchmark</code> in lib/taskana-core.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskCustomAttributesBenchmark {
+
+  private static final int TASK_COUNT = 100;
+  private static final int CUSTOM_ATTRIBUTE_COUNT = 30;
+
+  private TaskanaEngineProxyForTest engineProxy;
+  private TaskService taskService;
+  private String[] taskIds;
+  private final JsonMapCodec jsonMapCodec = new JsonMapCodec();
+  private String customAttributesJson;
+  private int next;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(TaskCustomAttributesBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    DataSource dataSource = TaskanaEngineTestConfiguration.getDataSource();
+    String schemaName = TaskanaEngineTestConfiguration.getSchemaName();
+    SampleDataGenerator sampleDataGenerator = new SampleDataGenerator(dataSource, schemaName);
+    sampleDataGenerator.clearDb();
+    sampleDataGenerator.generateTestData();
+    TaskanaEngine taskanaEngine =
+        new TaskanaEngineConfiguration(dataSource, false, false, schemaName).buildTaskanaEngine();
+    taskanaEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+    engineProxy = new TaskanaEngineProxyForTest(taskanaEngine);
+    taskService = taskanaEngine.getTaskService();
+
+    Map<String, String> customAttributes = new HashMap<>();
+    for (int i = 0; i < CUSTOM_ATTRIBUTE_COUNT; i++) {
+      customAttributes.put("attribute" + i, "value of the custom attribute " + i);
+    }
+    customAttributesJson = jsonMapCodec.encode(customAttributes);
+
+    taskIds = new String[TASK_COUNT];
+    for (int i = 0; i < TASK_COUNT; i++) {
+      Task task = taskService.newTask("USER_1_1", "DOMAIN_A");
+      task.setClassificationKey("L10000");
+      ObjectReference objectReference = new ObjectReference();
+      objectReference.setCompany("COMPANY_A");
+      objectReference.setSystem("SYSTEM_A");
+      objectReference.setSystemInstance("INSTANCE_A");
+      objectReference.setType("VNR");
+      objectReference.setValue("1234567");
+      task.setPrimaryObjRef(objectReference);
+      task.setCustomAttributes(customAttributes);
+      task.setCallbackInfo(customAttributes);
+      taskIds[i] = taskService.createTask(task).getId();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    DataSource dataSource = TaskanaEngineTestConfiguration.getDataSource();
+    new SampleDataGenerator(dataSource, TaskanaEngineTestConfiguration.getSchemaName()).clearDb();
+  }
+
+  @Benchmark
+  public TaskImpl findById() {
+    try {
+      engineProxy.openConnection();
+      SqlSession sqlSession = engineProxy.getSqlSession();
+      return sqlSession.getMapper(TaskMapper.class).findById(taskIds[next++ % TASK_COUNT]);
+    } finally {
+      engineProxy.returnConnection();
+    }
+  }
+
+  @Benchmark
+  public List<TaskSummary> queryList() {
+    return taskService.createTaskQuery().idIn(taskIds).list();
+  }
+
+  @Benchmark
+  public Map<String, Object> decodeWithOrgJson() {
+    return new JSONObject(customAttributesJson).toMap();
+  }
+
+  @Benchmark
+  public Map<String, Object> decodeWithCodec() {
+    return jsonMapCodec.decode(customAttributesJson);
+  }
+}
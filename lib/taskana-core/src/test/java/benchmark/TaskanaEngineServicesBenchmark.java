@@ -0,0 +1,123 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.ibatis.session.SqlSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.classification.internal.ClassificationMapper;
+import pro.taskana.classification.internal.ClassificationServiceImpl;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.TaskanaEngineProxyForTest;
+import pro.taskana.common.internal.TaskanaEngineTestConfiguration;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.internal.AttachmentMapper;
+import pro.taskana.task.internal.TaskCommentMapper;
+import pro.taskana.task.internal.TaskMapper;
+import pro.taskana.task.internal.TaskServiceImpl;
+import pro.taskana.workbasket.internal.DistributionTargetMapper;
+import pro.taskana.workbasket.internal.WorkbasketAccessMapper;
+import pro.taskana.workbasket.internal.WorkbasketMapper;
+import pro.taskana.workbasket.internal.WorkbasketServiceImpl;
+
+/**
+ * Measures the services a REST request typically fetches from the engine: a TaskService, a
+ * WorkbasketService, a ClassificationService and a TaskQuery. The shared services of the engine are
+ * compared with creating the service graph per call as the engine did before. Run it with <code>
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=benchmark.TaskanaEngineServicesBenchmark</code> in lib/taskana-core, the
+ * allocated bytes per request are reported as gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskanaEngineServicesBenchmark {
+
+  private TaskanaEngine taskanaEngine;
+  private InternalTaskanaEngine internalTaskanaEngine;
+  private SqlSession sqlSession;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(TaskanaEngineServicesBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    taskanaEngine =
+        new TaskanaEngineConfiguration(
+                TaskanaEngineTestConfiguration.getDataSource(),
+                false,
+                TaskanaEngineTestConfiguration.getSchemaName())
+            .buildTaskanaEngine();
+    TaskanaEngineProxyForTest engineProxy = new TaskanaEngineProxyForTest(taskanaEngine);
+    internalTaskanaEngine = engineProxy.getEngine();
+    sqlSession = engineProxy.getSqlSession();
+  }
+
+  @Benchmark
+  public void sharedServices(Blackhole blackhole) {
+    TaskService taskService = taskanaEngine.getTaskService();
+    blackhole.consume(taskanaEngine.getWorkbasketService());
+    blackhole.consume(taskanaEngine.getClassificationService());
+    blackhole.consume(taskService.createTaskQuery());
+  }
+
+  @Benchmark
+  public void servicesPerCall(Blackhole blackhole) {
+    // the TaskQueryImpl created its own TaskServiceImpl as well
+    TaskService taskService = newTaskService();
+    newTaskService();
+    blackhole.consume(newWorkbasketService());
+    blackhole.consume(newClassificationService());
+    blackhole.consume(taskService.createTaskQuery());
+  }
+
+  private TaskService newTaskService() {
+    return new TaskServiceImpl(
+        internalTaskanaEngine,
+        newWorkbasketService(),
+        newClassificationService(),
+        sqlSession.getMapper(TaskMapper.class),
+        sqlSession.getMapper(TaskCommentMapper.class),
+        sqlSession.getMapper(AttachmentMapper.class));
+  }
+
+  private WorkbasketServiceImpl newWorkbasketService() {
+    return new WorkbasketServiceImpl(
+        internalTaskanaEngine,
+        sqlSession.getMapper(WorkbasketMapper.class),
+        sqlSession.getMapper(DistributionTargetMapper.class),
+        sqlSession.getMapper(WorkbasketAccessMapper.class));
+  }
+
+  private ClassificationServiceImpl newClassificationService() {
+    return new ClassificationServiceImpl(
+        internalTaskanaEngine,
+        sqlSession.getMapper(ClassificationMapper.class),
+        sqlSession.getMapper(TaskMapper.class));
+  }
+}
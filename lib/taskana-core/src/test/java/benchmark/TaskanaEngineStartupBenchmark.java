@@ -0,0 +1,63 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.TaskanaEngineTestConfiguration;
+
+/**
+ * Measures the time to build a TASKANA engine with and without lazy initialization. The second
+ * benchmark also runs a first query, so it includes the mappers which are parsed on first use.
+ * Run it with <code>mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=benchmark.TaskanaEngineStartupBenchmark</code> in lib/taskana-core, the
+ * engine logs a breakdown of every startup at INFO level.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class TaskanaEngineStartupBenchmark {
+
+  @Param({"false", "true"})
+  private boolean lazyInitialization;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(TaskanaEngineStartupBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+
+  @Benchmark
+  public TaskanaEngine buildEngine() throws Exception {
+    TaskanaEngineConfiguration configuration =
+        new TaskanaEngineConfiguration(
+            TaskanaEngineTestConfiguration.getDataSource(),
+            false,
+            TaskanaEngineTestConfiguration.getSchemaName());
+    configuration.setLazyInitializationEnabled(lazyInitialization);
+    return configuration.buildTaskanaEngine();
+  }
+
+  @Benchmark
+  public long buildEngineAndQuery() throws Exception {
+    return buildEngine().getClassificationService().createClassificationQuery().count();
+  }
+}
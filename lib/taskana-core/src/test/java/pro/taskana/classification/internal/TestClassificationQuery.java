@@ -200,4 +200,9 @@ public class TestClassificationQuery implements ClassificationQuery {
   public long count() {
     return 0;
   }
+
+  @Override
+  public ClassificationQuery usePrimaryDataSource() {
+    return this;
+  }
 }
@@ -0,0 +1,71 @@
+package pro.taskana.common.internal.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+/** Test for the JsonMapCodec. */
+class JsonMapCodecTest {
+
+  private final JsonMapCodec jsonMapCodec = new JsonMapCodec();
+
+  @Test
+  void should_ReadEncodedMap_When_ValuesContainCharactersWhichMustBeEscaped() {
+    Map<String, String> map = new HashMap<>();
+    map.put("plain", "value");
+    map.put("quote \"key\"", "back\\slash/");
+    map.put("control", "line\nbreak\ttab\u0001");
+    map.put("unicode", "äöü €");
+    map.put("empty", "");
+
+    String json = jsonMapCodec.encode(map);
+
+    assertThat(jsonMapCodec.decode(json)).isEqualTo(map);
+    assertThat(new JSONObject(json).toMap()).isEqualTo(map);
+  }
+
+  @Test
+  void should_ReadJsonOfOrgJson_When_MapWasWrittenBefore() {
+    Map<String, String> map = new HashMap<>();
+    map.put("key", "</script>   \"value\"");
+    map.put("unicode", "\u0080\u009f");
+
+    String json = new JSONObject(map).toString();
+
+    assertThat(jsonMapCodec.decode(json)).isEqualTo(map);
+  }
+
+  @Test
+  void should_ReadValuesWhichAreNoStrings_When_JsonIsNoFlatObjectOfStrings() {
+    Map<String, Object> map = jsonMapCodec.decode(" { \"number\" : 1, \"text\" : \"a\" } ");
+
+    assertThat(map).containsEntry("number", 1).containsEntry("text", "a");
+  }
+
+  @Test
+  void should_SkipEntries_When_ValueIsNull() {
+    Map<String, String> map = new HashMap<>();
+    map.put("key", null);
+
+    assertThat(jsonMapCodec.encode(map)).isEqualTo("{}");
+    assertThat(jsonMapCodec.decode("{}")).isEmpty();
+  }
+
+  @Test
+  void should_ThrowException_When_KeyIsDuplicated() {
+    assertThatThrownBy(() -> jsonMapCodec.decode("{\"key\":\"first\",\"key\":\"second\"}"))
+        .isInstanceOf(JSONException.class)
+        .hasMessageContaining("Duplicate key");
+  }
+
+  @Test
+  void should_ThrowException_When_JsonIsInvalid() {
+    assertThatThrownBy(() -> jsonMapCodec.decode("{\"key\":\"value\""))
+        .isInstanceOf(JSONException.class);
+  }
+}
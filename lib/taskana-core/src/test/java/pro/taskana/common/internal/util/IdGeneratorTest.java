@@ -0,0 +1,45 @@
+package pro.taskana.common.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/** Test for the IdGenerator. */
+class IdGeneratorTest {
+
+  @Test
+  void should_GenerateRandomUuid_When_TimeOrderedIdsAreDisabled() {
+    String id = new IdGenerator(false).generateId("TKI");
+
+    assertThat(id).hasSize(40).startsWith("TKI:");
+    assertThat(UUID.fromString(id.substring(4)).version()).isEqualTo(4);
+  }
+
+  @Test
+  void should_GenerateRandomUuid_When_GeneratingWithoutInstance() {
+    String id = IdGenerator.generateWithPrefix("TKI");
+
+    assertThat(id).hasSize(40).startsWith("TKI:");
+    assertThat(UUID.fromString(id.substring(4)).version()).isEqualTo(4);
+  }
+
+  @Test
+  void should_GenerateIdsInOrderOfTheirCreation_When_TimeOrderedIdsAreEnabled()
+      throws Exception {
+    IdGenerator idGenerator = new IdGenerator(true);
+
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      ids.add(idGenerator.generateId("TKI"));
+      Thread.sleep(2);
+    }
+
+    assertThat(ids).isSorted().allSatisfy(id -> assertThat(id).hasSize(40).startsWith("TKI:"));
+    UUID uuid = UUID.fromString(ids.get(0).substring(4));
+    assertThat(uuid.version()).isEqualTo(7);
+    assertThat(uuid.variant()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,104 @@
+package pro.taskana.common.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.common.api.exceptions.SystemException;
+
+/** Test for the ObjectAttributeChangeDetector. */
+class ObjectAttributeChangeDetectorTest {
+
+  @Test
+  void should_ReturnNoChanges_When_ObjectsAreEqual() {
+    String changes =
+        ObjectAttributeChangeDetector.determineChangesInAttributes(
+            new TestObject(), new TestObject());
+
+    assertThat(changes).isEqualTo("{\"changes\":[]}");
+  }
+
+  @Test
+  void should_DetermineChangesOfPrimitiveAndObjectFields_When_FieldsHaveChanged() {
+    TestObject oldObject = new TestObject();
+    TestObject newObject = new TestObject();
+    newObject.name = "new \"name\"";
+    newObject.owner = null;
+    newObject.priority = 5;
+    newObject.isRead = true;
+    newObject.state = TestState.DONE;
+    newObject.created = Instant.parse("2020-06-01T10:00:00Z");
+
+    JSONArray changes =
+        new JSONObject(
+                ObjectAttributeChangeDetector.determineChangesInAttributes(oldObject, newObject))
+            .getJSONArray("changes");
+
+    assertThat(changes).hasSize(6);
+    assertThat(getChange(changes, "name").getString("newValue")).isEqualTo("new \"name\"");
+    assertThat(getChange(changes, "owner").getString("newValue")).isEmpty();
+    assertThat(getChange(changes, "priority").getInt("oldValue")).isEqualTo(1);
+    assertThat(getChange(changes, "priority").getInt("newValue")).isEqualTo(5);
+    assertThat(getChange(changes, "isRead").getBoolean("newValue")).isTrue();
+    assertThat(getChange(changes, "state").getString("newValue")).isEqualTo("DONE");
+    assertThat(getChange(changes, "created").getString("oldValue"))
+        .isEqualTo("2020-01-01T10:00:00Z");
+  }
+
+  @Test
+  void should_IgnoreFields_When_FieldsAreExcluded() {
+    TestObject oldObject = new TestObject();
+    TestObject newObject = new TestObject();
+    newObject.name = "new name";
+    newObject.owner = "new owner";
+
+    JSONArray changes =
+        new JSONObject(
+                ObjectAttributeChangeDetector.determineChangesInAttributes(
+                    oldObject, newObject, "owner"))
+            .getJSONArray("changes");
+
+    assertThat(changes).hasSize(1);
+    assertThat(changes.getJSONObject(0).getString("fieldName")).isEqualTo("name");
+  }
+
+  @Test
+  void should_ThrowException_When_ObjectsAreOfDifferentClasses() {
+    assertThatThrownBy(
+            () ->
+                ObjectAttributeChangeDetector.determineChangesInAttributes(
+                    new TestObject(), new SuperTestObject()))
+        .isInstanceOf(SystemException.class);
+  }
+
+  private JSONObject getChange(JSONArray changes, String fieldName) {
+    for (int i = 0; i < changes.length(); i++) {
+      JSONObject change = changes.getJSONObject(i);
+      if (fieldName.equals(change.getString("fieldName"))) {
+        return change;
+      }
+    }
+    return null;
+  }
+
+  private enum TestState {
+    OPEN,
+    DONE
+  }
+
+  private static class SuperTestObject {
+    protected int priority = 1;
+    protected boolean isRead;
+    protected Instant created = Instant.parse("2020-01-01T10:00:00Z");
+  }
+
+  private static class TestObject extends SuperTestObject {
+    private String name = "name";
+    private String owner = "owner";
+    private TestState state = TestState.OPEN;
+  }
+}
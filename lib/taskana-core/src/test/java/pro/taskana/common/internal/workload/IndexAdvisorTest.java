@@ -0,0 +1,92 @@
+package pro.taskana.common.internal.workload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.common.internal.configuration.DB;
+
+/** Test for the IndexAdvisor. */
+class IndexAdvisorTest {
+
+  private final IndexAdvisor indexAdvisor = new IndexAdvisor(DB.POSTGRESS);
+
+  @Test
+  void should_ReplaceLiteralsAndParameterLists_When_SqlIsFingerprinted() {
+    String fingerprint =
+        WorkloadRecorder.fingerprint(
+            "SELECT ID  FROM TASK\n WHERE STATE = 'READY' AND PRIORITY IN (?, ?, ?)"
+                + " AND CUSTOM_1 = ? FETCH FIRST 10 ROWS ONLY");
+
+    assertThat(fingerprint)
+        .isEqualTo(
+            "SELECT ID FROM TASK WHERE STATE = ? AND PRIORITY IN (?) AND CUSTOM_1 = ?"
+                + " FETCH FIRST ? ROWS ONLY");
+  }
+
+  @Test
+  void should_OrderColumnsByEqualityRangeAndSort_When_QueryIsAnalyzed() {
+    List<IndexSuggestion> suggestions =
+        indexAdvisor.analyze(
+            "SELECT t.ID FROM TASK t LEFT JOIN WORKBASKET w ON t.WORKBASKET_ID = w.ID "
+                + "WHERE t.DUE < ? AND t.STATE IN (?) AND UPPER(t.NAME) LIKE ? "
+                + "ORDER BY t.PRIORITY DESC FETCH FIRST ? ROWS ONLY");
+
+    assertThat(suggestions).hasSize(1);
+    assertThat(suggestions.get(0).getTable()).isEqualTo("TASK");
+    assertThat(suggestions.get(0).getColumns())
+        .containsExactly("WORKBASKET_ID", "STATE", "DUE", "PRIORITY");
+    assertThat(suggestions.get(0).toDdl(DB.POSTGRESS))
+        .startsWith("CREATE INDEX IF NOT EXISTS IDX_TASK_")
+        .endsWith("ON TASK (WORKBASKET_ID ASC, STATE ASC, DUE ASC, PRIORITY ASC);");
+  }
+
+  @Test
+  void should_IndexUpperCaseExpression_When_ColumnIsComparedCaseInsensitive() {
+    IndexSuggestion suggestion =
+        indexAdvisor.analyze("SELECT ID FROM TASK WHERE UPPER(OWNER) LIKE ?").get(0);
+
+    assertThat(suggestion.getUpperCaseColumns()).containsExactly("OWNER");
+    assertThat(suggestion.toDdl(DB.POSTGRESS)).endsWith("ON TASK (UPPER(OWNER));");
+    assertThat(suggestion.toDdl(DB.H2)).endsWith("ON TASK (OWNER ASC);");
+    assertThat(suggestion.toDdl(DB.DB2))
+        .endsWith("ON TASK (OWNER ASC) ALLOW REVERSE SCANS COLLECT SAMPLED DETAILED STATISTICS;");
+  }
+
+  @Test
+  void should_IgnoreAssignmentsAndPrimaryKey_When_UpdateIsAnalyzed() {
+    assertThat(indexAdvisor.analyze("UPDATE TASK SET STATE = ? WHERE ID IN (?)")).isEmpty();
+    assertThat(indexAdvisor.analyze("UPDATE TASK SET STATE = ? WHERE OWNER = ?"))
+        .extracting(IndexSuggestion::getColumns)
+        .containsExactly(Arrays.asList("OWNER"));
+  }
+
+  @Test
+  void should_MergeSuggestions_When_IndexIsPrefixOfAnother() {
+    StatementStatistics byState =
+        statistics("SELECT ID FROM TASK WHERE STATE IN (?)", "byState", 2_000_000);
+    StatementStatistics byStateAndDue =
+        statistics(
+            "SELECT ID FROM TASK WHERE STATE IN (?) ORDER BY DUE ASC", "byStateAndDue", 1_000_000);
+
+    List<IndexSuggestion> suggestions =
+        indexAdvisor.suggestIndexes(Arrays.asList(byState, byStateAndDue));
+
+    assertThat(suggestions).hasSize(1);
+    assertThat(suggestions.get(0).getColumns()).containsExactly("STATE", "DUE");
+    assertThat(suggestions.get(0).getStatementIds()).containsExactly("byState", "byStateAndDue");
+    assertThat(suggestions.get(0).getTotalNanos()).isEqualTo(3_000_000);
+    assertThat(indexAdvisor.createReport(Arrays.asList(byState, byStateAndDue), "TASKANA"))
+        .contains("SET search_path TO taskana;", suggestions.get(0).toDdl(DB.POSTGRESS))
+        .contains("byState", "byStateAndDue");
+  }
+
+  private static StatementStatistics statistics(String sql, String statementId, long nanos) {
+    StatementStatistics statistics =
+        new StatementStatistics(WorkloadRecorder.fingerprint(sql), statementId);
+    statistics.record(nanos);
+    return statistics;
+  }
+}
@@ -94,7 +94,7 @@ class CategoryReportBuilderImplTest {
             .customAttributeFilterIn(customAttributeFilter)
             .buildReport();
 
-    verify(internalTaskanaEngineMock).openConnection();
+    verify(internalTaskanaEngineMock).openReadOnlyConnection();
     verify(internalTaskanaEngineMock, times(2)).getEngine();
     verify(taskanaEngineMock).checkRoleMembership(any());
     verify(taskanaEngineMock).getConfiguration();
@@ -158,7 +158,7 @@ class CategoryReportBuilderImplTest {
             .withColumnHeaders(columnHeaders)
             .buildReport();
 
-    verify(internalTaskanaEngineMock).openConnection();
+    verify(internalTaskanaEngineMock).openReadOnlyConnection();
     verify(internalTaskanaEngineMock, times(2)).getEngine();
     verify(taskanaEngineMock).checkRoleMembership(any());
     verify(taskanaEngineMock).getConfiguration();
@@ -228,7 +228,7 @@ class CategoryReportBuilderImplTest {
             .withColumnHeaders(columnHeaders)
             .listTaskIdsForSelectedItems(selectedItems);
 
-    verify(internalTaskanaEngineMock).openConnection();
+    verify(internalTaskanaEngineMock).openReadOnlyConnection();
     verify(internalTaskanaEngineMock, times(2)).getEngine();
     verify(taskanaEngineMock).checkRoleMembership(any());
     verify(taskanaEngineMock).getConfiguration();
@@ -302,7 +302,7 @@ class CategoryReportBuilderImplTest {
             .withColumnHeaders(columnHeaders)
             .listCustomAttributeValuesForCustomAttributeName(CustomField.CUSTOM_1);
 
-    verify(internalTaskanaEngineMock).openConnection();
+    verify(internalTaskanaEngineMock).openReadOnlyConnection();
     verify(internalTaskanaEngineMock, times(2)).getEngine();
     verify(taskanaEngineMock).checkRoleMembership(any());
     verify(taskanaEngineMock).getConfiguration();
@@ -97,7 +97,7 @@ class ClassificationReportBuilderImplTest {
             .customAttributeFilterIn(customAttributeFilter)
             .buildReport();
 
-    verify(internalTaskanaEngineMock).openConnection();
+    verify(internalTaskanaEngineMock).openReadOnlyConnection();
     verify(taskanaEngineMock).checkRoleMembership(any());
     verify(taskanaEngineMock).getConfiguration();
     verify(internalTaskanaEngineMock, times(2)).getEngine();
@@ -164,7 +164,7 @@ class ClassificationReportBuilderImplTest {
             .withColumnHeaders(columnHeaders)
             .buildReport();
 
-    verify(internalTaskanaEngineMock).openConnection();
+    verify(internalTaskanaEngineMock).openReadOnlyConnection();
     verify(taskanaEngineMock).checkRoleMembership(any());
     verify(taskanaEngineMock).getConfiguration();
     verify(internalTaskanaEngineMock, times(2)).getEngine();
@@ -229,7 +229,7 @@ class ClassificationReportBuilderImplTest {
             .customAttributeFilterIn(customAttributeFilter)
             .buildDetailedReport();
 
-    verify(internalTaskanaEngineMock).openConnection();
+    verify(internalTaskanaEngineMock).openReadOnlyConnection();
     verify(taskanaEngineMock).checkRoleMembership(any());
     verify(taskanaEngineMock).getConfiguration();
     verify(internalTaskanaEngineMock, times(2)).getEngine();
@@ -299,7 +299,7 @@ class ClassificationReportBuilderImplTest {
             .withColumnHeaders(columnHeaders)
             .buildDetailedReport();
 
-    verify(internalTaskanaEngineMock).openConnection();
+    verify(internalTaskanaEngineMock).openReadOnlyConnection();
     verify(taskanaEngineMock).checkRoleMembership(any());
     verify(taskanaEngineMock).getConfiguration();
     verify(internalTaskanaEngineMock, times(2)).getEngine();
@@ -376,7 +376,7 @@ class ClassificationReportBuilderImplTest {
             .withColumnHeaders(columnHeaders)
             .listTaskIdsForSelectedItems(selectedItems);
 
-    verify(internalTaskanaEngineMock).openConnection();
+    verify(internalTaskanaEngineMock).openReadOnlyConnection();
     verify(taskanaEngineMock).checkRoleMembership(any());
     verify(taskanaEngineMock).getConfiguration();
     verify(internalTaskanaEngineMock, times(2)).getEngine();
@@ -454,7 +454,7 @@ class ClassificationReportBuilderImplTest {
             .withColumnHeaders(columnHeaders)
             .listCustomAttributeValuesForCustomAttributeName(CustomField.CUSTOM_1);
 
-    verify(internalTaskanaEngineMock).openConnection();
+    verify(internalTaskanaEngineMock).openReadOnlyConnection();
     verify(taskanaEngineMock).checkRoleMembership(any());
     verify(taskanaEngineMock).getConfiguration();
     verify(internalTaskanaEngineMock, times(2)).getEngine();
@@ -94,7 +94,7 @@ class CustomFieldValueReportBuilderImplTest {
             .customAttributeFilterIn(customAttributeFilter)
             .buildReport();
 
-    verify(internalTaskanaEngineMock).openConnection();
+    verify(internalTaskanaEngineMock).openReadOnlyConnection();
     verify(taskanaEngineMock).checkRoleMembership(any());
     verify(taskanaEngineMock).getConfiguration();
     verify(internalTaskanaEngineMock, times(2)).getEngine();
@@ -159,7 +159,7 @@ class CustomFieldValueReportBuilderImplTest {
             .withColumnHeaders(columnHeaders)
             .buildReport();
 
-    verify(internalTaskanaEngineMock).openConnection();
+    verify(internalTaskanaEngineMock).openReadOnlyConnection();
     verify(taskanaEngineMock).checkRoleMembership(any());
     verify(taskanaEngineMock).getConfiguration();
     verify(internalTaskanaEngineMock, times(2)).getEngine();
@@ -224,7 +224,7 @@ class CustomFieldValueReportBuilderImplTest {
             .withColumnHeaders(columnHeaders)
             .listCustomAttributeValuesForCustomAttributeName(CustomField.CUSTOM_1);
 
-    verify(internalTaskanaEngineMock).openConnection();
+    verify(internalTaskanaEngineMock).openReadOnlyConnection();
     verify(taskanaEngineMock).checkRoleMembership(any());
     verify(taskanaEngineMock).getConfiguration();
     verify(internalTaskanaEngineMock, times(2)).getEngine();
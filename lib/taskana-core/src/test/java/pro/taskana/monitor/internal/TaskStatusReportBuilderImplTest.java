@@ -65,7 +65,7 @@ class TaskStatusReportBuilderImplTest {
     InOrder inOrder = inOrder(taskanaEngineMock, internalTaskanaEngineMock, monitorMapperMock);
     inOrder.verify(internalTaskanaEngineMock).getEngine();
     inOrder.verify(taskanaEngineMock).checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
-    inOrder.verify(internalTaskanaEngineMock).openConnection();
+    inOrder.verify(internalTaskanaEngineMock).openReadOnlyConnection();
     inOrder.verify(monitorMapperMock).getTasksCountByState(eq(null), eq(null));
     inOrder.verify(internalTaskanaEngineMock).returnConnection();
     inOrder.verifyNoMoreInteractions();
@@ -103,7 +103,7 @@ class TaskStatusReportBuilderImplTest {
     InOrder inOrder = inOrder(taskanaEngineMock, monitorMapperMock, internalTaskanaEngineMock);
     inOrder.verify(internalTaskanaEngineMock).getEngine();
     inOrder.verify(taskanaEngineMock).checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
-    inOrder.verify(internalTaskanaEngineMock).openConnection();
+    inOrder.verify(internalTaskanaEngineMock).openReadOnlyConnection();
     inOrder.verify(monitorMapperMock).getTasksCountByState(eq(null), eq(Collections.emptyList()));
     inOrder.verify(internalTaskanaEngineMock).returnConnection();
     inOrder.verifyNoMoreInteractions();
@@ -105,7 +105,7 @@ class WorkbasketReportBuilderImplTest {
             .combinedClassificationFilterIn(combinedClassificationFilter)
             .buildReport();
 
-    verify(internalTaskanaEngineMock).openConnection();
+    verify(internalTaskanaEngineMock).openReadOnlyConnection();
     verify(taskanaEngineMock).checkRoleMembership(any());
     verify(taskanaEngineMock).getConfiguration();
     verify(internalTaskanaEngineMock, times(2)).getEngine();
@@ -177,7 +177,7 @@ class WorkbasketReportBuilderImplTest {
             .withColumnHeaders(columnHeaders)
             .buildReport();
 
-    verify(internalTaskanaEngineMock).openConnection();
+    verify(internalTaskanaEngineMock).openReadOnlyConnection();
     verify(taskanaEngineMock).checkRoleMembership(any());
     verify(taskanaEngineMock).getConfiguration();
     verify(internalTaskanaEngineMock, times(2)).getEngine();
@@ -249,7 +249,7 @@ class WorkbasketReportBuilderImplTest {
             .withColumnHeaders(columnHeaders)
             .listTaskIdsForSelectedItems(selectedItems);
 
-    verify(internalTaskanaEngineMock).openConnection();
+    verify(internalTaskanaEngineMock).openReadOnlyConnection();
     verify(taskanaEngineMock).checkRoleMembership(any());
     verify(taskanaEngineMock).getConfiguration();
     verify(internalTaskanaEngineMock, times(2)).getEngine();
@@ -327,7 +327,7 @@ class WorkbasketReportBuilderImplTest {
             .withColumnHeaders(columnHeaders)
             .listCustomAttributeValuesForCustomAttributeName(CustomField.CUSTOM_1);
 
-    verify(internalTaskanaEngineMock).openConnection();
+    verify(internalTaskanaEngineMock).openReadOnlyConnection();
     verify(taskanaEngineMock).checkRoleMembership(any());
     verify(taskanaEngineMock).getConfiguration();
     verify(internalTaskanaEngineMock, times(2)).getEngine();
@@ -403,7 +403,7 @@ class WorkbasketReportBuilderImplTest {
             .combinedClassificationFilterIn(combinedClassificationFilter)
             .buildPlannedDateBasedReport();
 
-    verify(internalTaskanaEngineMock).openConnection();
+    verify(internalTaskanaEngineMock).openReadOnlyConnection();
     verify(taskanaEngineMock).checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
     verify(taskanaEngineMock).getConfiguration();
     verify(internalTaskanaEngineMock, times(2)).getEngine();
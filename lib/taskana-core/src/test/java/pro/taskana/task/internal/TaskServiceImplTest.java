@@ -15,7 +15,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.classification.api.models.Classification;
 import pro.taskana.classification.internal.ClassificationQueryImpl;
 import pro.taskana.classification.internal.ClassificationServiceImpl;
@@ -38,8 +37,6 @@ class TaskServiceImplTest {
 
   private TaskServiceImpl cut;
 
-  @Mock private TaskanaEngineConfiguration taskanaEngineConfigurationMock;
-
   @Mock private InternalTaskanaEngine internalTaskanaEngineMock;
 
   @Mock private TaskanaEngine taskanaEngineMock;
@@ -65,8 +62,6 @@ class TaskServiceImplTest {
     when(internalTaskanaEngineMock.getEngine()).thenReturn(taskanaEngineMock);
     when(taskanaEngineMock.getWorkbasketService()).thenReturn(workbasketServiceMock);
     when(taskanaEngineMock.getClassificationService()).thenReturn(classificationServiceImplMock);
-    when(taskanaEngineMock.getConfiguration()).thenReturn(taskanaEngineConfigurationMock);
-    when(taskanaEngineConfigurationMock.isGermanPublicHolidaysEnabled()).thenReturn(true);
     cut =
         new TaskServiceImpl(
             internalTaskanaEngineMock, taskMapperMock, taskCommentMapperMock, attachmentMapperMock);
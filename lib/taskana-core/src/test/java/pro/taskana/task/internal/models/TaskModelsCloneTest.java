@@ -10,6 +10,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 import pro.taskana.task.api.models.Attachment;
@@ -105,6 +106,44 @@ class TaskModelsCloneTest {
         .containsOnly((String) null);
   }
 
+  @Test
+  void should_LoadAttachmentsOnce_When_LazilyLoadedTaskIsCopied() {
+    TaskImpl dummyTask =
+        createUnitTestTask(
+            "dummyTaskId", "dummyTaskName", "workbasketKey", createDummyClassification());
+    AtomicInteger loads = new AtomicInteger();
+    dummyTask.setAttachmentLoader(
+        () -> {
+          loads.incrementAndGet();
+          return new ArrayList<>(Arrays.asList(createAttachment("abc", "dummyTaskId")));
+        });
+
+    TaskImpl dummyTaskCloned = dummyTask.copy();
+
+    assertThat(loads).hasValue(1);
+    assertThat(dummyTaskCloned.getAttachments()).hasSize(1);
+    assertThat(dummyTask.getAttachments()).extracting(Attachment::getId).containsExactly("abc");
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void should_NotLoadAttachments_When_LazilyLoadedTaskIsCompared() {
+    TaskImpl dummyTask =
+        createUnitTestTask(
+            "dummyTaskId", "dummyTaskName", "workbasketKey", createDummyClassification());
+    AtomicInteger loads = new AtomicInteger();
+    dummyTask.setAttachmentLoader(
+        () -> {
+          loads.incrementAndGet();
+          return new ArrayList<>();
+        });
+
+    assertThat(dummyTask.hashCode()).isEqualTo(dummyTask.hashCode());
+    assertThat(dummyTask).isNotEqualTo(new TaskImpl());
+
+    assertThat(loads).hasValue(0);
+  }
+
   @Test
   void should_CopyWithoutId_When_TaskCommentClone() {
     TaskCommentImpl dummyComment = new TaskCommentImpl();
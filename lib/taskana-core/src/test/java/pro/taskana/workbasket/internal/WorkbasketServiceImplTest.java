@@ -12,6 +12,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -34,6 +35,7 @@ import pro.taskana.common.api.exceptions.ConcurrencyException;
 import pro.taskana.common.api.exceptions.DomainNotFoundException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.util.IdGenerator;
 import pro.taskana.task.api.TaskQuery;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.workbasket.api.WorkbasketType;
@@ -75,6 +77,7 @@ class WorkbasketServiceImplTest {
   @BeforeEach
   void setup() {
     lenient().when(internalTaskanaEngineMock.getEngine()).thenReturn(taskanaEngine);
+    lenient().when(internalTaskanaEngineMock.getIdGenerator()).thenReturn(new IdGenerator(false));
   }
 
   @Test
@@ -85,6 +88,10 @@ class WorkbasketServiceImplTest {
     WorkbasketImpl expectedWb = createTestWorkbasket(null, "Key-1");
     doReturn(expectedWb).when(workbasketServiceSpy).getWorkbasket(any());
     when(internalTaskanaEngineMock.domainExists(any())).thenReturn(true);
+    when(workbasketMapperMock.findExistingIds(any()))
+        .thenAnswer(invocation -> new ArrayList<>(invocation.<List<String>>getArgument(0)));
+    when(internalTaskanaEngineMock.getDistributionTargetGraph())
+        .thenReturn(new DistributionTargetGraph(Duration.ZERO));
 
     final Workbasket actualWb = workbasketServiceSpy.createWorkbasket(expectedWb);
     workbasketServiceSpy.setDistributionTargets(
@@ -92,9 +99,12 @@ class WorkbasketServiceImplTest {
 
     verify(internalTaskanaEngineMock, times(4)).openConnection();
     verify(workbasketMapperMock, times(3)).insert(any());
-    verify(workbasketServiceSpy, times(distTargetAmount + 1)).getWorkbasket(any());
+    verify(workbasketServiceSpy, times(1)).getWorkbasket(any());
+    verify(workbasketMapperMock, times(1)).findExistingIds(any());
     verify(distributionTargetMapperMock, times(1)).deleteAllDistributionTargetsBySourceId(any());
-    verify(distributionTargetMapperMock, times(distTargetAmount)).insert(any(), any());
+    verify(distributionTargetMapperMock, times(1)).insertAll(any());
+    verify(internalTaskanaEngineMock, times(1)).getDistributionTargetGraph();
+    verify(internalTaskanaEngineMock, times(1)).runAfterCommit(any());
     verify(workbasketMapperMock, times(3)).findByKeyAndDomain(any(), any());
     verify(workbasketMapperMock, times(1)).update(any());
     verify(internalTaskanaEngineMock, times(4)).returnConnection();
@@ -135,18 +145,15 @@ class WorkbasketServiceImplTest {
         .hasFieldOrPropertyWithValue("key", null)
         .hasFieldOrPropertyWithValue("domain", null);
 
-    verify(internalTaskanaEngineMock, times(3)).openConnection();
+    verify(internalTaskanaEngineMock, times(2)).openConnection();
     verify(workbasketMapperMock, times(1)).insert(expectedWb);
-    verify(workbasketMapperMock, times(1)).findById(any());
     verify(workbasketMapperMock, times(1)).findByKeyAndDomain(any(), any());
-    verify(workbasketServiceSpy, times(2)).getWorkbasket(any());
-    verify(internalTaskanaEngineMock, times(3)).returnConnection();
+    verify(workbasketMapperMock, times(1)).findExistingIds(eq(destinations));
+    verify(workbasketServiceSpy, times(1)).getWorkbasket(any());
+    verify(internalTaskanaEngineMock, times(2)).returnConnection();
     verify(taskanaEngine, times(2)).checkRoleMembership(any());
     verify(internalTaskanaEngineMock, times(2)).getEngine();
     verify(internalTaskanaEngineMock, times(1)).domainExists(any());
-    verify(distributionTargetMapperMock)
-        .deleteAllDistributionTargetsBySourceId(eq(expectedWb.getId()));
-    verify(workbasketMapperMock).update(eq(expectedWb));
     verifyNoMoreInteractions(
         taskQueryMock,
         taskServiceMock,
@@ -1,8 +1,11 @@
 -- the order is important!
 DELETE FROM TASK_COMMENT;
+DELETE FROM TASK_COMMENT_ARCHIVE;
 DELETE FROM CONFIGURATION;
 DELETE FROM ATTACHMENT;
+DELETE FROM ATTACHMENT_ARCHIVE;
 DELETE FROM TASK;
+DELETE FROM TASK_ARCHIVE;
 DELETE FROM WORKBASKET_ACCESS_LIST;
 DELETE FROM WORKBASKET;
 DELETE FROM DISTRIBUTION_TARGETS;
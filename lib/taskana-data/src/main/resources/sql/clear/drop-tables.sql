@@ -1,8 +1,11 @@
 DROP TABLE TASKANA_SCHEMA_VERSION;
 DROP TABLE TASK_COMMENT;
+DROP TABLE TASK_COMMENT_ARCHIVE;
 DROP TABLE CONFIGURATION;
 DROP TABLE ATTACHMENT;
+DROP TABLE ATTACHMENT_ARCHIVE;
 DROP TABLE TASK;
+DROP TABLE TASK_ARCHIVE;
 DROP TABLE WORKBASKET_ACCESS_LIST;
 DROP TABLE WORKBASKET;
 DROP TABLE DISTRIBUTION_TARGETS;
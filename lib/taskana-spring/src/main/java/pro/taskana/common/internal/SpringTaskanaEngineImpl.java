@@ -1,7 +1,10 @@
 package pro.taskana.common.internal;
 
+import java.util.function.Consumer;
 import javax.annotation.PostConstruct;
 import org.mybatis.spring.transaction.SpringManagedTransactionFactory;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import pro.taskana.SpringTaskanaEngineConfiguration;
 
@@ -16,5 +19,32 @@ public class SpringTaskanaEngineImpl extends TaskanaEngineImpl {
   public void init() {
     this.transactionFactory = new SpringManagedTransactionFactory();
     this.sessionManager = createSqlSessionManager();
+    this.readOnlySessionManager = createReadOnlySqlSessionManager();
+  }
+
+  /**
+   * Queries within a spring transaction may only use the read-only DataSource if the transaction is
+   * marked with {@code @Transactional(readOnly = true)}. Otherwise they could miss the changes of
+   * the transaction. Spring also manages JTA transactions, so its state is sufficient.
+   */
+  @Override
+  protected boolean isWritableTransactionActive() {
+    return TransactionSynchronizationManager.isActualTransactionActive()
+        && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+  }
+
+  @Override
+  protected boolean registerTransactionSynchronization(Consumer<Boolean> afterCompletion) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return super.registerTransactionSynchronization(afterCompletion);
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronizationAdapter() {
+          @Override
+          public void afterCompletion(int status) {
+            afterCompletion.accept(status == STATUS_COMMITTED);
+          }
+        });
+    return true;
   }
 }
@@ -0,0 +1,175 @@
+package pro.taskana.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the latencies of the requests per endpoint and reports the throughput and the
+ * percentiles of the latency as JSON.
+ */
+class LatencyRecorder {
+
+  private final ConcurrentMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+  private volatile boolean recording;
+
+  void start() {
+    recording = true;
+  }
+
+  void stop() {
+    recording = false;
+  }
+
+  void record(String endpoint, long nanos, boolean successful) {
+    if (recording) {
+      endpoints.computeIfAbsent(endpoint, key -> new Endpoint()).record(nanos, successful);
+    }
+  }
+
+  List<EndpointStatistics> getStatistics(Duration measured) {
+    List<EndpointStatistics> statistics = new ArrayList<>();
+    endpoints.entrySet().stream()
+        .sorted(Map.Entry.comparingByKey())
+        .forEach(entry -> statistics.add(entry.getValue().toStatistics(entry.getKey(), measured)));
+    return statistics;
+  }
+
+  void writeReport(Path file, Map<String, Object> settings, Duration measured)
+      throws IOException {
+    Map<String, Object> report = new LinkedHashMap<>(settings);
+    report.put("measuredSeconds", measured.getSeconds());
+    report.put("endpoints", getStatistics(measured));
+    if (file.getParent() != null) {
+      Files.createDirectories(file.getParent());
+    }
+    new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), report);
+  }
+
+  /** The latencies of one endpoint. */
+  private static class Endpoint {
+
+    private final AtomicLong errors = new AtomicLong();
+    // guarded by this
+    private long[] latencies = new long[1024];
+    private int size;
+
+    void record(long nanos, boolean successful) {
+      if (!successful) {
+        errors.incrementAndGet();
+      }
+      synchronized (this) {
+        if (size == latencies.length) {
+          latencies = Arrays.copyOf(latencies, size * 2);
+        }
+        latencies[size++] = nanos;
+      }
+    }
+
+    synchronized EndpointStatistics toStatistics(String name, Duration measured) {
+      long[] sorted = Arrays.copyOf(latencies, size);
+      Arrays.sort(sorted);
+      double seconds = Math.max(measured.toMillis(), 1) / 1000.0;
+      return new EndpointStatistics(
+          name,
+          size,
+          errors.get(),
+          size / seconds,
+          percentile(sorted, 50),
+          percentile(sorted, 95),
+          percentile(sorted, 99),
+          percentile(sorted, 100));
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+      if (sorted.length == 0) {
+        return 0;
+      }
+      // nearest-rank method
+      int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+      return sorted[Math.max(rank, 1) - 1] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+  }
+
+  /** The throughput and the latency of one endpoint. The latencies are given in milliseconds. */
+  static class EndpointStatistics {
+
+    private final String endpoint;
+    private final long requests;
+    private final long errors;
+    private final double throughputPerSecond;
+    private final double p50Millis;
+    private final double p95Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+
+    EndpointStatistics(
+        String endpoint,
+        long requests,
+        long errors,
+        double throughputPerSecond,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double maxMillis) {
+      this.endpoint = endpoint;
+      this.requests = requests;
+      this.errors = errors;
+      this.throughputPerSecond = throughputPerSecond;
+      this.p50Millis = p50Millis;
+      this.p95Millis = p95Millis;
+      this.p99Millis = p99Millis;
+      this.maxMillis = maxMillis;
+    }
+
+    public String getEndpoint() {
+      return endpoint;
+    }
+
+    public long getRequests() {
+      return requests;
+    }
+
+    public long getErrors() {
+      return errors;
+    }
+
+    public double getThroughputPerSecond() {
+      return throughputPerSecond;
+    }
+
+    public double getP50Millis() {
+      return p50Millis;
+    }
+
+    public double getP95Millis() {
+      return p95Millis;
+    }
+
+    public double getP99Millis() {
+      return p99Millis;
+    }
+
+    public double getMaxMillis() {
+      return maxMillis;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "%-45s %8d requests %6d errors %9.1f req/s  p50 %8.2f ms  p95 %8.2f ms  p99 %8.2f ms",
+          endpoint, requests, errors, throughputPerSecond, p50Millis, p95Millis, p99Millis);
+    }
+  }
+}
@@ -0,0 +1,271 @@
+package pro.taskana.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import pro.taskana.common.rest.Mapping;
+import pro.taskana.rest.ExampleRestApplication;
+
+/**
+ * Drives a realistic mix of REST requests against the example application with concurrent clients
+ * and reports the throughput and the latency percentiles per endpoint. The application runs on the
+ * embedded H2 database with the sample data, or on PostgreSQL with <code>
+ * -Dspring.profiles.active=postgres</code>. Run it with <code>mvn verify -Ploadtest</code> in
+ * rest/taskana-rest-spring-example-boot, the report is written to target/loadtest-report.json. The
+ * history is browsed as well with <code>-Phistory.plugin -Dtaskana.loadtest.history=true</code>.
+ */
+@EnabledIfSystemProperty(named = "taskana.loadtest.enabled", matches = "true")
+@SpringBootTest(
+    classes = ExampleRestApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class RestLoadTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RestLoadTest.class);
+
+  private static final String INBOX_WORKBASKET_ID = "WBI:100000000000000000000000000000000004";
+  private static final String TRANSFER_WORKBASKET_ID = "WBI:100000000000000000000000000000000005";
+  private static final String TEAMLEAD = "Basic dGVhbWxlYWRfMTp0ZWFtbGVhZF8x"; // teamlead_1
+  private static final String ADMIN = "Basic YWRtaW46YWRtaW4="; // admin:admin
+
+  private final RestTemplate template = new RestTemplate();
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final LatencyRecorder recorder = new LatencyRecorder();
+  private final Queue<String> readyTasks = new ConcurrentLinkedQueue<>();
+
+  @LocalServerPort private int port;
+
+  @Value("${taskana.loadtest.clients:8}")
+  private int clients;
+
+  @Value("${taskana.loadtest.warmupSeconds:10}")
+  private int warmupSeconds;
+
+  @Value("${taskana.loadtest.durationSeconds:60}")
+  private int durationSeconds;
+
+  @Value("${taskana.loadtest.generatedTasks:1000}")
+  private int generatedTasks;
+
+  @Value("${taskana.loadtest.history:false}")
+  private boolean history;
+
+  @Value("${taskana.loadtest.report:target/loadtest-report.json}")
+  private String report;
+
+  @Test
+  void runLoadTest() throws Exception {
+    for (int i = 0; i < generatedTasks; i++) {
+      createTask();
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(clients);
+    try {
+      runClients(executor, Duration.ofSeconds(warmupSeconds));
+      recorder.start();
+      long start = System.nanoTime();
+      runClients(executor, Duration.ofSeconds(durationSeconds));
+      Duration measured = Duration.ofNanos(System.nanoTime() - start);
+      recorder.stop();
+
+      Map<String, Object> settings = new LinkedHashMap<>();
+      settings.put("clients", clients);
+      settings.put("generatedTasks", generatedTasks);
+      settings.put("database", System.getProperty("spring.profiles.active", "h2"));
+      Path reportFile = Paths.get(report);
+      recorder.writeReport(reportFile, settings, measured);
+
+      List<LatencyRecorder.EndpointStatistics> statistics = recorder.getStatistics(measured);
+      statistics.forEach(endpoint -> LOGGER.info("{}", endpoint));
+      LOGGER.info("Load test report written to {}", reportFile.toAbsolutePath());
+      assertThat(statistics).isNotEmpty().allMatch(endpoint -> endpoint.getErrors() == 0);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void runClients(ExecutorService executor, Duration duration) throws Exception {
+    long end = System.nanoTime() + duration.toNanos();
+    List<Future<?>> runningClients = new ArrayList<>();
+    for (int i = 0; i < clients; i++) {
+      runningClients.add(
+          executor.submit(
+              () -> {
+                while (System.nanoTime() < end) {
+                  runRandomScenario();
+                }
+              }));
+    }
+    for (Future<?> client : runningClients) {
+      client.get();
+    }
+  }
+
+  private void runRandomScenario() {
+    int scenario = ThreadLocalRandom.current().nextInt(history ? 100 : 90);
+    if (scenario < 35) {
+      listInbox();
+    } else if (scenario < 45) {
+      createTask();
+    } else if (scenario < 65) {
+      claimAndCompleteTask();
+    } else if (scenario < 75) {
+      transferTask();
+    } else if (scenario < 90) {
+      showMonitorDashboard();
+    } else {
+      browseHistory();
+    }
+  }
+
+  private void listInbox() {
+    exchange(
+        "GET /tasks (inbox)",
+        HttpMethod.GET,
+        Mapping.URL_TASKS
+            + "?workbasket-id="
+            + INBOX_WORKBASKET_ID
+            + "&state=READY&sort-by=due&order=asc&page=1&page-size=20",
+        TEAMLEAD,
+        null);
+  }
+
+  private void createTask() {
+    String task =
+        "{\"classificationSummary\":{\"key\":\"L11010\"},"
+            + "\"workbasketSummary\":{\"workbasketId\":\""
+            + INBOX_WORKBASKET_ID
+            + "\"},"
+            + "\"primaryObjRef\":{\"company\":\"MyCompany1\",\"system\":\"MySystem1\","
+            + "\"systemInstance\":\"MyInstance1\",\"type\":\"MyType1\",\"value\":\"00000001\"}}";
+    JsonNode createdTask = exchange("POST /tasks", HttpMethod.POST, Mapping.URL_TASKS, ADMIN, task);
+    if (createdTask != null) {
+      readyTasks.add(createdTask.path("taskId").asText());
+    }
+  }
+
+  private void claimAndCompleteTask() {
+    String taskId = readyTasks.poll();
+    if (taskId == null) {
+      createTask();
+      return;
+    }
+    exchange(
+        "POST /tasks/{taskId}/claim",
+        HttpMethod.POST,
+        taskUrl(Mapping.URL_TASKS_ID_CLAIM, taskId),
+        TEAMLEAD,
+        "");
+    exchange(
+        "POST /tasks/{taskId}/complete",
+        HttpMethod.POST,
+        taskUrl(Mapping.URL_TASKS_ID_COMPLETE, taskId),
+        TEAMLEAD,
+        "");
+  }
+
+  private void transferTask() {
+    String taskId = readyTasks.poll();
+    if (taskId == null) {
+      createTask();
+      return;
+    }
+    exchange(
+        "POST /tasks/{taskId}/transfer/{workbasketId}",
+        HttpMethod.POST,
+        taskUrl(Mapping.URL_TASKS_ID_TRANSFER_WORKBASKETID, taskId)
+            .replace("{workbasketId}", TRANSFER_WORKBASKET_ID),
+        ADMIN,
+        "");
+  }
+
+  private void showMonitorDashboard() {
+    exchange(
+        "GET /monitor/tasks-status-report",
+        HttpMethod.GET,
+        Mapping.URL_MONITOR_TASKS_STATUS,
+        ADMIN,
+        null);
+    exchange(
+        "GET /monitor/tasks-workbasket-report",
+        HttpMethod.GET,
+        Mapping.URL_MONITOR_TASKS_WORKBASKET + "?states=READY&states=CLAIMED",
+        ADMIN,
+        null);
+    exchange(
+        "GET /monitor/tasks-classification-report",
+        HttpMethod.GET,
+        Mapping.URL_MONITOR_TASKS_CLASSIFICATION,
+        ADMIN,
+        null);
+  }
+
+  private void browseHistory() {
+    exchange(
+        "GET /task-history-event",
+        HttpMethod.GET,
+        Mapping.URL_HISTORY_EVENTS + "?sort-by=created&order=desc&page=1&page-size=20",
+        ADMIN,
+        null);
+  }
+
+  private String taskUrl(String url, String taskId) {
+    return url.replace("{taskId}", taskId);
+  }
+
+  private JsonNode exchange(
+      String endpoint, HttpMethod method, String url, String authorization, String body) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.add("Authorization", authorization);
+    headers.add("Content-Type", "application/json");
+    long start = System.nanoTime();
+    ResponseEntity<String> response;
+    try {
+      response =
+          template.exchange(
+              "http://127.0.0.1:" + port + "/taskana" + url,
+              method,
+              new HttpEntity<>(body, headers),
+              String.class);
+    } catch (RestClientException e) {
+      recorder.record(endpoint, System.nanoTime() - start, false);
+      LOGGER.warn("Request {} {} failed", method, url, e);
+      return null;
+    }
+    recorder.record(endpoint, System.nanoTime() - start, true);
+    try {
+      return response.getBody() == null ? null : objectMapper.readTree(response.getBody());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
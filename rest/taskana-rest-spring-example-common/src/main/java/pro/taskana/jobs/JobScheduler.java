@@ -3,25 +3,37 @@ package pro.taskana.jobs;
 import java.security.Principal;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.security.auth.Subject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import pro.taskana.common.api.JobQueueStatistics;
+import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.TaskanaRole;
+import pro.taskana.common.internal.jobs.JobDispatcher;
 import pro.taskana.common.internal.jobs.JobRunner;
 import pro.taskana.common.internal.security.UserPrincipal;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.spi.history.internal.HistoryEventProducer;
+import pro.taskana.task.internal.jobs.TaskArchivingJob;
 import pro.taskana.task.internal.jobs.TaskCleanupJob;
 import pro.taskana.workbasket.internal.jobs.WorkbasketCleanupJob;
 
-/** This class invokes the JobRunner periodically to schedule long running jobs. */
+/**
+ * This class invokes the JobRunner periodically to schedule long running jobs. If the dispatcher
+ * is enabled, jobs are additionally run as soon as they are due and the cron only serves as a
+ * fallback.
+ */
 @Component
 public class JobScheduler {
 
@@ -29,20 +41,56 @@ public class JobScheduler {
   @Autowired TaskanaTransactionProvider<Object> springTransactionProvider;
   @Autowired private TaskanaEngine taskanaEngine;
 
+  @Value("${taskana.jobscheduler.dispatcher.enabled:false}")
+  private boolean dispatcherEnabled;
+
+  private JobDispatcher jobDispatcher;
+
   @PostConstruct
   public void scheduleCleanupJob() {
     LOGGER.debug("Entry to scheduleCleanupJob.");
     TaskCleanupJob.initializeSchedule(taskanaEngine);
     WorkbasketCleanupJob.initializeSchedule(taskanaEngine);
+    TaskArchivingJob.initializeSchedule(taskanaEngine);
+    if (HistoryEventProducer.isHistoryEnabled()) {
+      scheduleHistoryCleanupJob();
+    }
+    if (dispatcherEnabled) {
+      jobDispatcher = new JobDispatcher(taskanaEngine, springTransactionProvider);
+      jobDispatcher.start();
+    }
     LOGGER.debug("Exit from scheduleCleanupJob.");
   }
 
+  /*
+   * The simple history provider is optional, so its HistoryCleanupJob can't be referenced here.
+   * The job runs once at startup and schedules its next runs itself.
+   */
+  private void scheduleHistoryCleanupJob() {
+    ScheduledJob job = new ScheduledJob();
+    job.setType(ScheduledJob.Type.HISTORYCLEANUPJOB);
+    job.setDue(Instant.now());
+    taskanaEngine.getJobService().createJob(job);
+  }
+
+  @PreDestroy
+  public void stopJobDispatcher() {
+    if (jobDispatcher != null) {
+      jobDispatcher.stop();
+    }
+  }
+
   @Scheduled(cron = "${taskana.jobscheduler.async.cron}")
   public void triggerJobs() {
     LOGGER.info("AsyncJobs started.");
     try {
       runAsyncJobsAsAdmin();
       LOGGER.info("AsyncJobs completed.");
+      JobQueueStatistics statistics = taskanaEngine.getJobService().getJobQueueStatistics();
+      LOGGER.info(
+          "AsyncJobs queue: {} jobs are due, the oldest one is overdue by {}.",
+          statistics.getDepth(),
+          statistics.getLag());
     } catch (PrivilegedActionException e) {
       LOGGER.info("AsyncJobs failed.", e);
     }
@@ -8,12 +8,19 @@ import org.springframework.util.MultiValueMap;
 
 import pro.taskana.common.api.BaseQuery;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.rest.models.UncountedPageMetadata;
 
 /** Abstract superclass for taskana REST controller with pageable resources. */
 public abstract class AbstractPagingController {
 
   private static final String PAGING_PAGE = "page";
   private static final String PAGING_PAGE_SIZE = "page-size";
+  private static final String PAGING_COUNT = "count";
+  private static final String PAGING_COUNT_LIMIT = "count-limit";
+  private static final String COUNT_EXACT = "exact";
+  private static final String COUNT_CAPPED = "capped";
+  private static final String COUNT_NONE = "none";
+  private static final long DEFAULT_COUNT_LIMIT = 1000L;
 
   protected String[] extractCommaSeparatedFields(List<String> list) {
     List<String> values = new ArrayList<>();
@@ -35,7 +42,7 @@ public abstract class AbstractPagingController {
     PageMetadata pageMetadata = null;
     if (hasPagingInformationInParams(params)) {
       // paging
-      long totalElements = query.count();
+      long totalElements = getTotalElements(params, query);
       pageMetadata = initPageMetadata(params, totalElements);
       validateNoInvalidParameterIsLeft(params);
     } else {
@@ -60,8 +67,11 @@ public abstract class AbstractPagingController {
     long pageSize = getPageSize(param);
     long page = getPage(param);
 
-    PageMetadata pageMetadata =
-        new PageMetadata(pageSize, page, totalElements >= 0 ? totalElements : Integer.MAX_VALUE);
+    if (totalElements < 0) {
+      // the total number of elements is unknown, so the requested page is not limited
+      return new UncountedPageMetadata(pageSize, page);
+    }
+    PageMetadata pageMetadata = new PageMetadata(pageSize, page, totalElements);
     if (pageMetadata.getNumber() > pageMetadata.getTotalPages()) {
       // unfortunately no setter for number
       pageMetadata = new PageMetadata(pageSize, pageMetadata.getTotalPages(), totalElements);
@@ -81,7 +91,7 @@ public abstract class AbstractPagingController {
       page = Long.parseLong(pageParam);
     } catch (NumberFormatException e) {
       throw new InvalidArgumentException(
-          "page and pageSize must be a integer value.", e.getCause());
+          "page and pageSize must be an integer value.", e.getCause());
     }
     PageMetadata pageMetadata = new PageMetadata(pageSize, page, totalElements);
     if (pageMetadata.getNumber() > pageMetadata.getTotalPages()) {
@@ -91,6 +101,59 @@ public abstract class AbstractPagingController {
     return pageMetadata;
   }
 
+  /**
+   * Determines the total number of elements according to the requested count mode. "exact" (the
+   * default) counts all results, "capped" stops counting at the count-limit and "none" skips the
+   * count entirely. A capped count is raised so far that the requested page stays reachable. If
+   * no count is executed, -1 is returned.
+   */
+  private long getTotalElements(MultiValueMap<String, String> params, BaseQuery<?, ?> query)
+      throws InvalidArgumentException {
+    String countMode = params.getFirst(PAGING_COUNT);
+    params.remove(PAGING_COUNT);
+    long countLimit = getCountLimit(params);
+    if (countMode == null || COUNT_EXACT.equalsIgnoreCase(countMode)) {
+      return query.count();
+    } else if (COUNT_CAPPED.equalsIgnoreCase(countMode)) {
+      return query.countUpTo(Math.max(countLimit, getElementsUpToRequestedPage(params)));
+    } else if (COUNT_NONE.equalsIgnoreCase(countMode)) {
+      return -1;
+    }
+    throw new InvalidArgumentException(
+        "count must be one of '"
+            + COUNT_EXACT
+            + "', '"
+            + COUNT_CAPPED
+            + "' or '"
+            + COUNT_NONE
+            + "'.");
+  }
+
+  private long getElementsUpToRequestedPage(MultiValueMap<String, String> params) {
+    try {
+      long page = Long.parseLong(params.getFirst(PAGING_PAGE));
+      String pageSizeParam = params.getFirst(PAGING_PAGE_SIZE);
+      long pageSize = pageSizeParam != null ? Long.parseLong(pageSizeParam) : Integer.MAX_VALUE;
+      return Math.addExact(Math.multiplyExact(Math.max(page, 1), Math.max(pageSize, 0)), 1);
+    } catch (NumberFormatException e) {
+      // invalid paging parameters are reported while initializing the page metadata
+      return 0;
+    } catch (ArithmeticException e) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  private long getCountLimit(MultiValueMap<String, String> params)
+      throws InvalidArgumentException {
+    String param = params.getFirst(PAGING_COUNT_LIMIT);
+    params.remove(PAGING_COUNT_LIMIT);
+    try {
+      return param != null ? Long.parseLong(param) : DEFAULT_COUNT_LIMIT;
+    } catch (NumberFormatException e) {
+      throw new InvalidArgumentException("count-limit must be an integer value.", e.getCause());
+    }
+  }
+
   private boolean hasPagingInformationInParams(MultiValueMap<String, String> params) {
     return params.getFirst(PAGING_PAGE) != null;
   }
@@ -101,7 +164,7 @@ public abstract class AbstractPagingController {
     try {
       return Long.parseLong(param != null ? param : "1");
     } catch (NumberFormatException e) {
-      throw new InvalidArgumentException("page must be a integer value.", e.getCause());
+      throw new InvalidArgumentException("page must be an integer value.", e.getCause());
     }
   }
 
@@ -111,7 +174,7 @@ public abstract class AbstractPagingController {
     try {
       return param != null ? Long.parseLong(param) : Integer.MAX_VALUE;
     } catch (NumberFormatException e) {
-      throw new InvalidArgumentException("page-size must be a integer value.", e.getCause());
+      throw new InvalidArgumentException("page-size must be an integer value.", e.getCause());
     }
   }
 }
@@ -34,6 +34,7 @@ public final class Mapping {
   public static final String URL_TASK_COMMENTS = URL_TASKS + "/comments";
   public static final String URL_TASK_COMMENT = URL_TASK_COMMENTS + "/{taskCommentId}";
   public static final String URL_TASKS_ID_CLAIM = URL_TASKS_ID + "/claim";
+  public static final String URL_TASKS_CLAIM_NEXT = URL_TASKS + "/claim-next";
   public static final String URL_TASKS_ID_COMPLETE = URL_TASKS_ID + "/complete";
   public static final String URL_TASKS_ID_TRANSFER_WORKBASKETID =
       URL_TASKS_ID + "/transfer/{workbasketId}";
@@ -0,0 +1,493 @@
+package pro.taskana.common.rest.ldap;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.naming.directory.SearchControls;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ldap.control.PagedResultsDirContextProcessor;
+import org.springframework.ldap.core.DirContextOperations;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.core.support.AbstractContextMapper;
+import org.springframework.ldap.core.support.SingleContextSource;
+import org.springframework.ldap.filter.AndFilter;
+import org.springframework.ldap.filter.EqualsFilter;
+import org.springframework.ldap.filter.Filter;
+import org.springframework.ldap.filter.GreaterThanOrEqualsFilter;
+
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.rest.models.AccessIdRepresentationModel;
+
+/**
+ * Implementation of {@link LdapCache} which keeps all users and groups of the LDAP server in
+ * memory.
+ *
+ * <p>Users and groups are loaded with paged LDAP searches. Afterwards only entries with a newer
+ * modifyTimestamp are reloaded on each refresh. Since deletions can't be detected that way, a full
+ * reload is done periodically as well. Access ids are found via a trigram index, groups of a user
+ * via a membership map.
+ *
+ * <p>The cache is only {@link #isUsable() usable} as long as the last refresh is not older than the
+ * configured staleness bound and the number of entries doesn't exceed the configured maximum.
+ * Otherwise callers are supposed to query the LDAP server directly.
+ */
+public class LdapCacheImpl implements LdapCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LdapCacheImpl.class);
+
+  private static final int GRAM_LENGTH = 3;
+  private static final String CN = "cn";
+  private static final String MODIFY_TIMESTAMP = "modifyTimestamp";
+  private static final Duration MODIFY_TIMESTAMP_OVERLAP = Duration.ofMinutes(1);
+  private static final DateTimeFormatter GENERALIZED_TIME =
+      DateTimeFormatter.ofPattern("yyyyMMddHHmmss'Z'").withZone(ZoneOffset.UTC);
+
+  private final LdapClient ldapClient;
+  private final LdapTemplate ldapTemplate;
+  private final int pageSize;
+  private final int maxEntries;
+  private final Duration maxStaleness;
+
+  private Map<String, CachedAccessId> entries = new HashMap<>();
+  private Instant lastRefreshStarted;
+  private boolean sizeBoundExceeded;
+  private volatile Snapshot snapshot;
+  private ScheduledExecutorService scheduler;
+
+  public LdapCacheImpl(
+      LdapClient ldapClient,
+      LdapTemplate ldapTemplate,
+      int pageSize,
+      int maxEntries,
+      Duration maxStaleness) {
+    this.ldapClient = ldapClient;
+    this.ldapTemplate = ldapTemplate;
+    this.pageSize = pageSize;
+    this.maxEntries = maxEntries;
+    this.maxStaleness = maxStaleness;
+  }
+
+  @Override
+  public List<AccessIdRepresentationModel> findMatchingAccessId(
+      String searchFor, int maxNumberOfReturnedAccessIds) {
+    Snapshot current = getUsableSnapshotOrFail();
+    List<CachedAccessId> matches;
+    if (ldapClient.nameIsDn(searchFor)) {
+      CachedAccessId group = current.entriesByAccessId.get(normalize(searchFor));
+      matches =
+          group != null && group.isGroup
+              ? Collections.singletonList(group)
+              : Collections.emptyList();
+    } else {
+      matches = current.findMatching(searchFor);
+    }
+    return toSortedAccessIds(matches, maxNumberOfReturnedAccessIds);
+  }
+
+  @Override
+  public List<AccessIdRepresentationModel> findGroupsOfUser(
+      String searchFor, int maxNumberOfReturnedAccessIds) {
+    List<AccessIdRepresentationModel> result =
+        findMatchingAccessId(searchFor, maxNumberOfReturnedAccessIds);
+    result.addAll(findGroupsOfMember(searchFor));
+    return result;
+  }
+
+  @Override
+  public List<AccessIdRepresentationModel> validateAccessId(String accessId) {
+    CachedAccessId entry = getUsableSnapshotOrFail().entriesByAccessId.get(normalize(accessId));
+    return entry == null
+        ? Collections.emptyList()
+        : Collections.singletonList(entry.toRepresentationModel());
+  }
+
+  /**
+   * Returns all groups which contain the given member in the groupsOfUser attribute.
+   *
+   * @param memberId the user id or dn of the member
+   * @return the groups of the member, sorted by access id
+   */
+  public List<AccessIdRepresentationModel> findGroupsOfMember(String memberId) {
+    List<CachedAccessId> groups =
+        getUsableSnapshotOrFail()
+            .groupsByMember
+            .getOrDefault(memberKey(memberId), Collections.emptyList());
+    return toSortedAccessIds(groups, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Checks if the cache can answer requests.
+   *
+   * @return true if the cache is loaded, within its size bound and not stale
+   */
+  public boolean isUsable() {
+    Snapshot current = snapshot;
+    return current != null
+        && Duration.between(current.refreshed, Instant.now()).compareTo(maxStaleness) <= 0;
+  }
+
+  /**
+   * Starts refreshing the cache in the background. The first run loads all entries.
+   *
+   * @param refreshInterval the interval in which modified entries are reloaded
+   * @param fullRefreshInterval the interval in which all entries are reloaded
+   */
+  public synchronized void start(Duration refreshInterval, Duration fullRefreshInterval) {
+    if (scheduler != null) {
+      return;
+    }
+    scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "taskana-ldap-cache-refresh");
+              thread.setDaemon(true);
+              return thread;
+            });
+    scheduler.scheduleWithFixedDelay(
+        () -> runSafely(this::fullRefresh),
+        0,
+        fullRefreshInterval.getSeconds(),
+        TimeUnit.SECONDS);
+    scheduler.scheduleWithFixedDelay(
+        () -> runSafely(this::refresh),
+        refreshInterval.getSeconds(),
+        refreshInterval.getSeconds(),
+        TimeUnit.SECONDS);
+  }
+
+  /** Stops the background refresh. */
+  public synchronized void stop() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+  }
+
+  /** Reloads all users and groups from the LDAP server. */
+  public synchronized void fullRefresh() {
+    LOGGER.debug("entry to fullRefresh()");
+    Instant started = Instant.now();
+    Map<String, CachedAccessId> loaded = new HashMap<>();
+    if (!load(null, loaded)) {
+      return;
+    }
+    entries = loaded;
+    lastRefreshStarted = started;
+    sizeBoundExceeded = false;
+    snapshot = new Snapshot(entries.values(), started);
+    LOGGER.debug("exit from fullRefresh(). Loaded {} users and groups.", entries.size());
+  }
+
+  /**
+   * Reloads the users and groups which were modified since the last refresh. Falls back to a full
+   * refresh if the cache was never loaded. If the last load exceeded the size bound, nothing is
+   * loaded until the next {@link #fullRefresh() full refresh}.
+   */
+  public synchronized void refresh() {
+    LOGGER.debug("entry to refresh()");
+    if (lastRefreshStarted == null) {
+      if (sizeBoundExceeded) {
+        LOGGER.debug("exit from refresh(). The size bound was exceeded by the last load.");
+        return;
+      }
+      fullRefresh();
+      return;
+    }
+    Instant started = Instant.now();
+    Map<String, CachedAccessId> updated = new HashMap<>(entries);
+    if (!load(lastRefreshStarted.minus(MODIFY_TIMESTAMP_OVERLAP), updated)) {
+      return;
+    }
+    int modified = updated.size() - entries.size();
+    entries = updated;
+    lastRefreshStarted = started;
+    snapshot = new Snapshot(entries.values(), started);
+    LOGGER.debug(
+        "exit from refresh(). Cache contains {} entries ({} new).", updated.size(), modified);
+  }
+
+  /**
+   * Loads users and groups into the given map.
+   *
+   * @param modifiedSince only entries modified since this instant are loaded. null loads all
+   * @param target the map which is filled with the loaded entries
+   * @return false if the size bound was exceeded. The cache is invalidated in that case.
+   */
+  private boolean load(Instant modifiedSince, Map<String, CachedAccessId> target) {
+    String[] userAttributes = {
+      ldapClient.getUserFirstnameAttribute(),
+      ldapClient.getUserLastnameAttribute(),
+      ldapClient.getUserIdAttribute()
+    };
+    String[] groupAttributes =
+        CN.equals(ldapClient.getGroupNameAttribute())
+            ? new String[] {CN, ldapClient.getGroupsOfUser()}
+            : new String[] {ldapClient.getGroupNameAttribute(), CN, ldapClient.getGroupsOfUser()};
+
+    boolean withinBounds =
+        pagedSearch(
+                ldapClient.getUserSearchBase(),
+                createFilter(
+                    ldapClient.getUserSearchFilterName(),
+                    ldapClient.getUserSearchFilterValue(),
+                    modifiedSince),
+                userAttributes,
+                new UserContextMapper(),
+                target)
+            && pagedSearch(
+                ldapClient.getGroupSearchBase(),
+                createFilter(
+                    ldapClient.getGroupSearchFilterName(),
+                    ldapClient.getGroupSearchFilterValue(),
+                    modifiedSince),
+                groupAttributes,
+                new GroupContextMapper(),
+                target);
+    if (!withinBounds) {
+      LOGGER.warn(
+          "LDAP contains more than {} users and groups. The LDAP cache is disabled.", maxEntries);
+      entries = new HashMap<>();
+      lastRefreshStarted = null;
+      snapshot = null;
+      sizeBoundExceeded = true;
+    }
+    return withinBounds;
+  }
+
+  private boolean pagedSearch(
+      String base,
+      String filter,
+      String[] attributes,
+      AbstractContextMapper<CachedAccessId> mapper,
+      Map<String, CachedAccessId> target) {
+    SearchControls searchControls = new SearchControls();
+    searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
+    searchControls.setReturningAttributes(attributes);
+    return SingleContextSource.doWithSingleContext(
+        ldapTemplate.getContextSource(),
+        operations -> {
+          PagedResultsDirContextProcessor processor =
+              new PagedResultsDirContextProcessor(pageSize);
+          do {
+            for (CachedAccessId entry :
+                operations.search(base, filter, searchControls, mapper, processor)) {
+              target.put(normalize(entry.accessId), entry);
+            }
+            if (target.size() > maxEntries) {
+              return false;
+            }
+          } while (processor.hasMore());
+          return true;
+        });
+  }
+
+  private String createFilter(String filterName, String filterValue, Instant modifiedSince) {
+    AndFilter andFilter = new AndFilter();
+    andFilter.and(new EqualsFilter(filterName, filterValue));
+    if (modifiedSince != null) {
+      Filter modifiedFilter =
+          new GreaterThanOrEqualsFilter(MODIFY_TIMESTAMP, GENERALIZED_TIME.format(modifiedSince));
+      andFilter.and(modifiedFilter);
+    }
+    return andFilter.encode();
+  }
+
+  private Snapshot getUsableSnapshotOrFail() {
+    Snapshot current = snapshot;
+    if (current == null || !isUsable()) {
+      throw new SystemException("The LDAP cache is not loaded or stale.");
+    }
+    return current;
+  }
+
+  private void runSafely(Runnable refresh) {
+    try {
+      refresh.run();
+    } catch (RuntimeException e) {
+      LOGGER.warn("Refreshing the LDAP cache failed.", e);
+    }
+  }
+
+  private String memberKey(String member) {
+    String normalizedMember = normalize(member);
+    String userIdPrefix = normalize(ldapClient.getUserIdAttribute()) + "=";
+    int endOfFirstRdn = normalizedMember.indexOf(',');
+    if (normalizedMember.startsWith(userIdPrefix) && endOfFirstRdn > 0) {
+      return normalizedMember.substring(userIdPrefix.length(), endOfFirstRdn);
+    }
+    return normalizedMember;
+  }
+
+  private static List<AccessIdRepresentationModel> toSortedAccessIds(
+      Collection<CachedAccessId> entries, int maxNumberOfReturnedAccessIds) {
+    return entries.stream()
+        .sorted(Comparator.comparing(entry -> entry.accessId, String.CASE_INSENSITIVE_ORDER))
+        .limit(maxNumberOfReturnedAccessIds)
+        .map(CachedAccessId::toRepresentationModel)
+        .collect(Collectors.toCollection(ArrayList::new));
+  }
+
+  private static String normalize(String value) {
+    return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+  }
+
+  /** An immutable and indexed view of all cached entries. */
+  private static class Snapshot {
+
+    private final Map<String, CachedAccessId> entriesByAccessId = new HashMap<>();
+    private final Map<String, List<CachedAccessId>> entriesByGram = new HashMap<>();
+    private final Map<String, List<CachedAccessId>> groupsByMember = new HashMap<>();
+    private final Instant refreshed;
+
+    Snapshot(Collection<CachedAccessId> entries, Instant refreshed) {
+      this.refreshed = refreshed;
+      for (CachedAccessId entry : entries) {
+        entriesByAccessId.put(normalize(entry.accessId), entry);
+        Set<String> grams = new HashSet<>();
+        entry.searchableValues.forEach(value -> grams.addAll(grams(value)));
+        grams.forEach(
+            gram -> entriesByGram.computeIfAbsent(gram, g -> new ArrayList<>()).add(entry));
+        entry.memberKeys.forEach(
+            member -> groupsByMember.computeIfAbsent(member, m -> new ArrayList<>()).add(entry));
+      }
+    }
+
+    /**
+     * Finds all entries where one searchable value contains all whitespace separated parts of the
+     * search string in the given order. This resembles a LDAP search with a
+     * WhitespaceWildcardsFilter.
+     */
+    List<CachedAccessId> findMatching(String searchFor) {
+      String[] tokens =
+          Arrays.stream(normalize(searchFor).split("\\s+"))
+              .filter(token -> !token.isEmpty())
+              .toArray(String[]::new);
+      Collection<CachedAccessId> candidates = entriesByAccessId.values();
+      for (String token : tokens) {
+        for (String gram : grams(token)) {
+          List<CachedAccessId> posting = entriesByGram.get(gram);
+          if (posting == null) {
+            return new ArrayList<>();
+          } else if (posting.size() < candidates.size()) {
+            candidates = posting;
+          }
+        }
+      }
+      return candidates.stream()
+          .filter(entry -> entry.matches(tokens))
+          .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static Set<String> grams(String value) {
+      Set<String> grams = new HashSet<>();
+      for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+        grams.add(value.substring(i, i + GRAM_LENGTH));
+      }
+      return grams;
+    }
+  }
+
+  /** A cached user or group. */
+  private static class CachedAccessId {
+
+    private final String accessId;
+    private final String name;
+    private final boolean isGroup;
+    private final List<String> searchableValues;
+    private final List<String> memberKeys;
+
+    CachedAccessId(
+        String accessId,
+        String name,
+        boolean isGroup,
+        List<String> searchableValues,
+        List<String> memberKeys) {
+      this.accessId = accessId;
+      this.name = name;
+      this.isGroup = isGroup;
+      this.searchableValues =
+          searchableValues.stream()
+              .filter(Objects::nonNull)
+              .map(LdapCacheImpl::normalize)
+              .collect(Collectors.toList());
+      this.memberKeys = memberKeys;
+    }
+
+    boolean matches(String[] tokens) {
+      for (String value : searchableValues) {
+        int position = 0;
+        boolean matches = true;
+        for (String token : tokens) {
+          int found = value.indexOf(token, position);
+          if (found < 0) {
+            matches = false;
+            break;
+          }
+          position = found + token.length();
+        }
+        if (matches) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    AccessIdRepresentationModel toRepresentationModel() {
+      return new AccessIdRepresentationModel(name, accessId);
+    }
+  }
+
+  /** Context Mapper for user entries. */
+  private class UserContextMapper extends AbstractContextMapper<CachedAccessId> {
+
+    @Override
+    protected CachedAccessId doMapFromContext(DirContextOperations context) {
+      String userId = context.getStringAttribute(ldapClient.getUserIdAttribute());
+      String firstName = context.getStringAttribute(ldapClient.getUserFirstnameAttribute());
+      String lastName = context.getStringAttribute(ldapClient.getUserLastnameAttribute());
+      return new CachedAccessId(
+          userId,
+          String.format("%s, %s", lastName, firstName),
+          false,
+          Arrays.asList(firstName, lastName, userId),
+          Collections.emptyList());
+    }
+  }
+
+  /** Context Mapper for group entries. */
+  private class GroupContextMapper extends AbstractContextMapper<CachedAccessId> {
+
+    @Override
+    protected CachedAccessId doMapFromContext(DirContextOperations context) {
+      String dn = ldapClient.getDnWithBaseDn(context.getDn().toString());
+      String name = context.getStringAttribute(ldapClient.getGroupNameAttribute());
+      String[] members = context.getStringAttributes(ldapClient.getGroupsOfUser());
+      List<String> memberKeys =
+          members == null
+              ? Collections.emptyList()
+              : Arrays.stream(members)
+                  .map(LdapCacheImpl.this::memberKey)
+                  .collect(Collectors.toList());
+      return new CachedAccessId(
+          dn, name, true, Arrays.asList(name, context.getStringAttribute(CN)), memberKeys);
+    }
+  }
+}
@@ -1,13 +1,17 @@
 package pro.taskana.common.rest.ldap;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.naming.directory.SearchControls;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +45,17 @@ public class LdapClient {
 
   private static final String CN = "cn";
 
+  private static final Set<LdapSettings> OPTIONAL_SETTINGS =
+      EnumSet.of(
+          LdapSettings.TASKANA_LDAP_MAX_NUMBER_OF_RETURNED_ACCESS_IDS,
+          LdapSettings.TASKANA_LDAP_MIN_SEARCH_FOR_LENGTH,
+          LdapSettings.TASKANA_LDAP_CACHE_ENABLED,
+          LdapSettings.TASKANA_LDAP_CACHE_PAGE_SIZE,
+          LdapSettings.TASKANA_LDAP_CACHE_MAX_ENTRIES,
+          LdapSettings.TASKANA_LDAP_CACHE_REFRESH_INTERVAL,
+          LdapSettings.TASKANA_LDAP_CACHE_FULL_REFRESH_INTERVAL,
+          LdapSettings.TASKANA_LDAP_CACHE_MAX_STALENESS);
+
   private boolean active = false;
 
   @Autowired private Environment env;
@@ -54,6 +69,8 @@ public class LdapClient {
 
   private String message;
 
+  private LdapCacheImpl ldapCache;
+
   /**
    * Search LDAP for matching users or groups.
    *
@@ -68,6 +85,16 @@ public class LdapClient {
     isInitOrFail();
     testMinSearchForLength(name);
 
+    if (isCacheUsable()) {
+      List<AccessIdRepresentationModel> cachedAccessIds =
+          ldapCache.findMatchingAccessId(name, maxNumberOfReturnedAccessIds);
+      LOGGER.debug(
+          "exit from searchUsersAndGroups(name = {}). Returning cached users and groups: {}",
+          name,
+          cachedAccessIds);
+      return cachedAccessIds;
+    }
+
     List<AccessIdRepresentationModel> accessIds = new ArrayList<>();
     if (nameIsDn(name)) {
       AccessIdRepresentationModel groupByDn = searchGroupByDn(name);
@@ -173,6 +200,14 @@ public class LdapClient {
     isInitOrFail();
     testMinSearchForLength(name);
 
+    if (isCacheUsable()) {
+      List<AccessIdRepresentationModel> cachedGroups = ldapCache.findGroupsOfMember(name);
+      LOGGER.debug(
+          "exit from searchGroupsofUsersIsMember. Retrieved the following cached groups: {}.",
+          cachedGroups);
+      return cachedGroups;
+    }
+
     final AndFilter andFilter = new AndFilter();
     andFilter.and(new WhitespaceWildcardsFilter(getGroupNameAttribute(), ""));
     andFilter.and(new EqualsFilter(getGroupsOfUser(), name));
@@ -266,6 +301,23 @@ public class LdapClient {
     return maxNumberOfReturnedAccessIds;
   }
 
+  public boolean useLdapCache() {
+    String useCache = LdapSettings.TASKANA_LDAP_CACHE_ENABLED.getValueFromEnv(env);
+    return Boolean.parseBoolean(useCache);
+  }
+
+  public boolean isCacheUsable() {
+    return ldapCache != null && ldapCache.isUsable();
+  }
+
+  int getIntSetting(LdapSettings setting, int defaultValue) {
+    String envValue = setting.getValueFromEnv(env);
+    if (envValue == null || envValue.isEmpty()) {
+      return defaultValue;
+    }
+    return Integer.parseInt(envValue);
+  }
+
   public String getGroupsOfUser() {
     return LdapSettings.TASKANA_LDAP_GROUPS_OF_USER.getValueFromEnv(env);
   }
@@ -327,15 +379,42 @@ public class LdapClient {
         throw new SystemException(message);
       }
       active = true;
+
+      if (useLdapCache()) {
+        initLdapCache();
+      }
     }
     LOGGER.debug("Exit from init()");
   }
 
+  @PreDestroy
+  void destroy() {
+    if (ldapCache != null) {
+      ldapCache.stop();
+    }
+  }
+
+  void initLdapCache() {
+    int refreshInterval =
+        getIntSetting(LdapSettings.TASKANA_LDAP_CACHE_REFRESH_INTERVAL, 60);
+    ldapCache =
+        new LdapCacheImpl(
+            this,
+            ldapTemplate,
+            getIntSetting(LdapSettings.TASKANA_LDAP_CACHE_PAGE_SIZE, 500),
+            getIntSetting(LdapSettings.TASKANA_LDAP_CACHE_MAX_ENTRIES, 100000),
+            Duration.ofSeconds(
+                getIntSetting(
+                    LdapSettings.TASKANA_LDAP_CACHE_MAX_STALENESS, 3 * refreshInterval)));
+    ldapCache.start(
+        Duration.ofSeconds(refreshInterval),
+        Duration.ofSeconds(
+            getIntSetting(LdapSettings.TASKANA_LDAP_CACHE_FULL_REFRESH_INTERVAL, 3600)));
+  }
+
   List<LdapSettings> checkForMissingConfigurations() {
     return Arrays.stream(LdapSettings.values())
-        // optional settings
-        .filter(p -> !p.equals(LdapSettings.TASKANA_LDAP_MAX_NUMBER_OF_RETURNED_ACCESS_IDS))
-        .filter(p -> !p.equals(LdapSettings.TASKANA_LDAP_MIN_SEARCH_FOR_LENGTH))
+        .filter(p -> !OPTIONAL_SETTINGS.contains(p))
         .filter(p -> Objects.isNull(p.getValueFromEnv(env)))
         .collect(Collectors.toList());
   }
@@ -18,7 +18,13 @@ enum LdapSettings {
   TASKANA_LDAP_GROUP_NAME_ATTRIBUTE("taskana.ldap.groupNameAttribute"),
   TASKANA_LDAP_MIN_SEARCH_FOR_LENGTH("taskana.ldap.minSearchForLength"),
   TASKANA_LDAP_MAX_NUMBER_OF_RETURNED_ACCESS_IDS("taskana.ldap.maxNumberOfReturnedAccessIds"),
-  TASKANA_LDAP_GROUPS_OF_USER("taskana.ldap.groupsOfUser");
+  TASKANA_LDAP_GROUPS_OF_USER("taskana.ldap.groupsOfUser"),
+  TASKANA_LDAP_CACHE_ENABLED("taskana.ldap.cache.enabled"),
+  TASKANA_LDAP_CACHE_PAGE_SIZE("taskana.ldap.cache.pageSize"),
+  TASKANA_LDAP_CACHE_MAX_ENTRIES("taskana.ldap.cache.maxEntries"),
+  TASKANA_LDAP_CACHE_REFRESH_INTERVAL("taskana.ldap.cache.refreshIntervalInSeconds"),
+  TASKANA_LDAP_CACHE_FULL_REFRESH_INTERVAL("taskana.ldap.cache.fullRefreshIntervalInSeconds"),
+  TASKANA_LDAP_CACHE_MAX_STALENESS("taskana.ldap.cache.maxStalenessInSeconds");
 
   private final String key;
 
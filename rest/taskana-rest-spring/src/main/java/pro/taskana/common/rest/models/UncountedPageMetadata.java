@@ -0,0 +1,16 @@
+package pro.taskana.common.rest.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.springframework.hateoas.PagedModel.PageMetadata;
+
+/**
+ * Page metadata of a paged request without a count of the results. The total number of elements
+ * and pages is unknown, so they are not serialized.
+ */
+@JsonIgnoreProperties({"totalElements", "totalPages"})
+public class UncountedPageMetadata extends PageMetadata {
+
+  public UncountedPageMetadata(long size, long number) {
+    super(size, number, 0);
+  }
+}
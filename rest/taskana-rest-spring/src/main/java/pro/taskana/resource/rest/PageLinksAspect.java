@@ -19,6 +19,8 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import pro.taskana.common.rest.models.UncountedPageMetadata;
+
 /**
  * Implementation of the PageLinks annotation to generate HATEOAS Links for paged list resources.
  */
@@ -45,15 +47,19 @@ public class PageLinksAspect {
       resourceSupport.add(
           Link.of(original.replaceQueryParam("page", 1).toUriString())
               .withRel(IanaLinkRelations.FIRST));
-      resourceSupport.add(
-          Link.of(original.replaceQueryParam("page", page.getTotalPages()).toUriString())
-              .withRel(IanaLinkRelations.LAST));
+      // without a count the last page is unknown, a full page might be followed by another one
+      boolean uncounted = page instanceof UncountedPageMetadata;
+      if (!uncounted) {
+        resourceSupport.add(
+            Link.of(original.replaceQueryParam("page", page.getTotalPages()).toUriString())
+                .withRel(IanaLinkRelations.LAST));
+      }
       if (page.getNumber() > 1) {
         resourceSupport.add(
             Link.of(original.replaceQueryParam("page", page.getNumber() - 1).toUriString())
                 .withRel(IanaLinkRelations.PREV));
       }
-      if (page.getNumber() < page.getTotalPages()) {
+      if (uncounted ? data.size() >= page.getSize() : page.getNumber() < page.getTotalPages()) {
         resourceSupport.add(
             Link.of(original.replaceQueryParam("page", page.getNumber() + 1).toUriString())
                 .withRel(IanaLinkRelations.NEXT));
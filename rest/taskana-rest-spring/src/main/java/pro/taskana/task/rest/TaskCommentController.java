@@ -23,6 +23,7 @@ import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.rest.Mapping;
 import pro.taskana.common.rest.models.TaskanaPagedModel;
 import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.exceptions.InvalidStateException;
 import pro.taskana.task.api.exceptions.TaskCommentNotFoundException;
 import pro.taskana.task.api.exceptions.TaskNotFoundException;
 import pro.taskana.task.api.models.TaskComment;
@@ -159,7 +160,8 @@ public class TaskCommentController {
   public ResponseEntity<TaskCommentRepresentationModel> createTaskComment(
       @PathVariable String taskId,
       @RequestBody TaskCommentRepresentationModel taskCommentRepresentationModel)
-      throws NotAuthorizedException, InvalidArgumentException, TaskNotFoundException {
+      throws NotAuthorizedException, InvalidArgumentException, TaskNotFoundException,
+          InvalidStateException {
 
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
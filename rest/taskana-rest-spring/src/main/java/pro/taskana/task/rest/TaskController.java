@@ -166,6 +166,30 @@ public class TaskController extends AbstractPagingController {
     return result;
   }
 
+  @PostMapping(path = Mapping.URL_TASKS_CLAIM_NEXT)
+  @Transactional(rollbackFor = Exception.class)
+  public ResponseEntity<TaskRepresentationModel> claimNextTask(
+      @RequestParam MultiValueMap<String, String> params) throws InvalidArgumentException {
+    LOGGER.debug("Entry to claimNextTask(params= {})", params);
+    TaskQuery query = taskService.createTaskQuery();
+    query = applyFilterParams(query, params);
+    query = applySortingParams(query, params);
+    validateNoInvalidParameterIsLeft(params);
+
+    Task claimedTask = taskService.claimNext(query);
+    ResponseEntity<TaskRepresentationModel> result;
+    if (claimedTask == null) {
+      result = ResponseEntity.noContent().build();
+    } else {
+      result = ResponseEntity.ok(taskRepresentationModelAssembler.toModel(claimedTask));
+    }
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Exit from claimNextTask(), returning {}", result);
+    }
+
+    return result;
+  }
+
   @DeleteMapping(path = Mapping.URL_TASKS_ID_CLAIM)
   @Transactional(rollbackFor = Exception.class)
   public ResponseEntity<TaskRepresentationModel> cancelClaimTask(@PathVariable String taskId)
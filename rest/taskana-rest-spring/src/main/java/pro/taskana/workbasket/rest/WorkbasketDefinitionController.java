@@ -2,21 +2,19 @@ package pro.taskana.workbasket.rest;
 
 import static pro.taskana.common.internal.util.CheckedFunction.wrap;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.dao.DuplicateKeyException;
 import org.springframework.hateoas.config.EnableHypermediaSupport;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,6 +30,7 @@ import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.rest.Mapping;
 import pro.taskana.common.rest.models.TaskanaPagedModel;
+import pro.taskana.common.rest.models.TaskanaPagedModelKeys;
 import pro.taskana.workbasket.api.WorkbasketQuery;
 import pro.taskana.workbasket.api.WorkbasketService;
 import pro.taskana.workbasket.api.exceptions.InvalidWorkbasketException;
@@ -39,14 +38,11 @@ import pro.taskana.workbasket.api.exceptions.WorkbasketAccessItemAlreadyExistExc
 import pro.taskana.workbasket.api.exceptions.WorkbasketAlreadyExistException;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 import pro.taskana.workbasket.api.models.Workbasket;
-import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
+import pro.taskana.workbasket.api.models.WorkbasketDefinition;
 import pro.taskana.workbasket.api.models.WorkbasketSummary;
 import pro.taskana.workbasket.internal.models.WorkbasketAccessItemImpl;
-import pro.taskana.workbasket.internal.models.WorkbasketImpl;
 import pro.taskana.workbasket.rest.assembler.WorkbasketDefinitionRepresentationModelAssembler;
-import pro.taskana.workbasket.rest.assembler.WorkbasketRepresentationModelAssembler;
 import pro.taskana.workbasket.rest.models.WorkbasketDefinitionRepresentationModel;
-import pro.taskana.workbasket.rest.models.WorkbasketRepresentationModel;
 
 /** Controller for all {@link WorkbasketDefinitionRepresentationModel} related endpoints. */
 @RestController
@@ -58,18 +54,15 @@ public class WorkbasketDefinitionController {
 
   private final WorkbasketService workbasketService;
   private final WorkbasketDefinitionRepresentationModelAssembler workbasketDefinitionAssembler;
-  private final WorkbasketRepresentationModelAssembler workbasketAssembler;
   private final ObjectMapper mapper;
 
   @Autowired
   WorkbasketDefinitionController(
       WorkbasketService workbasketService,
       WorkbasketDefinitionRepresentationModelAssembler workbasketDefinitionAssembler,
-      WorkbasketRepresentationModelAssembler workbasketAssembler,
       ObjectMapper mapper) {
     this.workbasketService = workbasketService;
     this.workbasketDefinitionAssembler = workbasketDefinitionAssembler;
-    this.workbasketAssembler = workbasketAssembler;
     this.mapper = mapper;
   }
 
@@ -105,6 +98,10 @@ public class WorkbasketDefinitionController {
    * When a logical equal (key and domain are equal) workbasket already exists an update will be
    * executed. Otherwise a new workbasket will be created.
    *
+   * <p>The uploaded file is parsed as a stream. Each definition is read only when {@link
+   * WorkbasketService#importWorkbasketDefinitions(Iterable)} asks for it, so the definitions are
+   * written chunk by chunk without holding the whole file in memory.
+   *
    * @param file the list of workbasket definitions which will be imported to the current system.
    * @return Return answer is determined by the status code: 200 - all good 400 - list state error
    *     (referring to non existing id's) 401 - not authorized
@@ -112,142 +109,133 @@ public class WorkbasketDefinitionController {
    * @throws NotAuthorizedException if the user is not authorized.
    * @throws DomainNotFoundException if domain information is incorrect.
    * @throws InvalidWorkbasketException if workbasket has invalid information.
-   * @throws WorkbasketAlreadyExistException if workbasket already exists when trying to create a
-   *     new one.
-   * @throws WorkbasketNotFoundException if do not exists a workbasket in the system with the used
-   *     id.
+   * @throws WorkbasketAlreadyExistException if the import contains the same key and domain more
+   *     than once.
    * @throws InvalidArgumentException if authorization information in workbaskets definitions is
    *     incorrect.
    * @throws WorkbasketAccessItemAlreadyExistException if a WorkbasketAccessItem for the same
    *     workbasket and access_id already exists.
-   * @throws ConcurrencyException if workbasket was updated by an other user
+   * @throws WorkbasketNotFoundException if an existing workbasket is deleted during the import.
+   * @throws ConcurrencyException if an existing workbasket is modified during the import.
    */
   @PostMapping(path = Mapping.URL_WORKBASKET_DEFINITIONS)
   @Transactional(rollbackFor = Exception.class)
   public ResponseEntity<Void> importWorkbaskets(@RequestParam("file") MultipartFile file)
       throws IOException, NotAuthorizedException, DomainNotFoundException,
-          InvalidWorkbasketException, WorkbasketAlreadyExistException, WorkbasketNotFoundException,
-          InvalidArgumentException, WorkbasketAccessItemAlreadyExistException,
+          InvalidWorkbasketException, WorkbasketAlreadyExistException, InvalidArgumentException,
+          WorkbasketAccessItemAlreadyExistException, WorkbasketNotFoundException,
           ConcurrencyException {
     LOGGER.debug("Entry to importWorkbaskets()");
-    TaskanaPagedModel<WorkbasketDefinitionRepresentationModel> definitions =
-        mapper.readValue(
-            file.getInputStream(),
-            new TypeReference<TaskanaPagedModel<WorkbasketDefinitionRepresentationModel>>() {});
-
-    // key: logical ID
-    // value: system ID (in database)
-    Map<String, String> systemIds =
-        workbasketService.createWorkbasketQuery().list().stream()
-            .collect(Collectors.toMap(this::logicalId, WorkbasketSummary::getId));
-    checkForDuplicates(definitions.getContent());
-
-    // key: old system ID
-    // value: system ID
-    Map<String, String> idConversion = new HashMap<>();
-
-    // STEP 1: update or create workbaskets from the import
-    for (WorkbasketDefinitionRepresentationModel definition : definitions.getContent()) {
-      Workbasket importedWb =
-          workbasketDefinitionAssembler.toEntityModel(definition.getWorkbasket());
-      String newId;
-      WorkbasketImpl wbWithoutId = (WorkbasketImpl) removeId(importedWb);
-      if (systemIds.containsKey(logicalId(importedWb))) {
-        Workbasket modifiedWb =
-            workbasketService.getWorkbasket(importedWb.getKey(), importedWb.getDomain());
-        wbWithoutId.setModified(modifiedWb.getModified());
-        workbasketService.updateWorkbasket(wbWithoutId);
-
-        newId = systemIds.get(logicalId(importedWb));
+    try (JsonParser parser = mapper.getFactory().createParser(file.getInputStream())) {
+      if (moveToDefinitions(parser)) {
+        workbasketService.importWorkbasketDefinitions(() -> new DefinitionIterator(parser));
       } else {
-        newId = workbasketService.createWorkbasket(wbWithoutId).getId();
-      }
-
-      // Since we would have a n² runtime when doing a lookup and updating the access items we
-      // decided to
-      // simply delete all existing accessItems and create new ones.
-      boolean authenticated =
-          definition.getAuthorizations().stream()
-              .anyMatch(
-                  access ->
-                      (access.getWorkbasketId().equals(importedWb.getId()))
-                          && (access.getWorkbasketKey().equals(importedWb.getKey())));
-      if (!authenticated && !definition.getAuthorizations().isEmpty()) {
-        throw new InvalidWorkbasketException(
-            "The given Authentications for Workbasket "
-                + importedWb.getId()
-                + " don't match in WorkbasketId and WorkbasketKey. "
-                + "Please provide consistent WorkbasketDefinitions");
-      }
-      for (WorkbasketAccessItem accessItem : workbasketService.getWorkbasketAccessItems(newId)) {
-        workbasketService.deleteWorkbasketAccessItem(accessItem.getId());
+        workbasketService.importWorkbasketDefinitions(Collections.emptyList());
       }
-      for (WorkbasketAccessItemImpl authorization : definition.getAuthorizations()) {
-        authorization.setWorkbasketId(newId);
-        workbasketService.createWorkbasketAccessItem(authorization);
-      }
-      idConversion.put(importedWb.getId(), newId);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    } catch (InvalidDefinitionException e) {
+      throw e.getCause();
     }
 
-    // STEP 2: update distribution targets
-    // This can not be done in step 1 because the system IDs are only known after step 1
-    for (WorkbasketDefinitionRepresentationModel definition : definitions.getContent()) {
-      List<String> distributionTargets = new ArrayList<>();
-      for (String oldId : definition.getDistributionTargets()) {
-        if (idConversion.containsKey(oldId)) {
-          distributionTargets.add(idConversion.get(oldId));
-        } else if (systemIds.containsValue(oldId)) {
-          distributionTargets.add(oldId);
-        } else {
-          throw new InvalidWorkbasketException(
-              String.format(
-                  "invalid import state: Workbasket '%s' does not exist in the given import list",
-                  oldId));
-        }
-      }
-
-      workbasketService.setDistributionTargets(
-          // no verification necessary since the workbasket was already imported in step 1.
-          idConversion.get(definition.getWorkbasket().getWorkbasketId()), distributionTargets);
-    }
     ResponseEntity<Void> response = ResponseEntity.noContent().build();
     LOGGER.debug("Exit from importWorkbaskets(), returning {}", response);
     return response;
   }
 
-  private Workbasket removeId(Workbasket importedWb) {
-    WorkbasketRepresentationModel wbRes = workbasketAssembler.toModel(importedWb);
-    wbRes.setWorkbasketId(null);
-    return workbasketDefinitionAssembler.toEntityModel(wbRes);
+  private boolean moveToDefinitions(JsonParser parser)
+      throws IOException, InvalidArgumentException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new InvalidArgumentException("The uploaded file does not contain a JSON object.");
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String propertyName = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+      if (value == JsonToken.START_ARRAY
+          && TaskanaPagedModelKeys.getEnumFromPropertyName(propertyName).isPresent()) {
+        return true;
+      }
+      parser.skipChildren();
+    }
+    return false;
   }
 
-  private void checkForDuplicates(Collection<WorkbasketDefinitionRepresentationModel> definitions) {
-    List<String> identifiers = new ArrayList<>();
-    Set<String> duplicates = new HashSet<>();
-    for (WorkbasketDefinitionRepresentationModel definition : definitions) {
-      String identifier =
-          logicalId(workbasketDefinitionAssembler.toEntityModel(definition.getWorkbasket()));
-      if (identifiers.contains(identifier)) {
-        duplicates.add(identifier);
-      } else {
-        identifiers.add(identifier);
+  private WorkbasketDefinition toWorkbasketDefinition(
+      WorkbasketDefinitionRepresentationModel definition) throws InvalidWorkbasketException {
+    Workbasket importedWb =
+        workbasketDefinitionAssembler.toEntityModel(definition.getWorkbasket());
+    List<WorkbasketAccessItemImpl> authorizations =
+        definition.getAuthorizations() == null
+            ? Collections.emptyList()
+            : definition.getAuthorizations();
+    boolean authenticated =
+        authorizations.stream()
+            .anyMatch(
+                access ->
+                    (access.getWorkbasketId().equals(importedWb.getId()))
+                        && (access.getWorkbasketKey().equals(importedWb.getKey())));
+    if (!authenticated && !authorizations.isEmpty()) {
+      throw new InvalidWorkbasketException(
+          "The given Authentications for Workbasket "
+              + importedWb.getId()
+              + " don't match in WorkbasketId and WorkbasketKey. "
+              + "Please provide consistent WorkbasketDefinitions");
+    }
+    return new WorkbasketDefinition(
+        importedWb, authorizations, definition.getDistributionTargets());
+  }
+
+  /** Reads one workbasket definition of the uploaded array each time the next one is requested. */
+  private class DefinitionIterator implements Iterator<WorkbasketDefinition> {
+
+    private final JsonParser parser;
+    private JsonToken nextToken;
+
+    private DefinitionIterator(JsonParser parser) {
+      this.parser = parser;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (nextToken == null) {
+        try {
+          nextToken = parser.nextToken();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
       }
+      return nextToken == JsonToken.START_OBJECT;
     }
-    if (!duplicates.isEmpty()) {
-      throw new DuplicateKeyException(
-          "The 'key|domain'-identifier is not unique for the value(s): " + duplicates.toString());
+
+    @Override
+    public WorkbasketDefinition next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      nextToken = null;
+      try {
+        return toWorkbasketDefinition(
+            mapper.readValue(parser, WorkbasketDefinitionRepresentationModel.class));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      } catch (InvalidWorkbasketException e) {
+        throw new InvalidDefinitionException(e);
+      }
     }
   }
 
-  private String logicalId(WorkbasketSummary workbasket) {
-    return logicalId(workbasket.getKey(), workbasket.getDomain());
-  }
+  /** Carries an {@link InvalidWorkbasketException} out of the {@link DefinitionIterator}. */
+  private static class InvalidDefinitionException extends RuntimeException {
 
-  private String logicalId(Workbasket workbasket) {
-    return logicalId(workbasket.getKey(), workbasket.getDomain());
-  }
+    private static final long serialVersionUID = 1L;
 
-  private String logicalId(String key, String domain) {
-    return key + "|" + domain;
+    private InvalidDefinitionException(InvalidWorkbasketException cause) {
+      super(cause);
+    }
+
+    @Override
+    public synchronized InvalidWorkbasketException getCause() {
+      return (InvalidWorkbasketException) super.getCause();
+    }
   }
 }
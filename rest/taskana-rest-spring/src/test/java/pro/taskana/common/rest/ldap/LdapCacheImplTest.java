@@ -0,0 +1,209 @@
+package pro.taskana.common.rest.ldap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.InMemoryListenerConfig;
+import com.unboundid.ldif.LDIFReader;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.Environment;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.core.support.LdapContextSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.rest.models.AccessIdRepresentationModel;
+
+@ExtendWith(MockitoExtension.class)
+class LdapCacheImplTest {
+
+  private static InMemoryDirectoryServer server;
+  private static LdapTemplate ldapTemplate;
+
+  @Mock Environment environment;
+
+  private LdapClient ldapClient;
+
+  @BeforeAll
+  static void startLdapServer() throws Exception {
+    InMemoryDirectoryServerConfig config = new InMemoryDirectoryServerConfig("O=TASKANA");
+    config.addAdditionalBindCredentials("uid=admin", "secret");
+    config.setListenerConfigs(InMemoryListenerConfig.createLDAPConfig("LDAP", 0));
+    config.setSchema(null);
+    server = new InMemoryDirectoryServer(config);
+    server.importFromLDIF(
+        true, new LDIFReader(LdapCacheImplTest.class.getResourceAsStream("/taskana-test.ldif")));
+    server.startListening();
+
+    LdapContextSource contextSource = new LdapContextSource();
+    contextSource.setUrl("ldap://localhost:" + server.getListenPort());
+    contextSource.setBase("ou=Test,O=TASKANA");
+    contextSource.setUserDn("uid=admin");
+    contextSource.setPassword("secret");
+    contextSource.afterPropertiesSet();
+    ldapTemplate = new LdapTemplate(contextSource);
+  }
+
+  @AfterAll
+  static void stopLdapServer() {
+    server.shutDown(true);
+  }
+
+  @BeforeEach
+  void setUpLdapClient() {
+    Stream.of(
+            new String[][] {
+              {"taskana.ldap.minSearchForLength", "3"},
+              {"taskana.ldap.maxNumberOfReturnedAccessIds", "50"},
+              {"taskana.ldap.useLdap", "true"},
+              {"taskana.ldap.baseDn", "ou=Test,O=TASKANA"},
+              {"taskana.ldap.userSearchBase", "cn=users"},
+              {"taskana.ldap.userSearchFilterName", "objectclass"},
+              {"taskana.ldap.userSearchFilterValue", "person"},
+              {"taskana.ldap.userFirstnameAttribute", "givenName"},
+              {"taskana.ldap.userLastnameAttribute", "sn"},
+              {"taskana.ldap.userIdAttribute", "uid"},
+              {"taskana.ldap.groupSearchBase", "cn=groups"},
+              {"taskana.ldap.groupSearchFilterName", "objectclass"},
+              {"taskana.ldap.groupSearchFilterValue", "groupOfUniqueNames"},
+              {"taskana.ldap.groupNameAttribute", "cn"},
+              {"taskana.ldap.groupsOfUser", "uniquemember"}
+            })
+        .forEach(
+            strings ->
+                lenient().when(environment.getProperty(strings[0])).thenReturn(strings[1]));
+
+    ldapClient = new LdapClient();
+    ReflectionTestUtils.setField(ldapClient, "env", environment);
+    ReflectionTestUtils.setField(ldapClient, "ldapTemplate", ldapTemplate);
+    ldapClient.init();
+  }
+
+  @Test
+  void should_FindUsersByPartOfTheirName_When_CacheIsLoaded() {
+    LdapCacheImpl cut = createLoadedCache(100);
+
+    List<AccessIdRepresentationModel> result = cut.findMatchingAccessId("rig", 50);
+
+    assertThat(result)
+        .extracting(AccessIdRepresentationModel::getAccessId)
+        .containsExactly("user-1-2", "user-2-2");
+  }
+
+  @Test
+  void should_MatchWhitespaceSeparatedPartsInOrder_When_SearchingCache() {
+    LdapCacheImpl cut = createLoadedCache(100);
+
+    assertThat(cut.findMatchingAccessId("ksc user", 50))
+        .extracting(AccessIdRepresentationModel::getName)
+        .containsExactly("ksc-users");
+    assertThat(cut.findMatchingAccessId("users ksc", 50)).isEmpty();
+  }
+
+  @Test
+  void should_LimitNumberOfReturnedAccessIds_When_SearchingCache() {
+    LdapCacheImpl cut = createLoadedCache(100);
+
+    assertThat(cut.findMatchingAccessId("user", 2)).hasSize(2);
+  }
+
+  @Test
+  void should_FindGroupByDn_When_SearchingCache() {
+    LdapCacheImpl cut = createLoadedCache(100);
+
+    assertThat(cut.findMatchingAccessId("cn=ksc-teamleads,cn=groups,OU=Test,O=TASKANA", 50))
+        .extracting(AccessIdRepresentationModel::getName)
+        .containsExactly("ksc-teamleads");
+  }
+
+  @Test
+  void should_FindGroupsOfMember_When_CacheIsLoaded() {
+    LdapCacheImpl cut = createLoadedCache(100);
+
+    assertThat(cut.findGroupsOfMember("teamlead-1"))
+        .extracting(AccessIdRepresentationModel::getName)
+        .containsExactly("ksc-teamleads");
+    assertThat(cut.findGroupsOfMember("uid=user-1-1,cn=users,OU=Test,O=TASKANA"))
+        .extracting(AccessIdRepresentationModel::getName)
+        .containsExactly("ksc-users");
+  }
+
+  @Test
+  void should_ValidateAccessIdCaseInsensitively_When_CacheIsLoaded() {
+    LdapCacheImpl cut = createLoadedCache(100);
+
+    assertThat(cut.validateAccessId("USER-1-1"))
+        .extracting(AccessIdRepresentationModel::getName)
+        .containsExactly("Mustermann, Max");
+    assertThat(cut.validateAccessId("unknown-user")).isEmpty();
+  }
+
+  @Test
+  void should_KeepEntries_When_RefreshingIncrementally() {
+    LdapCacheImpl cut = createLoadedCache(100);
+
+    cut.refresh();
+
+    assertThat(cut.isUsable()).isTrue();
+    assertThat(cut.findMatchingAccessId("rig", 50)).hasSize(2);
+  }
+
+  @Test
+  void should_NotBeUsable_When_SizeBoundIsExceeded() {
+    LdapCacheImpl cut = createLoadedCache(3);
+
+    assertThat(cut.isUsable()).isFalse();
+    assertThatThrownBy(() -> cut.findMatchingAccessId("rig", 50))
+        .isInstanceOf(SystemException.class);
+  }
+
+  @Test
+  void should_NotReloadUntilNextFullRefresh_When_SizeBoundIsExceeded() {
+    LdapTemplate template = spy(ldapTemplate);
+    LdapCacheImpl cut = new LdapCacheImpl(ldapClient, template, 2, 3, Duration.ofMinutes(1));
+    cut.fullRefresh();
+    clearInvocations(template);
+
+    cut.refresh();
+    cut.refresh();
+
+    verify(template, never()).getContextSource();
+    assertThat(cut.isUsable()).isFalse();
+
+    cut.fullRefresh();
+
+    verify(template, atLeastOnce()).getContextSource();
+  }
+
+  @Test
+  void should_NotBeUsable_When_NeverLoaded() {
+    LdapCacheImpl cut =
+        new LdapCacheImpl(ldapClient, ldapTemplate, 2, 100, Duration.ofMinutes(1));
+
+    assertThat(cut.isUsable()).isFalse();
+  }
+
+  private LdapCacheImpl createLoadedCache(int maxEntries) {
+    LdapCacheImpl cache =
+        new LdapCacheImpl(ldapClient, ldapTemplate, 2, maxEntries, Duration.ofMinutes(1));
+    cache.fullRefresh();
+    return cache;
+  }
+}
@@ -130,9 +130,9 @@ class LdapClientTest {
   @Test
   void testLdap_checkForMissingConfigurations() {
     // optional config fields
-    // minSearchForLength, maxNumberOfReturnedAccessIds
+    // minSearchForLength, maxNumberOfReturnedAccessIds and the six cache settings
     assertThat(new LdapClient().checkForMissingConfigurations())
-        .hasSize(LdapSettings.values().length - 2);
+        .hasSize(LdapSettings.values().length - 8);
   }
 
   @Test
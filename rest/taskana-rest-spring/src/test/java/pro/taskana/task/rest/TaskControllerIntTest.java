@@ -462,6 +462,70 @@ class TaskControllerIntTest {
     assertThat(response.getBody().getLink(IanaLinkRelations.PREV)).isNotNull();
   }
 
+  @Test
+  void testGetPageWithCappedCount() {
+    HttpEntity<String> request = new HttpEntity<>(restHelper.getHeadersAdmin());
+    ResponseEntity<TaskanaPagedModel<TaskSummaryRepresentationModel>> response =
+        TEMPLATE.exchange(
+            restHelper.toUrl(Mapping.URL_TASKS)
+                + "?sort-by=due&order=desc&page-size=5&page=1&count=capped&count-limit=10",
+            HttpMethod.GET,
+            request,
+            TASK_SUMMARY_PAGE_MODEL_TYPE);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getContent()).hasSize(5);
+    assertThat(response.getBody().getMetadata().getTotalElements()).isEqualTo(10);
+    assertThat(response.getBody().getMetadata().getTotalPages()).isEqualTo(2);
+  }
+
+  @Test
+  void testGetPageWithoutCount() {
+    HttpEntity<String> request = new HttpEntity<>(restHelper.getHeadersAdmin());
+    ResponseEntity<TaskanaPagedModel<TaskSummaryRepresentationModel>> response =
+        TEMPLATE.exchange(
+            restHelper.toUrl(Mapping.URL_TASKS) + "?sort-by=due&order=desc&page-size=5&page=3"
+                + "&count=none",
+            HttpMethod.GET,
+            request,
+            TASK_SUMMARY_PAGE_MODEL_TYPE);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getContent()).hasSize(5);
+    assertThat(response.getBody().getMetadata().getNumber()).isEqualTo(3);
+    assertThat(response.getBody().getLink(IanaLinkRelations.LAST)).isEmpty();
+    assertThat(response.getBody().getLink(IanaLinkRelations.NEXT)).isPresent();
+  }
+
+  @Test
+  void testGetPageWithoutCountOmitsTotalElementsAndTotalPages() {
+    HttpEntity<String> request = new HttpEntity<>(restHelper.getHeadersAdmin());
+    ResponseEntity<String> response =
+        TEMPLATE.exchange(
+            restHelper.toUrl(Mapping.URL_TASKS) + "?page-size=5&page=1&count=none",
+            HttpMethod.GET,
+            request,
+            String.class);
+    assertThat(response.getBody())
+        .contains("\"number\"")
+        .doesNotContain("totalElements")
+        .doesNotContain("totalPages");
+  }
+
+  @Test
+  void testGetPageWithInvalidCountModeShouldThrowException() {
+    HttpEntity<String> request = new HttpEntity<>(restHelper.getHeadersAdmin());
+    ThrowingCallable httpCall =
+        () ->
+            TEMPLATE.exchange(
+                restHelper.toUrl(Mapping.URL_TASKS) + "?page-size=5&page=1&count=roughly",
+                HttpMethod.GET,
+                request,
+                TASK_SUMMARY_PAGE_MODEL_TYPE);
+    assertThatThrownBy(httpCall)
+        .isInstanceOf(HttpClientErrorException.class)
+        .extracting(ex -> ((HttpClientErrorException) ex).getStatusCode())
+        .isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
   @Test
   void testGetLastPageSortedByDueWithHiddenTasksRemovedFromResult() {
     resetDb();
@@ -714,6 +778,44 @@ class TaskControllerIntTest {
     assertThat(cancelClaimedtaskRepresentationModel.getState()).isEqualTo(TaskState.READY);
   }
 
+  @Test
+  void testClaimNextTask() {
+    resetDb();
+    String url =
+        restHelper.toUrl(Mapping.URL_TASKS_CLAIM_NEXT)
+            + "?workbasket-id=WBI:100000000000000000000000000000000007&sort-by=due&order=desc";
+
+    ResponseEntity<TaskRepresentationModel> firstResponse =
+        TEMPLATE.exchange(
+            url,
+            HttpMethod.POST,
+            new HttpEntity<>(restHelper.getHeadersUser_1_2()),
+            TASK_MODEL_TYPE);
+    ResponseEntity<TaskRepresentationModel> secondResponse =
+        TEMPLATE.exchange(
+            url,
+            HttpMethod.POST,
+            new HttpEntity<>(restHelper.getHeadersUser_1_2()),
+            TASK_MODEL_TYPE);
+    ResponseEntity<TaskRepresentationModel> thirdResponse =
+        TEMPLATE.exchange(
+            url,
+            HttpMethod.POST,
+            new HttpEntity<>(restHelper.getHeadersUser_1_2()),
+            TASK_MODEL_TYPE);
+    resetDb();
+
+    assertThat(firstResponse.getBody()).isNotNull();
+    assertThat(firstResponse.getBody().getTaskId())
+        .isEqualTo("TKI:000000000000000000000000000000000033");
+    assertThat(firstResponse.getBody().getState()).isEqualTo(TaskState.CLAIMED);
+    assertThat(firstResponse.getBody().getOwner()).isEqualTo("user_1_2");
+    assertThat(secondResponse.getBody()).isNotNull();
+    assertThat(secondResponse.getBody().getTaskId())
+        .isEqualTo("TKI:000000000000000000000000000000000025");
+    assertThat(thirdResponse.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+  }
+
   @Test
   void testCancelClaimOfClaimedTaskByAnotherUserShouldThrowException() {
 